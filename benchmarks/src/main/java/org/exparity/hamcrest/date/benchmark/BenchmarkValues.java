@@ -0,0 +1,32 @@
+package org.exparity.hamcrest.date.benchmark;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+/**
+ * Reference moments shared by the benchmarks. All values are expressed in UTC relative to Friday, 15 June 2012
+ * 11:30:45.123 so that each matcher can be given a value it accepts and a value it rejects.
+ */
+public final class BenchmarkValues {
+
+    private BenchmarkValues() {}
+
+    public static final ZoneId UTC = ZoneOffset.UTC;
+
+    public static final ZonedDateTime REFERENCE = ZonedDateTime.of(2012, 6, 15, 11, 30, 45, 123_000_000, UTC);
+    public static final ZonedDateTime EARLIER = REFERENCE.minusDays(3);
+    public static final ZonedDateTime LATER = REFERENCE.plusDays(3);
+    public static final ZonedDateTime NEXT_MILLISECOND = REFERENCE.plusNanos(1_000_000);
+    public static final ZonedDateTime NEXT_SECOND = REFERENCE.plusSeconds(1);
+    public static final ZonedDateTime NEXT_MINUTE = REFERENCE.plusMinutes(1);
+    public static final ZonedDateTime HALF_HOUR_LATER = REFERENCE.plusMinutes(30);
+    public static final ZonedDateTime NEXT_HOUR = REFERENCE.plusHours(1);
+    public static final ZonedDateTime NEXT_DAY = REFERENCE.plusDays(1);
+    public static final ZonedDateTime NEXT_MONTH = REFERENCE.plusMonths(1);
+    public static final ZonedDateTime NEXT_YEAR = REFERENCE.plusYears(1);
+    public static final ZonedDateTime FIRST_DAY_OF_MONTH = REFERENCE.withDayOfMonth(1);
+    public static final ZonedDateTime LAST_DAY_OF_MONTH = REFERENCE.withDayOfMonth(30);
+    public static final ZonedDateTime LATE_EVENING = REFERENCE.withHour(23);
+    public static final ZonedDateTime EARLY_MORNING = REFERENCE.withHour(0);
+}
@@ -0,0 +1,133 @@
+package org.exparity.hamcrest.date.benchmark;
+
+import static org.exparity.hamcrest.date.benchmark.BenchmarkValues.REFERENCE;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.exparity.hamcrest.date.core.TemporalConverters;
+import org.exparity.hamcrest.date.core.TemporalFieldConverters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Allocation of the converters which read a field from each source type in a single step, against the same field
+ * read through the chain of intermediate temporals the converters used to create. Run with the {@link BenchmarkRunner}
+ * so the <code>gc.alloc.rate.norm</code> of each benchmark is reported; the <code>chained</code> benchmarks allocate
+ * an intermediate temporal for each hop, and the converters allocate nothing for a field read as an int or an enum.
+ * Each is run in a zone with transitions, in a zone whose rules are a fixed offset and at a {@link java.time.ZoneOffset}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConversionAllocationBenchmark {
+
+    @Param({ "America/New_York", "UTC", "+02:00" })
+    public String zoneId;
+
+    private Optional<ZoneId> zone;
+    private final ZonedDateTime zonedDateTime = REFERENCE;
+    private final OffsetDateTime offsetDateTime = REFERENCE.toOffsetDateTime();
+    private final Instant instant = REFERENCE.toInstant();
+    private final Date javaDate = Date.from(instant);
+    private final java.sql.Date sqlDate = java.sql.Date.valueOf(REFERENCE.toLocalDate());
+
+    @Setup
+    public void setUp() {
+        zone = Optional.of(ZoneId.of(zoneId));
+    }
+
+    @Benchmark
+    public DayOfWeek zonedDateTimeDayOfWeek() {
+        return TemporalConverters.ZONEDDATETIME_AS_DAYOFWEEK.apply(zonedDateTime, zone);
+    }
+
+    @Benchmark
+    public DayOfWeek zonedDateTimeDayOfWeekChained() {
+        return zone.map(zonedDateTime::withZoneSameInstant).orElse(zonedDateTime).toLocalDate().getDayOfWeek();
+    }
+
+    @Benchmark
+    public LocalDate zonedDateTimeLocalDate() {
+        return TemporalConverters.ZONEDDATETIME_AS_LOCALDATE.apply(zonedDateTime, zone);
+    }
+
+    @Benchmark
+    public LocalDate zonedDateTimeLocalDateChained() {
+        return zone.map(zonedDateTime::withZoneSameInstant).orElse(zonedDateTime).toLocalDate();
+    }
+
+    @Benchmark
+    public DayOfWeek offsetDateTimeDayOfWeek() {
+        return TemporalConverters.OFFSETDATETIME_AS_DAYOFWEEK.apply(offsetDateTime, zone);
+    }
+
+    @Benchmark
+    public DayOfWeek offsetDateTimeDayOfWeekChained() {
+        return zone.map(z -> offsetDateTime.withOffsetSameInstant(z.getRules().getOffset(offsetDateTime.toLocalDateTime())))
+                .orElse(offsetDateTime)
+                .toLocalDate()
+                .getDayOfWeek();
+    }
+
+    @Benchmark
+    public int offsetDateTimeHour() {
+        return TemporalFieldConverters.OFFSETDATETIME_HOUR_OF_DAY.applyAsInt(offsetDateTime, zone);
+    }
+
+    @Benchmark
+    public int offsetDateTimeHourChained() {
+        return zone.map(z -> offsetDateTime.withOffsetSameInstant(z.getRules().getOffset(offsetDateTime.toLocalDateTime())))
+                .orElse(offsetDateTime)
+                .getHour();
+    }
+
+    @Benchmark
+    public int javaDateHour() {
+        return TemporalFieldConverters.JAVADATE_HOUR_OF_DAY.applyAsInt(javaDate, zone);
+    }
+
+    @Benchmark
+    public int javaDateHourChained() {
+        return javaDate.toInstant().atZone(zone.get()).toLocalDateTime().getHour();
+    }
+
+    @Benchmark
+    public DayOfWeek instantDayOfWeek() {
+        return TemporalConverters.INSTANT_AS_DAYOFWEEK.apply(instant, zone);
+    }
+
+    @Benchmark
+    public DayOfWeek instantDayOfWeekChained() {
+        return instant.atZone(zone.get()).toLocalDate().getDayOfWeek();
+    }
+
+    @Benchmark
+    public DayOfWeek sqlDateDayOfWeek() {
+        return TemporalConverters.SQLDATE_AS_DAYOFWEEK.apply(sqlDate, Optional.empty());
+    }
+
+    @Benchmark
+    public DayOfWeek sqlDateDayOfWeekChained() {
+        return sqlDate.toLocalDate().getDayOfWeek();
+    }
+}
@@ -0,0 +1,182 @@
+package org.exparity.hamcrest.date.benchmark;
+
+import static java.time.DayOfWeek.FRIDAY;
+import static java.time.Month.JUNE;
+import static java.time.temporal.ChronoField.DAY_OF_MONTH;
+import static java.time.temporal.ChronoUnit.HOURS;
+import static org.exparity.hamcrest.date.benchmark.BenchmarkValues.*;
+
+import java.util.Date;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.exparity.hamcrest.date.DateMatchers;
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of {@link DateMatchers} for matching and mismatching {@link Date} values
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateMatchersBenchmark {
+
+    @Param({ "true", "false" })
+    public boolean matching;
+
+    private MatcherCase<Date> after, before, sameOrAfter, sameOrBefore, sameInstant, within, sameDay, isDayOfWeek,
+            isWeekday, isDayOfMonth, isMonth, isYear, isLeapYear, isFirstDayOfMonth, isLastDayOfMonth, isMaximum,
+            isMinimum, isHour, isMinute, isSecond, isMillisecond;
+
+    @Setup
+    public void setUp() {
+        after = of(DateMatchers.after(date(REFERENCE)), LATER, EARLIER);
+        before = of(DateMatchers.before(date(REFERENCE)), EARLIER, LATER);
+        sameOrAfter = of(DateMatchers.sameOrAfter(date(REFERENCE)), REFERENCE, EARLIER);
+        sameOrBefore = of(DateMatchers.sameOrBefore(date(REFERENCE)), REFERENCE, LATER);
+        sameInstant = of(DateMatchers.sameInstant(date(REFERENCE)), REFERENCE, LATER);
+        within = of(DateMatchers.within(1, HOURS, date(REFERENCE)), HALF_HOUR_LATER, LATER);
+        sameDay = of(DateMatchers.sameDay(date(REFERENCE)).atZone(UTC), NEXT_HOUR, LATER);
+        isDayOfWeek = of(DateMatchers.isDayOfWeek(FRIDAY).atZone(UTC), REFERENCE, LATER);
+        isWeekday = of(DateMatchers.isWeekday().atZone(UTC), REFERENCE, NEXT_DAY);
+        isDayOfMonth = of(DateMatchers.isDayOfMonth(15).atZone(UTC), REFERENCE, LATER);
+        isMonth = of(DateMatchers.isMonth(JUNE).atZone(UTC), REFERENCE, NEXT_MONTH);
+        isYear = of(DateMatchers.isYear(2012).atZone(UTC), REFERENCE, NEXT_YEAR);
+        isLeapYear = of(DateMatchers.isLeapYear().atZone(UTC), REFERENCE, NEXT_YEAR);
+        isFirstDayOfMonth = of(DateMatchers.isFirstDayOfMonth().atZone(UTC), FIRST_DAY_OF_MONTH, REFERENCE);
+        isLastDayOfMonth = of(DateMatchers.isLastDayOfMonth().atZone(UTC), LAST_DAY_OF_MONTH, REFERENCE);
+        isMaximum = of(DateMatchers.isMaximum(DAY_OF_MONTH).atZone(UTC), LAST_DAY_OF_MONTH, REFERENCE);
+        isMinimum = of(DateMatchers.isMinimum(DAY_OF_MONTH).atZone(UTC), FIRST_DAY_OF_MONTH, REFERENCE);
+        isHour = of(DateMatchers.isHour(11).atZone(UTC), REFERENCE, NEXT_HOUR);
+        isMinute = of(DateMatchers.isMinute(30).atZone(UTC), REFERENCE, NEXT_MINUTE);
+        isSecond = of(DateMatchers.isSecond(45).atZone(UTC), REFERENCE, NEXT_SECOND);
+        isMillisecond = of(DateMatchers.isMillisecond(123).atZone(UTC), REFERENCE, NEXT_MILLISECOND);
+    }
+
+    @Benchmark
+    public boolean after() {
+        return after.matches();
+    }
+
+    @Benchmark
+    public boolean before() {
+        return before.matches();
+    }
+
+    @Benchmark
+    public boolean sameOrAfter() {
+        return sameOrAfter.matches();
+    }
+
+    @Benchmark
+    public boolean sameOrBefore() {
+        return sameOrBefore.matches();
+    }
+
+    @Benchmark
+    public boolean sameInstant() {
+        return sameInstant.matches();
+    }
+
+    @Benchmark
+    public boolean within() {
+        return within.matches();
+    }
+
+    @Benchmark
+    public boolean sameDay() {
+        return sameDay.matches();
+    }
+
+    @Benchmark
+    public boolean isDayOfWeek() {
+        return isDayOfWeek.matches();
+    }
+
+    @Benchmark
+    public boolean isWeekday() {
+        return isWeekday.matches();
+    }
+
+    @Benchmark
+    public boolean isDayOfMonth() {
+        return isDayOfMonth.matches();
+    }
+
+    @Benchmark
+    public boolean isMonth() {
+        return isMonth.matches();
+    }
+
+    @Benchmark
+    public boolean isYear() {
+        return isYear.matches();
+    }
+
+    @Benchmark
+    public boolean isLeapYear() {
+        return isLeapYear.matches();
+    }
+
+    @Benchmark
+    public boolean isFirstDayOfMonth() {
+        return isFirstDayOfMonth.matches();
+    }
+
+    @Benchmark
+    public boolean isLastDayOfMonth() {
+        return isLastDayOfMonth.matches();
+    }
+
+    @Benchmark
+    public boolean isMaximum() {
+        return isMaximum.matches();
+    }
+
+    @Benchmark
+    public boolean isMinimum() {
+        return isMinimum.matches();
+    }
+
+    @Benchmark
+    public boolean isHour() {
+        return isHour.matches();
+    }
+
+    @Benchmark
+    public boolean isMinute() {
+        return isMinute.matches();
+    }
+
+    @Benchmark
+    public boolean isSecond() {
+        return isSecond.matches();
+    }
+
+    @Benchmark
+    public boolean isMillisecond() {
+        return isMillisecond.matches();
+    }
+
+    private MatcherCase<Date> of(Matcher<Date> matcher, ZonedDateTime matchingValue, ZonedDateTime mismatchingValue) {
+        return MatcherCase.of(matcher, date(matchingValue), date(mismatchingValue), matching);
+    }
+
+    private static Date date(ZonedDateTime value) {
+        return Date.from(value.toInstant());
+    }
+}
@@ -0,0 +1,152 @@
+package org.exparity.hamcrest.date.benchmark;
+
+import static java.time.DayOfWeek.FRIDAY;
+import static java.time.Month.JUNE;
+import static java.time.temporal.ChronoField.DAY_OF_MONTH;
+import static java.time.temporal.ChronoUnit.DAYS;
+import static org.exparity.hamcrest.date.benchmark.BenchmarkValues.*;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.exparity.hamcrest.date.LocalDateMatchers;
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of {@link LocalDateMatchers} for matching and mismatching {@link LocalDate} values
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocalDateMatchersBenchmark {
+
+    @Param({ "true", "false" })
+    public boolean matching;
+
+    private MatcherCase<LocalDate> after, before, sameOrAfter, sameOrBefore, within, sameDay, isDayOfWeek,
+            isWeekday, isDayOfMonth, isMonth, isYear, isLeapYear, isFirstDayOfMonth, isLastDayOfMonth, isMaximum,
+            isMinimum;
+
+    @Setup
+    public void setUp() {
+        after = of(LocalDateMatchers.after(localDate(REFERENCE)), LATER, EARLIER);
+        before = of(LocalDateMatchers.before(localDate(REFERENCE)), EARLIER, LATER);
+        sameOrAfter = of(LocalDateMatchers.sameOrAfter(localDate(REFERENCE)), REFERENCE, EARLIER);
+        sameOrBefore = of(LocalDateMatchers.sameOrBefore(localDate(REFERENCE)), REFERENCE, LATER);
+        within = of(LocalDateMatchers.within(1, DAYS, localDate(REFERENCE)), NEXT_DAY, LATER);
+        sameDay = of(LocalDateMatchers.sameDay(localDate(REFERENCE)).atZone(UTC), NEXT_HOUR, LATER);
+        isDayOfWeek = of(LocalDateMatchers.isDayOfWeek(FRIDAY).atZone(UTC), REFERENCE, LATER);
+        isWeekday = of(LocalDateMatchers.isWeekday().atZone(UTC), REFERENCE, NEXT_DAY);
+        isDayOfMonth = of(LocalDateMatchers.isDayOfMonth(15).atZone(UTC), REFERENCE, LATER);
+        isMonth = of(LocalDateMatchers.isMonth(JUNE).atZone(UTC), REFERENCE, NEXT_MONTH);
+        isYear = of(LocalDateMatchers.isYear(2012).atZone(UTC), REFERENCE, NEXT_YEAR);
+        isLeapYear = of(LocalDateMatchers.isLeapYear().atZone(UTC), REFERENCE, NEXT_YEAR);
+        isFirstDayOfMonth = of(LocalDateMatchers.isFirstDayOfMonth().atZone(UTC), FIRST_DAY_OF_MONTH, REFERENCE);
+        isLastDayOfMonth = of(LocalDateMatchers.isLastDayOfMonth().atZone(UTC), LAST_DAY_OF_MONTH, REFERENCE);
+        isMaximum = of(LocalDateMatchers.isMaximum(DAY_OF_MONTH).atZone(UTC), LAST_DAY_OF_MONTH, REFERENCE);
+        isMinimum = of(LocalDateMatchers.isMinimum(DAY_OF_MONTH).atZone(UTC), FIRST_DAY_OF_MONTH, REFERENCE);
+    }
+
+    @Benchmark
+    public boolean after() {
+        return after.matches();
+    }
+
+    @Benchmark
+    public boolean before() {
+        return before.matches();
+    }
+
+    @Benchmark
+    public boolean sameOrAfter() {
+        return sameOrAfter.matches();
+    }
+
+    @Benchmark
+    public boolean sameOrBefore() {
+        return sameOrBefore.matches();
+    }
+
+    @Benchmark
+    public boolean within() {
+        return within.matches();
+    }
+
+    @Benchmark
+    public boolean sameDay() {
+        return sameDay.matches();
+    }
+
+    @Benchmark
+    public boolean isDayOfWeek() {
+        return isDayOfWeek.matches();
+    }
+
+    @Benchmark
+    public boolean isWeekday() {
+        return isWeekday.matches();
+    }
+
+    @Benchmark
+    public boolean isDayOfMonth() {
+        return isDayOfMonth.matches();
+    }
+
+    @Benchmark
+    public boolean isMonth() {
+        return isMonth.matches();
+    }
+
+    @Benchmark
+    public boolean isYear() {
+        return isYear.matches();
+    }
+
+    @Benchmark
+    public boolean isLeapYear() {
+        return isLeapYear.matches();
+    }
+
+    @Benchmark
+    public boolean isFirstDayOfMonth() {
+        return isFirstDayOfMonth.matches();
+    }
+
+    @Benchmark
+    public boolean isLastDayOfMonth() {
+        return isLastDayOfMonth.matches();
+    }
+
+    @Benchmark
+    public boolean isMaximum() {
+        return isMaximum.matches();
+    }
+
+    @Benchmark
+    public boolean isMinimum() {
+        return isMinimum.matches();
+    }
+
+    private MatcherCase<LocalDate> of(Matcher<LocalDate> matcher, ZonedDateTime matchingValue, ZonedDateTime mismatchingValue) {
+        return MatcherCase.of(matcher, localDate(matchingValue), localDate(mismatchingValue), matching);
+    }
+
+    private static LocalDate localDate(ZonedDateTime value) {
+        return value.toLocalDate();
+    }
+}
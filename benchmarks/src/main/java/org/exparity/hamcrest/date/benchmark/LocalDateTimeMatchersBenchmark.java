@@ -0,0 +1,176 @@
+package org.exparity.hamcrest.date.benchmark;
+
+import static java.time.DayOfWeek.FRIDAY;
+import static java.time.Month.JUNE;
+import static java.time.temporal.ChronoField.DAY_OF_MONTH;
+import static java.time.temporal.ChronoUnit.HOURS;
+import static org.exparity.hamcrest.date.benchmark.BenchmarkValues.*;
+
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.exparity.hamcrest.date.LocalDateTimeMatchers;
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of {@link LocalDateTimeMatchers} for matching and mismatching {@link LocalDateTime} values
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocalDateTimeMatchersBenchmark {
+
+    @Param({ "true", "false" })
+    public boolean matching;
+
+    private MatcherCase<LocalDateTime> after, before, sameOrAfter, sameOrBefore, sameInstant, within, sameDay, isDayOfWeek,
+            isWeekday, isDayOfMonth, isMonth, isYear, isLeapYear, isFirstDayOfMonth, isLastDayOfMonth, isMaximum,
+            isMinimum, isHour, isMinute, isSecond;
+
+    @Setup
+    public void setUp() {
+        after = of(LocalDateTimeMatchers.after(localDateTime(REFERENCE)), LATER, EARLIER);
+        before = of(LocalDateTimeMatchers.before(localDateTime(REFERENCE)), EARLIER, LATER);
+        sameOrAfter = of(LocalDateTimeMatchers.sameOrAfter(localDateTime(REFERENCE)), REFERENCE, EARLIER);
+        sameOrBefore = of(LocalDateTimeMatchers.sameOrBefore(localDateTime(REFERENCE)), REFERENCE, LATER);
+        sameInstant = of(LocalDateTimeMatchers.sameInstant(localDateTime(REFERENCE)), REFERENCE, LATER);
+        within = of(LocalDateTimeMatchers.within(1, HOURS, localDateTime(REFERENCE)), HALF_HOUR_LATER, LATER);
+        sameDay = of(LocalDateTimeMatchers.sameDay(localDateTime(REFERENCE)).atZone(UTC), NEXT_HOUR, LATER);
+        isDayOfWeek = of(LocalDateTimeMatchers.isDayOfWeek(FRIDAY).atZone(UTC), REFERENCE, LATER);
+        isWeekday = of(LocalDateTimeMatchers.isWeekday().atZone(UTC), REFERENCE, NEXT_DAY);
+        isDayOfMonth = of(LocalDateTimeMatchers.isDayOfMonth(15).atZone(UTC), REFERENCE, LATER);
+        isMonth = of(LocalDateTimeMatchers.isMonth(JUNE).atZone(UTC), REFERENCE, NEXT_MONTH);
+        isYear = of(LocalDateTimeMatchers.isYear(2012).atZone(UTC), REFERENCE, NEXT_YEAR);
+        isLeapYear = of(LocalDateTimeMatchers.isLeapYear().atZone(UTC), REFERENCE, NEXT_YEAR);
+        isFirstDayOfMonth = of(LocalDateTimeMatchers.isFirstDayOfMonth().atZone(UTC), FIRST_DAY_OF_MONTH, REFERENCE);
+        isLastDayOfMonth = of(LocalDateTimeMatchers.isLastDayOfMonth().atZone(UTC), LAST_DAY_OF_MONTH, REFERENCE);
+        isMaximum = of(LocalDateTimeMatchers.isMaximum(DAY_OF_MONTH).atZone(UTC), LAST_DAY_OF_MONTH, REFERENCE);
+        isMinimum = of(LocalDateTimeMatchers.isMinimum(DAY_OF_MONTH).atZone(UTC), FIRST_DAY_OF_MONTH, REFERENCE);
+        isHour = of(LocalDateTimeMatchers.isHour(11).atZone(UTC), REFERENCE, NEXT_HOUR);
+        isMinute = of(LocalDateTimeMatchers.isMinute(30).atZone(UTC), REFERENCE, NEXT_MINUTE);
+        isSecond = of(LocalDateTimeMatchers.isSecond(45).atZone(UTC), REFERENCE, NEXT_SECOND);
+    }
+
+    @Benchmark
+    public boolean after() {
+        return after.matches();
+    }
+
+    @Benchmark
+    public boolean before() {
+        return before.matches();
+    }
+
+    @Benchmark
+    public boolean sameOrAfter() {
+        return sameOrAfter.matches();
+    }
+
+    @Benchmark
+    public boolean sameOrBefore() {
+        return sameOrBefore.matches();
+    }
+
+    @Benchmark
+    public boolean sameInstant() {
+        return sameInstant.matches();
+    }
+
+    @Benchmark
+    public boolean within() {
+        return within.matches();
+    }
+
+    @Benchmark
+    public boolean sameDay() {
+        return sameDay.matches();
+    }
+
+    @Benchmark
+    public boolean isDayOfWeek() {
+        return isDayOfWeek.matches();
+    }
+
+    @Benchmark
+    public boolean isWeekday() {
+        return isWeekday.matches();
+    }
+
+    @Benchmark
+    public boolean isDayOfMonth() {
+        return isDayOfMonth.matches();
+    }
+
+    @Benchmark
+    public boolean isMonth() {
+        return isMonth.matches();
+    }
+
+    @Benchmark
+    public boolean isYear() {
+        return isYear.matches();
+    }
+
+    @Benchmark
+    public boolean isLeapYear() {
+        return isLeapYear.matches();
+    }
+
+    @Benchmark
+    public boolean isFirstDayOfMonth() {
+        return isFirstDayOfMonth.matches();
+    }
+
+    @Benchmark
+    public boolean isLastDayOfMonth() {
+        return isLastDayOfMonth.matches();
+    }
+
+    @Benchmark
+    public boolean isMaximum() {
+        return isMaximum.matches();
+    }
+
+    @Benchmark
+    public boolean isMinimum() {
+        return isMinimum.matches();
+    }
+
+    @Benchmark
+    public boolean isHour() {
+        return isHour.matches();
+    }
+
+    @Benchmark
+    public boolean isMinute() {
+        return isMinute.matches();
+    }
+
+    @Benchmark
+    public boolean isSecond() {
+        return isSecond.matches();
+    }
+
+    private MatcherCase<LocalDateTime> of(Matcher<LocalDateTime> matcher, ZonedDateTime matchingValue, ZonedDateTime mismatchingValue) {
+        return MatcherCase.of(matcher, localDateTime(matchingValue), localDateTime(mismatchingValue), matching);
+    }
+
+    private static LocalDateTime localDateTime(ZonedDateTime value) {
+        return value.toLocalDateTime();
+    }
+}
@@ -0,0 +1,113 @@
+package org.exparity.hamcrest.date.benchmark;
+
+import static java.time.temporal.ChronoField.HOUR_OF_DAY;
+import static java.time.temporal.ChronoUnit.HOURS;
+import static org.exparity.hamcrest.date.benchmark.BenchmarkValues.*;
+
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.exparity.hamcrest.date.LocalTimeMatchers;
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of {@link LocalTimeMatchers} for matching and mismatching {@link LocalTime} values
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocalTimeMatchersBenchmark {
+
+    @Param({ "true", "false" })
+    public boolean matching;
+
+    private MatcherCase<LocalTime> after, before, sameOrAfter, sameOrBefore, within, isMaximum, isMinimum, isHour,
+            isMinute, isSecond;
+
+    @Setup
+    public void setUp() {
+        after = of(LocalTimeMatchers.after(localTime(REFERENCE)), NEXT_HOUR, EARLY_MORNING);
+        before = of(LocalTimeMatchers.before(localTime(REFERENCE)), EARLY_MORNING, NEXT_HOUR);
+        sameOrAfter = of(LocalTimeMatchers.sameOrAfter(localTime(REFERENCE)), REFERENCE, EARLY_MORNING);
+        sameOrBefore = of(LocalTimeMatchers.sameOrBefore(localTime(REFERENCE)), REFERENCE, NEXT_HOUR);
+        within = of(LocalTimeMatchers.within(1, HOURS, localTime(REFERENCE)), HALF_HOUR_LATER, LATE_EVENING);
+        isMaximum = of(LocalTimeMatchers.isMaximum(HOUR_OF_DAY), LATE_EVENING, REFERENCE);
+        isMinimum = of(LocalTimeMatchers.isMinimum(HOUR_OF_DAY), EARLY_MORNING, REFERENCE);
+        isHour = of(LocalTimeMatchers.isHour(11), REFERENCE, NEXT_HOUR);
+        isMinute = of(LocalTimeMatchers.isMinute(30), REFERENCE, NEXT_MINUTE);
+        isSecond = of(LocalTimeMatchers.isSecond(45), REFERENCE, NEXT_SECOND);
+    }
+
+    @Benchmark
+    public boolean after() {
+        return after.matches();
+    }
+
+    @Benchmark
+    public boolean before() {
+        return before.matches();
+    }
+
+    @Benchmark
+    public boolean sameOrAfter() {
+        return sameOrAfter.matches();
+    }
+
+    @Benchmark
+    public boolean sameOrBefore() {
+        return sameOrBefore.matches();
+    }
+
+    @Benchmark
+    public boolean within() {
+        return within.matches();
+    }
+
+    @Benchmark
+    public boolean isMaximum() {
+        return isMaximum.matches();
+    }
+
+    @Benchmark
+    public boolean isMinimum() {
+        return isMinimum.matches();
+    }
+
+    @Benchmark
+    public boolean isHour() {
+        return isHour.matches();
+    }
+
+    @Benchmark
+    public boolean isMinute() {
+        return isMinute.matches();
+    }
+
+    @Benchmark
+    public boolean isSecond() {
+        return isSecond.matches();
+    }
+
+    private MatcherCase<LocalTime> of(Matcher<LocalTime> matcher, ZonedDateTime matchingValue, ZonedDateTime mismatchingValue) {
+        return MatcherCase.of(matcher, localTime(matchingValue), localTime(mismatchingValue), matching);
+    }
+
+    private static LocalTime localTime(ZonedDateTime value) {
+        return value.toLocalTime();
+    }
+}
@@ -0,0 +1,40 @@
+package org.exparity.hamcrest.date.benchmark;
+
+import org.hamcrest.Matcher;
+
+/**
+ * A matcher paired with the value it is benchmarked against. The examined value is chosen once, during benchmark
+ * setup, so the measured method is a single call to {@link Matcher#matches(Object)}.
+ *
+ * @param <T> the type of the examined value
+ */
+public final class MatcherCase<T> {
+
+    /**
+     * Create a case which examines either the matching or the mismatching value
+     *
+     * @param matcher the matcher to benchmark
+     * @param matchingValue a value accepted by the matcher
+     * @param mismatchingValue a value rejected by the matcher
+     * @param matching true to examine the matching value, false to examine the mismatching value
+     */
+    public static <T> MatcherCase<T> of(Matcher<T> matcher, T matchingValue, T mismatchingValue, boolean matching) {
+        T examined = matching ? matchingValue : mismatchingValue;
+        if (matcher.matches(examined) != matching) {
+            throw new IllegalStateException("Matcher " + matcher + " does not " + (matching ? "match " : "reject ") + examined);
+        }
+        return new MatcherCase<>(matcher, examined);
+    }
+
+    private final Matcher<T> matcher;
+    private final T examined;
+
+    private MatcherCase(Matcher<T> matcher, T examined) {
+        this.matcher = matcher;
+        this.examined = examined;
+    }
+
+    public boolean matches() {
+        return matcher.matches(examined);
+    }
+}
@@ -0,0 +1,176 @@
+package org.exparity.hamcrest.date.benchmark;
+
+import static java.time.DayOfWeek.FRIDAY;
+import static java.time.Month.JUNE;
+import static java.time.temporal.ChronoField.DAY_OF_MONTH;
+import static java.time.temporal.ChronoUnit.HOURS;
+import static org.exparity.hamcrest.date.benchmark.BenchmarkValues.*;
+
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.exparity.hamcrest.date.OffsetDateTimeMatchers;
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of {@link OffsetDateTimeMatchers} for matching and mismatching {@link OffsetDateTime} values
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OffsetDateTimeMatchersBenchmark {
+
+    @Param({ "true", "false" })
+    public boolean matching;
+
+    private MatcherCase<OffsetDateTime> after, before, sameOrAfter, sameOrBefore, sameInstant, within, sameDay, isDayOfWeek,
+            isWeekday, isDayOfMonth, isMonth, isYear, isLeapYear, isFirstDayOfMonth, isLastDayOfMonth, isMaximum,
+            isMinimum, isHour, isMinute, isSecond;
+
+    @Setup
+    public void setUp() {
+        after = of(OffsetDateTimeMatchers.after(offsetDateTime(REFERENCE)), LATER, EARLIER);
+        before = of(OffsetDateTimeMatchers.before(offsetDateTime(REFERENCE)), EARLIER, LATER);
+        sameOrAfter = of(OffsetDateTimeMatchers.sameOrAfter(offsetDateTime(REFERENCE)), REFERENCE, EARLIER);
+        sameOrBefore = of(OffsetDateTimeMatchers.sameOrBefore(offsetDateTime(REFERENCE)), REFERENCE, LATER);
+        sameInstant = of(OffsetDateTimeMatchers.sameInstant(offsetDateTime(REFERENCE)), REFERENCE, LATER);
+        within = of(OffsetDateTimeMatchers.within(1, HOURS, offsetDateTime(REFERENCE)), HALF_HOUR_LATER, LATER);
+        sameDay = of(OffsetDateTimeMatchers.sameDay(offsetDateTime(REFERENCE)).atZone(UTC), NEXT_HOUR, LATER);
+        isDayOfWeek = of(OffsetDateTimeMatchers.isDayOfWeek(FRIDAY).atZone(UTC), REFERENCE, LATER);
+        isWeekday = of(OffsetDateTimeMatchers.isWeekday().atZone(UTC), REFERENCE, NEXT_DAY);
+        isDayOfMonth = of(OffsetDateTimeMatchers.isDayOfMonth(15).atZone(UTC), REFERENCE, LATER);
+        isMonth = of(OffsetDateTimeMatchers.isMonth(JUNE).atZone(UTC), REFERENCE, NEXT_MONTH);
+        isYear = of(OffsetDateTimeMatchers.isYear(2012).atZone(UTC), REFERENCE, NEXT_YEAR);
+        isLeapYear = of(OffsetDateTimeMatchers.isLeapYear().atZone(UTC), REFERENCE, NEXT_YEAR);
+        isFirstDayOfMonth = of(OffsetDateTimeMatchers.isFirstDayOfMonth().atZone(UTC), FIRST_DAY_OF_MONTH, REFERENCE);
+        isLastDayOfMonth = of(OffsetDateTimeMatchers.isLastDayOfMonth().atZone(UTC), LAST_DAY_OF_MONTH, REFERENCE);
+        isMaximum = of(OffsetDateTimeMatchers.isMaximum(DAY_OF_MONTH).atZone(UTC), LAST_DAY_OF_MONTH, REFERENCE);
+        isMinimum = of(OffsetDateTimeMatchers.isMinimum(DAY_OF_MONTH).atZone(UTC), FIRST_DAY_OF_MONTH, REFERENCE);
+        isHour = of(OffsetDateTimeMatchers.isHour(11).atZone(UTC), REFERENCE, NEXT_HOUR);
+        isMinute = of(OffsetDateTimeMatchers.isMinute(30).atZone(UTC), REFERENCE, NEXT_MINUTE);
+        isSecond = of(OffsetDateTimeMatchers.isSecond(45).atZone(UTC), REFERENCE, NEXT_SECOND);
+    }
+
+    @Benchmark
+    public boolean after() {
+        return after.matches();
+    }
+
+    @Benchmark
+    public boolean before() {
+        return before.matches();
+    }
+
+    @Benchmark
+    public boolean sameOrAfter() {
+        return sameOrAfter.matches();
+    }
+
+    @Benchmark
+    public boolean sameOrBefore() {
+        return sameOrBefore.matches();
+    }
+
+    @Benchmark
+    public boolean sameInstant() {
+        return sameInstant.matches();
+    }
+
+    @Benchmark
+    public boolean within() {
+        return within.matches();
+    }
+
+    @Benchmark
+    public boolean sameDay() {
+        return sameDay.matches();
+    }
+
+    @Benchmark
+    public boolean isDayOfWeek() {
+        return isDayOfWeek.matches();
+    }
+
+    @Benchmark
+    public boolean isWeekday() {
+        return isWeekday.matches();
+    }
+
+    @Benchmark
+    public boolean isDayOfMonth() {
+        return isDayOfMonth.matches();
+    }
+
+    @Benchmark
+    public boolean isMonth() {
+        return isMonth.matches();
+    }
+
+    @Benchmark
+    public boolean isYear() {
+        return isYear.matches();
+    }
+
+    @Benchmark
+    public boolean isLeapYear() {
+        return isLeapYear.matches();
+    }
+
+    @Benchmark
+    public boolean isFirstDayOfMonth() {
+        return isFirstDayOfMonth.matches();
+    }
+
+    @Benchmark
+    public boolean isLastDayOfMonth() {
+        return isLastDayOfMonth.matches();
+    }
+
+    @Benchmark
+    public boolean isMaximum() {
+        return isMaximum.matches();
+    }
+
+    @Benchmark
+    public boolean isMinimum() {
+        return isMinimum.matches();
+    }
+
+    @Benchmark
+    public boolean isHour() {
+        return isHour.matches();
+    }
+
+    @Benchmark
+    public boolean isMinute() {
+        return isMinute.matches();
+    }
+
+    @Benchmark
+    public boolean isSecond() {
+        return isSecond.matches();
+    }
+
+    private MatcherCase<OffsetDateTime> of(Matcher<OffsetDateTime> matcher, ZonedDateTime matchingValue, ZonedDateTime mismatchingValue) {
+        return MatcherCase.of(matcher, offsetDateTime(matchingValue), offsetDateTime(mismatchingValue), matching);
+    }
+
+    private static OffsetDateTime offsetDateTime(ZonedDateTime value) {
+        return value.toOffsetDateTime();
+    }
+}
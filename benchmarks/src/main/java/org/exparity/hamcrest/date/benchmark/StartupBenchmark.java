@@ -0,0 +1,80 @@
+package org.exparity.hamcrest.date.benchmark;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.exparity.hamcrest.date.DateMatchers;
+import org.exparity.hamcrest.date.InstantMatchers;
+import org.exparity.hamcrest.date.LocalDateMatchers;
+import org.exparity.hamcrest.date.LocalDateTimeMatchers;
+import org.exparity.hamcrest.date.LocalTimeMatchers;
+import org.exparity.hamcrest.date.OffsetDateTimeMatchers;
+import org.exparity.hamcrest.date.SqlDateMatchers;
+import org.exparity.hamcrest.date.ZonedDateTimeMatchers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to the first match of each matcher factory in a new JVM, including the loading and initialisation of the
+ * factory and the converters and functions it uses. Each fork runs a single invocation so the result is the cold start
+ * cost; the values matched are created without touching any class of the library.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark {
+
+    private final ZonedDateTime reference = ZonedDateTime.of(2012, 6, 15, 11, 30, 45, 0, ZoneOffset.UTC);
+
+    @Benchmark
+    public boolean instantMatchers() {
+        return InstantMatchers.isHour(11).matches(reference.toInstant());
+    }
+
+    @Benchmark
+    public boolean dateMatchers() {
+        return DateMatchers.isHour(11).matches(Date.from(reference.toInstant()));
+    }
+
+    @Benchmark
+    public boolean sqlDateMatchers() {
+        return SqlDateMatchers.isDayOfMonth(15).matches(java.sql.Date.valueOf(reference.toLocalDate()));
+    }
+
+    @Benchmark
+    public boolean localDateMatchers() {
+        return LocalDateMatchers.isDayOfMonth(15).matches(reference.toLocalDate());
+    }
+
+    @Benchmark
+    public boolean localDateTimeMatchers() {
+        return LocalDateTimeMatchers.isHour(11).matches(reference.toLocalDateTime());
+    }
+
+    @Benchmark
+    public boolean localTimeMatchers() {
+        return LocalTimeMatchers.isHour(11).matches(reference.toLocalTime());
+    }
+
+    @Benchmark
+    public boolean zonedDateTimeMatchers() {
+        return ZonedDateTimeMatchers.isHour(11).matches(reference);
+    }
+
+    @Benchmark
+    public boolean offsetDateTimeMatchers() {
+        return OffsetDateTimeMatchers.isHour(11).matches(reference.toOffsetDateTime());
+    }
+}
@@ -2,15 +2,20 @@ package org.exparity.hamcrest.date;
 
 import static java.time.DayOfWeek.*;
 import static java.time.Month.*;
-import static org.exparity.hamcrest.date.core.TemporalConverters.*;
-import static org.exparity.hamcrest.date.core.TemporalFunctions.INSTANT;
-import static org.exparity.hamcrest.date.core.TemporalFunctions.LOCALDATE;
-import static org.exparity.hamcrest.date.core.TemporalFunctions.LOCALDATETIME;
-import static org.exparity.hamcrest.date.core.TemporalFunctions.SQLDATE;
-import static org.exparity.hamcrest.date.core.TemporalFunctions.JAVADATE;
+import static org.exparity.hamcrest.date.core.TemporalConverters.JavaDates.*;
+import static org.exparity.hamcrest.date.core.TemporalFieldConverters.JavaDates.*;
+import static org.exparity.hamcrest.date.core.TemporalConverters.UtilDates.*;
+import static org.exparity.hamcrest.date.core.TemporalFieldConverters.UtilDates.*;
+import static org.exparity.hamcrest.date.core.TemporalFunctions.Instants.INSTANT;
+import static org.exparity.hamcrest.date.core.TemporalFunctions.LocalDates.LOCALDATE;
+import static org.exparity.hamcrest.date.core.TemporalFunctions.LocalDateTimes.LOCALDATETIME;
+import static org.exparity.hamcrest.date.core.TemporalFunctions.SqlDates.SQLDATE;
+import static org.exparity.hamcrest.date.core.TemporalFunctions.JavaDates.JAVADATE;
 import static org.exparity.hamcrest.date.core.TemporalProviders.*;
 
+import java.time.Clock;
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -19,11 +24,18 @@ import java.time.ZoneId;
 import java.time.temporal.ChronoField;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
+import org.exparity.hamcrest.date.core.DefaultZones;
+import org.exparity.hamcrest.date.core.InternedMatcher;
 import org.exparity.hamcrest.date.core.TemporalMatcher;
+import org.exparity.hamcrest.date.core.EpochConverter;
+import org.exparity.hamcrest.date.core.EpochConverters;
 import org.exparity.hamcrest.date.core.IsAfter;
 import org.exparity.hamcrest.date.core.IsBefore;
+import org.exparity.hamcrest.date.core.IsDay;
 import org.exparity.hamcrest.date.core.IsDayOfMonth;
 import org.exparity.hamcrest.date.core.IsDayOfWeek;
 import org.exparity.hamcrest.date.core.IsFirstDayOfMonth;
@@ -42,8 +54,8 @@ import org.exparity.hamcrest.date.core.IsSameOrBefore;
 import org.exparity.hamcrest.date.core.IsSecond;
 import org.exparity.hamcrest.date.core.IsWithin;
 import org.exparity.hamcrest.date.core.IsYear;
+import org.exparity.hamcrest.date.core.SpecializedMatcher;
 import org.exparity.hamcrest.date.core.TemporalConversionException;
-import org.exparity.hamcrest.date.core.function.DateFunction;
 import org.exparity.hamcrest.date.core.types.Interval;
 
 /**
@@ -70,7 +82,9 @@ public final class DateMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<Date> after(final Date date) {
-		return new IsAfter<>(JAVADATE_AS_JAVADATE, javaDate(date), new DateFunction());
+		return specialized(epochs -> new IsAfter<>(JAVADATE_AS_JAVADATE, javaDate(date), JAVADATE, epochs),
+				utilDateEpochs(date),
+				EpochConverters.JAVADATE);
     }
 
     /**
@@ -120,7 +134,9 @@ public final class DateMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<Date> after(final LocalDate date) {
-        return new IsAfter<>(JAVADATE_AS_LOCALDATE, localDate(date), LOCALDATE);
+        return specialized(converter -> new IsAfter<>(converter, localDate(date), LOCALDATE),
+                UTILDATE_AS_LOCALDATE,
+                JAVADATE_AS_LOCALDATE);
     }
     
     /**
@@ -152,7 +168,9 @@ public final class DateMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<Date> after(final Instant date) {
-        return new IsAfter<>(JAVADATE_AS_INSTANT, instant(date), INSTANT);
+        return specialized(converter -> new IsAfter<>(converter, instant(date), INSTANT, EpochConverters.INSTANT),
+                UTILDATE_AS_INSTANT,
+                JAVADATE_AS_INSTANT);
     }
     
     /**
@@ -260,7 +278,9 @@ public final class DateMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<Date> before(final Date date) {
-		return new IsBefore<>(JAVADATE_AS_JAVADATE, javaDate(date), new DateFunction());
+		return specialized(epochs -> new IsBefore<>(JAVADATE_AS_JAVADATE, javaDate(date), JAVADATE, epochs),
+				utilDateEpochs(date),
+				EpochConverters.JAVADATE);
     }
 
     /**
@@ -310,7 +330,9 @@ public final class DateMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<Date> before(final LocalDate date) {
-        return new IsBefore<>(JAVADATE_AS_LOCALDATE, localDate(date), LOCALDATE);
+        return specialized(converter -> new IsBefore<>(converter, localDate(date), LOCALDATE),
+                UTILDATE_AS_LOCALDATE,
+                JAVADATE_AS_LOCALDATE);
     }
     
     /**
@@ -342,7 +364,9 @@ public final class DateMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<Date> before(final Instant date) {
-        return new IsBefore<>(JAVADATE_AS_INSTANT, instant(date), INSTANT);
+        return specialized(converter -> new IsBefore<>(converter, instant(date), INSTANT, EpochConverters.INSTANT),
+                UTILDATE_AS_INSTANT,
+                JAVADATE_AS_INSTANT);
     }
     
     /**
@@ -450,7 +474,7 @@ public final class DateMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<Date> sameDayOfWeek(final Date date) {
-        return isDayOfWeek(toDayOfWeek(date, ZoneId.systemDefault()));
+        return isDayOfWeek(toDayOfWeek(date, DefaultZones.get()));
     }
 
     /**
@@ -500,7 +524,9 @@ public final class DateMatchers {
      * @param dayOfWeek the reference weekday against which the examined date is checked
      */
     public static TemporalMatcher<Date> isDayOfWeek(final DayOfWeek dayOfWeek) {
-        return new IsDayOfWeek<>(JAVADATE_AS_DAYOFWEEK, daysOfWeek(dayOfWeek));
+        return specialized(converter -> new IsDayOfWeek<>(converter, daysOfWeek(dayOfWeek)),
+                UTILDATE_AS_DAYOFWEEK,
+                JAVADATE_AS_DAYOFWEEK);
     }
 
     /**
@@ -516,7 +542,9 @@ public final class DateMatchers {
      * @param daysOfWeek the reference weekdays against which the examined date is checked
      */
     public static TemporalMatcher<Date> isDayOfWeek(final DayOfWeek... daysOfWeek) {
-        return new IsDayOfWeek<>(JAVADATE_AS_DAYOFWEEK, daysOfWeek(daysOfWeek));
+        return specialized(converter -> new IsDayOfWeek<>(converter, daysOfWeek(daysOfWeek)),
+                UTILDATE_AS_DAYOFWEEK,
+                JAVADATE_AS_DAYOFWEEK);
     }
     
     /**
@@ -532,7 +560,9 @@ public final class DateMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<Date> sameDayOfMonth(final Date date) {
-        return new IsDayOfMonth<>(JAVADATE_AS_DAYOFMONTH, dayOfMonth(date));
+        return specialized(converter -> new IsDayOfMonth<>(converter, dayOfMonth(date)),
+                UTILDATE_DAY_OF_MONTH,
+                JAVADATE_DAY_OF_MONTH);
     }
     
     /**
@@ -548,7 +578,9 @@ public final class DateMatchers {
      * @param dayOfMonth the expected day of the month
      */
     public static TemporalMatcher<Date> isDayOfMonth(final int dayOfMonth) {
-        return new IsDayOfMonth<>(JAVADATE_AS_DAYOFMONTH, dayOfMonth(dayOfMonth));
+        return specialized(converter -> new IsDayOfMonth<>(converter, dayOfMonth(dayOfMonth)),
+                UTILDATE_DAY_OF_MONTH,
+                JAVADATE_DAY_OF_MONTH);
     }
 
     /**
@@ -564,7 +596,9 @@ public final class DateMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<Date> sameDay(final Date date) {
-        return new IsSameDay<>(JAVADATE_AS_LOCALDATE, localDate(date));
+        return specialized(converter -> new IsSameDay<>(converter, localDate(date)),
+                UTILDATE_AS_LOCALDATE,
+                JAVADATE_AS_LOCALDATE);
     }
 
     /**
@@ -580,7 +614,9 @@ public final class DateMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<Date> sameDay(final java.sql.Date date) {
-        return new IsSameDay<>(JAVADATE_AS_LOCALDATE, localDate(date));
+        return specialized(converter -> new IsSameDay<>(converter, localDate(date)),
+                UTILDATE_AS_LOCALDATE,
+                JAVADATE_AS_LOCALDATE);
     }
     
     /**
@@ -614,7 +650,9 @@ public final class DateMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<Date> sameDay(final LocalDate date) {
-        return new IsSameDay<>(JAVADATE_AS_LOCALDATE, localDate(date));
+        return specialized(converter -> new IsSameDay<>(converter, localDate(date)),
+                UTILDATE_AS_LOCALDATE,
+                JAVADATE_AS_LOCALDATE);
     }
 
     /**
@@ -697,7 +735,9 @@ public final class DateMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<Date> sameHourOfDay(final Date date) {
-        return new IsHour<>(JAVADATE_AS_HOUR, hour(date));
+        return specialized(converter -> new IsHour<>(converter, hour(date)),
+                UTILDATE_HOUR_OF_DAY,
+                JAVADATE_HOUR_OF_DAY);
     }
 
 	/**
@@ -742,7 +782,9 @@ public final class DateMatchers {
      * @param hour the reference hour against which the examined date is checked
      */
     public static TemporalMatcher<Date> isHour(final int hour) {
-        return new IsHour<>(JAVADATE_AS_HOUR, hour(hour));
+        return specialized(converter -> new IsHour<>(converter, hour(hour)),
+                UTILDATE_HOUR_OF_DAY,
+                JAVADATE_HOUR_OF_DAY);
     }
 
     /**
@@ -758,7 +800,9 @@ public final class DateMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<Date> sameInstant(final Date date) {
-        return new IsSame<>(JAVADATE_AS_INSTANT, instant(date), INSTANT);
+        return specialized(converter -> new IsSame<>(converter, instant(date), INSTANT),
+                UTILDATE_AS_INSTANT,
+                JAVADATE_AS_INSTANT);
     }
 
 	/**
@@ -786,7 +830,9 @@ public final class DateMatchers {
      * @param instant the {@link Instant}
      */
     public static TemporalMatcher<Date> sameInstant(final Instant instant) {
-        return new IsSame<>(JAVADATE_AS_INSTANT, instant(instant), INSTANT);
+        return specialized(converter -> new IsSame<>(converter, instant(instant), INSTANT),
+                UTILDATE_AS_INSTANT,
+                JAVADATE_AS_INSTANT);
     }
 	
     /**
@@ -879,7 +925,9 @@ public final class DateMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<Date> sameOrBefore(final Date date) {
-        return new IsSameOrBefore<>(JAVADATE_AS_JAVADATE, javaDate(date), JAVADATE);
+        return specialized(epochs -> new IsSameOrBefore<>(JAVADATE_AS_JAVADATE, javaDate(date), JAVADATE, epochs),
+                utilDateEpochs(date),
+                EpochConverters.JAVADATE);
     }
 
     /**
@@ -911,7 +959,9 @@ public final class DateMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<Date> sameOrBefore(final LocalDate date) {
-        return new IsSameOrBefore<>(JAVADATE_AS_LOCALDATE, localDate(date), LOCALDATE);
+        return specialized(converter -> new IsSameOrBefore<>(converter, localDate(date), LOCALDATE),
+                UTILDATE_AS_LOCALDATE,
+                JAVADATE_AS_LOCALDATE);
     }
 
     /**
@@ -1057,7 +1107,9 @@ public final class DateMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<Date> sameOrAfter(final Date date) {
-        return new IsSameOrAfter<>(JAVADATE_AS_JAVADATE, javaDate(date), JAVADATE);
+        return specialized(epochs -> new IsSameOrAfter<>(JAVADATE_AS_JAVADATE, javaDate(date), JAVADATE, epochs),
+                utilDateEpochs(date),
+                EpochConverters.JAVADATE);
     }
 
     /**
@@ -1089,7 +1141,9 @@ public final class DateMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<Date> sameOrAfter(final LocalDate date) {
-        return new IsSameOrAfter<>(JAVADATE_AS_LOCALDATE, localDate(date), LOCALDATE);
+        return specialized(converter -> new IsSameOrAfter<>(converter, localDate(date), LOCALDATE),
+                UTILDATE_AS_LOCALDATE,
+                JAVADATE_AS_LOCALDATE);
     }
 
     /**
@@ -1262,7 +1316,9 @@ public final class DateMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<Date> sameMinuteOfHour(final Date date) {
-        return new IsMinute<>(JAVADATE_AS_MINUTE, minute(date));
+        return specialized(converter -> new IsMinute<>(converter, minute(date)),
+                UTILDATE_MINUTE_OF_HOUR,
+                JAVADATE_MINUTE_OF_HOUR);
     }
 
 	/**
@@ -1307,7 +1363,9 @@ public final class DateMatchers {
      * @param minute the reference minute against which the examined date is checked
      */
     public static TemporalMatcher<Date> isMinute(final int minute) {
-        return new IsMinute<>(JAVADATE_AS_MINUTE, minute(minute));
+        return specialized(converter -> new IsMinute<>(converter, minute(minute)),
+                UTILDATE_MINUTE_OF_HOUR,
+                JAVADATE_MINUTE_OF_HOUR);
     }
 
     /**
@@ -1359,7 +1417,7 @@ public final class DateMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<Date> sameMonthOfYear(final Date date) {
-        return new IsMonth<>(JAVADATE_AS_MONTH, month(date));
+        return specialized(converter -> new IsMonth<>(converter, month(date)), UTILDATE_AS_MONTH, JAVADATE_AS_MONTH);
     }
     
     /**
@@ -1375,7 +1433,7 @@ public final class DateMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<Date> sameMonthOfYear(final java.sql.Date date) {
-        return new IsMonth<>(JAVADATE_AS_MONTH, month(date));
+        return specialized(converter -> new IsMonth<>(converter, month(date)), UTILDATE_AS_MONTH, JAVADATE_AS_MONTH);
     }
 
     /**
@@ -1456,7 +1514,9 @@ public final class DateMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<Date> sameSecondOfMinute(final Date date) {
-        return new IsSecond<>(JAVADATE_AS_SECOND, second(date));
+        return specialized(converter -> new IsSecond<>(converter, second(date)),
+                UTILDATE_SECOND_OF_MINUTE,
+                JAVADATE_SECOND_OF_MINUTE);
     }
 
 	/**
@@ -1501,7 +1561,9 @@ public final class DateMatchers {
      * @param second the reference date against which the examined date is checked
      */
     public static TemporalMatcher<Date> isSecond(final int second) {
-        return new IsSecond<>(JAVADATE_AS_SECOND, second(second));
+        return specialized(converter -> new IsSecond<>(converter, second(second)),
+                UTILDATE_SECOND_OF_MINUTE,
+                JAVADATE_SECOND_OF_MINUTE);
     }
 
     /**
@@ -1546,7 +1608,9 @@ public final class DateMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<Date> sameMillisecondOfSecond(final Date date) {
-        return new IsMillisecond<>(JAVADATE_AS_MILLISECOND, millisecondOfMinute(date));
+        return specialized(converter -> new IsMillisecond<>(converter, millisecondOfMinute(date)),
+                UTILDATE_MILLI_OF_SECOND,
+                JAVADATE_MILLI_OF_SECOND);
     }
 
 	/**
@@ -1591,7 +1655,9 @@ public final class DateMatchers {
      * @param millisecond the millisecond against which the examined date is checked
      */
     public static TemporalMatcher<Date> isMillisecond(final int millisecond) {
-        return new IsMillisecond<>(JAVADATE_AS_MILLISECOND, millisecondOfMinute(millisecond));
+        return specialized(converter -> new IsMillisecond<>(converter, millisecondOfMinute(millisecond)),
+                UTILDATE_MILLI_OF_SECOND,
+                JAVADATE_MILLI_OF_SECOND);
     }
 
     /**
@@ -1607,7 +1673,7 @@ public final class DateMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<Date> sameYear(final Date date) {
-        return new IsYear<>(JAVADATE_AS_YEAR, year(date));
+        return specialized(converter -> new IsYear<>(converter, year(date)), UTILDATE_AS_YEAR, JAVADATE_AS_YEAR);
     }
 
     /**
@@ -1623,7 +1689,7 @@ public final class DateMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<Date> sameYear(final java.sql.Date date) {
-        return new IsYear<>(JAVADATE_AS_YEAR, year(date));
+        return specialized(converter -> new IsYear<>(converter, year(date)), UTILDATE_AS_YEAR, JAVADATE_AS_YEAR);
     }
     
     /**
@@ -1639,7 +1705,7 @@ public final class DateMatchers {
      * @param year the reference year against which the examined date is checked
      */
     public static TemporalMatcher<Date> isYear(final int year) {
-        return new IsYear<>(JAVADATE_AS_YEAR, year(year));
+        return specialized(converter -> new IsYear<>(converter, year(year)), UTILDATE_AS_YEAR, JAVADATE_AS_YEAR);
     }
 
     /**
@@ -1673,7 +1739,30 @@ public final class DateMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<Date> within(final long period, final ChronoUnit unit, final Date date) {
-        return new IsWithin<>(Interval.of(period, unit), JAVADATE_AS_JAVADATE, javaDate(date), JAVADATE);
+        Interval interval = Interval.of(period, unit);
+        return specialized(epochs -> new IsWithin<>(interval, JAVADATE_AS_JAVADATE, javaDate(date), JAVADATE, epochs),
+                utilDateEpochs(date),
+                EpochConverters.JAVADATE);
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined date is within an exact duration of the reference date
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * assertThat(myDate, within(Duration.ofMillis(250), new Date()))
+     * </pre>
+     *
+     * @param duration the largest duration between the examined date and the reference date
+     * @param date the reference date against which the examined date is checked
+     */
+    public static TemporalMatcher<Date> within(final Duration duration, final Date date) {
+        Interval interval = Interval.of(duration);
+        return specialized(epochs -> new IsWithin<>(interval, JAVADATE_AS_JAVADATE, javaDate(date), JAVADATE, epochs),
+                utilDateEpochs(date),
+                EpochConverters.JAVADATE);
     }
 
     /**
@@ -1723,7 +1812,10 @@ public final class DateMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<Date> within(final long period, final ChronoUnit unit, final LocalDate date) {
-        return new IsWithin<>(Interval.of(period, unit), JAVADATE_AS_LOCALDATE, localDate(date), LOCALDATE);
+        Interval interval = Interval.of(period, unit);
+        return specialized(converter -> new IsWithin<>(interval, converter, localDate(date), LOCALDATE),
+                UTILDATE_AS_LOCALDATE,
+                JAVADATE_AS_LOCALDATE);
     }
 
     /**
@@ -1887,7 +1979,24 @@ public final class DateMatchers {
      * </pre>
      */
     public static TemporalMatcher<Date> isYesterday() {
-        return sameDay(LocalDate.now().minusDays(1));
+        return isYesterday(DefaultZones.clock());
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined date is yesterday according to the clock. The current day is
+     * resolved each time the matcher is used so the matcher remains correct across midnight
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * assertThat(myDate, isYesterday(Clock.systemUTC()));
+     * </pre>
+     *
+     * @param clock the clock which provides the current day
+     */
+    public static TemporalMatcher<Date> isYesterday(final Clock clock) {
+        return new IsDay<>(JAVADATE_AS_LOCALDATE, EpochConverters.JAVADATE, clock, -1);
     }
 
     /**
@@ -1901,7 +2010,24 @@ public final class DateMatchers {
      * </pre>
      */
     public static TemporalMatcher<Date> isToday() {
-        return sameDay(LocalDate.now());
+        return isToday(DefaultZones.clock());
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined date is today according to the clock. The current day is
+     * resolved each time the matcher is used so the matcher remains correct across midnight
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * assertThat(myDate, isToday(Clock.systemUTC()));
+     * </pre>
+     *
+     * @param clock the clock which provides the current day
+     */
+    public static TemporalMatcher<Date> isToday(final Clock clock) {
+        return new IsDay<>(JAVADATE_AS_LOCALDATE, EpochConverters.JAVADATE, clock, 0);
     }
 
     /**
@@ -1915,7 +2041,24 @@ public final class DateMatchers {
      * </pre>
      */
     public static TemporalMatcher<Date> isTomorrow() {
-        return sameDay(LocalDate.now().plusDays(1));
+        return isTomorrow(DefaultZones.clock());
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined date is tomorrow according to the clock. The current day is
+     * resolved each time the matcher is used so the matcher remains correct across midnight
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * assertThat(myDate, isTomorrow(Clock.systemUTC()));
+     * </pre>
+     *
+     * @param clock the clock which provides the current day
+     */
+    public static TemporalMatcher<Date> isTomorrow(final Clock clock) {
+        return new IsDay<>(JAVADATE_AS_LOCALDATE, EpochConverters.JAVADATE, clock, 1);
     }
 
     /**
@@ -1929,7 +2072,7 @@ public final class DateMatchers {
      * </pre>
      */
     public static TemporalMatcher<Date> isMonday() {
-        return isDayOfWeek(DayOfWeek.MONDAY);
+        return Interned.DAYS_OF_WEEK.get(MONDAY);
     }
 
     /**
@@ -1943,7 +2086,7 @@ public final class DateMatchers {
      * </pre>
      */
     public static TemporalMatcher<Date> isTuesday() {
-        return isDayOfWeek(DayOfWeek.TUESDAY);
+        return Interned.DAYS_OF_WEEK.get(TUESDAY);
     }
 
     /**
@@ -1957,7 +2100,7 @@ public final class DateMatchers {
      * </pre>
      */
     public static TemporalMatcher<Date> isWednesday() {
-        return isDayOfWeek(DayOfWeek.WEDNESDAY);
+        return Interned.DAYS_OF_WEEK.get(WEDNESDAY);
     }
 
     /**
@@ -1971,7 +2114,7 @@ public final class DateMatchers {
      * </pre>
      */
     public static TemporalMatcher<Date> isThursday() {
-        return isDayOfWeek(DayOfWeek.THURSDAY);
+        return Interned.DAYS_OF_WEEK.get(THURSDAY);
     }
 
     /**
@@ -1985,7 +2128,7 @@ public final class DateMatchers {
      * </pre>
      */
     public static TemporalMatcher<Date> isFriday() {
-        return isDayOfWeek(DayOfWeek.FRIDAY);
+        return Interned.DAYS_OF_WEEK.get(FRIDAY);
     }
 
     /**
@@ -1999,7 +2142,7 @@ public final class DateMatchers {
      * </pre>
      */
     public static TemporalMatcher<Date> isSaturday() {
-        return isDayOfWeek(DayOfWeek.SATURDAY);
+        return Interned.DAYS_OF_WEEK.get(SATURDAY);
     }
 
     /**
@@ -2013,7 +2156,7 @@ public final class DateMatchers {
      * </pre>
      */
     public static TemporalMatcher<Date> isSunday() {
-        return isDayOfWeek(DayOfWeek.SUNDAY);
+        return Interned.DAYS_OF_WEEK.get(SUNDAY);
     }
 
     /**
@@ -2027,7 +2170,7 @@ public final class DateMatchers {
      * </pre>
      */
     public static TemporalMatcher<Date> isWeekday() {
-        return isDayOfWeek(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
+        return Interned.WEEKDAY;
     }
 
     /**
@@ -2041,7 +2184,7 @@ public final class DateMatchers {
      * </pre>
      */
     public static TemporalMatcher<Date> isWeekend() {
-        return isDayOfWeek(SATURDAY, SUNDAY);
+        return Interned.WEEKEND;
     }
 
     /**
@@ -2055,7 +2198,7 @@ public final class DateMatchers {
      * </pre>
      */
     public static TemporalMatcher<Date> isFirstDayOfMonth() {
-        return new IsFirstDayOfMonth<>(JAVADATE_AS_TEMPORAL);
+        return Interned.FIRST_DAY_OF_MONTH;
     }
 
     /**
@@ -2072,7 +2215,7 @@ public final class DateMatchers {
      * @param field the temporal field to check
      */
     public static TemporalMatcher<Date> isMinimum(final ChronoField field) {
-        return new IsMinimum<>(JAVADATE_AS_TEMPORAL, field);
+        return specialized(converter -> new IsMinimum<>(converter, field), UTILDATE_AS_TEMPORAL, JAVADATE_AS_TEMPORAL);
     }
 
     /**
@@ -2086,7 +2229,7 @@ public final class DateMatchers {
      * </pre>
      */
     public static TemporalMatcher<Date> isLastDayOfMonth() {
-        return new IsLastDayOfMonth<>(JAVADATE_AS_TEMPORAL);
+        return Interned.LAST_DAY_OF_MONTH;
     }
 
     /**
@@ -2103,7 +2246,7 @@ public final class DateMatchers {
      * @param field the temporal field to check
      */
     public static TemporalMatcher<Date> isMaximum(final ChronoField field) {
-        return new IsMaximum<>(JAVADATE_AS_TEMPORAL, field);
+        return specialized(converter -> new IsMaximum<>(converter, field), UTILDATE_AS_TEMPORAL, JAVADATE_AS_TEMPORAL);
     }
 
     /**
@@ -2117,7 +2260,7 @@ public final class DateMatchers {
      * </pre>
      */
     public static TemporalMatcher<Date> isMonth(final Month month) {
-        return new IsMonth<>(JAVADATE_AS_MONTH, month(month));
+        return specialized(converter -> new IsMonth<>(converter, month(month)), UTILDATE_AS_MONTH, JAVADATE_AS_MONTH);
     }
 
     /**
@@ -2131,7 +2274,7 @@ public final class DateMatchers {
      * </pre>
      */
     public static TemporalMatcher<Date> isJanuary() {
-        return isMonth(JANUARY);
+        return Interned.MONTHS.get(JANUARY);
     }
 
     /**
@@ -2145,7 +2288,7 @@ public final class DateMatchers {
      * </pre>
      */
     public static TemporalMatcher<Date> isFebruary() {
-        return isMonth(FEBRUARY);
+        return Interned.MONTHS.get(FEBRUARY);
     }
 
     /**
@@ -2159,7 +2302,7 @@ public final class DateMatchers {
      * </pre>
      */
     public static TemporalMatcher<Date> isMarch() {
-        return isMonth(MARCH);
+        return Interned.MONTHS.get(MARCH);
     }
 
     /**
@@ -2173,7 +2316,7 @@ public final class DateMatchers {
      * </pre>
      */
     public static TemporalMatcher<Date> isApril() {
-        return isMonth(APRIL);
+        return Interned.MONTHS.get(APRIL);
     }
 
     /**
@@ -2187,7 +2330,7 @@ public final class DateMatchers {
      * </pre>
      */
     public static TemporalMatcher<Date> isMay() {
-        return isMonth(MAY);
+        return Interned.MONTHS.get(MAY);
     }
 
     /**
@@ -2201,7 +2344,7 @@ public final class DateMatchers {
      * </pre>
      */
     public static TemporalMatcher<Date> isJune() {
-        return isMonth(JUNE);
+        return Interned.MONTHS.get(JUNE);
     }
 
     /**
@@ -2215,7 +2358,7 @@ public final class DateMatchers {
      * </pre>
      */
     public static TemporalMatcher<Date> isJuly() {
-        return isMonth(JULY);
+        return Interned.MONTHS.get(JULY);
     }
 
     /**
@@ -2229,7 +2372,7 @@ public final class DateMatchers {
      * </pre>
      */
     public static TemporalMatcher<Date> isAugust() {
-        return isMonth(AUGUST);
+        return Interned.MONTHS.get(AUGUST);
     }
 
     /**
@@ -2243,7 +2386,7 @@ public final class DateMatchers {
      * </pre>
      */
     public static TemporalMatcher<Date> isSeptember() {
-        return isMonth(SEPTEMBER);
+        return Interned.MONTHS.get(SEPTEMBER);
     }
 
     /**
@@ -2257,7 +2400,7 @@ public final class DateMatchers {
      * </pre>
      */
     public static TemporalMatcher<Date> isOctober() {
-        return isMonth(OCTOBER);
+        return Interned.MONTHS.get(OCTOBER);
     }
 
     /**
@@ -2271,7 +2414,7 @@ public final class DateMatchers {
      * </pre>
      */
     public static TemporalMatcher<Date> isNovember() {
-        return isMonth(NOVEMBER);
+        return Interned.MONTHS.get(NOVEMBER);
     }
 
     /**
@@ -2285,7 +2428,7 @@ public final class DateMatchers {
      * </pre>
      */
     public static TemporalMatcher<Date> isDecember() {
-        return isMonth(DECEMBER);
+        return Interned.MONTHS.get(DECEMBER);
     }
 
     /**
@@ -2299,7 +2442,7 @@ public final class DateMatchers {
      * </pre>
      */
     public static TemporalMatcher<Date> isLeapYear() {
-        return new IsLeapYear<>(JAVADATE_AS_YEAR);
+        return Interned.LEAP_YEAR;
     }
 
     private static ChronoUnit convertUnit(final TimeUnit unit) {
@@ -2330,4 +2473,51 @@ public final class DateMatchers {
 			return date.toInstant().atZone(zone).getDayOfWeek();
 		}
 	}
+
+    /**
+     * Read the system default zone again in the matchers created by this factory. The system default zone is read once
+     * and kept, so a program which changes it with {@link java.util.TimeZone#setDefault(java.util.TimeZone)} should
+     * call this afterwards. This is the same as {@link DefaultZones#refresh()}.
+     */
+    public static void refreshDefaultZone() {
+        DefaultZones.refresh();
+    }
+
+    /**
+     * Match a plain {@link Date} with the matcher built from the converters for plain dates, and any other date, such
+     * as a {@link java.sql.Date} or {@link java.sql.Timestamp}, with the matcher built from the Java Date converters
+     */
+    private static <C> TemporalMatcher<Date> specialized(Function<C, TemporalMatcher<Date>> factory,
+            C utilDate,
+            C javaDate) {
+        return SpecializedMatcher.of(Date.class, () -> factory.apply(utilDate), factory.apply(javaDate));
+    }
+
+    /**
+     * The epochs for comparing a plain {@link Date} with the reference date, unless the reference date is a
+     * {@link java.sql.Date} which has no place on the time-line and is compared by its local date instead
+     */
+    private static EpochConverter<Date> utilDateEpochs(Date date) {
+        return date instanceof java.sql.Date ? EpochConverters.JAVADATE : EpochConverters.UTILDATE;
+    }
+
+    /**
+     * Holds the matchers returned by the parameterless factories, which are created on first use and then shared
+     */
+    private static final class Interned {
+
+        private static final TemporalMatcher<Date> WEEKDAY = InternedMatcher.of(
+                isDayOfWeek(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY));
+        private static final TemporalMatcher<Date> WEEKEND = InternedMatcher.of(isDayOfWeek(SATURDAY, SUNDAY));
+        private static final TemporalMatcher<Date> FIRST_DAY_OF_MONTH = InternedMatcher.of(
+                specialized(IsFirstDayOfMonth<Date>::new, UTILDATE_AS_TEMPORAL, JAVADATE_AS_TEMPORAL));
+        private static final TemporalMatcher<Date> LAST_DAY_OF_MONTH = InternedMatcher.of(
+                specialized(IsLastDayOfMonth<Date>::new, UTILDATE_AS_TEMPORAL, JAVADATE_AS_TEMPORAL));
+        private static final TemporalMatcher<Date> LEAP_YEAR = InternedMatcher.of(
+                specialized(IsLeapYear<Date>::new, UTILDATE_AS_YEAR, JAVADATE_AS_YEAR));
+        private static final Map<DayOfWeek, TemporalMatcher<Date>> DAYS_OF_WEEK = InternedMatcher.ofEach(
+                DayOfWeek.class, DateMatchers::isDayOfWeek);
+        private static final Map<Month, TemporalMatcher<Date>> MONTHS = InternedMatcher.ofEach(
+                Month.class, DateMatchers::isMonth);
+    }
 }
@@ -0,0 +1,344 @@
+package org.exparity.hamcrest.date;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.temporal.ChronoUnit;
+
+import org.exparity.hamcrest.date.core.EpochConverters;
+import org.exparity.hamcrest.date.core.TemporalFunctions;
+import org.exparity.hamcrest.date.core.TemporalMatcher;
+
+/**
+ * Static factory for creating {@link org.hamcrest.Matcher} instances for comparing timestamps held as a count of
+ * microseconds from the epoch in a {@link Long}. Calendar fields are computed arithmetically from the
+ * timestamp, so no {@link java.time.Instant} or {@link java.time.ZonedDateTime} is created to match a timestamp. They
+ * are computed in the zone given with {@link TemporalMatcher#atZone(java.time.ZoneId)}, or else in the zone from
+ * {@link org.exparity.hamcrest.date.core.DefaultZones} when the timestamp is matched: the zone scoped to the current
+ * thread, then the zone of any resolver set, then the system default zone. For example:
+ *
+ * <pre>
+ * MatcherAssert.assertThat(record.timestamp(), EpochMicrosMatchers.after(startMicros));
+ * MatcherAssert.assertThat(record.timestamp(), EpochMicrosMatchers.isHour(11).atZone(ZoneOffset.UTC));
+ * </pre>
+ *
+ * To filter timestamps held in a <code>long</code> without boxing each one, use the matching
+ * {@link InstantMatchers} matcher through {@link TemporalMatcher#asLongPredicate(java.util.function.LongFunction)}
+ * instead, for example:
+ *
+ * <pre>
+ * LongStream.of(timestamps).filter(InstantMatchers.isWeekday().asLongPredicate(micros -> Instant.EPOCH.plus(micros, ChronoUnit.MICROS)))
+ * </pre>
+ */
+public final class EpochMicrosMatchers {
+
+    private static final EpochUnitMatchers MATCHERS = new EpochUnitMatchers(EpochConverters.EPOCH_MICROS,
+            TemporalFunctions.Epochs.EPOCH_MICROS);
+
+    private EpochMicrosMatchers() {}
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined timestamp is after the reference timestamp
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * MatcherAssert.assertThat(myTimestamp, EpochMicrosMatchers.after(referenceMicros));
+     * </pre>
+     *
+     * @param date the reference timestamp against which the examined timestamp is checked
+     */
+    public static TemporalMatcher<Long> after(final long date) {
+        return MATCHERS.after(date);
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined timestamp is before the reference timestamp
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * MatcherAssert.assertThat(myTimestamp, EpochMicrosMatchers.before(referenceMicros));
+     * </pre>
+     *
+     * @param date the reference timestamp against which the examined timestamp is checked
+     */
+    public static TemporalMatcher<Long> before(final long date) {
+        return MATCHERS.before(date);
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined timestamp is the same as or after the reference timestamp
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * MatcherAssert.assertThat(myTimestamp, EpochMicrosMatchers.sameOrAfter(referenceMicros));
+     * </pre>
+     *
+     * @param date the reference timestamp against which the examined timestamp is checked
+     */
+    public static TemporalMatcher<Long> sameOrAfter(final long date) {
+        return MATCHERS.sameOrAfter(date);
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined timestamp is the same as or before the reference timestamp
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * MatcherAssert.assertThat(myTimestamp, EpochMicrosMatchers.sameOrBefore(referenceMicros));
+     * </pre>
+     *
+     * @param date the reference timestamp against which the examined timestamp is checked
+     */
+    public static TemporalMatcher<Long> sameOrBefore(final long date) {
+        return MATCHERS.sameOrBefore(date);
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined timestamp is the same instant as the reference timestamp
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * MatcherAssert.assertThat(myTimestamp, EpochMicrosMatchers.sameInstant(expectedTimestamp));
+     * </pre>
+     *
+     * @param date the reference timestamp against which the examined timestamp is checked
+     */
+    public static TemporalMatcher<Long> sameInstant(final long date) {
+        return MATCHERS.sameInstant(date);
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined timestamp is within a given period of the reference timestamp
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * MatcherAssert.assertThat(myTimestamp, EpochMicrosMatchers.within(10, ChronoUnit.SECONDS, referenceMicros));
+     * </pre>
+     *
+     * @param period the timeunit interval the examined timestamp should be with
+     * @param unit the timeunit to define the length of the period
+     * @param date the reference timestamp against which the examined timestamp is checked
+     */
+    public static TemporalMatcher<Long> within(final long period, final ChronoUnit unit, final long date) {
+        return MATCHERS.within(period, unit, date);
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined timestamp is within an exact duration of the reference timestamp
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * assertThat(myTimestamp, EpochMicrosMatchers.within(Duration.ofMillis(250), referenceMicros))
+     * </pre>
+     *
+     * @param duration the largest duration between the examined timestamp and the reference timestamp
+     * @param date the reference timestamp against which the examined timestamp is checked
+     */
+    public static TemporalMatcher<Long> within(final Duration duration, final long date) {
+        return MATCHERS.within(duration, date);
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined timestamp is on the same day of the year as the reference
+     * timestamp
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * MatcherAssert.assertThat(myTimestamp, EpochMicrosMatchers.sameDay(referenceMicros));
+     * </pre>
+     *
+     * @param date the reference timestamp against which the examined timestamp is checked
+     */
+    public static TemporalMatcher<Long> sameDay(final long date) {
+        return MATCHERS.sameDay(date);
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined timestamp is on the reference day
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * MatcherAssert.assertThat(myTimestamp, EpochMicrosMatchers.isDay(LocalDate.of(2012, Month.MAY, 12)));
+     * </pre>
+     *
+     * @param date the reference day against which the examined timestamp is checked
+     */
+    public static TemporalMatcher<Long> isDay(final LocalDate date) {
+        return MATCHERS.isDay(date);
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined timestamp is in the reference year
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * MatcherAssert.assertThat(myTimestamp, EpochMicrosMatchers.isYear(2012));
+     * </pre>
+     *
+     * @param year the reference year against which the examined timestamp is checked
+     */
+    public static TemporalMatcher<Long> isYear(final int year) {
+        return MATCHERS.isYear(year);
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined timestamp is in the reference month
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * MatcherAssert.assertThat(myTimestamp, EpochMicrosMatchers.isMonth(Month.AUGUST));
+     * </pre>
+     *
+     * @param month the reference month against which the examined timestamp is checked
+     */
+    public static TemporalMatcher<Long> isMonth(final Month month) {
+        return MATCHERS.isMonth(month);
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined timestamp is on the reference day of the month
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * MatcherAssert.assertThat(myTimestamp, EpochMicrosMatchers.isDayOfMonth(4));
+     * </pre>
+     *
+     * @param dayOfMonth the reference day of the month against which the examined timestamp is checked
+     */
+    public static TemporalMatcher<Long> isDayOfMonth(final int dayOfMonth) {
+        return MATCHERS.isDayOfMonth(dayOfMonth);
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined timestamp is on one of the reference days of the week
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * MatcherAssert.assertThat(myTimestamp, EpochMicrosMatchers.isDayOfWeek(DayOfWeek.MONDAY, DayOfWeek.FRIDAY));
+     * </pre>
+     *
+     * @param daysOfWeek the days of the week against which the examined timestamp is checked
+     */
+    public static TemporalMatcher<Long> isDayOfWeek(final DayOfWeek... daysOfWeek) {
+        return MATCHERS.isDayOfWeek(daysOfWeek);
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined timestamp is on a weekday
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * MatcherAssert.assertThat(myTimestamp, EpochMicrosMatchers.isWeekday());
+     * </pre>
+     */
+    public static TemporalMatcher<Long> isWeekday() {
+        return MATCHERS.isWeekday();
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined timestamp is on a weekend
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * MatcherAssert.assertThat(myTimestamp, EpochMicrosMatchers.isWeekend());
+     * </pre>
+     */
+    public static TemporalMatcher<Long> isWeekend() {
+        return MATCHERS.isWeekend();
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined timestamp is on the expected hour (0-23)
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * MatcherAssert.assertThat(myTimestamp, EpochMicrosMatchers.isHour(12));
+     * </pre>
+     *
+     * @param hour the hour of the day (0-23)
+     */
+    public static TemporalMatcher<Long> isHour(final int hour) {
+        return MATCHERS.isHour(hour);
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined timestamp is on the expected minute (0-59)
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * MatcherAssert.assertThat(myTimestamp, EpochMicrosMatchers.isMinute(12));
+     * </pre>
+     *
+     * @param minute the minute of the hour (0-59)
+     */
+    public static TemporalMatcher<Long> isMinute(final int minute) {
+        return MATCHERS.isMinute(minute);
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined timestamp is on the expected second (0-59)
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * MatcherAssert.assertThat(myTimestamp, EpochMicrosMatchers.isSecond(12));
+     * </pre>
+     *
+     * @param second the second of the minute (0-59)
+     */
+    public static TemporalMatcher<Long> isSecond(final int second) {
+        return MATCHERS.isSecond(second);
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined timestamp is on the expected millisecond (0-999)
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * MatcherAssert.assertThat(myTimestamp, EpochMicrosMatchers.isMillisecond(12));
+     * </pre>
+     *
+     * @param millisecond the millisecond of the second (0-999)
+     */
+    public static TemporalMatcher<Long> isMillisecond(final int millisecond) {
+        return MATCHERS.isMillisecond(millisecond);
+    }
+}
@@ -0,0 +1,147 @@
+package org.exparity.hamcrest.date;
+
+import static java.time.DayOfWeek.*;
+import static org.exparity.hamcrest.date.core.TemporalProviders.*;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.time.temporal.ChronoUnit;
+
+import org.exparity.hamcrest.date.core.EpochConverter;
+import org.exparity.hamcrest.date.core.EpochConverters;
+import org.exparity.hamcrest.date.core.EpochFields;
+import org.exparity.hamcrest.date.core.IsAfter;
+import org.exparity.hamcrest.date.core.IsBefore;
+import org.exparity.hamcrest.date.core.IsDayOfMonth;
+import org.exparity.hamcrest.date.core.IsDayOfWeek;
+import org.exparity.hamcrest.date.core.IsHour;
+import org.exparity.hamcrest.date.core.IsMillisecond;
+import org.exparity.hamcrest.date.core.IsMinute;
+import org.exparity.hamcrest.date.core.IsMonth;
+import org.exparity.hamcrest.date.core.IsSame;
+import org.exparity.hamcrest.date.core.IsSameDay;
+import org.exparity.hamcrest.date.core.IsSameOrAfter;
+import org.exparity.hamcrest.date.core.IsSameOrBefore;
+import org.exparity.hamcrest.date.core.IsSecond;
+import org.exparity.hamcrest.date.core.IsWithin;
+import org.exparity.hamcrest.date.core.IsYear;
+import org.exparity.hamcrest.date.core.TemporalConverter;
+import org.exparity.hamcrest.date.core.TemporalFieldConverter;
+import org.exparity.hamcrest.date.core.TemporalFunction;
+import org.exparity.hamcrest.date.core.TemporalFunctions;
+import org.exparity.hamcrest.date.core.TemporalMatcher;
+import org.exparity.hamcrest.date.core.types.Interval;
+
+/**
+ * Creates the matchers of {@link EpochMillisMatchers}, {@link EpochMicrosMatchers} and {@link EpochNanosMatchers} for
+ * timestamps held as a count of one unit from the epoch, computing calendar fields arithmetically from the timestamp
+ */
+final class EpochUnitMatchers {
+
+    private static final TemporalConverter<Long, Long> EPOCH_AS_EPOCH = (date, zone) -> date;
+
+    private final EpochConverter<Long> epochs;
+    private final TemporalFunction<Long> functions;
+    private final TemporalConverter<Long, LocalDate> asLocalDate;
+    private final TemporalConverter<Long, Year> asYear;
+    private final TemporalConverter<Long, Month> asMonth;
+    private final TemporalFieldConverter<Long> asDayOfMonth;
+    private final TemporalConverter<Long, DayOfWeek> asDayOfWeek;
+    private final TemporalFieldConverter<Long> asHour;
+    private final TemporalFieldConverter<Long> asMinute;
+    private final TemporalFieldConverter<Long> asSecond;
+    private final TemporalFieldConverter<Long> asMillisecond;
+
+    EpochUnitMatchers(EpochConverter<Long> epochs, TemporalFunction<Long> functions) {
+        this.epochs = epochs;
+        this.functions = functions;
+        this.asLocalDate = EpochFields.asLocalDate(epochs);
+        this.asYear = EpochFields.asYear(epochs);
+        this.asMonth = EpochFields.asMonth(epochs);
+        this.asDayOfMonth = EpochFields.dayOfMonth(epochs);
+        this.asDayOfWeek = EpochFields.asDayOfWeek(epochs);
+        this.asHour = EpochFields.hourOfDay(epochs);
+        this.asMinute = EpochFields.minuteOfHour(epochs);
+        this.asSecond = EpochFields.secondOfMinute(epochs);
+        this.asMillisecond = EpochFields.milliOfSecond(epochs);
+    }
+
+    TemporalMatcher<Long> after(final long date) {
+        return new IsAfter<>(EPOCH_AS_EPOCH, fixed(date), functions, epochs);
+    }
+
+    TemporalMatcher<Long> before(final long date) {
+        return new IsBefore<>(EPOCH_AS_EPOCH, fixed(date), functions, epochs);
+    }
+
+    TemporalMatcher<Long> sameOrAfter(final long date) {
+        return new IsSameOrAfter<>(EPOCH_AS_EPOCH, fixed(date), functions, epochs);
+    }
+
+    TemporalMatcher<Long> sameOrBefore(final long date) {
+        return new IsSameOrBefore<>(EPOCH_AS_EPOCH, fixed(date), functions, epochs);
+    }
+
+    TemporalMatcher<Long> sameInstant(final long date) {
+        return new IsSame<>(EPOCH_AS_EPOCH, fixed(date), functions);
+    }
+
+    TemporalMatcher<Long> within(final long period, final ChronoUnit unit, final long date) {
+        return new IsWithin<>(Interval.of(period, unit), EPOCH_AS_EPOCH, fixed(date), functions, epochs);
+    }
+
+    TemporalMatcher<Long> within(final Duration duration, final long date) {
+        return new IsWithin<>(Interval.of(duration), EPOCH_AS_EPOCH, fixed(date), functions, epochs);
+    }
+
+    TemporalMatcher<Long> sameDay(final long date) {
+        return new IsSameDay<>(asLocalDate, zone -> asLocalDate.apply(date, zone));
+    }
+
+    TemporalMatcher<Long> isDay(final LocalDate date) {
+        return new IsSameDay<>(asLocalDate, localDate(date));
+    }
+
+    TemporalMatcher<Long> isYear(final int year) {
+        return new IsYear<>(asYear, year(year));
+    }
+
+    TemporalMatcher<Long> isMonth(final Month month) {
+        return new IsMonth<>(asMonth, month(month));
+    }
+
+    TemporalMatcher<Long> isDayOfMonth(final int dayOfMonth) {
+        return new IsDayOfMonth<>(asDayOfMonth, dayOfMonth(dayOfMonth));
+    }
+
+    TemporalMatcher<Long> isDayOfWeek(final DayOfWeek... daysOfWeek) {
+        return new IsDayOfWeek<>(asDayOfWeek, daysOfWeek(daysOfWeek));
+    }
+
+    TemporalMatcher<Long> isWeekday() {
+        return isDayOfWeek(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
+    }
+
+    TemporalMatcher<Long> isWeekend() {
+        return isDayOfWeek(SATURDAY, SUNDAY);
+    }
+
+    TemporalMatcher<Long> isHour(final int hour) {
+        return new IsHour<>(asHour, hour(hour));
+    }
+
+    TemporalMatcher<Long> isMinute(final int minute) {
+        return new IsMinute<>(asMinute, minute(minute));
+    }
+
+    TemporalMatcher<Long> isSecond(final int second) {
+        return new IsSecond<>(asSecond, second(second));
+    }
+
+    TemporalMatcher<Long> isMillisecond(final int millisecond) {
+        return new IsMillisecond<>(asMillisecond, millisecondOfMinute(millisecond));
+    }
+}
@@ -2,11 +2,14 @@ package org.exparity.hamcrest.date;
 
 import static java.time.DayOfWeek.*;
 import static java.time.Month.*;
-import static org.exparity.hamcrest.date.core.TemporalConverters.*;
-import static org.exparity.hamcrest.date.core.TemporalFunctions.INSTANT;
+import static org.exparity.hamcrest.date.core.TemporalConverters.Instants.*;
+import static org.exparity.hamcrest.date.core.TemporalFieldConverters.Instants.*;
+import static org.exparity.hamcrest.date.core.TemporalFunctions.Instants.INSTANT;
 import static org.exparity.hamcrest.date.core.TemporalProviders.*;
 
+import java.time.Clock;
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.Month;
@@ -14,12 +17,18 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoField;
 import java.time.temporal.ChronoUnit;
+import java.util.Map;
 import java.util.Optional;
 
+import org.exparity.hamcrest.date.core.DefaultZones;
+import org.exparity.hamcrest.date.core.EpochConverters;
+import org.exparity.hamcrest.date.core.InternedMatcher;
 import org.exparity.hamcrest.date.core.IsAfter;
 import org.exparity.hamcrest.date.core.IsBefore;
+import org.exparity.hamcrest.date.core.IsDay;
 import org.exparity.hamcrest.date.core.IsDayOfMonth;
 import org.exparity.hamcrest.date.core.IsDayOfWeek;
+import org.exparity.hamcrest.date.core.IsEvery;
 import org.exparity.hamcrest.date.core.IsFirstDayOfMonth;
 import org.exparity.hamcrest.date.core.IsHour;
 import org.exparity.hamcrest.date.core.IsLastDayOfMonth;
@@ -34,10 +43,12 @@ import org.exparity.hamcrest.date.core.IsSameOrAfter;
 import org.exparity.hamcrest.date.core.IsSameOrBefore;
 import org.exparity.hamcrest.date.core.IsSecond;
 import org.exparity.hamcrest.date.core.IsWithin;
+import org.exparity.hamcrest.date.core.IsWithinAny;
 import org.exparity.hamcrest.date.core.IsYear;
-import org.exparity.hamcrest.date.core.TemporalConverters;
 import org.exparity.hamcrest.date.core.TemporalMatcher;
+import org.exparity.hamcrest.date.core.types.EpochRange;
 import org.exparity.hamcrest.date.core.types.Interval;
+import org.exparity.hamcrest.date.core.types.TemporalRangeSet;
 
 
 /**
@@ -61,7 +72,7 @@ public final class InstantMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<Instant> after(final Instant date) {
-        return new IsAfter<>(INSTANT_AS_INSTANT, instant(date), INSTANT);
+        return new IsAfter<>(INSTANT_AS_INSTANT, instant(date), INSTANT, EpochConverters.INSTANT);
     }
 
     /**
@@ -106,7 +117,7 @@ public final class InstantMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<Instant> before(final Instant date) {
-        return new IsBefore<>(INSTANT_AS_INSTANT, instant(date), INSTANT);
+        return new IsBefore<>(INSTANT_AS_INSTANT, instant(date), INSTANT, EpochConverters.INSTANT);
     }
 
     /**
@@ -265,7 +276,7 @@ public final class InstantMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<Instant> sameOrBefore(final Instant date) {
-        return new IsSameOrBefore<>(INSTANT_AS_INSTANT, instant(date), INSTANT);
+        return new IsSameOrBefore<>(INSTANT_AS_INSTANT, instant(date), INSTANT, EpochConverters.INSTANT);
     }
 
     /**
@@ -312,7 +323,7 @@ public final class InstantMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<Instant> sameOrAfter(final Instant date) {
-        return new IsSameOrAfter<>(INSTANT_AS_INSTANT, instant(date), INSTANT);
+        return new IsSameOrAfter<>(INSTANT_AS_INSTANT, instant(date), INSTANT, EpochConverters.INSTANT);
     }
 
     /**
@@ -375,7 +386,7 @@ public final class InstantMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<Instant> sameDayOfMonth(final Instant date) {
-        return new IsDayOfMonth<>(INSTANT_AS_DAYOFMONTH, dayOfMonth(date));
+        return new IsDayOfMonth<>(INSTANT_DAY_OF_MONTH, dayOfMonth(date));
     }
 
     /**
@@ -391,7 +402,7 @@ public final class InstantMatchers {
      * @param dayOfMonth the expected day of the month
      */
     public static TemporalMatcher<Instant> isDayOfMonth(final int dayOfMonth) {
-        return new IsDayOfMonth<>(INSTANT_AS_DAYOFMONTH, dayOfMonth(dayOfMonth));
+        return new IsDayOfMonth<>(INSTANT_DAY_OF_MONTH, dayOfMonth(dayOfMonth));
     }
 
     /**
@@ -444,7 +455,25 @@ public final class InstantMatchers {
         return new IsWithin<>(Interval.of(period, unit),
                 INSTANT_AS_INSTANT,
                 instant(date),
-                INSTANT);
+                INSTANT,
+                EpochConverters.INSTANT);
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined date is within an exact duration of the reference date
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * assertThat(myDate, within(Duration.ofMillis(250), Instant.now()))
+     * </pre>
+     *
+     * @param duration the largest duration between the examined date and the reference date
+     * @param date the reference date against which the examined date is checked
+     */
+    public static TemporalMatcher<Instant> within(final Duration duration, final Instant date) {
+        return new IsWithin<>(Interval.of(duration), INSTANT_AS_INSTANT, instant(date), INSTANT, EpochConverters.INSTANT);
     }
 
     /**
@@ -483,6 +512,76 @@ public final class InstantMatchers {
                 ZonedDateTime.of(year, month.getValue(), dayofMonth, hour, minute, second, nanos, tz).toInstant());
     }
 
+    /**
+     * <p>
+     * Creates a matcher that matches when every date in the examined collection, array or <code>long[]</code> of
+     * epoch milliseconds is after the reference date
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * MatcherAssert.assertThat(myDates, allAfter(Instant.now()));
+     * </pre>
+     *
+     * @param date the reference date against which the examined dates are checked
+     */
+    public static <C> IsEvery<C> allAfter(final Instant date) {
+        return new IsEvery<>(after(date), zone -> EpochRange.after(date));
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when every date in the examined collection, array or <code>long[]</code> of
+     * epoch milliseconds is within a given period of the reference date
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * assertThat(myDates, allWithin(10, ChronoUnit.SECONDS, Instant.now()))
+     * </pre>
+     *
+     * @param period the timeunit interval the examined dates should be with
+     * @param unit the timeunit to define the length of the period
+     * @param date the reference date against which the examined dates are checked
+     */
+    public static <C> IsEvery<C> allWithin(final long period, final ChronoUnit unit, final Instant date) {
+        return new IsEvery<>(within(period, unit, date), zone -> EpochRange.within(period, unit, date));
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when every date in the examined collection, array or <code>long[]</code> of
+     * epoch milliseconds is on the same day of the year as the reference date
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * assertThat(myDates, allSameDay(Instant.now()));
+     * </pre>
+     *
+     * @param date the reference date against which the examined dates are checked
+     */
+    public static <C> IsEvery<C> allSameDay(final Instant date) {
+        return new IsEvery<>(sameDay(date),
+                zone -> EpochRange.day(INSTANT_AS_LOCALDATE.apply(date, zone), zone.orElseGet(DefaultZones::get)));
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined date is within any window of the reference set
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * assertThat(myDate, withinAny(TemporalRangeSet.builder().add(start, end).add(otherStart, otherEnd).build()));
+     * </pre>
+     *
+     * @param windows the windows against which the examined date is checked
+     */
+    public static TemporalMatcher<Instant> withinAny(final TemporalRangeSet windows) {
+        return new IsWithinAny<>(EpochConverters.INSTANT, INSTANT, windows);
+    }
+
     /**
      * <p>
      * Creates a matcher that matches when the examined date is yesterday
@@ -494,7 +593,24 @@ public final class InstantMatchers {
      * </pre>
      */
     public static TemporalMatcher<Instant> isYesterday() {
-        return sameDay(Instant.now().plus(-1, ChronoUnit.DAYS));
+        return isYesterday(DefaultZones.clock());
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined date is yesterday according to the clock. The current day is
+     * resolved each time the matcher is used so the matcher remains correct across midnight
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * assertThat(myDate, isYesterday(Clock.systemUTC()));
+     * </pre>
+     *
+     * @param clock the clock which provides the current day
+     */
+    public static TemporalMatcher<Instant> isYesterday(final Clock clock) {
+        return new IsDay<>(INSTANT_AS_LOCALDATE, EpochConverters.INSTANT, clock, -1);
     }
 
     /**
@@ -508,7 +624,24 @@ public final class InstantMatchers {
      * </pre>
      */
     public static TemporalMatcher<Instant> isToday() {
-        return sameDay(Instant.now());
+        return isToday(DefaultZones.clock());
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined date is today according to the clock. The current day is
+     * resolved each time the matcher is used so the matcher remains correct across midnight
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * assertThat(myDate, isToday(Clock.systemUTC()));
+     * </pre>
+     *
+     * @param clock the clock which provides the current day
+     */
+    public static TemporalMatcher<Instant> isToday(final Clock clock) {
+        return new IsDay<>(INSTANT_AS_LOCALDATE, EpochConverters.INSTANT, clock, 0);
     }
 
     /**
@@ -522,7 +655,24 @@ public final class InstantMatchers {
      * </pre>
      */
     public static TemporalMatcher<Instant> isTomorrow() {
-        return sameDay(Instant.now().plus(1, ChronoUnit.DAYS));
+        return isTomorrow(DefaultZones.clock());
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined date is tomorrow according to the clock. The current day is
+     * resolved each time the matcher is used so the matcher remains correct across midnight
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * assertThat(myDate, isTomorrow(Clock.systemUTC()));
+     * </pre>
+     *
+     * @param clock the clock which provides the current day
+     */
+    public static TemporalMatcher<Instant> isTomorrow(final Clock clock) {
+        return new IsDay<>(INSTANT_AS_LOCALDATE, EpochConverters.INSTANT, clock, 1);
     }
 
     /**
@@ -538,7 +688,7 @@ public final class InstantMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<Instant> sameDayOfWeek(final Instant date) {
-        return isDayOfWeek(TemporalConverters.INSTANT_AS_DAYOFWEEK.apply(date, Optional.empty()));
+        return isDayOfWeek(INSTANT_AS_DAYOFWEEK.apply(date, Optional.empty()));
     }
 
     /**
@@ -580,7 +730,7 @@ public final class InstantMatchers {
      * </pre>
      */
     public static TemporalMatcher<Instant> isMonday() {
-        return isDayOfWeek(MONDAY);
+        return Interned.DAYS_OF_WEEK.get(MONDAY);
     }
 
     /**
@@ -594,7 +744,7 @@ public final class InstantMatchers {
      * </pre>
      */
     public static TemporalMatcher<Instant> isTuesday() {
-        return isDayOfWeek(TUESDAY);
+        return Interned.DAYS_OF_WEEK.get(TUESDAY);
     }
 
     /**
@@ -608,7 +758,7 @@ public final class InstantMatchers {
      * </pre>
      */
     public static TemporalMatcher<Instant> isWednesday() {
-        return isDayOfWeek(WEDNESDAY);
+        return Interned.DAYS_OF_WEEK.get(WEDNESDAY);
     }
 
     /**
@@ -622,7 +772,7 @@ public final class InstantMatchers {
      * </pre>
      */
     public static TemporalMatcher<Instant> isThursday() {
-        return isDayOfWeek(THURSDAY);
+        return Interned.DAYS_OF_WEEK.get(THURSDAY);
     }
 
     /**
@@ -636,7 +786,7 @@ public final class InstantMatchers {
      * </pre>
      */
     public static TemporalMatcher<Instant> isFriday() {
-        return isDayOfWeek(FRIDAY);
+        return Interned.DAYS_OF_WEEK.get(FRIDAY);
     }
 
     /**
@@ -650,7 +800,7 @@ public final class InstantMatchers {
      * </pre>
      */
     public static TemporalMatcher<Instant> isSaturday() {
-        return isDayOfWeek(SATURDAY);
+        return Interned.DAYS_OF_WEEK.get(SATURDAY);
     }
 
     /**
@@ -664,7 +814,7 @@ public final class InstantMatchers {
      * </pre>
      */
     public static TemporalMatcher<Instant> isSunday() {
-        return isDayOfWeek(SUNDAY);
+        return Interned.DAYS_OF_WEEK.get(SUNDAY);
     }
 
     /**
@@ -678,7 +828,7 @@ public final class InstantMatchers {
      * </pre>
      */
     public static TemporalMatcher<Instant> isWeekday() {
-        return isDayOfWeek(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
+        return Interned.WEEKDAY;
     }
 
     /**
@@ -692,7 +842,7 @@ public final class InstantMatchers {
      * </pre>
      */
     public static TemporalMatcher<Instant> isWeekend() {
-        return isDayOfWeek(SATURDAY, SUNDAY);
+        return Interned.WEEKEND;
     }
 
     /**
@@ -706,7 +856,7 @@ public final class InstantMatchers {
      * </pre>
      */
     public static TemporalMatcher<Instant> isFirstDayOfMonth() {
-        return new IsFirstDayOfMonth<>(INSTANT_AS_ZONEDDATETIME);
+        return Interned.FIRST_DAY_OF_MONTH;
     }
 
     /**
@@ -737,7 +887,7 @@ public final class InstantMatchers {
      * </pre>
      */
     public static TemporalMatcher<Instant> isLastDayOfMonth() {
-        return new IsLastDayOfMonth<>(INSTANT_AS_ZONEDDATETIME);
+        return Interned.LAST_DAY_OF_MONTH;
     }
 
     /**
@@ -782,7 +932,7 @@ public final class InstantMatchers {
      * </pre>
      */
     public static TemporalMatcher<Instant> isJanuary() {
-        return isMonth(JANUARY);
+        return Interned.MONTHS.get(JANUARY);
     }
 
     /**
@@ -796,7 +946,7 @@ public final class InstantMatchers {
      * </pre>
      */
     public static TemporalMatcher<Instant> isFebruary() {
-        return isMonth(FEBRUARY);
+        return Interned.MONTHS.get(FEBRUARY);
     }
 
     /**
@@ -810,7 +960,7 @@ public final class InstantMatchers {
      * </pre>
      */
     public static TemporalMatcher<Instant> isMarch() {
-        return isMonth(MARCH);
+        return Interned.MONTHS.get(MARCH);
     }
 
     /**
@@ -824,7 +974,7 @@ public final class InstantMatchers {
      * </pre>
      */
     public static TemporalMatcher<Instant> isApril() {
-        return isMonth(APRIL);
+        return Interned.MONTHS.get(APRIL);
     }
 
     /**
@@ -838,7 +988,7 @@ public final class InstantMatchers {
      * </pre>
      */
     public static TemporalMatcher<Instant> isMay() {
-        return isMonth(MAY);
+        return Interned.MONTHS.get(MAY);
     }
 
     /**
@@ -852,7 +1002,7 @@ public final class InstantMatchers {
      * </pre>
      */
     public static TemporalMatcher<Instant> isJune() {
-        return isMonth(JUNE);
+        return Interned.MONTHS.get(JUNE);
     }
 
     /**
@@ -866,7 +1016,7 @@ public final class InstantMatchers {
      * </pre>
      */
     public static TemporalMatcher<Instant> isJuly() {
-        return isMonth(JULY);
+        return Interned.MONTHS.get(JULY);
     }
 
     /**
@@ -880,7 +1030,7 @@ public final class InstantMatchers {
      * </pre>
      */
     public static TemporalMatcher<Instant> isAugust() {
-        return isMonth(AUGUST);
+        return Interned.MONTHS.get(AUGUST);
     }
 
     /**
@@ -894,7 +1044,7 @@ public final class InstantMatchers {
      * </pre>
      */
     public static TemporalMatcher<Instant> isSeptember() {
-        return isMonth(SEPTEMBER);
+        return Interned.MONTHS.get(SEPTEMBER);
     }
 
     /**
@@ -908,7 +1058,7 @@ public final class InstantMatchers {
      * </pre>
      */
     public static TemporalMatcher<Instant> isOctober() {
-        return isMonth(OCTOBER);
+        return Interned.MONTHS.get(OCTOBER);
     }
 
     /**
@@ -922,7 +1072,7 @@ public final class InstantMatchers {
      * </pre>
      */
     public static TemporalMatcher<Instant> isNovember() {
-        return isMonth(NOVEMBER);
+        return Interned.MONTHS.get(NOVEMBER);
     }
 
     /**
@@ -936,7 +1086,7 @@ public final class InstantMatchers {
      * </pre>
      */
     public static TemporalMatcher<Instant> isDecember() {
-        return isMonth(DECEMBER);
+        return Interned.MONTHS.get(DECEMBER);
     }
 
     /**
@@ -950,7 +1100,7 @@ public final class InstantMatchers {
      * </pre>
      */
     public static TemporalMatcher<Instant> isLeapYear() {
-        return new IsLeapYear<>(INSTANT_AS_YEAR);
+        return Interned.LEAP_YEAR;
     }
 
     /**
@@ -966,7 +1116,7 @@ public final class InstantMatchers {
      * @param hour the hour of the day (0-23)
      */
     public static TemporalMatcher<Instant> isHour(final int hour) {
-        return new IsHour<>(INSTANT_AS_HOUR, hour(hour));
+        return new IsHour<>(INSTANT_HOUR_OF_DAY, hour(hour));
     }
 
     /**
@@ -982,7 +1132,7 @@ public final class InstantMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<Instant> sameHourOfDay(final Instant date) {
-        return new IsHour<>(INSTANT_AS_HOUR, hour(date));
+        return new IsHour<>(INSTANT_HOUR_OF_DAY, hour(date));
     }
 
     /**
@@ -998,7 +1148,7 @@ public final class InstantMatchers {
      * @param minute the minute of the day (0-59)
      */
     public static TemporalMatcher<Instant> isMinute(final int minute) {
-        return new IsMinute<>(INSTANT_AS_MINUTE, minute(minute));
+        return new IsMinute<>(INSTANT_MINUTE_OF_HOUR, minute(minute));
     }
 
     /**
@@ -1014,7 +1164,7 @@ public final class InstantMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<Instant> sameMinuteOfHour(final Instant date) {
-        return new IsMinute<>(INSTANT_AS_MINUTE, minute(date));
+        return new IsMinute<>(INSTANT_MINUTE_OF_HOUR, minute(date));
     }
 
     /**
@@ -1030,7 +1180,7 @@ public final class InstantMatchers {
      * @param second the second of the day (0-59)
      */
     public static TemporalMatcher<Instant> isSecond(final int second) {
-        return new IsSecond<>(INSTANT_AS_SECOND, second(second));
+        return new IsSecond<>(INSTANT_SECOND_OF_MINUTE, second(second));
     }
 
     /**
@@ -1046,6 +1196,20 @@ public final class InstantMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<Instant> sameSecondOfMinute(final Instant date) {
-        return new IsSecond<>(INSTANT_AS_SECOND, second(date));
+        return new IsSecond<>(INSTANT_SECOND_OF_MINUTE, second(date));
+    }
+
+    /**
+     * Holds the matchers returned by the parameterless factories, which are created on first use and then shared
+     */
+    private static final class Interned {
+
+        private static final TemporalMatcher<Instant> WEEKDAY = InternedMatcher.of(isDayOfWeek(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY));
+        private static final TemporalMatcher<Instant> WEEKEND = InternedMatcher.of(isDayOfWeek(SATURDAY, SUNDAY));
+        private static final TemporalMatcher<Instant> FIRST_DAY_OF_MONTH = InternedMatcher.of(new IsFirstDayOfMonth<>(INSTANT_AS_ZONEDDATETIME));
+        private static final TemporalMatcher<Instant> LAST_DAY_OF_MONTH = InternedMatcher.of(new IsLastDayOfMonth<>(INSTANT_AS_ZONEDDATETIME));
+        private static final TemporalMatcher<Instant> LEAP_YEAR = InternedMatcher.of(new IsLeapYear<>(INSTANT_AS_YEAR));
+        private static final Map<DayOfWeek, TemporalMatcher<Instant>> DAYS_OF_WEEK = InternedMatcher.ofEach(DayOfWeek.class, InstantMatchers::isDayOfWeek);
+        private static final Map<Month, TemporalMatcher<Instant>> MONTHS = InternedMatcher.ofEach(Month.class, InstantMatchers::isMonth);
     }
 }
@@ -2,20 +2,26 @@ package org.exparity.hamcrest.date;
 
 import static java.time.DayOfWeek.*;
 import static java.time.Month.*;
-import static org.exparity.hamcrest.date.core.TemporalConverters.*;
-import static org.exparity.hamcrest.date.core.TemporalFunctions.LOCALDATE;
+import static org.exparity.hamcrest.date.core.TemporalConverters.LocalDates.*;
+import static org.exparity.hamcrest.date.core.TemporalFieldConverters.LocalDates.*;
+import static org.exparity.hamcrest.date.core.TemporalFunctions.LocalDates.LOCALDATE;
 import static org.exparity.hamcrest.date.core.TemporalProviders.*;
 
+import java.time.Clock;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.Month;
 import java.time.Period;
 import java.time.temporal.ChronoField;
 import java.time.temporal.ChronoUnit;
+import java.util.Map;
 
+import org.exparity.hamcrest.date.core.DefaultZones;
+import org.exparity.hamcrest.date.core.InternedMatcher;
 import org.exparity.hamcrest.date.core.TemporalMatcher;
 import org.exparity.hamcrest.date.core.IsAfter;
 import org.exparity.hamcrest.date.core.IsBefore;
+import org.exparity.hamcrest.date.core.IsDay;
 import org.exparity.hamcrest.date.core.IsDayOfMonth;
 import org.exparity.hamcrest.date.core.IsDayOfWeek;
 import org.exparity.hamcrest.date.core.IsFirstDayOfMonth;
@@ -29,7 +35,6 @@ import org.exparity.hamcrest.date.core.IsSameOrAfter;
 import org.exparity.hamcrest.date.core.IsSameOrBefore;
 import org.exparity.hamcrest.date.core.IsWithin;
 import org.exparity.hamcrest.date.core.IsYear;
-import org.exparity.hamcrest.date.core.TemporalConverters;
 import org.exparity.hamcrest.date.core.TemporalProviders;
 import org.exparity.hamcrest.date.core.types.Interval;
 
@@ -242,7 +247,7 @@ public final class LocalDateMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<LocalDate> sameDayOfMonth(final LocalDate date) {
-        return new IsDayOfMonth<>(LOCALDATE_AS_DAYOFMONTH, dayOfMonth(date));
+        return new IsDayOfMonth<>(LOCALDATE_DAY_OF_MONTH, dayOfMonth(date));
     }
 
     /**
@@ -258,7 +263,7 @@ public final class LocalDateMatchers {
      * @param dayOfMonth the expected day of the month
      */
     public static TemporalMatcher<LocalDate> isDayOfMonth(final int dayOfMonth) {
-        return new IsDayOfMonth<>(LOCALDATE_AS_DAYOFMONTH, dayOfMonth(dayOfMonth));
+        return new IsDayOfMonth<>(LOCALDATE_DAY_OF_MONTH, dayOfMonth(dayOfMonth));
     }
 
     /**
@@ -290,7 +295,7 @@ public final class LocalDateMatchers {
      * @param year the reference year against which the examined date is checked
      */
     public static TemporalMatcher<LocalDate> isYear(final int year) {
-        return new IsYear<>(TemporalConverters.LOCALDATE_AS_YEAR, TemporalProviders.year(year));
+        return new IsYear<>(LOCALDATE_AS_YEAR, TemporalProviders.year(year));
     }
 
     /**
@@ -360,7 +365,24 @@ public final class LocalDateMatchers {
      * </pre>
      */
     public static TemporalMatcher<LocalDate> isYesterday() {
-        return sameDay(LocalDate.now().plusDays(-1));
+        return isYesterday(DefaultZones.clock());
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined date is yesterday according to the clock. The current day is
+     * resolved each time the matcher is used so the matcher remains correct across midnight
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * assertThat(myDate, isYesterday(Clock.systemUTC()));
+     * </pre>
+     *
+     * @param clock the clock which provides the current day
+     */
+    public static TemporalMatcher<LocalDate> isYesterday(final Clock clock) {
+        return new IsDay<>(LOCALDATE_AS_LOCALDATE, clock, -1);
     }
 
     /**
@@ -374,7 +396,24 @@ public final class LocalDateMatchers {
      * </pre>
      */
     public static TemporalMatcher<LocalDate> isToday() {
-        return sameDay(LocalDate.now());
+        return isToday(DefaultZones.clock());
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined date is today according to the clock. The current day is
+     * resolved each time the matcher is used so the matcher remains correct across midnight
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * assertThat(myDate, isToday(Clock.systemUTC()));
+     * </pre>
+     *
+     * @param clock the clock which provides the current day
+     */
+    public static TemporalMatcher<LocalDate> isToday(final Clock clock) {
+        return new IsDay<>(LOCALDATE_AS_LOCALDATE, clock, 0);
     }
 
     /**
@@ -388,7 +427,24 @@ public final class LocalDateMatchers {
      * </pre>
      */
     public static TemporalMatcher<LocalDate> isTomorrow() {
-        return sameDay(LocalDate.now().plusDays(1));
+        return isTomorrow(DefaultZones.clock());
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined date is tomorrow according to the clock. The current day is
+     * resolved each time the matcher is used so the matcher remains correct across midnight
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * assertThat(myDate, isTomorrow(Clock.systemUTC()));
+     * </pre>
+     *
+     * @param clock the clock which provides the current day
+     */
+    public static TemporalMatcher<LocalDate> isTomorrow(final Clock clock) {
+        return new IsDay<>(LOCALDATE_AS_LOCALDATE, clock, 1);
     }
 
     /**
@@ -446,7 +502,7 @@ public final class LocalDateMatchers {
      * </pre>
      */
     public static TemporalMatcher<LocalDate> isMonday() {
-        return isDayOfWeek(MONDAY);
+        return Interned.DAYS_OF_WEEK.get(MONDAY);
     }
 
     /**
@@ -460,7 +516,7 @@ public final class LocalDateMatchers {
      * </pre>
      */
     public static TemporalMatcher<LocalDate> isTuesday() {
-        return isDayOfWeek(TUESDAY);
+        return Interned.DAYS_OF_WEEK.get(TUESDAY);
     }
 
     /**
@@ -474,7 +530,7 @@ public final class LocalDateMatchers {
      * </pre>
      */
     public static TemporalMatcher<LocalDate> isWednesday() {
-        return isDayOfWeek(WEDNESDAY);
+        return Interned.DAYS_OF_WEEK.get(WEDNESDAY);
     }
 
     /**
@@ -488,7 +544,7 @@ public final class LocalDateMatchers {
      * </pre>
      */
     public static TemporalMatcher<LocalDate> isThursday() {
-        return isDayOfWeek(THURSDAY);
+        return Interned.DAYS_OF_WEEK.get(THURSDAY);
     }
 
     /**
@@ -502,7 +558,7 @@ public final class LocalDateMatchers {
      * </pre>
      */
     public static TemporalMatcher<LocalDate> isFriday() {
-        return isDayOfWeek(FRIDAY);
+        return Interned.DAYS_OF_WEEK.get(FRIDAY);
     }
 
     /**
@@ -516,7 +572,7 @@ public final class LocalDateMatchers {
      * </pre>
      */
     public static TemporalMatcher<LocalDate> isSaturday() {
-        return isDayOfWeek(SATURDAY);
+        return Interned.DAYS_OF_WEEK.get(SATURDAY);
     }
 
     /**
@@ -530,7 +586,7 @@ public final class LocalDateMatchers {
      * </pre>
      */
     public static TemporalMatcher<LocalDate> isSunday() {
-        return isDayOfWeek(SUNDAY);
+        return Interned.DAYS_OF_WEEK.get(SUNDAY);
     }
 
     /**
@@ -544,7 +600,7 @@ public final class LocalDateMatchers {
      * </pre>
      */
     public static TemporalMatcher<LocalDate> isWeekday() {
-        return isDayOfWeek(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
+        return Interned.WEEKDAY;
     }
 
     /**
@@ -558,7 +614,7 @@ public final class LocalDateMatchers {
      * </pre>
      */
     public static TemporalMatcher<LocalDate> isWeekend() {
-        return isDayOfWeek(SATURDAY, SUNDAY);
+        return Interned.WEEKEND;
     }
 
     /**
@@ -572,7 +628,7 @@ public final class LocalDateMatchers {
      * </pre>
      */
     public static TemporalMatcher<LocalDate> isFirstDayOfMonth() {
-        return new IsFirstDayOfMonth<>(LOCALDATE_AS_LOCALDATE);
+        return Interned.FIRST_DAY_OF_MONTH;
     }
 
     /**
@@ -603,7 +659,7 @@ public final class LocalDateMatchers {
      * </pre>
      */
     public static TemporalMatcher<LocalDate> isLastDayOfMonth() {
-        return new IsLastDayOfMonth<>(LOCALDATE_AS_LOCALDATE);
+        return Interned.LAST_DAY_OF_MONTH;
     }
 
     /**
@@ -648,7 +704,7 @@ public final class LocalDateMatchers {
      * </pre>
      */
     public static TemporalMatcher<LocalDate> isJanuary() {
-        return isMonth(JANUARY);
+        return Interned.MONTHS.get(JANUARY);
     }
 
     /**
@@ -662,7 +718,7 @@ public final class LocalDateMatchers {
      * </pre>
      */
     public static TemporalMatcher<LocalDate> isFebruary() {
-        return isMonth(FEBRUARY);
+        return Interned.MONTHS.get(FEBRUARY);
     }
 
     /**
@@ -676,7 +732,7 @@ public final class LocalDateMatchers {
      * </pre>
      */
     public static TemporalMatcher<LocalDate> isMarch() {
-        return isMonth(MARCH);
+        return Interned.MONTHS.get(MARCH);
     }
 
     /**
@@ -690,7 +746,7 @@ public final class LocalDateMatchers {
      * </pre>
      */
     public static TemporalMatcher<LocalDate> isApril() {
-        return isMonth(APRIL);
+        return Interned.MONTHS.get(APRIL);
     }
 
     /**
@@ -704,7 +760,7 @@ public final class LocalDateMatchers {
      * </pre>
      */
     public static TemporalMatcher<LocalDate> isMay() {
-        return isMonth(MAY);
+        return Interned.MONTHS.get(MAY);
     }
 
     /**
@@ -718,7 +774,7 @@ public final class LocalDateMatchers {
      * </pre>
      */
     public static TemporalMatcher<LocalDate> isJune() {
-        return isMonth(JUNE);
+        return Interned.MONTHS.get(JUNE);
     }
 
     /**
@@ -732,7 +788,7 @@ public final class LocalDateMatchers {
      * </pre>
      */
     public static TemporalMatcher<LocalDate> isJuly() {
-        return isMonth(JULY);
+        return Interned.MONTHS.get(JULY);
     }
 
     /**
@@ -746,7 +802,7 @@ public final class LocalDateMatchers {
      * </pre>
      */
     public static TemporalMatcher<LocalDate> isAugust() {
-        return isMonth(AUGUST);
+        return Interned.MONTHS.get(AUGUST);
     }
 
     /**
@@ -760,7 +816,7 @@ public final class LocalDateMatchers {
      * </pre>
      */
     public static TemporalMatcher<LocalDate> isSeptember() {
-        return isMonth(SEPTEMBER);
+        return Interned.MONTHS.get(SEPTEMBER);
     }
 
     /**
@@ -774,7 +830,7 @@ public final class LocalDateMatchers {
      * </pre>
      */
     public static TemporalMatcher<LocalDate> isOctober() {
-        return isMonth(OCTOBER);
+        return Interned.MONTHS.get(OCTOBER);
     }
 
     /**
@@ -788,7 +844,7 @@ public final class LocalDateMatchers {
      * </pre>
      */
     public static TemporalMatcher<LocalDate> isNovember() {
-        return isMonth(NOVEMBER);
+        return Interned.MONTHS.get(NOVEMBER);
     }
 
     /**
@@ -802,7 +858,7 @@ public final class LocalDateMatchers {
      * </pre>
      */
     public static TemporalMatcher<LocalDate> isDecember() {
-        return isMonth(DECEMBER);
+        return Interned.MONTHS.get(DECEMBER);
     }
 
     /**
@@ -816,6 +872,20 @@ public final class LocalDateMatchers {
      * </pre>
      */
     public static TemporalMatcher<LocalDate> isLeapYear() {
-        return new IsLeapYear<>(LOCALDATE_AS_YEAR);
+        return Interned.LEAP_YEAR;
+    }
+
+    /**
+     * Holds the matchers returned by the parameterless factories, which are created on first use and then shared
+     */
+    private static final class Interned {
+
+        private static final TemporalMatcher<LocalDate> WEEKDAY = InternedMatcher.of(isDayOfWeek(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY));
+        private static final TemporalMatcher<LocalDate> WEEKEND = InternedMatcher.of(isDayOfWeek(SATURDAY, SUNDAY));
+        private static final TemporalMatcher<LocalDate> FIRST_DAY_OF_MONTH = InternedMatcher.of(new IsFirstDayOfMonth<>(LOCALDATE_AS_LOCALDATE));
+        private static final TemporalMatcher<LocalDate> LAST_DAY_OF_MONTH = InternedMatcher.of(new IsLastDayOfMonth<>(LOCALDATE_AS_LOCALDATE));
+        private static final TemporalMatcher<LocalDate> LEAP_YEAR = InternedMatcher.of(new IsLeapYear<>(LOCALDATE_AS_YEAR));
+        private static final Map<DayOfWeek, TemporalMatcher<LocalDate>> DAYS_OF_WEEK = InternedMatcher.ofEach(DayOfWeek.class, LocalDateMatchers::isDayOfWeek);
+        private static final Map<Month, TemporalMatcher<LocalDate>> MONTHS = InternedMatcher.ofEach(Month.class, LocalDateMatchers::isMonth);
     }
 }
@@ -2,21 +2,27 @@ package org.exparity.hamcrest.date;
 
 import static java.time.DayOfWeek.*;
 import static java.time.Month.*;
-import static org.exparity.hamcrest.date.core.TemporalConverters.*;
-import static org.exparity.hamcrest.date.core.TemporalFunctions.LOCALDATETIME;
+import static org.exparity.hamcrest.date.core.TemporalConverters.LocalDateTimes.*;
+import static org.exparity.hamcrest.date.core.TemporalFieldConverters.LocalDateTimes.*;
+import static org.exparity.hamcrest.date.core.TemporalFunctions.LocalDateTimes.LOCALDATETIME;
 import static org.exparity.hamcrest.date.core.TemporalProviders.*;
 
+import java.time.Clock;
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Month;
-import java.time.ZoneId;
 import java.time.temporal.ChronoField;
 import java.time.temporal.ChronoUnit;
+import java.util.Map;
 
+import org.exparity.hamcrest.date.core.DefaultZones;
+import org.exparity.hamcrest.date.core.InternedMatcher;
 import org.exparity.hamcrest.date.core.TemporalMatcher;
 import org.exparity.hamcrest.date.core.IsAfter;
 import org.exparity.hamcrest.date.core.IsBefore;
+import org.exparity.hamcrest.date.core.IsDay;
 import org.exparity.hamcrest.date.core.IsDayOfMonth;
 import org.exparity.hamcrest.date.core.IsDayOfWeek;
 import org.exparity.hamcrest.date.core.IsFirstDayOfMonth;
@@ -338,7 +344,7 @@ public final class LocalDateTimeMatchers {
 	 * @param date the reference date against which the examined date is checked
 	 */
 	public static TemporalMatcher<LocalDateTime> sameDayOfMonth(final LocalDateTime date) {
-		return new IsDayOfMonth<>(LOCALDATETIME_AS_DAYOFMONTH, dayOfMonth(date));
+		return new IsDayOfMonth<>(LOCALDATETIME_DAY_OF_MONTH, dayOfMonth(date));
 	}
 
 	/**
@@ -354,7 +360,7 @@ public final class LocalDateTimeMatchers {
 	 * @param dayOfMonth the expected day of the month
 	 */
 	public static TemporalMatcher<LocalDateTime> isDayOfMonth(final int dayOfMonth) {
-		return new IsDayOfMonth<>(LOCALDATETIME_AS_DAYOFMONTH, dayOfMonth(dayOfMonth));
+		return new IsDayOfMonth<>(LOCALDATETIME_DAY_OF_MONTH, dayOfMonth(dayOfMonth));
 	}
 
 	/**
@@ -407,6 +413,23 @@ public final class LocalDateTimeMatchers {
 		return new IsWithin<>(Interval.of(period, unit), LOCALDATETIME_AS_LOCALDATETIME, localDateTime(date), LOCALDATETIME);
 	}
 
+	/**
+	 * <p>
+	 * Creates a matcher that matches when the examined date is within an exact duration of the reference date
+	 * </p>
+	 * For example:
+	 *
+	 * <pre>
+	 * assertThat(myDate, within(Duration.ofMillis(250), LocalDateTime.now()))
+	 * </pre>
+	 *
+	 * @param duration the largest duration between the examined date and the reference date
+	 * @param date the reference date against which the examined date is checked
+	 */
+	public static TemporalMatcher<LocalDateTime> within(final Duration duration, final LocalDateTime date) {
+		return new IsWithin<>(Interval.of(duration), LOCALDATETIME_AS_LOCALDATETIME, localDateTime(date), LOCALDATETIME);
+	}
+
 	/**
 	 * <p>
      * Creates a matcher that matches when the examined date is within a given period of the reference date
@@ -450,7 +473,24 @@ public final class LocalDateTimeMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<LocalDateTime> isYesterday() {
-		return sameDay(LocalDateTime.now().minusDays(1));
+		return isYesterday(DefaultZones.clock());
+	}
+
+	/**
+	 * <p>
+	 * Creates a matcher that matches when the examined date is yesterday according to the clock. The current day is
+	 * resolved each time the matcher is used so the matcher remains correct across midnight
+	 * </p>
+	 * For example:
+	 *
+	 * <pre>
+	 * assertThat(myDate, isYesterday(Clock.systemUTC()));
+	 * </pre>
+	 *
+	 * @param clock the clock which provides the current day
+	 */
+	public static TemporalMatcher<LocalDateTime> isYesterday(final Clock clock) {
+		return new IsDay<>(LOCALDATETIME_AS_LOCALDATE, clock, -1);
 	}
 
 	/**
@@ -464,7 +504,24 @@ public final class LocalDateTimeMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<LocalDateTime> isToday() {
-		return sameDay(LocalDateTime.now());
+		return isToday(DefaultZones.clock());
+	}
+
+	/**
+	 * <p>
+	 * Creates a matcher that matches when the examined date is today according to the clock. The current day is
+	 * resolved each time the matcher is used so the matcher remains correct across midnight
+	 * </p>
+	 * For example:
+	 *
+	 * <pre>
+	 * assertThat(myDate, isToday(Clock.systemUTC()));
+	 * </pre>
+	 *
+	 * @param clock the clock which provides the current day
+	 */
+	public static TemporalMatcher<LocalDateTime> isToday(final Clock clock) {
+		return new IsDay<>(LOCALDATETIME_AS_LOCALDATE, clock, 0);
 	}
 
 	/**
@@ -478,7 +535,24 @@ public final class LocalDateTimeMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<LocalDateTime> isTomorrow() {
-		return sameDay(LocalDateTime.now(ZoneId.systemDefault()).plusDays(1));
+		return isTomorrow(DefaultZones.clock());
+	}
+
+	/**
+	 * <p>
+	 * Creates a matcher that matches when the examined date is tomorrow according to the clock. The current day is
+	 * resolved each time the matcher is used so the matcher remains correct across midnight
+	 * </p>
+	 * For example:
+	 *
+	 * <pre>
+	 * assertThat(myDate, isTomorrow(Clock.systemUTC()));
+	 * </pre>
+	 *
+	 * @param clock the clock which provides the current day
+	 */
+	public static TemporalMatcher<LocalDateTime> isTomorrow(final Clock clock) {
+		return new IsDay<>(LOCALDATETIME_AS_LOCALDATE, clock, 1);
 	}
 
 	/**
@@ -536,7 +610,7 @@ public final class LocalDateTimeMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<LocalDateTime> isMonday() {
-		return isDayOfWeek(MONDAY);
+		return Interned.DAYS_OF_WEEK.get(MONDAY);
 	}
 
 	/**
@@ -550,7 +624,7 @@ public final class LocalDateTimeMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<LocalDateTime> isTuesday() {
-		return isDayOfWeek(TUESDAY);
+		return Interned.DAYS_OF_WEEK.get(TUESDAY);
 	}
 
 	/**
@@ -564,7 +638,7 @@ public final class LocalDateTimeMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<LocalDateTime> isWednesday() {
-		return isDayOfWeek(WEDNESDAY);
+		return Interned.DAYS_OF_WEEK.get(WEDNESDAY);
 	}
 
 	/**
@@ -578,7 +652,7 @@ public final class LocalDateTimeMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<LocalDateTime> isThursday() {
-		return isDayOfWeek(THURSDAY);
+		return Interned.DAYS_OF_WEEK.get(THURSDAY);
 	}
 
 	/**
@@ -592,7 +666,7 @@ public final class LocalDateTimeMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<LocalDateTime> isFriday() {
-		return isDayOfWeek(FRIDAY);
+		return Interned.DAYS_OF_WEEK.get(FRIDAY);
 	}
 
 	/**
@@ -606,7 +680,7 @@ public final class LocalDateTimeMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<LocalDateTime> isSaturday() {
-		return isDayOfWeek(SATURDAY);
+		return Interned.DAYS_OF_WEEK.get(SATURDAY);
 	}
 
 	/**
@@ -620,7 +694,7 @@ public final class LocalDateTimeMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<LocalDateTime> isSunday() {
-		return isDayOfWeek(SUNDAY);
+		return Interned.DAYS_OF_WEEK.get(SUNDAY);
 	}
 
 	/**
@@ -634,7 +708,7 @@ public final class LocalDateTimeMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<LocalDateTime> isWeekday() {
-		return isDayOfWeek(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
+		return Interned.WEEKDAY;
 	}
 
 	/**
@@ -648,7 +722,7 @@ public final class LocalDateTimeMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<LocalDateTime> isWeekend() {
-		return isDayOfWeek(SATURDAY, SUNDAY);
+		return Interned.WEEKEND;
 	}
 
 	/**
@@ -662,7 +736,7 @@ public final class LocalDateTimeMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<LocalDateTime> isFirstDayOfMonth() {
-		return new IsFirstDayOfMonth<>(LOCALDATETIME_AS_LOCALDATETIME);
+		return Interned.FIRST_DAY_OF_MONTH;
 	}
 
 	/**
@@ -693,7 +767,7 @@ public final class LocalDateTimeMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<LocalDateTime> isLastDayOfMonth() {
-		return new IsLastDayOfMonth<>(LOCALDATETIME_AS_LOCALDATETIME);
+		return Interned.LAST_DAY_OF_MONTH;
 	}
 
 	/**
@@ -738,7 +812,7 @@ public final class LocalDateTimeMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<LocalDateTime> isJanuary() {
-		return isMonth(JANUARY);
+		return Interned.MONTHS.get(JANUARY);
 	}
 
 	/**
@@ -752,7 +826,7 @@ public final class LocalDateTimeMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<LocalDateTime> isFebruary() {
-		return isMonth(FEBRUARY);
+		return Interned.MONTHS.get(FEBRUARY);
 	}
 
 	/**
@@ -766,7 +840,7 @@ public final class LocalDateTimeMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<LocalDateTime> isMarch() {
-		return isMonth(MARCH);
+		return Interned.MONTHS.get(MARCH);
 	}
 
 	/**
@@ -780,7 +854,7 @@ public final class LocalDateTimeMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<LocalDateTime> isApril() {
-		return isMonth(APRIL);
+		return Interned.MONTHS.get(APRIL);
 	}
 
 	/**
@@ -794,7 +868,7 @@ public final class LocalDateTimeMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<LocalDateTime> isMay() {
-		return isMonth(MAY);
+		return Interned.MONTHS.get(MAY);
 	}
 
 	/**
@@ -808,7 +882,7 @@ public final class LocalDateTimeMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<LocalDateTime> isJune() {
-		return isMonth(JUNE);
+		return Interned.MONTHS.get(JUNE);
 	}
 
 	/**
@@ -822,7 +896,7 @@ public final class LocalDateTimeMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<LocalDateTime> isJuly() {
-		return isMonth(JULY);
+		return Interned.MONTHS.get(JULY);
 	}
 
 	/**
@@ -836,7 +910,7 @@ public final class LocalDateTimeMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<LocalDateTime> isAugust() {
-		return isMonth(AUGUST);
+		return Interned.MONTHS.get(AUGUST);
 	}
 
 	/**
@@ -850,7 +924,7 @@ public final class LocalDateTimeMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<LocalDateTime> isSeptember() {
-		return isMonth(SEPTEMBER);
+		return Interned.MONTHS.get(SEPTEMBER);
 	}
 
 	/**
@@ -864,7 +938,7 @@ public final class LocalDateTimeMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<LocalDateTime> isOctober() {
-		return isMonth(OCTOBER);
+		return Interned.MONTHS.get(OCTOBER);
 	}
 
 	/**
@@ -878,7 +952,7 @@ public final class LocalDateTimeMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<LocalDateTime> isNovember() {
-		return isMonth(NOVEMBER);
+		return Interned.MONTHS.get(NOVEMBER);
 	}
 
 	/**
@@ -892,7 +966,7 @@ public final class LocalDateTimeMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<LocalDateTime> isDecember() {
-		return isMonth(DECEMBER);
+		return Interned.MONTHS.get(DECEMBER);
 	}
 
 	/**
@@ -906,7 +980,7 @@ public final class LocalDateTimeMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<LocalDateTime> isLeapYear() {
-		return new IsLeapYear<>(LOCALDATETIME_AS_YEAR);
+		return Interned.LEAP_YEAR;
 	}
 
 	/**
@@ -922,7 +996,7 @@ public final class LocalDateTimeMatchers {
 	 * @param hour the hour of the day (0-23)
 	 */
 	public static TemporalMatcher<LocalDateTime> isHour(final int hour) {
-		return new IsHour<>(LOCALDATETIME_AS_HOUR, hour(hour));
+		return new IsHour<>(LOCALDATETIME_HOUR_OF_DAY, hour(hour));
 	}
 
 	/**
@@ -938,7 +1012,7 @@ public final class LocalDateTimeMatchers {
 	 * @param date the reference date against which the examined date is checked
 	 */
 	public static TemporalMatcher<LocalDateTime> sameHourOfDay(final LocalDateTime date) {
-		return new IsHour<>(LOCALDATETIME_AS_HOUR, hour(date));
+		return new IsHour<>(LOCALDATETIME_HOUR_OF_DAY, hour(date));
 	}
 
 	/**
@@ -954,7 +1028,7 @@ public final class LocalDateTimeMatchers {
 	 * @param minute the minute of the day (0-59)
 	 */
 	public static TemporalMatcher<LocalDateTime> isMinute(final int minute) {
-		return new IsMinute<>(LOCALDATETIME_AS_MINUTE, minute(minute));
+		return new IsMinute<>(LOCALDATETIME_MINUTE_OF_HOUR, minute(minute));
 	}
 
 	/**
@@ -970,7 +1044,7 @@ public final class LocalDateTimeMatchers {
 	 * @param date the reference date against which the examined date is checked
 	 */
 	public static TemporalMatcher<LocalDateTime> sameMinuteOfHour(final LocalDateTime date) {
-		return new IsMinute<>(LOCALDATETIME_AS_MINUTE, minute(date));
+		return new IsMinute<>(LOCALDATETIME_MINUTE_OF_HOUR, minute(date));
 	}
 
 	/**
@@ -986,7 +1060,7 @@ public final class LocalDateTimeMatchers {
 	 * @param second the second of the day (0-59)
 	 */
 	public static TemporalMatcher<LocalDateTime> isSecond(final int second) {
-		return new IsSecond<>(LOCALDATETIME_AS_SECOND, second(second));
+		return new IsSecond<>(LOCALDATETIME_SECOND_OF_MINUTE, second(second));
 	}
 
 	/**
@@ -1002,6 +1076,20 @@ public final class LocalDateTimeMatchers {
 	 * @param date the reference date against which the examined date is checked
 	 */
 	public static TemporalMatcher<LocalDateTime> sameSecondOfMinute(final LocalDateTime date) {
-		return new IsSecond<>(LOCALDATETIME_AS_SECOND, second(date));
+		return new IsSecond<>(LOCALDATETIME_SECOND_OF_MINUTE, second(date));
+	}
+
+	/**
+	 * Holds the matchers returned by the parameterless factories, which are created on first use and then shared
+	 */
+	private static final class Interned {
+
+		private static final TemporalMatcher<LocalDateTime> WEEKDAY = InternedMatcher.of(isDayOfWeek(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY));
+		private static final TemporalMatcher<LocalDateTime> WEEKEND = InternedMatcher.of(isDayOfWeek(SATURDAY, SUNDAY));
+		private static final TemporalMatcher<LocalDateTime> FIRST_DAY_OF_MONTH = InternedMatcher.of(new IsFirstDayOfMonth<>(LOCALDATETIME_AS_LOCALDATETIME));
+		private static final TemporalMatcher<LocalDateTime> LAST_DAY_OF_MONTH = InternedMatcher.of(new IsLastDayOfMonth<>(LOCALDATETIME_AS_LOCALDATETIME));
+		private static final TemporalMatcher<LocalDateTime> LEAP_YEAR = InternedMatcher.of(new IsLeapYear<>(LOCALDATETIME_AS_YEAR));
+		private static final Map<DayOfWeek, TemporalMatcher<LocalDateTime>> DAYS_OF_WEEK = InternedMatcher.ofEach(DayOfWeek.class, LocalDateTimeMatchers::isDayOfWeek);
+		private static final Map<Month, TemporalMatcher<LocalDateTime>> MONTHS = InternedMatcher.ofEach(Month.class, LocalDateTimeMatchers::isMonth);
 	}
 }
@@ -1,15 +1,16 @@
 package org.exparity.hamcrest.date;
 
-import static org.exparity.hamcrest.date.core.TemporalConverters.LOCALTIME_AS_HOUR;
-import static org.exparity.hamcrest.date.core.TemporalConverters.LOCALTIME_AS_LOCALTIME;
-import static org.exparity.hamcrest.date.core.TemporalConverters.LOCALTIME_AS_MINUTE;
-import static org.exparity.hamcrest.date.core.TemporalConverters.LOCALTIME_AS_SECOND;
-import static org.exparity.hamcrest.date.core.TemporalFunctions.LOCALTIME;
+import static org.exparity.hamcrest.date.core.TemporalConverters.LocalTimes.LOCALTIME_AS_LOCALTIME;
+import static org.exparity.hamcrest.date.core.TemporalFieldConverters.LocalTimes.LOCALTIME_HOUR_OF_DAY;
+import static org.exparity.hamcrest.date.core.TemporalFieldConverters.LocalTimes.LOCALTIME_MINUTE_OF_HOUR;
+import static org.exparity.hamcrest.date.core.TemporalFieldConverters.LocalTimes.LOCALTIME_SECOND_OF_MINUTE;
+import static org.exparity.hamcrest.date.core.TemporalFunctions.LocalTimes.LOCALTIME;
 import static org.exparity.hamcrest.date.core.TemporalProviders.hour;
 import static org.exparity.hamcrest.date.core.TemporalProviders.localTime;
 import static org.exparity.hamcrest.date.core.TemporalProviders.minute;
 import static org.exparity.hamcrest.date.core.TemporalProviders.second;
 
+import java.time.Duration;
 import java.time.LocalTime;
 import java.time.temporal.ChronoField;
 import java.time.temporal.ChronoUnit;
@@ -189,6 +190,23 @@ public final class LocalTimeMatchers {
         return new IsWithin<>(Interval.of(period, unit), LOCALTIME_AS_LOCALTIME, localTime(time), LOCALTIME);
     }
 
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined time is within an exact duration of the reference time
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * assertThat(myTime, within(Duration.ofMillis(250), LocalTime.NOON))
+     * </pre>
+     *
+     * @param duration the largest duration between the examined time and the reference time
+     * @param time the reference time against which the examined time is checked
+     */
+    public static Matcher<LocalTime> within(final Duration duration, final LocalTime time) {
+        return new IsWithin<>(Interval.of(duration), LOCALTIME_AS_LOCALTIME, localTime(time), LOCALTIME);
+    }
+
     /**
      * <p>
      * Creates a matcher that matches when the examined time is within a given period of the reference time
@@ -260,7 +278,7 @@ public final class LocalTimeMatchers {
      * @param hour the hour of the day (0-23)
      */
     public static Matcher<LocalTime> isHour(final int hour) {
-        return new IsHour<>(LOCALTIME_AS_HOUR, hour(hour));
+        return new IsHour<>(LOCALTIME_HOUR_OF_DAY, hour(hour));
     }
 
     /**
@@ -276,7 +294,7 @@ public final class LocalTimeMatchers {
      * @param time the reference time against which the examined time is checked
      */
     public static Matcher<LocalTime> sameHourOfDay(final LocalTime time) {
-        return new IsHour<>(LOCALTIME_AS_HOUR, hour(time));
+        return new IsHour<>(LOCALTIME_HOUR_OF_DAY, hour(time));
     }
 
     /**
@@ -292,7 +310,7 @@ public final class LocalTimeMatchers {
      * @param minute the minute of the day (0-59)
      */
     public static Matcher<LocalTime> isMinute(final int minute) {
-        return new IsMinute<>(LOCALTIME_AS_MINUTE, minute(minute));
+        return new IsMinute<>(LOCALTIME_MINUTE_OF_HOUR, minute(minute));
     }
 
     /**
@@ -308,7 +326,7 @@ public final class LocalTimeMatchers {
      * @param time the reference time against which the examined time is checked
      */
     public static Matcher<LocalTime> sameMinuteOfHour(final LocalTime time) {
-        return new IsMinute<>(LOCALTIME_AS_MINUTE, minute(time));
+        return new IsMinute<>(LOCALTIME_MINUTE_OF_HOUR, minute(time));
     }
 
     /**
@@ -324,7 +342,7 @@ public final class LocalTimeMatchers {
      * @param second the second of the day (0-59)
      */
     public static Matcher<LocalTime> isSecond(final int second) {
-        return new IsSecond<>(LOCALTIME_AS_SECOND, second(second));
+        return new IsSecond<>(LOCALTIME_SECOND_OF_MINUTE, second(second));
     }
 
     /**
@@ -340,6 +358,6 @@ public final class LocalTimeMatchers {
      * @param time the reference time against which the examined time is checked
      */
     public static Matcher<LocalTime> sameSecondOfMinute(final LocalTime time) {
-        return new IsSecond<>(LOCALTIME_AS_SECOND, second(time));
+        return new IsSecond<>(LOCALTIME_SECOND_OF_MINUTE, second(time));
     }
 }
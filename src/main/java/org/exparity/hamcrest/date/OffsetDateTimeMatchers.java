@@ -2,11 +2,14 @@ package org.exparity.hamcrest.date;
 
 import static java.time.DayOfWeek.*;
 import static java.time.Month.*;
-import static org.exparity.hamcrest.date.core.TemporalConverters.*;
-import static org.exparity.hamcrest.date.core.TemporalFunctions.OFFSETDATETIME;
+import static org.exparity.hamcrest.date.core.TemporalConverters.OffsetDateTimes.*;
+import static org.exparity.hamcrest.date.core.TemporalFieldConverters.OffsetDateTimes.*;
+import static org.exparity.hamcrest.date.core.TemporalFunctions.OffsetDateTimes.OFFSETDATETIME;
 import static org.exparity.hamcrest.date.core.TemporalProviders.*;
 
+import java.time.Clock;
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.Month;
 import java.time.ZoneId;
@@ -14,10 +17,15 @@ import java.time.ZoneOffset;
 import java.time.OffsetDateTime;
 import java.time.temporal.ChronoField;
 import java.time.temporal.ChronoUnit;
+import java.util.Map;
 
+import org.exparity.hamcrest.date.core.DefaultZones;
+import org.exparity.hamcrest.date.core.InternedMatcher;
 import org.exparity.hamcrest.date.core.TemporalMatcher;
+import org.exparity.hamcrest.date.core.EpochConverters;
 import org.exparity.hamcrest.date.core.IsAfter;
 import org.exparity.hamcrest.date.core.IsBefore;
+import org.exparity.hamcrest.date.core.IsDay;
 import org.exparity.hamcrest.date.core.IsDayOfMonth;
 import org.exparity.hamcrest.date.core.IsDayOfWeek;
 import org.exparity.hamcrest.date.core.IsFirstDayOfMonth;
@@ -372,7 +380,7 @@ public final class OffsetDateTimeMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<OffsetDateTime> sameDayOfMonth(final OffsetDateTime date) {
-        return new IsDayOfMonth<>(OFFSETDATETIME_AS_DAYOFMONTH, dayOfMonth(date));
+        return new IsDayOfMonth<>(OFFSETDATETIME_DAY_OF_MONTH, dayOfMonth(date));
     }
 
     /**
@@ -388,7 +396,7 @@ public final class OffsetDateTimeMatchers {
      * @param dayOfMonth the expected day of the month
      */
     public static TemporalMatcher<OffsetDateTime> isDayOfMonth(final int dayOfMonth) {
-        return new IsDayOfMonth<>(OFFSETDATETIME_AS_DAYOFMONTH, dayOfMonth(dayOfMonth));
+        return new IsDayOfMonth<>(OFFSETDATETIME_DAY_OF_MONTH, dayOfMonth(dayOfMonth));
     }
 
     /**
@@ -441,7 +449,29 @@ public final class OffsetDateTimeMatchers {
         return new IsWithin<>(Interval.of(period, unit),
                 OFFSETDATETIME_AS_OFFSETDATETIME,
                 offsetDateTime(date),
-                OFFSETDATETIME);
+                OFFSETDATETIME,
+                EpochConverters.OFFSETDATETIME);
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined date is within an exact duration of the reference date
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * assertThat(myDate, within(Duration.ofMillis(250), OffsetDateTime.now()))
+     * </pre>
+     *
+     * @param duration the largest duration between the examined date and the reference date
+     * @param date the reference date against which the examined date is checked
+     */
+    public static TemporalMatcher<OffsetDateTime> within(final Duration duration, final OffsetDateTime date) {
+        return new IsWithin<>(Interval.of(duration),
+                OFFSETDATETIME_AS_OFFSETDATETIME,
+                offsetDateTime(date),
+                OFFSETDATETIME,
+                EpochConverters.OFFSETDATETIME);
     }
 
     /**
@@ -491,7 +521,24 @@ public final class OffsetDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<OffsetDateTime> isYesterday() {
-        return sameDay(OffsetDateTime.now().plusDays(-1));
+        return isYesterday(DefaultZones.clock());
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined date is yesterday according to the clock. The current day is
+     * resolved each time the matcher is used so the matcher remains correct across midnight
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * assertThat(myDate, isYesterday(Clock.systemUTC()));
+     * </pre>
+     *
+     * @param clock the clock which provides the current day
+     */
+    public static TemporalMatcher<OffsetDateTime> isYesterday(final Clock clock) {
+        return new IsDay<>(OFFSETDATETIME_AS_LOCALDATE, clock, -1);
     }
 
     /**
@@ -505,7 +552,24 @@ public final class OffsetDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<OffsetDateTime> isToday() {
-        return sameDay(OffsetDateTime.now());
+        return isToday(DefaultZones.clock());
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined date is today according to the clock. The current day is
+     * resolved each time the matcher is used so the matcher remains correct across midnight
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * assertThat(myDate, isToday(Clock.systemUTC()));
+     * </pre>
+     *
+     * @param clock the clock which provides the current day
+     */
+    public static TemporalMatcher<OffsetDateTime> isToday(final Clock clock) {
+        return new IsDay<>(OFFSETDATETIME_AS_LOCALDATE, clock, 0);
     }
 
     /**
@@ -519,7 +583,24 @@ public final class OffsetDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<OffsetDateTime> isTomorrow() {
-        return sameDay(OffsetDateTime.now().plusDays(1));
+        return isTomorrow(DefaultZones.clock());
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined date is tomorrow according to the clock. The current day is
+     * resolved each time the matcher is used so the matcher remains correct across midnight
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * assertThat(myDate, isTomorrow(Clock.systemUTC()));
+     * </pre>
+     *
+     * @param clock the clock which provides the current day
+     */
+    public static TemporalMatcher<OffsetDateTime> isTomorrow(final Clock clock) {
+        return new IsDay<>(OFFSETDATETIME_AS_LOCALDATE, clock, 1);
     }
 
     /**
@@ -577,7 +658,7 @@ public final class OffsetDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<OffsetDateTime> isMonday() {
-        return isDayOfWeek(MONDAY);
+        return Interned.DAYS_OF_WEEK.get(MONDAY);
     }
 
     /**
@@ -591,7 +672,7 @@ public final class OffsetDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<OffsetDateTime> isTuesday() {
-        return isDayOfWeek(TUESDAY);
+        return Interned.DAYS_OF_WEEK.get(TUESDAY);
     }
 
     /**
@@ -605,7 +686,7 @@ public final class OffsetDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<OffsetDateTime> isWednesday() {
-        return isDayOfWeek(WEDNESDAY);
+        return Interned.DAYS_OF_WEEK.get(WEDNESDAY);
     }
 
     /**
@@ -619,7 +700,7 @@ public final class OffsetDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<OffsetDateTime> isThursday() {
-        return isDayOfWeek(THURSDAY);
+        return Interned.DAYS_OF_WEEK.get(THURSDAY);
     }
 
     /**
@@ -633,7 +714,7 @@ public final class OffsetDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<OffsetDateTime> isFriday() {
-        return isDayOfWeek(FRIDAY);
+        return Interned.DAYS_OF_WEEK.get(FRIDAY);
     }
 
     /**
@@ -647,7 +728,7 @@ public final class OffsetDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<OffsetDateTime> isSaturday() {
-        return isDayOfWeek(SATURDAY);
+        return Interned.DAYS_OF_WEEK.get(SATURDAY);
     }
 
     /**
@@ -661,7 +742,7 @@ public final class OffsetDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<OffsetDateTime> isSunday() {
-        return isDayOfWeek(SUNDAY);
+        return Interned.DAYS_OF_WEEK.get(SUNDAY);
     }
 
     /**
@@ -675,7 +756,7 @@ public final class OffsetDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<OffsetDateTime> isWeekday() {
-        return isDayOfWeek(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
+        return Interned.WEEKDAY;
     }
 
     /**
@@ -689,7 +770,7 @@ public final class OffsetDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<OffsetDateTime> isWeekend() {
-        return isDayOfWeek(SATURDAY, SUNDAY);
+        return Interned.WEEKEND;
     }
 
     /**
@@ -703,7 +784,7 @@ public final class OffsetDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<OffsetDateTime> isFirstDayOfMonth() {
-        return new IsFirstDayOfMonth<>(OFFSETDATETIME_AS_OFFSETDATETIME);
+        return Interned.FIRST_DAY_OF_MONTH;
     }
 
     /**
@@ -734,7 +815,7 @@ public final class OffsetDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<OffsetDateTime> isLastDayOfMonth() {
-        return new IsLastDayOfMonth<>(OFFSETDATETIME_AS_OFFSETDATETIME);
+        return Interned.LAST_DAY_OF_MONTH;
     }
 
     /**
@@ -779,7 +860,7 @@ public final class OffsetDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<OffsetDateTime> isJanuary() {
-        return isMonth(JANUARY);
+        return Interned.MONTHS.get(JANUARY);
     }
 
     /**
@@ -793,7 +874,7 @@ public final class OffsetDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<OffsetDateTime> isFebruary() {
-        return isMonth(FEBRUARY);
+        return Interned.MONTHS.get(FEBRUARY);
     }
 
     /**
@@ -807,7 +888,7 @@ public final class OffsetDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<OffsetDateTime> isMarch() {
-        return isMonth(MARCH);
+        return Interned.MONTHS.get(MARCH);
     }
 
     /**
@@ -821,7 +902,7 @@ public final class OffsetDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<OffsetDateTime> isApril() {
-        return isMonth(APRIL);
+        return Interned.MONTHS.get(APRIL);
     }
 
     /**
@@ -835,7 +916,7 @@ public final class OffsetDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<OffsetDateTime> isMay() {
-        return isMonth(MAY);
+        return Interned.MONTHS.get(MAY);
     }
 
     /**
@@ -849,7 +930,7 @@ public final class OffsetDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<OffsetDateTime> isJune() {
-        return isMonth(JUNE);
+        return Interned.MONTHS.get(JUNE);
     }
 
     /**
@@ -863,7 +944,7 @@ public final class OffsetDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<OffsetDateTime> isJuly() {
-        return isMonth(JULY);
+        return Interned.MONTHS.get(JULY);
     }
 
     /**
@@ -877,7 +958,7 @@ public final class OffsetDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<OffsetDateTime> isAugust() {
-        return isMonth(AUGUST);
+        return Interned.MONTHS.get(AUGUST);
     }
 
     /**
@@ -891,7 +972,7 @@ public final class OffsetDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<OffsetDateTime> isSeptember() {
-        return isMonth(SEPTEMBER);
+        return Interned.MONTHS.get(SEPTEMBER);
     }
 
     /**
@@ -905,7 +986,7 @@ public final class OffsetDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<OffsetDateTime> isOctober() {
-        return isMonth(OCTOBER);
+        return Interned.MONTHS.get(OCTOBER);
     }
 
     /**
@@ -919,7 +1000,7 @@ public final class OffsetDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<OffsetDateTime> isNovember() {
-        return isMonth(NOVEMBER);
+        return Interned.MONTHS.get(NOVEMBER);
     }
 
     /**
@@ -933,7 +1014,7 @@ public final class OffsetDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<OffsetDateTime> isDecember() {
-        return isMonth(DECEMBER);
+        return Interned.MONTHS.get(DECEMBER);
     }
 
     /**
@@ -947,7 +1028,7 @@ public final class OffsetDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<OffsetDateTime> isLeapYear() {
-        return new IsLeapYear<>(OFFSETDATETIME_AS_YEAR);
+        return Interned.LEAP_YEAR;
     }
 
     /**
@@ -963,7 +1044,7 @@ public final class OffsetDateTimeMatchers {
      * @param hour the hour of the day (0-23)
      */
     public static TemporalMatcher<OffsetDateTime> isHour(final int hour) {
-        return new IsHour<>(OFFSETDATETIME_AS_HOUR, hour(hour));
+        return new IsHour<>(OFFSETDATETIME_HOUR_OF_DAY, hour(hour));
     }
 
     /**
@@ -979,7 +1060,7 @@ public final class OffsetDateTimeMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<OffsetDateTime> sameHourOfDay(final OffsetDateTime date) {
-        return new IsHour<>(OFFSETDATETIME_AS_HOUR, hour(date));
+        return new IsHour<>(OFFSETDATETIME_HOUR_OF_DAY, hour(date));
     }
 
     /**
@@ -995,7 +1076,7 @@ public final class OffsetDateTimeMatchers {
      * @param minute the minute of the day (0-59)
      */
     public static TemporalMatcher<OffsetDateTime> isMinute(final int minute) {
-        return new IsMinute<>(OFFSETDATETIME_AS_MINUTE, minute(minute));
+        return new IsMinute<>(OFFSETDATETIME_MINUTE_OF_HOUR, minute(minute));
     }
 
     /**
@@ -1011,7 +1092,7 @@ public final class OffsetDateTimeMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<OffsetDateTime> sameMinuteOfHour(final OffsetDateTime date) {
-        return new IsMinute<>(OFFSETDATETIME_AS_MINUTE, minute(date));
+        return new IsMinute<>(OFFSETDATETIME_MINUTE_OF_HOUR, minute(date));
     }
 
     /**
@@ -1027,7 +1108,7 @@ public final class OffsetDateTimeMatchers {
      * @param second the second of the day (0-59)
      */
     public static TemporalMatcher<OffsetDateTime> isSecond(final int second) {
-        return new IsSecond<>(OFFSETDATETIME_AS_SECOND, second(second));
+        return new IsSecond<>(OFFSETDATETIME_SECOND_OF_MINUTE, second(second));
     }
 
     /**
@@ -1043,6 +1124,20 @@ public final class OffsetDateTimeMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<OffsetDateTime> sameSecondOfMinute(final OffsetDateTime date) {
-        return new IsSecond<>(OFFSETDATETIME_AS_SECOND, second(date));
+        return new IsSecond<>(OFFSETDATETIME_SECOND_OF_MINUTE, second(date));
+    }
+
+    /**
+     * Holds the matchers returned by the parameterless factories, which are created on first use and then shared
+     */
+    private static final class Interned {
+
+        private static final TemporalMatcher<OffsetDateTime> WEEKDAY = InternedMatcher.of(isDayOfWeek(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY));
+        private static final TemporalMatcher<OffsetDateTime> WEEKEND = InternedMatcher.of(isDayOfWeek(SATURDAY, SUNDAY));
+        private static final TemporalMatcher<OffsetDateTime> FIRST_DAY_OF_MONTH = InternedMatcher.of(new IsFirstDayOfMonth<>(OFFSETDATETIME_AS_OFFSETDATETIME));
+        private static final TemporalMatcher<OffsetDateTime> LAST_DAY_OF_MONTH = InternedMatcher.of(new IsLastDayOfMonth<>(OFFSETDATETIME_AS_OFFSETDATETIME));
+        private static final TemporalMatcher<OffsetDateTime> LEAP_YEAR = InternedMatcher.of(new IsLeapYear<>(OFFSETDATETIME_AS_YEAR));
+        private static final Map<DayOfWeek, TemporalMatcher<OffsetDateTime>> DAYS_OF_WEEK = InternedMatcher.ofEach(DayOfWeek.class, OffsetDateTimeMatchers::isDayOfWeek);
+        private static final Map<Month, TemporalMatcher<OffsetDateTime>> MONTHS = InternedMatcher.ofEach(Month.class, OffsetDateTimeMatchers::isMonth);
     }
 }
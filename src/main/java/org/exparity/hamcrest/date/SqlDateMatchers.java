@@ -2,23 +2,29 @@ package org.exparity.hamcrest.date;
 
 import static java.time.DayOfWeek.*;
 import static java.time.Month.*;
-import static org.exparity.hamcrest.date.core.TemporalConverters.*;
-import static org.exparity.hamcrest.date.core.TemporalFunctions.LOCALDATE;
-import static org.exparity.hamcrest.date.core.TemporalFunctions.SQLDATE;
+import static org.exparity.hamcrest.date.core.TemporalConverters.SqlDates.*;
+import static org.exparity.hamcrest.date.core.TemporalFieldConverters.SqlDates.*;
+import static org.exparity.hamcrest.date.core.TemporalFunctions.LocalDates.LOCALDATE;
+import static org.exparity.hamcrest.date.core.TemporalFunctions.SqlDates.SQLDATE;
 import static org.exparity.hamcrest.date.core.TemporalProviders.*;
 
 import java.sql.Date;
+import java.time.Clock;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.Month;
 import java.time.ZoneId;
 import java.time.temporal.ChronoField;
 import java.time.temporal.ChronoUnit;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
+import org.exparity.hamcrest.date.core.DefaultZones;
+import org.exparity.hamcrest.date.core.InternedMatcher;
 import org.exparity.hamcrest.date.core.TemporalMatcher;
 import org.exparity.hamcrest.date.core.IsAfter;
 import org.exparity.hamcrest.date.core.IsBefore;
+import org.exparity.hamcrest.date.core.IsDay;
 import org.exparity.hamcrest.date.core.IsDayOfMonth;
 import org.exparity.hamcrest.date.core.IsDayOfWeek;
 import org.exparity.hamcrest.date.core.IsFirstDayOfMonth;
@@ -279,7 +285,7 @@ public final class SqlDateMatchers {
 	 * @param date the reference date against which the examined date is checked
 	 */
 	public static TemporalMatcher<java.sql.Date> sameDayOfWeek(final java.util.Date date) {
-		return isDayOfWeek(toDayOfWeek(date, ZoneId.systemDefault()));
+		return isDayOfWeek(toDayOfWeek(date, DefaultZones.get()));
 	}
 
 	/**
@@ -345,7 +351,7 @@ public final class SqlDateMatchers {
 	 * @param date the reference date against which the examined date is checked
 	 */
 	public static TemporalMatcher<java.sql.Date> sameDayOfMonth(final Date date) {
-		return new IsDayOfMonth<>(SQLDATE_AS_DAYOFMONTH, dayOfMonth(date));
+		return new IsDayOfMonth<>(SQLDATE_DAY_OF_MONTH, dayOfMonth(date));
 	}
 
 	/**
@@ -361,7 +367,7 @@ public final class SqlDateMatchers {
 	 * @param date the reference date against which the examined date is checked
 	 */
 	public static TemporalMatcher<java.sql.Date> sameDayOfMonth(final java.util.Date date) {
-		return new IsDayOfMonth<>(SQLDATE_AS_DAYOFMONTH, dayOfMonth(date));
+		return new IsDayOfMonth<>(SQLDATE_DAY_OF_MONTH, dayOfMonth(date));
 	}
 
 	/**
@@ -377,7 +383,7 @@ public final class SqlDateMatchers {
 	 * @param dayOfMonth the expected day of the month
 	 */
 	public static TemporalMatcher<java.sql.Date> isDayOfMonth(final int dayOfMonth) {
-		return new IsDayOfMonth<>(SQLDATE_AS_DAYOFMONTH, dayOfMonth(dayOfMonth));
+		return new IsDayOfMonth<>(SQLDATE_DAY_OF_MONTH, dayOfMonth(dayOfMonth));
 	}
 
 	/**
@@ -743,7 +749,7 @@ public final class SqlDateMatchers {
 	 * @param date the reference date against which the examined date is checked
 	 */
 	public static TemporalMatcher<java.sql.Date> sameMonthOfYear(final java.util.Date date) {
-		return isMonth(toMonth(date, ZoneId.systemDefault()));
+		return isMonth(toMonth(date, DefaultZones.get()));
 	}
 
 	/**
@@ -995,7 +1001,24 @@ public final class SqlDateMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<java.sql.Date> isYesterday() {
-		return sameDay(LocalDate.now().minusDays(1));
+		return isYesterday(DefaultZones.clock());
+	}
+
+	/**
+	 * <p>
+	 * Creates a matcher that matches when the examined date is yesterday according to the clock. The current day is
+	 * resolved each time the matcher is used so the matcher remains correct across midnight
+	 * </p>
+	 * For example:
+	 *
+	 * <pre>
+	 * assertThat(myDate, isYesterday(Clock.systemUTC()));
+	 * </pre>
+	 *
+	 * @param clock the clock which provides the current day
+	 */
+	public static TemporalMatcher<java.sql.Date> isYesterday(final Clock clock) {
+		return new IsDay<>(SQLDATE_AS_LOCALDATE, clock, -1);
 	}
 
 	/**
@@ -1009,7 +1032,24 @@ public final class SqlDateMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<java.sql.Date> isToday() {
-		return sameDay(LocalDate.now());
+		return isToday(DefaultZones.clock());
+	}
+
+	/**
+	 * <p>
+	 * Creates a matcher that matches when the examined date is today according to the clock. The current day is
+	 * resolved each time the matcher is used so the matcher remains correct across midnight
+	 * </p>
+	 * For example:
+	 *
+	 * <pre>
+	 * assertThat(myDate, isToday(Clock.systemUTC()));
+	 * </pre>
+	 *
+	 * @param clock the clock which provides the current day
+	 */
+	public static TemporalMatcher<java.sql.Date> isToday(final Clock clock) {
+		return new IsDay<>(SQLDATE_AS_LOCALDATE, clock, 0);
 	}
 
 	/**
@@ -1023,7 +1063,24 @@ public final class SqlDateMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<java.sql.Date> isTomorrow() {
-		return sameDay(LocalDate.now().plusDays(1));
+		return isTomorrow(DefaultZones.clock());
+	}
+
+	/**
+	 * <p>
+	 * Creates a matcher that matches when the examined date is tomorrow according to the clock. The current day is
+	 * resolved each time the matcher is used so the matcher remains correct across midnight
+	 * </p>
+	 * For example:
+	 *
+	 * <pre>
+	 * assertThat(myDate, isTomorrow(Clock.systemUTC()));
+	 * </pre>
+	 *
+	 * @param clock the clock which provides the current day
+	 */
+	public static TemporalMatcher<java.sql.Date> isTomorrow(final Clock clock) {
+		return new IsDay<>(SQLDATE_AS_LOCALDATE, clock, 1);
 	}
 
 	/**
@@ -1037,7 +1094,7 @@ public final class SqlDateMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<java.sql.Date> isMonday() {
-		return isDayOfWeek(DayOfWeek.MONDAY);
+		return Interned.DAYS_OF_WEEK.get(MONDAY);
 	}
 
 	/**
@@ -1051,7 +1108,7 @@ public final class SqlDateMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<java.sql.Date> isTuesday() {
-		return isDayOfWeek(DayOfWeek.TUESDAY);
+		return Interned.DAYS_OF_WEEK.get(TUESDAY);
 	}
 
 	/**
@@ -1065,7 +1122,7 @@ public final class SqlDateMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<java.sql.Date> isWednesday() {
-		return isDayOfWeek(DayOfWeek.WEDNESDAY);
+		return Interned.DAYS_OF_WEEK.get(WEDNESDAY);
 	}
 
 	/**
@@ -1079,7 +1136,7 @@ public final class SqlDateMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<java.sql.Date> isThursday() {
-		return isDayOfWeek(DayOfWeek.THURSDAY);
+		return Interned.DAYS_OF_WEEK.get(THURSDAY);
 	}
 
 	/**
@@ -1093,7 +1150,7 @@ public final class SqlDateMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<java.sql.Date> isFriday() {
-		return isDayOfWeek(DayOfWeek.FRIDAY);
+		return Interned.DAYS_OF_WEEK.get(FRIDAY);
 	}
 
 	/**
@@ -1107,7 +1164,7 @@ public final class SqlDateMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<java.sql.Date> isSaturday() {
-		return isDayOfWeek(DayOfWeek.SATURDAY);
+		return Interned.DAYS_OF_WEEK.get(SATURDAY);
 	}
 
 	/**
@@ -1121,7 +1178,7 @@ public final class SqlDateMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<java.sql.Date> isSunday() {
-		return isDayOfWeek(DayOfWeek.SUNDAY);
+		return Interned.DAYS_OF_WEEK.get(SUNDAY);
 	}
 
 	/**
@@ -1135,7 +1192,7 @@ public final class SqlDateMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<java.sql.Date> isWeekday() {
-		return isDayOfWeek(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
+		return Interned.WEEKDAY;
 	}
 
 	/**
@@ -1149,7 +1206,7 @@ public final class SqlDateMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<java.sql.Date> isWeekend() {
-		return isDayOfWeek(SATURDAY, SUNDAY);
+		return Interned.WEEKEND;
 	}
 
 	/**
@@ -1163,7 +1220,7 @@ public final class SqlDateMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<java.sql.Date> isFirstDayOfMonth() {
-        return new IsFirstDayOfMonth<>(SQLDATE_AS_LOCALDATE);
+        return Interned.FIRST_DAY_OF_MONTH;
 	}
 
 	/**
@@ -1194,7 +1251,7 @@ public final class SqlDateMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<java.sql.Date> isLastDayOfMonth() {
-        return new IsLastDayOfMonth<>(SQLDATE_AS_LOCALDATE);
+        return Interned.LAST_DAY_OF_MONTH;
 	}
 
 	/**
@@ -1241,7 +1298,7 @@ public final class SqlDateMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<java.sql.Date> isJanuary() {
-		return isMonth(JANUARY);
+		return Interned.MONTHS.get(JANUARY);
 	}
 
 	/**
@@ -1255,7 +1312,7 @@ public final class SqlDateMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<java.sql.Date> isFebruary() {
-		return isMonth(FEBRUARY);
+		return Interned.MONTHS.get(FEBRUARY);
 	}
 
 	/**
@@ -1269,7 +1326,7 @@ public final class SqlDateMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<java.sql.Date> isMarch() {
-		return isMonth(MARCH);
+		return Interned.MONTHS.get(MARCH);
 	}
 
 	/**
@@ -1283,7 +1340,7 @@ public final class SqlDateMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<java.sql.Date> isApril() {
-		return isMonth(APRIL);
+		return Interned.MONTHS.get(APRIL);
 	}
 
 	/**
@@ -1297,7 +1354,7 @@ public final class SqlDateMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<java.sql.Date> isMay() {
-		return isMonth(MAY);
+		return Interned.MONTHS.get(MAY);
 	}
 
 	/**
@@ -1311,7 +1368,7 @@ public final class SqlDateMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<java.sql.Date> isJune() {
-		return isMonth(JUNE);
+		return Interned.MONTHS.get(JUNE);
 	}
 
 	/**
@@ -1325,7 +1382,7 @@ public final class SqlDateMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<java.sql.Date> isJuly() {
-		return isMonth(JULY);
+		return Interned.MONTHS.get(JULY);
 	}
 
 	/**
@@ -1339,7 +1396,7 @@ public final class SqlDateMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<java.sql.Date> isAugust() {
-		return isMonth(AUGUST);
+		return Interned.MONTHS.get(AUGUST);
 	}
 
 	/**
@@ -1353,7 +1410,7 @@ public final class SqlDateMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<java.sql.Date> isSeptember() {
-		return isMonth(SEPTEMBER);
+		return Interned.MONTHS.get(SEPTEMBER);
 	}
 
 	/**
@@ -1367,7 +1424,7 @@ public final class SqlDateMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<java.sql.Date> isOctober() {
-		return isMonth(OCTOBER);
+		return Interned.MONTHS.get(OCTOBER);
 	}
 
 	/**
@@ -1381,7 +1438,7 @@ public final class SqlDateMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<java.sql.Date> isNovember() {
-		return isMonth(NOVEMBER);
+		return Interned.MONTHS.get(NOVEMBER);
 	}
 
 	/**
@@ -1395,7 +1452,7 @@ public final class SqlDateMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<java.sql.Date> isDecember() {
-		return isMonth(DECEMBER);
+		return Interned.MONTHS.get(DECEMBER);
 	}
 
 	/**
@@ -1409,7 +1466,7 @@ public final class SqlDateMatchers {
 	 * </pre>
 	 */
 	public static TemporalMatcher<Date> isLeapYear() {
-		return new IsLeapYear<>(SQLDATE_AS_YEAR);
+		return Interned.LEAP_YEAR;
 	}
 
 	private static ChronoUnit convertUnit(final TimeUnit unit) {
@@ -1445,4 +1502,17 @@ public final class SqlDateMatchers {
 		return date.toInstant().atZone(zone).getMonth();
 	}
 
+	/**
+	 * Holds the matchers returned by the parameterless factories, which are created on first use and then shared
+	 */
+	private static final class Interned {
+
+		private static final TemporalMatcher<java.sql.Date> WEEKDAY = InternedMatcher.of(isDayOfWeek(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY));
+		private static final TemporalMatcher<java.sql.Date> WEEKEND = InternedMatcher.of(isDayOfWeek(SATURDAY, SUNDAY));
+		private static final TemporalMatcher<java.sql.Date> FIRST_DAY_OF_MONTH = InternedMatcher.of(new IsFirstDayOfMonth<>(SQLDATE_AS_LOCALDATE));
+		private static final TemporalMatcher<java.sql.Date> LAST_DAY_OF_MONTH = InternedMatcher.of(new IsLastDayOfMonth<>(SQLDATE_AS_LOCALDATE));
+		private static final TemporalMatcher<java.sql.Date> LEAP_YEAR = InternedMatcher.of(new IsLeapYear<>(SQLDATE_AS_YEAR));
+		private static final Map<DayOfWeek, TemporalMatcher<java.sql.Date>> DAYS_OF_WEEK = InternedMatcher.ofEach(DayOfWeek.class, SqlDateMatchers::isDayOfWeek);
+		private static final Map<Month, TemporalMatcher<java.sql.Date>> MONTHS = InternedMatcher.ofEach(Month.class, SqlDateMatchers::isMonth);
+	}
 }
@@ -0,0 +1,334 @@
+package org.exparity.hamcrest.date;
+
+import static java.time.DayOfWeek.*;
+import static org.exparity.hamcrest.date.core.TemporalProviders.*;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.temporal.ChronoUnit;
+
+import org.exparity.hamcrest.date.core.EpochConverter;
+import org.exparity.hamcrest.date.core.EpochConverters;
+import org.exparity.hamcrest.date.core.EpochFields;
+import org.exparity.hamcrest.date.core.IsAfter;
+import org.exparity.hamcrest.date.core.IsBefore;
+import org.exparity.hamcrest.date.core.IsDayOfMonth;
+import org.exparity.hamcrest.date.core.IsDayOfWeek;
+import org.exparity.hamcrest.date.core.IsHour;
+import org.exparity.hamcrest.date.core.IsIsoInstant;
+import org.exparity.hamcrest.date.core.IsMinute;
+import org.exparity.hamcrest.date.core.IsMonth;
+import org.exparity.hamcrest.date.core.IsSame;
+import org.exparity.hamcrest.date.core.IsSameDay;
+import org.exparity.hamcrest.date.core.IsSameOrAfter;
+import org.exparity.hamcrest.date.core.IsSameOrBefore;
+import org.exparity.hamcrest.date.core.IsSecond;
+import org.exparity.hamcrest.date.core.IsWithin;
+import org.exparity.hamcrest.date.core.IsYear;
+import org.exparity.hamcrest.date.core.TemporalConverter;
+import org.exparity.hamcrest.date.core.TemporalFunction;
+import org.exparity.hamcrest.date.core.TemporalFunctions;
+import org.exparity.hamcrest.date.core.TemporalMatcher;
+import org.exparity.hamcrest.date.core.TemporalProvider;
+import org.exparity.hamcrest.date.core.types.Interval;
+
+/**
+ * Static factory for creating {@link org.hamcrest.Matcher} instances for comparing timestamps held as ISO-8601 text
+ * with a zone offset, such as <code>2015-08-04T12:00:00.250+01:00</code>, in a {@link String} or any other
+ * {@link CharSequence}. The fields of the timestamp are read directly from the text, so no {@link Instant} or
+ * {@link java.time.temporal.TemporalAccessor} is created to match well-formed text, and text which is not an ISO-8601
+ * timestamp with an offset does not match. Calendar fields are computed in the zone given with
+ * {@link TemporalMatcher#atZone(java.time.ZoneId)}, or else in the zone from
+ * {@link org.exparity.hamcrest.date.core.DefaultZones} when the text is matched. For example:
+ *
+ * <pre>
+ * MatcherAssert.assertThat(json.get("createdAt"), TextTimestampMatchers.after(start));
+ * MatcherAssert.assertThat(json.get("createdAt"), TextTimestampMatchers.isWeekday().atZone(ZoneOffset.UTC));
+ * </pre>
+ */
+public final class TextTimestampMatchers {
+
+    private static final EpochConverter<CharSequence> EPOCHS = EpochConverters.ISO_TEXT;
+    private static final TemporalFunction<CharSequence> FUNCTIONS = TemporalFunctions.Texts.ISO_TEXT;
+    private static final TemporalConverter<CharSequence, CharSequence> TEXT_AS_TEXT = (date, zone) -> date;
+
+    private TextTimestampMatchers() {}
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined text is after the reference instant
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * MatcherAssert.assertThat(myText, TextTimestampMatchers.after(Instant.now()));
+     * </pre>
+     *
+     * @param date the reference instant against which the examined text is checked
+     */
+    public static TemporalMatcher<CharSequence> after(final Instant date) {
+        return new IsIsoInstant(new IsAfter<>(TEXT_AS_TEXT, text(date), FUNCTIONS, EPOCHS));
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined text is before the reference instant
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * MatcherAssert.assertThat(myText, TextTimestampMatchers.before(Instant.now()));
+     * </pre>
+     *
+     * @param date the reference instant against which the examined text is checked
+     */
+    public static TemporalMatcher<CharSequence> before(final Instant date) {
+        return new IsIsoInstant(new IsBefore<>(TEXT_AS_TEXT, text(date), FUNCTIONS, EPOCHS));
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined text is the same as or after the reference instant
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * MatcherAssert.assertThat(myText, TextTimestampMatchers.sameOrAfter(Instant.now()));
+     * </pre>
+     *
+     * @param date the reference instant against which the examined text is checked
+     */
+    public static TemporalMatcher<CharSequence> sameOrAfter(final Instant date) {
+        return new IsIsoInstant(new IsSameOrAfter<>(TEXT_AS_TEXT, text(date), FUNCTIONS, EPOCHS));
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined text is the same as or before the reference instant
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * MatcherAssert.assertThat(myText, TextTimestampMatchers.sameOrBefore(Instant.now()));
+     * </pre>
+     *
+     * @param date the reference instant against which the examined text is checked
+     */
+    public static TemporalMatcher<CharSequence> sameOrBefore(final Instant date) {
+        return new IsIsoInstant(new IsSameOrBefore<>(TEXT_AS_TEXT, text(date), FUNCTIONS, EPOCHS));
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined text is the same instant as the reference instant
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * MatcherAssert.assertThat(myText, TextTimestampMatchers.sameInstant(expected));
+     * </pre>
+     *
+     * @param date the reference instant against which the examined text is checked
+     */
+    public static TemporalMatcher<CharSequence> sameInstant(final Instant date) {
+        return new IsIsoInstant(new IsSame<>(TEXT_AS_TEXT, text(date), FUNCTIONS));
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined text is within a given period of the reference instant
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * MatcherAssert.assertThat(myText, TextTimestampMatchers.within(10, ChronoUnit.SECONDS, Instant.now()));
+     * </pre>
+     *
+     * @param period the timeunit interval the examined text should be with
+     * @param unit the timeunit to define the length of the period
+     * @param date the reference instant against which the examined text is checked
+     */
+    public static TemporalMatcher<CharSequence> within(final long period, final ChronoUnit unit, final Instant date) {
+        return new IsIsoInstant(new IsWithin<>(Interval.of(period, unit), TEXT_AS_TEXT, text(date), FUNCTIONS, EPOCHS));
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined text is within an exact duration of the reference instant
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * MatcherAssert.assertThat(myText, TextTimestampMatchers.within(Duration.ofMillis(250), Instant.now()));
+     * </pre>
+     *
+     * @param duration the largest duration between the examined text and the reference instant
+     * @param date the reference instant against which the examined text is checked
+     */
+    public static TemporalMatcher<CharSequence> within(final Duration duration, final Instant date) {
+        return new IsIsoInstant(new IsWithin<>(Interval.of(duration), TEXT_AS_TEXT, text(date), FUNCTIONS, EPOCHS));
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined text is on the reference day
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * MatcherAssert.assertThat(myText, TextTimestampMatchers.isDay(LocalDate.of(2012, Month.MAY, 12)));
+     * </pre>
+     *
+     * @param date the reference day against which the examined text is checked
+     */
+    public static TemporalMatcher<CharSequence> isDay(final LocalDate date) {
+        return new IsIsoInstant(new IsSameDay<>(EpochFields.asLocalDate(EPOCHS), localDate(date)));
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined text is in the reference year
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * MatcherAssert.assertThat(myText, TextTimestampMatchers.isYear(2012));
+     * </pre>
+     *
+     * @param year the reference year against which the examined text is checked
+     */
+    public static TemporalMatcher<CharSequence> isYear(final int year) {
+        return new IsIsoInstant(new IsYear<>(EpochFields.asYear(EPOCHS), year(year)));
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined text is in the reference month
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * MatcherAssert.assertThat(myText, TextTimestampMatchers.isMonth(Month.AUGUST));
+     * </pre>
+     *
+     * @param month the reference month against which the examined text is checked
+     */
+    public static TemporalMatcher<CharSequence> isMonth(final Month month) {
+        return new IsIsoInstant(new IsMonth<>(EpochFields.asMonth(EPOCHS), month(month)));
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined text is on the reference day of the month
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * MatcherAssert.assertThat(myText, TextTimestampMatchers.isDayOfMonth(4));
+     * </pre>
+     *
+     * @param dayOfMonth the reference day of the month against which the examined text is checked
+     */
+    public static TemporalMatcher<CharSequence> isDayOfMonth(final int dayOfMonth) {
+        return new IsIsoInstant(new IsDayOfMonth<>(EpochFields.dayOfMonth(EPOCHS), dayOfMonth(dayOfMonth)));
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined text is on one of the reference days of the week
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * MatcherAssert.assertThat(myText, TextTimestampMatchers.isDayOfWeek(DayOfWeek.MONDAY, DayOfWeek.FRIDAY));
+     * </pre>
+     *
+     * @param daysOfWeek the days of the week against which the examined text is checked
+     */
+    public static TemporalMatcher<CharSequence> isDayOfWeek(final DayOfWeek... daysOfWeek) {
+        return new IsIsoInstant(new IsDayOfWeek<>(EpochFields.asDayOfWeek(EPOCHS), daysOfWeek(daysOfWeek)));
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined text is on a weekday
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * MatcherAssert.assertThat(myText, TextTimestampMatchers.isWeekday());
+     * </pre>
+     */
+    public static TemporalMatcher<CharSequence> isWeekday() {
+        return isDayOfWeek(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined text is on a weekend
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * MatcherAssert.assertThat(myText, TextTimestampMatchers.isWeekend());
+     * </pre>
+     */
+    public static TemporalMatcher<CharSequence> isWeekend() {
+        return isDayOfWeek(SATURDAY, SUNDAY);
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined text is on the expected hour (0-23)
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * MatcherAssert.assertThat(myText, TextTimestampMatchers.isHour(12));
+     * </pre>
+     *
+     * @param hour the hour of the day (0-23)
+     */
+    public static TemporalMatcher<CharSequence> isHour(final int hour) {
+        return new IsIsoInstant(new IsHour<>(EpochFields.hourOfDay(EPOCHS), hour(hour)));
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined text is on the expected minute (0-59)
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * MatcherAssert.assertThat(myText, TextTimestampMatchers.isMinute(12));
+     * </pre>
+     *
+     * @param minute the minute of the hour (0-59)
+     */
+    public static TemporalMatcher<CharSequence> isMinute(final int minute) {
+        return new IsIsoInstant(new IsMinute<>(EpochFields.minuteOfHour(EPOCHS), minute(minute)));
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined text is on the expected second (0-59)
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * MatcherAssert.assertThat(myText, TextTimestampMatchers.isSecond(12));
+     * </pre>
+     *
+     * @param second the second of the minute (0-59)
+     */
+    public static TemporalMatcher<CharSequence> isSecond(final int second) {
+        return new IsIsoInstant(new IsSecond<>(EpochFields.secondOfMinute(EPOCHS), second(second)));
+    }
+
+    private static TemporalProvider<CharSequence> text(final Instant date) {
+        return fixed(date.toString());
+    }
+}
@@ -1,16 +1,20 @@
 package org.exparity.hamcrest.date;
 
 import org.exparity.hamcrest.date.core.*;
+import org.exparity.hamcrest.date.core.DefaultZones;
 import org.exparity.hamcrest.date.core.types.Interval;
+import org.exparity.hamcrest.date.core.types.TemporalRangeSet;
 
 import java.time.*;
 import java.time.temporal.ChronoField;
 import java.time.temporal.ChronoUnit;
+import java.util.Map;
 
 import static java.time.DayOfWeek.*;
 import static java.time.Month.*;
-import static org.exparity.hamcrest.date.core.TemporalConverters.*;
-import static org.exparity.hamcrest.date.core.TemporalFunctions.ZONEDDATETIME;
+import static org.exparity.hamcrest.date.core.TemporalConverters.ZonedDateTimes.*;
+import static org.exparity.hamcrest.date.core.TemporalFieldConverters.ZonedDateTimes.*;
+import static org.exparity.hamcrest.date.core.TemporalFunctions.ZonedDateTimes.ZONEDDATETIME;
 import static org.exparity.hamcrest.date.core.TemporalProviders.*;
 
 /**
@@ -349,7 +353,7 @@ public final class ZonedDateTimeMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<ZonedDateTime> sameDayOfMonth(final ZonedDateTime date) {
-        return new IsDayOfMonth<>(ZONEDDATETIME_AS_DAYOFMONTH, dayOfMonth(date));
+        return new IsDayOfMonth<>(ZONEDDATETIME_DAY_OF_MONTH, dayOfMonth(date));
     }
 
     /**
@@ -365,7 +369,7 @@ public final class ZonedDateTimeMatchers {
      * @param dayOfMonth the expected day of the month
      */
     public static TemporalMatcher<ZonedDateTime> isDayOfMonth(final int dayOfMonth) {
-        return new IsDayOfMonth<>(ZONEDDATETIME_AS_DAYOFMONTH, dayOfMonth(dayOfMonth));
+        return new IsDayOfMonth<>(ZONEDDATETIME_DAY_OF_MONTH, dayOfMonth(dayOfMonth));
     }
 
     /**
@@ -418,7 +422,45 @@ public final class ZonedDateTimeMatchers {
         return new IsWithin<>(Interval.of(period, unit),
                 ZONEDDATETIME_AS_ZONEDDATETIME,
                 zonedDateTime(date),
-                ZONEDDATETIME);
+                ZONEDDATETIME,
+                EpochConverters.ZONEDDATETIME);
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined date is within an exact duration of the reference date
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * assertThat(myDate, within(Duration.ofMillis(250), ZonedDateTime.now()))
+     * </pre>
+     *
+     * @param duration the largest duration between the examined date and the reference date
+     * @param date the reference date against which the examined date is checked
+     */
+    public static TemporalMatcher<ZonedDateTime> within(final Duration duration, final ZonedDateTime date) {
+        return new IsWithin<>(Interval.of(duration),
+                ZONEDDATETIME_AS_ZONEDDATETIME,
+                zonedDateTime(date),
+                ZONEDDATETIME,
+                EpochConverters.ZONEDDATETIME);
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined date is within any window of the reference set
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * assertThat(myDate, withinAny(TemporalRangeSet.builder().add(start, end).add(otherStart, otherEnd).build()));
+     * </pre>
+     *
+     * @param windows the windows against which the examined date is checked
+     */
+    public static TemporalMatcher<ZonedDateTime> withinAny(final TemporalRangeSet windows) {
+        return new IsWithinAny<>(EpochConverters.ZONEDDATETIME, ZONEDDATETIME, windows);
     }
 
     /**
@@ -468,7 +510,24 @@ public final class ZonedDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<ZonedDateTime> isYesterday() {
-        return sameDay(ZonedDateTime.now().plusDays(-1));
+        return isYesterday(DefaultZones.clock());
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined date is yesterday according to the clock. The current day is
+     * resolved each time the matcher is used so the matcher remains correct across midnight
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * assertThat(myDate, isYesterday(Clock.systemUTC()));
+     * </pre>
+     *
+     * @param clock the clock which provides the current day
+     */
+    public static TemporalMatcher<ZonedDateTime> isYesterday(final Clock clock) {
+        return new IsDay<>(ZONEDDATETIME_AS_LOCALDATE, clock, -1);
     }
 
     /**
@@ -482,7 +541,24 @@ public final class ZonedDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<ZonedDateTime> isToday() {
-        return sameDay(ZonedDateTime.now());
+        return isToday(DefaultZones.clock());
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined date is today according to the clock. The current day is
+     * resolved each time the matcher is used so the matcher remains correct across midnight
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * assertThat(myDate, isToday(Clock.systemUTC()));
+     * </pre>
+     *
+     * @param clock the clock which provides the current day
+     */
+    public static TemporalMatcher<ZonedDateTime> isToday(final Clock clock) {
+        return new IsDay<>(ZONEDDATETIME_AS_LOCALDATE, clock, 0);
     }
 
     /**
@@ -496,7 +572,24 @@ public final class ZonedDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<ZonedDateTime> isTomorrow() {
-        return sameDay(ZonedDateTime.now().plusDays(1));
+        return isTomorrow(DefaultZones.clock());
+    }
+
+    /**
+     * <p>
+     * Creates a matcher that matches when the examined date is tomorrow according to the clock. The current day is
+     * resolved each time the matcher is used so the matcher remains correct across midnight
+     * </p>
+     * For example:
+     *
+     * <pre>
+     * assertThat(myDate, isTomorrow(Clock.systemUTC()));
+     * </pre>
+     *
+     * @param clock the clock which provides the current day
+     */
+    public static TemporalMatcher<ZonedDateTime> isTomorrow(final Clock clock) {
+        return new IsDay<>(ZONEDDATETIME_AS_LOCALDATE, clock, 1);
     }
 
     /**
@@ -554,7 +647,7 @@ public final class ZonedDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<ZonedDateTime> isMonday() {
-        return isDayOfWeek(MONDAY);
+        return Interned.DAYS_OF_WEEK.get(MONDAY);
     }
 
     /**
@@ -568,7 +661,7 @@ public final class ZonedDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<ZonedDateTime> isTuesday() {
-        return isDayOfWeek(TUESDAY);
+        return Interned.DAYS_OF_WEEK.get(TUESDAY);
     }
 
     /**
@@ -582,7 +675,7 @@ public final class ZonedDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<ZonedDateTime> isWednesday() {
-        return isDayOfWeek(WEDNESDAY);
+        return Interned.DAYS_OF_WEEK.get(WEDNESDAY);
     }
 
     /**
@@ -596,7 +689,7 @@ public final class ZonedDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<ZonedDateTime> isThursday() {
-        return isDayOfWeek(THURSDAY);
+        return Interned.DAYS_OF_WEEK.get(THURSDAY);
     }
 
     /**
@@ -610,7 +703,7 @@ public final class ZonedDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<ZonedDateTime> isFriday() {
-        return isDayOfWeek(FRIDAY);
+        return Interned.DAYS_OF_WEEK.get(FRIDAY);
     }
 
     /**
@@ -624,7 +717,7 @@ public final class ZonedDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<ZonedDateTime> isSaturday() {
-        return isDayOfWeek(SATURDAY);
+        return Interned.DAYS_OF_WEEK.get(SATURDAY);
     }
 
     /**
@@ -638,7 +731,7 @@ public final class ZonedDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<ZonedDateTime> isSunday() {
-        return isDayOfWeek(SUNDAY);
+        return Interned.DAYS_OF_WEEK.get(SUNDAY);
     }
 
     /**
@@ -652,7 +745,7 @@ public final class ZonedDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<ZonedDateTime> isWeekday() {
-        return isDayOfWeek(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
+        return Interned.WEEKDAY;
     }
 
     /**
@@ -666,7 +759,7 @@ public final class ZonedDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<ZonedDateTime> isWeekend() {
-        return isDayOfWeek(SATURDAY, SUNDAY);
+        return Interned.WEEKEND;
     }
 
     /**
@@ -680,7 +773,7 @@ public final class ZonedDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<ZonedDateTime> isFirstDayOfMonth() {
-        return new IsFirstDayOfMonth<>(ZONEDDATETIME_AS_ZONEDDATETIME);
+        return Interned.FIRST_DAY_OF_MONTH;
     }
 
     /**
@@ -711,7 +804,7 @@ public final class ZonedDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<ZonedDateTime> isLastDayOfMonth() {
-        return new IsLastDayOfMonth<>(ZONEDDATETIME_AS_ZONEDDATETIME);
+        return Interned.LAST_DAY_OF_MONTH;
     }
 
     /**
@@ -756,7 +849,7 @@ public final class ZonedDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<ZonedDateTime> isJanuary() {
-        return isMonth(JANUARY);
+        return Interned.MONTHS.get(JANUARY);
     }
 
     /**
@@ -770,7 +863,7 @@ public final class ZonedDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<ZonedDateTime> isFebruary() {
-        return isMonth(FEBRUARY);
+        return Interned.MONTHS.get(FEBRUARY);
     }
 
     /**
@@ -784,7 +877,7 @@ public final class ZonedDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<ZonedDateTime> isMarch() {
-        return isMonth(MARCH);
+        return Interned.MONTHS.get(MARCH);
     }
 
     /**
@@ -798,7 +891,7 @@ public final class ZonedDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<ZonedDateTime> isApril() {
-        return isMonth(APRIL);
+        return Interned.MONTHS.get(APRIL);
     }
 
     /**
@@ -812,7 +905,7 @@ public final class ZonedDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<ZonedDateTime> isMay() {
-        return isMonth(MAY);
+        return Interned.MONTHS.get(MAY);
     }
 
     /**
@@ -826,7 +919,7 @@ public final class ZonedDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<ZonedDateTime> isJune() {
-        return isMonth(JUNE);
+        return Interned.MONTHS.get(JUNE);
     }
 
     /**
@@ -840,7 +933,7 @@ public final class ZonedDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<ZonedDateTime> isJuly() {
-        return isMonth(JULY);
+        return Interned.MONTHS.get(JULY);
     }
 
     /**
@@ -854,7 +947,7 @@ public final class ZonedDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<ZonedDateTime> isAugust() {
-        return isMonth(AUGUST);
+        return Interned.MONTHS.get(AUGUST);
     }
 
     /**
@@ -868,7 +961,7 @@ public final class ZonedDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<ZonedDateTime> isSeptember() {
-        return isMonth(SEPTEMBER);
+        return Interned.MONTHS.get(SEPTEMBER);
     }
 
     /**
@@ -882,7 +975,7 @@ public final class ZonedDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<ZonedDateTime> isOctober() {
-        return isMonth(OCTOBER);
+        return Interned.MONTHS.get(OCTOBER);
     }
 
     /**
@@ -896,7 +989,7 @@ public final class ZonedDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<ZonedDateTime> isNovember() {
-        return isMonth(NOVEMBER);
+        return Interned.MONTHS.get(NOVEMBER);
     }
 
     /**
@@ -910,7 +1003,7 @@ public final class ZonedDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<ZonedDateTime> isDecember() {
-        return isMonth(DECEMBER);
+        return Interned.MONTHS.get(DECEMBER);
     }
 
     /**
@@ -924,7 +1017,7 @@ public final class ZonedDateTimeMatchers {
      * </pre>
      */
     public static TemporalMatcher<ZonedDateTime> isLeapYear() {
-        return new IsLeapYear<>(ZONEDDATETIME_AS_YEAR);
+        return Interned.LEAP_YEAR;
     }
 
     /**
@@ -940,7 +1033,7 @@ public final class ZonedDateTimeMatchers {
      * @param hour the hour of the day (0-23)
      */
     public static TemporalMatcher<ZonedDateTime> isHour(final int hour) {
-        return new IsHour<>(ZONEDDATETIME_AS_HOUR, hour(hour));
+        return new IsHour<>(ZONEDDATETIME_HOUR_OF_DAY, hour(hour));
     }
 
     /**
@@ -956,7 +1049,7 @@ public final class ZonedDateTimeMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<ZonedDateTime> sameHourOfDay(final ZonedDateTime date) {
-        return new IsHour<>(ZONEDDATETIME_AS_HOUR, hour(date));
+        return new IsHour<>(ZONEDDATETIME_HOUR_OF_DAY, hour(date));
     }
 
     /**
@@ -972,7 +1065,7 @@ public final class ZonedDateTimeMatchers {
      * @param minute the minute of the day (0-59)
      */
     public static TemporalMatcher<ZonedDateTime> isMinute(final int minute) {
-        return new IsMinute<>(ZONEDDATETIME_AS_MINUTE, minute(minute));
+        return new IsMinute<>(ZONEDDATETIME_MINUTE_OF_HOUR, minute(minute));
     }
 
     /**
@@ -988,7 +1081,7 @@ public final class ZonedDateTimeMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<ZonedDateTime> sameMinuteOfHour(final ZonedDateTime date) {
-        return new IsMinute<>(ZONEDDATETIME_AS_MINUTE, minute(date));
+        return new IsMinute<>(ZONEDDATETIME_MINUTE_OF_HOUR, minute(date));
     }
 
     /**
@@ -1004,7 +1097,7 @@ public final class ZonedDateTimeMatchers {
      * @param second the second of the day (0-59)
      */
     public static TemporalMatcher<ZonedDateTime> isSecond(final int second) {
-        return new IsSecond<>(ZONEDDATETIME_AS_SECOND, second(second));
+        return new IsSecond<>(ZONEDDATETIME_SECOND_OF_MINUTE, second(second));
     }
 
     /**
@@ -1020,6 +1113,20 @@ public final class ZonedDateTimeMatchers {
      * @param date the reference date against which the examined date is checked
      */
     public static TemporalMatcher<ZonedDateTime> sameSecondOfMinute(final ZonedDateTime date) {
-        return new IsSecond<>(ZONEDDATETIME_AS_SECOND, second(date));
+        return new IsSecond<>(ZONEDDATETIME_SECOND_OF_MINUTE, second(date));
+    }
+
+    /**
+     * Holds the matchers returned by the parameterless factories, which are created on first use and then shared
+     */
+    private static final class Interned {
+
+        private static final TemporalMatcher<ZonedDateTime> WEEKDAY = InternedMatcher.of(isDayOfWeek(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY));
+        private static final TemporalMatcher<ZonedDateTime> WEEKEND = InternedMatcher.of(isDayOfWeek(SATURDAY, SUNDAY));
+        private static final TemporalMatcher<ZonedDateTime> FIRST_DAY_OF_MONTH = InternedMatcher.of(new IsFirstDayOfMonth<>(ZONEDDATETIME_AS_ZONEDDATETIME));
+        private static final TemporalMatcher<ZonedDateTime> LAST_DAY_OF_MONTH = InternedMatcher.of(new IsLastDayOfMonth<>(ZONEDDATETIME_AS_ZONEDDATETIME));
+        private static final TemporalMatcher<ZonedDateTime> LEAP_YEAR = InternedMatcher.of(new IsLeapYear<>(ZONEDDATETIME_AS_YEAR));
+        private static final Map<DayOfWeek, TemporalMatcher<ZonedDateTime>> DAYS_OF_WEEK = InternedMatcher.ofEach(DayOfWeek.class, ZonedDateTimeMatchers::isDayOfWeek);
+        private static final Map<Month, TemporalMatcher<ZonedDateTime>> MONTHS = InternedMatcher.ofEach(Month.class, ZonedDateTimeMatchers::isMonth);
     }
 }
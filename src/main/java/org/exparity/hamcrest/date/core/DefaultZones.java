@@ -0,0 +1,136 @@
+package org.exparity.hamcrest.date.core;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Resolves the time zone used by the matchers, converters and providers when no zone is given with
+ * {@link TemporalMatcher#atZone(ZoneId)}. The zone is, in order of precedence:
+ * <ol>
+ * <li>the zone set for the current thread with {@link #use(ZoneId)}, until its {@link Scope} is closed</li>
+ * <li>the zone returned by the resolver set with {@link #setResolver(Supplier)}</li>
+ * <li>the system default zone, which is read once and then kept until {@link #refresh()} is called</li>
+ * </ol>
+ * A matcher can therefore be created once and shared between threads which each match in their own zone, for example
+ * <pre>
+ * try (DefaultZones.Scope scope = DefaultZones.use(tenant.getZone())) {
+ *     assertThat(order.getCreated(), isWeekday());
+ * }
+ * </pre>
+ * The rules of each zone resolved are looked up once and cached with the offsets resolved from them.
+ */
+public final class DefaultZones {
+
+	private static final ThreadLocal<ZoneId> SCOPED = new ThreadLocal<>();
+	private static final Clock CLOCK = new DefaultZoneClock();
+	private static final Supplier<ZoneId> SYSTEM_DEFAULT = DefaultZones::systemDefault;
+
+	private static volatile Supplier<ZoneId> resolver = SYSTEM_DEFAULT;
+	private static volatile ZoneId systemDefault;
+
+	private DefaultZones() {}
+
+	/**
+	 * Return the zone to use when no zone is given
+	 */
+	public static ZoneId get() {
+		ZoneId scoped = SCOPED.get();
+		return scoped != null ? scoped : resolver.get();
+	}
+
+	/**
+	 * Return a clock of the system time in the zone to use when no zone is given, which is resolved each time the clock
+	 * is asked for its zone rather than when the clock is created
+	 */
+	public static Clock clock() {
+		return CLOCK;
+	}
+
+	/**
+	 * Use the zone as the default zone on the current thread until the scope returned is closed, at which point the
+	 * default zone the thread used before is restored
+	 * @param zone the zone to use
+	 * @return the scope to close when the zone is no longer to be used
+	 */
+	public static Scope use(ZoneId zone) {
+		Objects.requireNonNull(zone, "zone");
+		ZoneId previous = SCOPED.get();
+		SCOPED.set(zone);
+		return () -> {
+			if (previous != null) {
+				SCOPED.set(previous);
+			} else {
+				SCOPED.remove();
+			}
+		};
+	}
+
+	/**
+	 * Resolve the default zone of each thread without a scoped zone with the resolver, or with the system default if
+	 * the resolver is <code>null</code>. The resolver is called for every temporal matched without a zone so should
+	 * return a zone it has already looked up.
+	 */
+	public static void setResolver(Supplier<ZoneId> resolver) {
+		DefaultZones.resolver = resolver != null ? resolver : SYSTEM_DEFAULT;
+	}
+
+	/**
+	 * Read the system default zone again, after it has been changed with
+	 * {@link java.util.TimeZone#setDefault(java.util.TimeZone)}
+	 */
+	public static void refresh() {
+		systemDefault = null;
+	}
+
+	private static ZoneId systemDefault() {
+		ZoneId zone = systemDefault;
+		if (zone == null) {
+			systemDefault = zone = ZoneId.systemDefault();
+		}
+		return zone;
+	}
+
+	/**
+	 * The system clock in the zone from {@link DefaultZones#get()}
+	 */
+	private static final class DefaultZoneClock extends Clock {
+
+		@Override
+		public ZoneId getZone() {
+			return get();
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return Clock.system(zone);
+		}
+
+		@Override
+		public long millis() {
+			return System.currentTimeMillis();
+		}
+
+		@Override
+		public Instant instant() {
+			return Instant.ofEpochMilli(millis());
+		}
+
+		@Override
+		public String toString() {
+			return "DefaultZoneClock";
+		}
+	}
+
+	/**
+	 * A default zone in use on a thread, which is no longer used once closed
+	 */
+	@FunctionalInterface
+	public interface Scope extends AutoCloseable {
+
+		@Override
+		void close();
+	}
+}
@@ -0,0 +1,58 @@
+package org.exparity.hamcrest.date.core;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Locate a temporal on the time-line as an epoch second and nanosecond adjustment. Implementations read the fields of
+ * the temporal directly so comparisons can be made without creating intermediate temporal objects.
+ *
+ * @param <T> the temporal type
+ */
+public interface EpochConverter<T> {
+
+	/**
+	 * Test if a temporal can be placed on the time-line e.g. a {@link java.sql.Date} cannot as it has no time part
+	 * @param temporal the temporal to test
+	 * @return true if the temporal has an epoch second and nanosecond
+	 */
+	boolean isSupported(T temporal);
+
+	/**
+	 * Return the number of seconds from the epoch of 1970-01-01T00:00:00Z
+	 * @param temporal the temporal to convert
+	 * @return the epoch second
+	 */
+	long toEpochSecond(T temporal);
+
+	/**
+	 * Return the number of nanoseconds later along the time-line from the start of the epoch second
+	 * @param temporal the temporal to convert
+	 * @return the nanosecond adjustment, from 0 to 999,999,999
+	 */
+	int toNano(T temporal);
+
+	/**
+	 * Return the position of a temporal on the time-line as an {@link Instant}
+	 * @param temporal the temporal to convert
+	 * @return the temporal as an instant or empty if the temporal is not supported
+	 */
+	default Optional<Instant> toInstant(T temporal) {
+		if (isSupported(temporal)) {
+			return Optional.of(Instant.ofEpochSecond(toEpochSecond(temporal), toNano(temporal)));
+		} else {
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Compare the position of a temporal on the time-line with a reference instant
+	 * @param temporal the temporal to compare
+	 * @param reference the instant to compare against
+	 * @return negative if the temporal is earlier, positive if later, and zero if at the same instant
+	 */
+	default int compare(T temporal, Instant reference) {
+		int comparison = Long.compare(toEpochSecond(temporal), reference.getEpochSecond());
+		return comparison != 0 ? comparison : toNano(temporal) - reference.getNano();
+	}
+}
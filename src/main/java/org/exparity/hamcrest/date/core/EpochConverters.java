@@ -0,0 +1,174 @@
+package org.exparity.hamcrest.date.core;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Date;
+
+/**
+ * Static repository of {@link EpochConverter} instances for the temporal types which represent a point on the
+ * time-line, including counts of milliseconds, microseconds and nanoseconds from the epoch
+ */
+public final class EpochConverters {
+
+	private static final long MILLIS_PER_SECOND = 1000;
+	private static final int NANOS_PER_MILLISECOND = 1000000;
+
+	private EpochConverters() {}
+
+	public static final EpochConverter<Instant> INSTANT = new EpochConverter<Instant>() {
+
+		@Override
+		public boolean isSupported(Instant temporal) {
+			return true;
+		}
+
+		@Override
+		public long toEpochSecond(Instant temporal) {
+			return temporal.getEpochSecond();
+		}
+
+		@Override
+		public int toNano(Instant temporal) {
+			return temporal.getNano();
+		}
+	};
+
+	public static final EpochConverter<Date> JAVADATE = new EpochConverter<Date>() {
+
+		@Override
+		public boolean isSupported(Date temporal) {
+			return !(temporal instanceof java.sql.Date);
+		}
+
+		@Override
+		public long toEpochSecond(Date temporal) {
+			return Math.floorDiv(temporal.getTime(), MILLIS_PER_SECOND);
+		}
+
+		@Override
+		public int toNano(Date temporal) {
+			return (int) Math.floorMod(temporal.getTime(), MILLIS_PER_SECOND) * NANOS_PER_MILLISECOND;
+		}
+	};
+
+	/**
+	 * {@link EpochConverter} for a {@link Date} known not to be a {@link java.sql.Date}, such as the values matched by
+	 * the variant of a matcher which a {@link SpecializedMatcher} uses for plain dates
+	 */
+	public static final EpochConverter<Date> UTILDATE = new EpochConverter<Date>() {
+
+		@Override
+		public boolean isSupported(Date temporal) {
+			return true;
+		}
+
+		@Override
+		public long toEpochSecond(Date temporal) {
+			return Math.floorDiv(temporal.getTime(), MILLIS_PER_SECOND);
+		}
+
+		@Override
+		public int toNano(Date temporal) {
+			return (int) Math.floorMod(temporal.getTime(), MILLIS_PER_SECOND) * NANOS_PER_MILLISECOND;
+		}
+	};
+
+	public static final EpochConverter<ZonedDateTime> ZONEDDATETIME = new EpochConverter<ZonedDateTime>() {
+
+		@Override
+		public boolean isSupported(ZonedDateTime temporal) {
+			return true;
+		}
+
+		@Override
+		public long toEpochSecond(ZonedDateTime temporal) {
+			return temporal.toEpochSecond();
+		}
+
+		@Override
+		public int toNano(ZonedDateTime temporal) {
+			return temporal.getNano();
+		}
+	};
+
+	public static final EpochConverter<OffsetDateTime> OFFSETDATETIME = new EpochConverter<OffsetDateTime>() {
+
+		@Override
+		public boolean isSupported(OffsetDateTime temporal) {
+			return true;
+		}
+
+		@Override
+		public long toEpochSecond(OffsetDateTime temporal) {
+			return temporal.toEpochSecond();
+		}
+
+		@Override
+		public int toNano(OffsetDateTime temporal) {
+			return temporal.getNano();
+		}
+	};
+
+	/**
+	 * {@link LocalEpochConverter} for an {@link OffsetDateTime} read at the offset of the zone for its local date-time,
+	 * as by {@link TemporalConverters#OFFSETDATETIME_AS_OFFSETDATETIME}, or at its own offset when no zone is given
+	 */
+	public static final LocalEpochConverter<OffsetDateTime> OFFSETDATETIME_LOCAL = (date, zone) -> date.toEpochSecond()
+			+ (zone.isPresent() ? ZoneOffsetWindows.localOffset(date.toLocalDateTime(), zone.get()) : date.getOffset()).getTotalSeconds();
+
+	/**
+	 * {@link EpochConverter} for ISO-8601 text with a zone offset e.g. <code>2015-08-04T12:00:00.250+01:00</code>, read
+	 * by {@link IsoTimestamps} without parsing the text to a temporal
+	 */
+	public static final EpochConverter<CharSequence> ISO_TEXT = new EpochConverter<CharSequence>() {
+
+		@Override
+		public boolean isSupported(CharSequence temporal) {
+			return IsoTimestamps.isInstant(temporal);
+		}
+
+		@Override
+		public long toEpochSecond(CharSequence temporal) {
+			return IsoTimestamps.toEpochSecond(temporal);
+		}
+
+		@Override
+		public int toNano(CharSequence temporal) {
+			return IsoTimestamps.toNano(temporal);
+		}
+	};
+
+	public static final EpochConverter<Long> EPOCH_MILLIS = new EpochUnitConverter(1000L, 1000000);
+	public static final EpochConverter<Long> EPOCH_MICROS = new EpochUnitConverter(1000000L, 1000);
+	public static final EpochConverter<Long> EPOCH_NANOS = new EpochUnitConverter(1000000000L, 1);
+
+	/**
+	 * {@link EpochConverter} for a count of units from the epoch held in a {@link Long}
+	 */
+	private static final class EpochUnitConverter implements EpochConverter<Long> {
+
+		private final long unitsPerSecond;
+		private final int nanosPerUnit;
+
+		private EpochUnitConverter(long unitsPerSecond, int nanosPerUnit) {
+			this.unitsPerSecond = unitsPerSecond;
+			this.nanosPerUnit = nanosPerUnit;
+		}
+
+		@Override
+		public boolean isSupported(Long temporal) {
+			return true;
+		}
+
+		@Override
+		public long toEpochSecond(Long temporal) {
+			return Math.floorDiv(temporal, unitsPerSecond);
+		}
+
+		@Override
+		public int toNano(Long temporal) {
+			return (int) Math.floorMod(temporal, unitsPerSecond) * nanosPerUnit;
+		}
+	}
+}
@@ -0,0 +1,198 @@
+package org.exparity.hamcrest.date.core;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.time.ZoneId;
+import java.util.Optional;
+
+import org.exparity.hamcrest.date.core.types.DayOfMonth;
+import org.exparity.hamcrest.date.core.types.Hour;
+import org.exparity.hamcrest.date.core.types.Millisecond;
+import org.exparity.hamcrest.date.core.types.Minute;
+import org.exparity.hamcrest.date.core.types.Second;
+
+/**
+ * Static factory for {@link TemporalConverter} and {@link TemporalFieldConverter} instances which compute calendar
+ * fields arithmetically from the seconds from the epoch given by an {@link EpochConverter}, without creating an
+ * intermediate {@link java.time.ZonedDateTime}. The offset of the time zone is resolved from its cached transitions
+ * and the time zone defaults to the zone from {@link DefaultZones} when none is given. Source types which resolve
+ * their local date-time in another way supply it with a {@link LocalEpochConverter} and share the same arithmetic.
+ */
+public final class EpochFields {
+
+	private static final int SECONDS_PER_MINUTE = 60;
+	private static final int SECONDS_PER_HOUR = 3600;
+	private static final long SECONDS_PER_DAY = 86400;
+	private static final int NANOS_PER_MILLISECOND = 1000000;
+	private static final long DAYS_0000_TO_1970 = 719468;
+	private static final long DAYS_PER_ERA = 146097;
+
+	private EpochFields() {}
+
+	/**
+	 * Locate the local date-time of a temporal in the time zone given, or the default zone, from its epoch second
+	 */
+	public static <T> LocalEpochConverter<T> atZone(EpochConverter<T> epochs) {
+		return (date, zone) -> {
+			long epochSecond = epochs.toEpochSecond(date);
+			return epochSecond + ZoneOffsetWindows.offsetSeconds(epochSecond, zone.isPresent() ? zone.get() : DefaultZones.get());
+		};
+	}
+
+	public static <T> TemporalConverter<T, LocalDate> asLocalDate(EpochConverter<T> epochs) {
+		return asLocalDate(atZone(epochs));
+	}
+
+	public static <T> TemporalConverter<T, Year> asYear(EpochConverter<T> epochs) {
+		return asYear(atZone(epochs));
+	}
+
+	public static <T> TemporalConverter<T, Month> asMonth(EpochConverter<T> epochs) {
+		return asMonth(atZone(epochs));
+	}
+
+	public static <T> TemporalConverter<T, DayOfMonth> asDayOfMonth(EpochConverter<T> epochs) {
+		return asDayOfMonth(atZone(epochs));
+	}
+
+	public static <T> TemporalConverter<T, DayOfWeek> asDayOfWeek(EpochConverter<T> epochs) {
+		return asDayOfWeek(atZone(epochs));
+	}
+
+	public static <T> TemporalConverter<T, Hour> asHour(EpochConverter<T> epochs) {
+		return asHour(atZone(epochs));
+	}
+
+	public static <T> TemporalConverter<T, Minute> asMinute(EpochConverter<T> epochs) {
+		return asMinute(atZone(epochs));
+	}
+
+	public static <T> TemporalConverter<T, Second> asSecond(EpochConverter<T> epochs) {
+		return asSecond(atZone(epochs));
+	}
+
+	public static <T> TemporalConverter<T, Millisecond> asMillisecond(EpochConverter<T> epochs) {
+		TemporalFieldConverter<T> field = milliOfSecond(epochs);
+		return (date, zone) -> Millisecond.of(field.applyAsInt(date, zone));
+	}
+
+	public static <T> TemporalFieldConverter<T> dayOfMonth(EpochConverter<T> epochs) {
+		return dayOfMonth(atZone(epochs));
+	}
+
+	public static <T> TemporalFieldConverter<T> hourOfDay(EpochConverter<T> epochs) {
+		return hourOfDay(atZone(epochs));
+	}
+
+	public static <T> TemporalFieldConverter<T> minuteOfHour(EpochConverter<T> epochs) {
+		return minuteOfHour(atZone(epochs));
+	}
+
+	public static <T> TemporalFieldConverter<T> secondOfMinute(EpochConverter<T> epochs) {
+		return secondOfMinute(atZone(epochs));
+	}
+
+	public static <T> TemporalFieldConverter<T> milliOfSecond(EpochConverter<T> epochs) {
+		return (date, zone) -> epochs.toNano(date) / NANOS_PER_MILLISECOND;
+	}
+
+	public static <T> TemporalConverter<T, LocalDate> asLocalDate(LocalEpochConverter<T> local) {
+		return (date, zone) -> LocalDate.ofEpochDay(epochDay(local, date, zone));
+	}
+
+	public static <T> TemporalConverter<T, Year> asYear(LocalEpochConverter<T> local) {
+		return (date, zone) -> Year.of((int) yearOf(epochDay(local, date, zone)));
+	}
+
+	public static <T> TemporalConverter<T, Month> asMonth(LocalEpochConverter<T> local) {
+		return (date, zone) -> Month.of(monthOf(epochDay(local, date, zone)));
+	}
+
+	public static <T> TemporalConverter<T, DayOfMonth> asDayOfMonth(LocalEpochConverter<T> local) {
+		TemporalFieldConverter<T> field = dayOfMonth(local);
+		return (date, zone) -> DayOfMonth.of(field.applyAsInt(date, zone));
+	}
+
+	public static <T> TemporalConverter<T, DayOfWeek> asDayOfWeek(LocalEpochConverter<T> local) {
+		return (date, zone) -> DayOfWeek.of((int) Math.floorMod(epochDay(local, date, zone) + 3, 7L) + 1);
+	}
+
+	public static <T> TemporalConverter<T, Hour> asHour(LocalEpochConverter<T> local) {
+		TemporalFieldConverter<T> field = hourOfDay(local);
+		return (date, zone) -> Hour.of(field.applyAsInt(date, zone));
+	}
+
+	public static <T> TemporalConverter<T, Minute> asMinute(LocalEpochConverter<T> local) {
+		TemporalFieldConverter<T> field = minuteOfHour(local);
+		return (date, zone) -> Minute.of(field.applyAsInt(date, zone));
+	}
+
+	public static <T> TemporalConverter<T, Second> asSecond(LocalEpochConverter<T> local) {
+		TemporalFieldConverter<T> field = secondOfMinute(local);
+		return (date, zone) -> Second.of(field.applyAsInt(date, zone));
+	}
+
+	public static <T> TemporalFieldConverter<T> dayOfMonth(LocalEpochConverter<T> local) {
+		return (date, zone) -> dayOfMonthOf(epochDay(local, date, zone));
+	}
+
+	public static <T> TemporalFieldConverter<T> hourOfDay(LocalEpochConverter<T> local) {
+		return (date, zone) -> secondOfDay(local, date, zone) / SECONDS_PER_HOUR;
+	}
+
+	public static <T> TemporalFieldConverter<T> minuteOfHour(LocalEpochConverter<T> local) {
+		return (date, zone) -> secondOfDay(local, date, zone) / SECONDS_PER_MINUTE % 60;
+	}
+
+	public static <T> TemporalFieldConverter<T> secondOfMinute(LocalEpochConverter<T> local) {
+		return (date, zone) -> secondOfDay(local, date, zone) % SECONDS_PER_MINUTE;
+	}
+
+	private static <T> long epochDay(LocalEpochConverter<T> local, T date, Optional<ZoneId> zone) {
+		return Math.floorDiv(local.toLocalEpochSecond(date, zone), SECONDS_PER_DAY);
+	}
+
+	private static <T> int secondOfDay(LocalEpochConverter<T> local, T date, Optional<ZoneId> zone) {
+		return (int) Math.floorMod(local.toLocalEpochSecond(date, zone), SECONDS_PER_DAY);
+	}
+
+	// The civil calendar fields are derived from the day of a 400 year era starting on the 1st March of year 0
+
+	private static long yearOf(long epochDay) {
+		long dayOfEra = dayOfEra(epochDay), yearOfEra = yearOfEra(dayOfEra);
+		return yearOfEra + era(epochDay) * 400 + (marchMonthOf(dayOfEra, yearOfEra) >= 10 ? 1 : 0);
+	}
+
+	private static int monthOf(long epochDay) {
+		long dayOfEra = dayOfEra(epochDay), marchMonth = marchMonthOf(dayOfEra, yearOfEra(dayOfEra));
+		return (int) (marchMonth < 10 ? marchMonth + 3 : marchMonth - 9);
+	}
+
+	private static int dayOfMonthOf(long epochDay) {
+		long dayOfEra = dayOfEra(epochDay), yearOfEra = yearOfEra(dayOfEra);
+		long dayOfYear = dayOfYear(dayOfEra, yearOfEra);
+		return (int) (dayOfYear - (153 * marchMonthOf(dayOfEra, yearOfEra) + 2) / 5 + 1);
+	}
+
+	private static long era(long epochDay) {
+		return Math.floorDiv(epochDay + DAYS_0000_TO_1970, DAYS_PER_ERA);
+	}
+
+	private static long dayOfEra(long epochDay) {
+		return Math.floorMod(epochDay + DAYS_0000_TO_1970, DAYS_PER_ERA);
+	}
+
+	private static long yearOfEra(long dayOfEra) {
+		return (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+	}
+
+	private static long dayOfYear(long dayOfEra, long yearOfEra) {
+		return dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+	}
+
+	private static long marchMonthOf(long dayOfEra, long yearOfEra) {
+		return (5 * dayOfYear(dayOfEra, yearOfEra) + 2) / 153;
+	}
+}
@@ -0,0 +1,50 @@
+package org.exparity.hamcrest.date.core;
+
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A {@link TemporalProvider} of a value which is the same in every zone, such as an instant on the time-line. The value
+ * is resolved on first use and returned for every zone thereafter, without looking up the zone from
+ * {@link DefaultZones}.
+ */
+final class FixedTemporalProvider<S> implements TemporalProvider<S> {
+
+	/**
+	 * Return a provider of a value derived from the value of another provider for the zone. The derived value is fixed
+	 * when the provider is fixed, and otherwise is resolved for the zone as by {@link TemporalProvider#resolvedAt(Optional)}.
+	 */
+	static <S, R> TemporalProvider<R> derived(TemporalProvider<S> provider,
+	        Function<? super S, ? extends R> function,
+	        Optional<ZoneId> zone) {
+		if (provider instanceof FixedTemporalProvider) {
+			return new FixedTemporalProvider<>(() -> function.apply(provider.apply(zone)));
+		}
+		TemporalProvider<R> derived = at -> function.apply(provider.apply(at));
+		return derived.resolvedAt(zone);
+	}
+
+	private final Supplier<? extends S> factory;
+	private volatile boolean resolved;
+	private S value;
+
+	FixedTemporalProvider(Supplier<? extends S> factory) {
+		this.factory = factory;
+	}
+
+	@Override
+	public S apply(final Optional<ZoneId> zone) {
+		if (!resolved) {
+			value = factory.get();
+			resolved = true;
+		}
+		return value;
+	}
+
+	@Override
+	public TemporalProvider<S> resolvedAt(final Optional<ZoneId> zone) {
+		return this;
+	}
+}
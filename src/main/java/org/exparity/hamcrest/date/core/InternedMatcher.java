@@ -0,0 +1,111 @@
+package org.exparity.hamcrest.date.core;
+
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import org.hamcrest.Description;
+
+/**
+ * A matcher which is created once and returned by every call to a parameterless factory such as
+ * <code>isWeekday()</code>. The copy of the matcher for each zone is created on the first call to
+ * {@link #atZone(ZoneId)} for the zone and returned by every later call, so a matcher used at the same zone in a loop
+ * is not created again for each iteration. The copy for each {@link Locale} is interned in the same way. At most
+ * {@value #MAXIMUM_ZONES} zones and {@value #MAXIMUM_LOCALES} locales are kept; copies for further zones and locales
+ * are created on each call rather than kept.
+ */
+public final class InternedMatcher<T> extends TemporalMatcher<T> {
+
+	private static final int MAXIMUM_ZONES = 64;
+	private static final int MAXIMUM_LOCALES = 32;
+
+	/**
+	 * Intern a matcher
+	 */
+	public static <T> TemporalMatcher<T> of(TemporalMatcher<T> matcher) {
+		return new InternedMatcher<>(matcher);
+	}
+
+	/**
+	 * Intern a matcher for each constant of an enum e.g. for each {@link java.time.DayOfWeek}
+	 */
+	public static <E extends Enum<E>, T> Map<E, TemporalMatcher<T>> ofEach(Class<E> type,
+	        Function<E, TemporalMatcher<T>> factory) {
+		Map<E, TemporalMatcher<T>> matchers = new EnumMap<>(type);
+		for (E constant : type.getEnumConstants()) {
+			matchers.put(constant, of(factory.apply(constant)));
+		}
+		return matchers;
+	}
+
+	private final TemporalMatcher<T> matcher;
+	private final ConcurrentMap<ZoneId, TemporalMatcher<T>> zones = new ConcurrentHashMap<>();
+	private final ConcurrentMap<Locale, TemporalMatcher<T>> locales = new ConcurrentHashMap<>();
+
+	private InternedMatcher(TemporalMatcher<T> matcher) {
+		this.matcher = matcher;
+	}
+
+	@Override
+	protected boolean matchesSafely(final T actual) {
+		return matcher.matchesSafely(actual);
+	}
+
+	@Override
+	protected void describeMismatchSafely(final T actual, final Description mismatchDescription) {
+		matcher.describeMismatchSafely(actual, mismatchDescription);
+	}
+
+	@Override
+	public void describeTo(final Description description) {
+		matcher.describeTo(description);
+	}
+
+	@Override
+	public TemporalMatcher<T> atZone(ZoneId zone) {
+		return interned(zones, zone, matcher::atZone, MAXIMUM_ZONES);
+	}
+
+	@Override
+	public TemporalMatcher<T> atLocale(Locale locale) {
+		return interned(locales, locale, l -> of(matcher.atLocale(l)), MAXIMUM_LOCALES);
+	}
+
+	@Override
+	TemporalMatcher<T> failure(final T actual) {
+		return matcher.failure(actual);
+	}
+
+	@Override
+	TemporalMatcher<T> fuse(SharedConversions conversions) {
+		return matcher.fuse(conversions);
+	}
+
+	@Override
+	int cost() {
+		return matcher.cost();
+	}
+
+	int size() {
+		return zones.size();
+	}
+
+	private static <K, T> TemporalMatcher<T> interned(ConcurrentMap<K, TemporalMatcher<T>> matchers, K key,
+	        Function<K, TemporalMatcher<T>> factory, int maximum) {
+		TemporalMatcher<T> matcher = matchers.get(key);
+		if (matcher == null) {
+			matcher = factory.apply(key);
+			if (matchers.size() < maximum) {
+				TemporalMatcher<T> existing = matchers.putIfAbsent(key, matcher);
+				if (existing != null) {
+					matcher = existing;
+				}
+			}
+		}
+		return matcher;
+	}
+}
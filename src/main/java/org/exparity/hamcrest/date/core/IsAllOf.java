@@ -0,0 +1,111 @@
+package org.exparity.hamcrest.date.core;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+import org.hamcrest.Description;
+
+/**
+ * A matcher that tests that the examined date matches all of a set of temporal matchers. The matchers are evaluated in
+ * order of their cost and share the conversions of the examined date which they have in common within each match.
+ */
+public class IsAllOf<T> extends TemporalMatcher<T> {
+
+	private final List<TemporalMatcher<T>> declared;
+	private final List<TemporalMatcher<T>> matchers;
+	private final List<TemporalMatcher<T>> evaluationOrder;
+	private final SharedConversions conversions = new SharedConversions();
+
+	public IsAllOf(List<TemporalMatcher<T>> matchers) {
+		this.declared = new ArrayList<>(matchers);
+		this.matchers = new ArrayList<>(matchers.size());
+		for (TemporalMatcher<T> matcher : matchers) {
+			this.matchers.add(matcher.fuse(conversions));
+		}
+		this.evaluationOrder = new ArrayList<>(this.matchers);
+		Collections.sort(this.evaluationOrder, Comparator.comparingInt(TemporalMatcher::cost));
+	}
+
+	@Override
+	protected boolean matchesSafely(final T actual) {
+		conversions.open();
+		try {
+			for (TemporalMatcher<T> matcher : evaluationOrder) {
+				if (!matcher.matchesSafely(actual)) {
+					return false;
+				}
+			}
+			return true;
+		} finally {
+			conversions.close();
+		}
+	}
+
+	@Override
+	TemporalMatcher<T> failure(final T actual) {
+		conversions.open();
+		try {
+			for (TemporalMatcher<T> matcher : evaluationOrder) {
+				TemporalMatcher<T> failure = matcher.failure(actual);
+				if (failure != null) {
+					return failure;
+				}
+			}
+			return null;
+		} finally {
+			conversions.close();
+		}
+	}
+
+	@Override
+	protected void describeMismatchSafely(final T actual, final Description mismatchDescription) {
+		conversions.open();
+		try {
+			for (TemporalMatcher<T> matcher : matchers) {
+				if (!matcher.matchesSafely(actual)) {
+					mismatchDescription.appendDescriptionOf(matcher).appendText(" ");
+					matcher.describeMismatchSafely(actual, mismatchDescription);
+					return;
+				}
+			}
+		} finally {
+			conversions.close();
+		}
+	}
+
+	@Override
+	public void describeTo(final Description description) {
+		description.appendList("(", " and ", ")", matchers);
+	}
+
+	@Override
+	public TemporalMatcher<T> atZone(ZoneId zone) {
+		List<TemporalMatcher<T>> zoned = new ArrayList<>(declared.size());
+		for (TemporalMatcher<T> matcher : declared) {
+			zoned.add(matcher.atZone(zone));
+		}
+		return new IsAllOf<>(zoned);
+	}
+
+	@Override
+	public TemporalMatcher<T> atLocale(Locale locale) {
+		List<TemporalMatcher<T>> localised = new ArrayList<>(declared.size());
+		for (TemporalMatcher<T> matcher : declared) {
+			localised.add(matcher.atLocale(locale));
+		}
+		return new IsAllOf<>(localised);
+	}
+
+	@Override
+	int cost() {
+		int cost = 0;
+		for (TemporalMatcher<T> matcher : matchers) {
+			cost = Math.max(cost, matcher.cost());
+		}
+		return cost;
+	}
+}
@@ -0,0 +1,123 @@
+package org.exparity.hamcrest.date.core;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.hamcrest.Description;
+
+/**
+ * A matcher that tests that the examined date is on a day relative to the current day of a {@link Clock}, e.g.
+ * today, yesterday or tomorrow. The current day is resolved when the matcher is used rather than when it is created,
+ * in the zone of the matcher or else the zone of the clock at that time, and the bounds of the day are kept until the
+ * clock passes midnight or the zone changes, so temporals which are a point on the time-line are tested with two
+ * comparisons.
+ */
+public class IsDay<T> extends TemporalMatcher<T> {
+
+	private final TemporalConverter<T, LocalDate> converter;
+	private final Optional<EpochConverter<T>> epochs;
+	private final Clock clock;
+	private final long days;
+	private final Locale locale;
+	private final Optional<ZoneId> zone;
+	private volatile Day day;
+
+	public IsDay(TemporalConverter<T, LocalDate> converter,
+	        Optional<EpochConverter<T>> epochs,
+	        Clock clock,
+	        long days,
+	        Optional<ZoneId> zone,
+	        Locale locale) {
+		this.converter = converter;
+		this.epochs = epochs;
+		this.clock = clock;
+		this.days = days;
+		this.locale = locale;
+		this.zone = zone;
+	}
+
+	public IsDay(TemporalConverter<T, LocalDate> converter, Clock clock, long days) {
+		this(converter, Optional.empty(), clock, days, Optional.empty(), Locale.getDefault(Locale.Category.FORMAT));
+	}
+
+	public IsDay(TemporalConverter<T, LocalDate> converter, EpochConverter<T> epochs, Clock clock, long days) {
+		this(converter, Optional.of(epochs), clock, days, Optional.empty(), Locale.getDefault(Locale.Category.FORMAT));
+	}
+
+	@Override
+	protected boolean matchesSafely(final T actual) {
+		Day expected = day();
+		if (epochs.isPresent() && epochs.get().isSupported(actual)) {
+			long epochSecond = epochs.get().toEpochSecond(actual);
+			return epochSecond >= expected.from && epochSecond < expected.to;
+		}
+		return expected.date.isEqual(converter.apply(actual, zone));
+	}
+
+	@Override
+	protected void describeMismatchSafely(final T actual, final Description mismatchDescription) {
+		mismatchDescription.appendText("the day is " + describe(localDate(actual)));
+	}
+
+	@Override
+	public void describeTo(final Description description) {
+		description.appendText("the same day as " + describe(day().date));
+	}
+
+	@Override
+	public TemporalMatcher<T> atZone(ZoneId zone) {
+		return new IsDay<>(converter, epochs, clock, days, Optional.of(zone), locale);
+	}
+
+	@Override
+	public TemporalMatcher<T> atLocale(Locale locale) {
+		return new IsDay<>(converter, epochs, clock, days, zone, locale);
+	}
+
+	private Day day() {
+		long now = clock.millis();
+		ZoneId dayZone = zone.isPresent() ? zone.get() : clock.getZone();
+		Day current = day;
+		if (current == null || now < current.todayFrom || now >= current.todayTo || !current.zone.equals(dayZone)) {
+			day = current = new Day(now, dayZone, days);
+		}
+		return current;
+	}
+
+	private LocalDate localDate(T actual) {
+		if (epochs.isPresent() && epochs.get().isSupported(actual)) {
+			return converter.apply(actual, Optional.of(zone.isPresent() ? zone.get() : clock.getZone()));
+		}
+		return converter.apply(actual, zone);
+	}
+
+	private String describe(LocalDate date) {
+		return TemporalFunctions.LocalDates.LOCALDATE.describe(date, locale);
+	}
+
+	/**
+	 * The expected day and its bounds in seconds from the epoch, resolved for the current day of the clock which is
+	 * bounded in milliseconds from the epoch
+	 */
+	private static final class Day {
+
+		private final long todayFrom, todayTo;
+		private final ZoneId zone;
+		private final LocalDate date;
+		private final long from, to;
+
+		private Day(long now, ZoneId zone, long days) {
+			LocalDate today = Instant.ofEpochMilli(now).atZone(zone).toLocalDate();
+			this.todayFrom = today.atStartOfDay(zone).toInstant().toEpochMilli();
+			this.todayTo = today.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+			this.zone = zone;
+			this.date = today.plusDays(days);
+			this.from = date.atStartOfDay(zone).toEpochSecond();
+			this.to = date.plusDays(1).atStartOfDay(zone).toEpochSecond();
+		}
+	}
+}
@@ -27,7 +27,7 @@ public class IsDayOfWeek<T> extends TemporalMatcher<T> {
 	        TemporalProvider<List<DayOfWeek>> expected,
 	        Optional<ZoneId> zone,
 	        Locale locale) {
-		this.expected = expected;
+		this.expected = expected.resolvedAt(zone);
 		this.converter = converter;
 		this.locale = locale;
 		this.zone = zone;
@@ -38,15 +38,13 @@ public class IsDayOfWeek<T> extends TemporalMatcher<T> {
 	}
 
 	@Override
-	protected boolean matchesSafely(final T actual, final Description mismatchDescription) {
-		List<DayOfWeek> expectedValues = expected.apply(zone);
-		DayOfWeek actualValue = converter.apply(actual, zone);
-		if (!expectedValues.contains(actualValue)) {
-			mismatchDescription.appendText("the date is on a " + describe(actualValue));
-			return false;
-		} else {
-			return true;
-		}
+	protected boolean matchesSafely(final T actual) {
+		return expected.apply(zone).contains(converter.apply(actual, zone));
+	}
+
+	@Override
+	protected void describeMismatchSafely(final T actual, final Description mismatchDescription) {
+		mismatchDescription.appendText("the date is on a " + describe(converter.apply(actual, zone)));
 	}
 
 	@Override
@@ -73,6 +71,16 @@ public class IsDayOfWeek<T> extends TemporalMatcher<T> {
         return new IsDayOfWeek<>(converter, expected, zone, locale);
     }
 
+    @Override
+    TemporalMatcher<T> fuse(SharedConversions conversions) {
+        return new IsDayOfWeek<>(conversions.share(converter), expected, zone, locale);
+    }
+
+    @Override
+    int cost() {
+        return 3;
+    }
+
 	private String describe(DayOfWeek actualValue) {
 		return actualValue.getDisplayName(TextStyle.FULL, locale);
 	}
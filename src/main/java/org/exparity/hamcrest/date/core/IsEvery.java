@@ -0,0 +1,219 @@
+package org.exparity.hamcrest.date.core;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.RandomAccess;
+
+import org.exparity.hamcrest.date.core.types.EpochRange;
+import org.hamcrest.Description;
+
+/**
+ * A matcher that tests that every instant in the examined {@link Collection}, array or <code>long[]</code> of epoch
+ * milliseconds matches the element matcher. The reference range is resolved once per examined batch and each element
+ * is tested against it without conversion, so a large batch is checked in a single loop. A mismatch reports how many
+ * elements failed and describes the first of them using the element matcher.
+ *
+ * @param <C> the examined type, a {@link Collection} of {@link Instant}, an {@link Instant} array or a
+ *            <code>long[]</code> of epoch milliseconds
+ */
+public class IsEvery<C> extends TemporalMatcher<C> {
+
+	private static final int DEFAULT_REPORTED = 10;
+
+	private final TemporalMatcher<Instant> matcher;
+	private final TemporalProvider<EpochRange> range;
+	private final int reported;
+	private final Optional<ZoneId> zone;
+
+	public IsEvery(TemporalMatcher<Instant> matcher,
+	        TemporalProvider<EpochRange> range,
+	        int reported,
+	        Optional<ZoneId> zone) {
+		if (reported < 1) {
+			throw new IllegalArgumentException("At least one offending element must be reported");
+		}
+		this.matcher = matcher;
+		this.range = range.resolvedAt(zone);
+		this.reported = reported;
+		this.zone = zone;
+	}
+
+	public IsEvery(TemporalMatcher<Instant> matcher, TemporalProvider<EpochRange> range) {
+		this(matcher, range, DEFAULT_REPORTED, Optional.empty());
+	}
+
+	@Override
+	protected boolean matchesSafely(final C actual) {
+		Elements elements = elementsOf(actual);
+		if (elements == null) {
+			return false;
+		}
+		EpochRange expected = range.apply(zone);
+		for (int i = 0, size = elements.size(); i < size; ++i) {
+			if (!elements.isIn(i, expected)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	protected void describeMismatchSafely(final C actual, final Description mismatchDescription) {
+		Elements elements = elementsOf(actual);
+		if (elements == null) {
+			mismatchDescription.appendText("was a " + actual.getClass().getName()
+			        + " not a collection or array of instants or epoch milliseconds");
+			return;
+		}
+		EpochRange expected = range.apply(zone);
+		int size = elements.size(), failures = 0;
+		int[] offending = new int[Math.min(reported, size)];
+		for (int i = 0; i < size; ++i) {
+			if (!elements.isIn(i, expected)) {
+				if (failures < offending.length) {
+					offending[failures] = i;
+				}
+				++failures;
+			}
+		}
+		mismatchDescription.appendText(failures + " of " + size + " dates did not match");
+		for (int i = 0; i < Math.min(failures, offending.length); ++i) {
+			Object element = elements.get(offending[i]);
+			mismatchDescription.appendText(", item " + offending[i] + ": ");
+			if (element instanceof Instant) {
+				matcher.describeMismatch(element, mismatchDescription);
+			} else {
+				mismatchDescription.appendText("was ").appendValue(element);
+			}
+		}
+		if (failures > offending.length) {
+			mismatchDescription.appendText(" and " + (failures - offending.length) + " more");
+		}
+	}
+
+	@Override
+	public void describeTo(final Description description) {
+		description.appendText("every item matches ").appendDescriptionOf(matcher);
+	}
+
+	@Override
+	public TemporalMatcher<C> atZone(ZoneId zone) {
+		return new IsEvery<>(matcher.atZone(zone), range, reported, Optional.of(zone));
+	}
+
+	@Override
+	public TemporalMatcher<C> atLocale(Locale locale) {
+		return new IsEvery<>(matcher.atLocale(locale), range, reported, zone);
+	}
+
+	/**
+	 * Creates a copy of this matcher which describes up to the given number of offending elements on a mismatch
+	 *
+	 * @param reported the number of offending elements to describe
+	 * @return a copy of this matcher reporting the given number of offending elements
+	 */
+	public IsEvery<C> reporting(int reported) {
+		return new IsEvery<>(matcher, range, reported, zone);
+	}
+
+	private static Elements elementsOf(Object actual) {
+		if (actual instanceof long[]) {
+			return new EpochMilliElements((long[]) actual);
+		} else if (actual instanceof Object[]) {
+			return new ArrayElements((Object[]) actual);
+		} else if (actual instanceof List && actual instanceof RandomAccess) {
+			return new ListElements((List<?>) actual);
+		} else if (actual instanceof Collection) {
+			return new ListElements(new ArrayList<>((Collection<?>) actual));
+		}
+		return null;
+	}
+
+	private interface Elements {
+
+		int size();
+
+		boolean isIn(int index, EpochRange range);
+
+		Object get(int index);
+	}
+
+	private static final class EpochMilliElements implements Elements {
+
+		private final long[] elements;
+
+		private EpochMilliElements(long[] elements) {
+			this.elements = elements;
+		}
+
+		@Override
+		public int size() {
+			return elements.length;
+		}
+
+		@Override
+		public boolean isIn(int index, EpochRange range) {
+			return range.containsEpochMilli(elements[index]);
+		}
+
+		@Override
+		public Object get(int index) {
+			return Instant.ofEpochMilli(elements[index]);
+		}
+	}
+
+	private static final class ArrayElements implements Elements {
+
+		private final Object[] elements;
+
+		private ArrayElements(Object[] elements) {
+			this.elements = elements;
+		}
+
+		@Override
+		public int size() {
+			return elements.length;
+		}
+
+		@Override
+		public boolean isIn(int index, EpochRange range) {
+			Object element = elements[index];
+			return element instanceof Instant && range.contains((Instant) element);
+		}
+
+		@Override
+		public Object get(int index) {
+			return elements[index];
+		}
+	}
+
+	private static final class ListElements implements Elements {
+
+		private final List<?> elements;
+
+		private ListElements(List<?> elements) {
+			this.elements = elements;
+		}
+
+		@Override
+		public int size() {
+			return elements.size();
+		}
+
+		@Override
+		public boolean isIn(int index, EpochRange range) {
+			Object element = elements.get(index);
+			return element instanceof Instant && range.contains((Instant) element);
+		}
+
+		@Override
+		public Object get(int index) {
+			return elements.get(index);
+		}
+	}
+}
@@ -31,16 +31,15 @@ public class IsFirstDayOfMonth<T> extends TemporalMatcher<T> {
 	}
 
 	@Override
-	protected boolean matchesSafely(final T actual, final Description mismatchDesc) {
+	protected boolean matchesSafely(final T actual) {
 		TemporalAccessor actualTemporal = converter.apply(actual, zone);
 		ValueRange actualRange = ChronoField.DAY_OF_MONTH.rangeRefinedBy(actualTemporal);
-		long actualValue = ChronoField.DAY_OF_MONTH.getFrom(actualTemporal), expectedValue = actualRange.getMinimum();
-		if (expectedValue != actualValue) {
-			mismatchDesc.appendText("date is the " + actualValue + " day of the month");
-			return false;
-		} else {
-			return true;
-		}
+		return ChronoField.DAY_OF_MONTH.getFrom(actualTemporal) == actualRange.getMinimum();
+	}
+
+	@Override
+	protected void describeMismatchSafely(final T actual, final Description mismatchDesc) {
+		mismatchDesc.appendText("date is the " + ChronoField.DAY_OF_MONTH.getFrom(converter.apply(actual, zone)) + " day of the month");
 	}
 
 	@Override
@@ -57,4 +56,14 @@ public class IsFirstDayOfMonth<T> extends TemporalMatcher<T> {
     public TemporalMatcher<T> atLocale(Locale locale) {
         return new IsFirstDayOfMonth<>(converter, zone, locale);
     }
+
+    @Override
+    TemporalMatcher<T> fuse(SharedConversions conversions) {
+        return new IsFirstDayOfMonth<>(conversions.share(converter), zone, locale);
+    }
+
+    @Override
+    int cost() {
+        return 5;
+    }
 }
\ No newline at end of file
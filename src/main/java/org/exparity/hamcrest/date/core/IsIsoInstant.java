@@ -0,0 +1,60 @@
+package org.exparity.hamcrest.date.core;
+
+import java.time.ZoneId;
+import java.util.Locale;
+
+import org.hamcrest.Description;
+
+/**
+ * A matcher that tests that the examined text is an ISO-8601 date-time with a zone offset which matches a matcher of
+ * the text, so that text which is not a timestamp is reported as a mismatch before it reaches the matcher. The
+ * conversions of the text are not shared with other matchers in a composite as the text may be a mutable
+ * {@link CharSequence}, and reading its fields is cheaper than remembering them.
+ */
+public class IsIsoInstant extends TemporalMatcher<CharSequence> {
+
+	private final TemporalMatcher<CharSequence> matcher;
+
+	public IsIsoInstant(TemporalMatcher<CharSequence> matcher) {
+		this.matcher = matcher;
+	}
+
+	@Override
+	protected boolean matchesSafely(final CharSequence actual) {
+		return IsoTimestamps.isInstant(actual) && matcher.matchesSafely(actual);
+	}
+
+	@Override
+	protected void describeMismatchSafely(final CharSequence actual, final Description mismatchDescription) {
+		if (IsoTimestamps.isInstant(actual)) {
+			matcher.describeMismatchSafely(actual, mismatchDescription);
+		} else {
+			mismatchDescription.appendText("the text ").appendValue(actual).appendText(" is not an ISO-8601 instant");
+		}
+	}
+
+	@Override
+	public void describeTo(final Description description) {
+		matcher.describeTo(description);
+	}
+
+	@Override
+	public TemporalMatcher<CharSequence> atZone(ZoneId zone) {
+		return new IsIsoInstant(matcher.atZone(zone));
+	}
+
+	@Override
+	public TemporalMatcher<CharSequence> atLocale(Locale locale) {
+		return new IsIsoInstant(matcher.atLocale(locale));
+	}
+
+	@Override
+	TemporalMatcher<CharSequence> failure(final CharSequence actual) {
+		return IsoTimestamps.isInstant(actual) ? matcher.failure(actual) : this;
+	}
+
+	@Override
+	int cost() {
+		return matcher.cost();
+	}
+}
@@ -29,14 +29,13 @@ public class IsLeapYear<T> extends TemporalMatcher<T> {
 	}
 
 	@Override
-	protected boolean matchesSafely(final T actual, final Description mismatchDesc) {
-		Year actualValue = converter.apply(actual, zone);
-		if (!actualValue.isLeap()) {
-			mismatchDesc.appendText("the year " + actualValue + " is not a leap year");
-			return false;
-		} else {
-			return true;
-		}
+	protected boolean matchesSafely(final T actual) {
+		return converter.apply(actual, zone).isLeap();
+	}
+
+	@Override
+	protected void describeMismatchSafely(final T actual, final Description mismatchDesc) {
+		mismatchDesc.appendText("the year " + converter.apply(actual, zone) + " is not a leap year");
 	}
 
 	@Override
@@ -53,4 +52,14 @@ public class IsLeapYear<T> extends TemporalMatcher<T> {
     public TemporalMatcher<T> atLocale(Locale locale) {
         return new IsLeapYear<>(converter, zone, locale);
     }
+
+    @Override
+    TemporalMatcher<T> fuse(SharedConversions conversions) {
+        return new IsLeapYear<>(conversions.share(converter), zone, locale);
+    }
+
+    @Override
+    int cost() {
+        return 3;
+    }
 }
\ No newline at end of file
@@ -41,16 +41,17 @@ public class IsMaximum<T> extends TemporalMatcher<T> {
 	}
 
 	@Override
-	protected boolean matchesSafely(final T actual, final Description mismatchDesc) {
+	protected boolean matchesSafely(final T actual) {
 		TemporalAccessor actualTemporal = converter.apply(actual, zone);
 		ValueRange actualRange = field.rangeRefinedBy(actualTemporal);
-		long actualValue = field.getFrom(actualTemporal), expectedValue = actualRange.getMaximum();
-		if (expectedValue != actualValue) {
-			mismatchDesc.appendText("date has the value " + actualValue + " instead of " + expectedValue);
-			return false;
-		} else {
-			return true;
-		}
+		return field.getFrom(actualTemporal) == actualRange.getMaximum();
+	}
+
+	@Override
+	protected void describeMismatchSafely(final T actual, final Description mismatchDesc) {
+		TemporalAccessor actualTemporal = converter.apply(actual, zone);
+		ValueRange actualRange = field.rangeRefinedBy(actualTemporal);
+		mismatchDesc.appendText("date has the value " + field.getFrom(actualTemporal) + " instead of " + actualRange.getMaximum());
 	}
 
 	@Override
@@ -70,4 +71,14 @@ public class IsMaximum<T> extends TemporalMatcher<T> {
     public TemporalMatcher<T> atLocale(Locale locale) {
         return new IsMaximum<>(converter, field, zone, locale);
     }
+
+    @Override
+    TemporalMatcher<T> fuse(SharedConversions conversions) {
+        return new IsMaximum<>(conversions.share(converter), field, zone, locale);
+    }
+
+    @Override
+    int cost() {
+        return 5;
+    }
 }
\ No newline at end of file
@@ -8,54 +8,98 @@ import org.exparity.hamcrest.date.core.types.Millisecond;
 import org.hamcrest.Description;
 
 /**
- * A matcher that tests that the examined date is on the specified minute
+ * A matcher that tests that the examined date is on the specified millisecond. The millisecond of the examined date is read as an
+ * int by a {@link TemporalFieldConverter} and compared with the expected millisecond, which is resolved once when the
+ * matcher is created with a zone, and otherwise in the default zone when the matcher is used.
  *
  * @author Stewart Bissett
  */
 public class IsMillisecond<T> extends TemporalMatcher<T> {
 
+	private final TemporalFieldConverter<T> field;
 	private final TemporalConverter<T, Millisecond> converter;
 	private final TemporalProvider<Millisecond> expected;
+	private final int expectedValue;
 	private final Locale locale;
 	private final Optional<ZoneId> zone;
 
+	public IsMillisecond(TemporalFieldConverter<T> field,
+	        TemporalProvider<Millisecond> expected,
+	        Optional<ZoneId> zone,
+	        Locale locale) {
+		this(field, null, expected, zone, locale);
+	}
+
+	public IsMillisecond(TemporalFieldConverter<T> field, TemporalProvider<Millisecond> expected) {
+		this(field, expected, Optional.empty(), Locale.getDefault(Locale.Category.FORMAT));
+	}
+
 	public IsMillisecond(TemporalConverter<T, Millisecond> converter,
 	        TemporalProvider<Millisecond> expected,
 	        Optional<ZoneId> zone,
 	        Locale locale) {
-		this.expected = expected;
+		this((actual, at) -> converter.apply(actual, at).getValue(), converter, expected, zone, locale);
+	}
+
+	public IsMillisecond(TemporalConverter<T, Millisecond> converter, TemporalProvider<Millisecond> expected) {
+		this(converter, expected, Optional.empty(), Locale.getDefault(Locale.Category.FORMAT));
+	}
+
+	/**
+	 * The converter is held only when the matcher is created with one, so its conversions can be shared in a composite
+	 */
+	private IsMillisecond(TemporalFieldConverter<T> field,
+	        TemporalConverter<T, Millisecond> converter,
+	        TemporalProvider<Millisecond> expected,
+	        Optional<ZoneId> zone,
+	        Locale locale) {
+		this.expected = expected.resolvedAt(zone);
+		this.expectedValue = zone.isPresent() ? this.expected.apply(zone).getValue() : 0;
+		this.field = field;
 		this.converter = converter;
 		this.locale = locale;
 		this.zone = zone;
 	}
 
-	public IsMillisecond(TemporalConverter<T, Millisecond> converter, TemporalProvider<Millisecond> expected) {
-		this(converter, expected, Optional.empty(), Locale.getDefault(Locale.Category.FORMAT));
+	@Override
+	protected boolean matchesSafely(final T actual) {
+		return expectedValue() == field.applyAsInt(actual, zone);
 	}
 
 	@Override
-	protected boolean matchesSafely(final T actual, final Description mismatchDescription) {
-		Millisecond expectedValue = expected.apply(zone), actualValue = converter.apply(actual, zone);
-		if (!expectedValue.equals(actualValue)) {
-			mismatchDescription.appendText("the date has the millisecond " + actualValue);
-			return false;
-		} else {
-			return true;
-		}
+	protected void describeMismatchSafely(final T actual, final Description mismatchDescription) {
+		mismatchDescription.appendText("the date has the millisecond " + field.applyAsInt(actual, zone));
 	}
 
 	@Override
 	public void describeTo(final Description description) {
-		description.appendText("the date has the millisecond " + expected.apply(zone));
+		description.appendText("the date has the millisecond " + expectedValue());
 	}
 
 	@Override
 	public TemporalMatcher<T> atZone(ZoneId zone) {
-		return new IsMillisecond<>(converter, expected, Optional.of(zone), locale);
+		return new IsMillisecond<>(field, converter, expected, Optional.of(zone), locale);
 	}
 
     @Override
     public TemporalMatcher<T> atLocale(Locale locale) {
-        return new IsMillisecond<>(converter, expected, zone, locale);
+        return new IsMillisecond<>(field, converter, expected, zone, locale);
     }
-}
\ No newline at end of file
+
+    @Override
+    TemporalMatcher<T> fuse(SharedConversions conversions) {
+        return converter == null ? this : new IsMillisecond<>(conversions.share(converter), expected, zone, locale);
+    }
+
+    @Override
+    int cost() {
+        return 3;
+    }
+
+	/**
+	 * The expected millisecond, which is resolved in the default zone in use when the matcher has no zone
+	 */
+	private int expectedValue() {
+		return zone.isPresent() ? expectedValue : expected.apply(zone).getValue();
+	}
+}
@@ -38,16 +38,17 @@ public class IsMinimum<T> extends TemporalMatcher<T> {
 	}
 
 	@Override
-	protected boolean matchesSafely(final T actual, final Description mismatchDesc) {
+	protected boolean matchesSafely(final T actual) {
 		TemporalAccessor actualTemporal = converter.apply(actual, zone);
 		ValueRange actualRange = field.rangeRefinedBy(actualTemporal);
-		long actualValue = field.getFrom(actualTemporal), expectedValue = actualRange.getMinimum();
-		if (expectedValue != actualValue) {
-			mismatchDesc.appendText("date has the value " + actualValue + " instead of " + expectedValue);
-			return false;
-		} else {
-			return true;
-		}
+		return field.getFrom(actualTemporal) == actualRange.getMinimum();
+	}
+
+	@Override
+	protected void describeMismatchSafely(final T actual, final Description mismatchDesc) {
+		TemporalAccessor actualTemporal = converter.apply(actual, zone);
+		ValueRange actualRange = field.rangeRefinedBy(actualTemporal);
+		mismatchDesc.appendText("date has the value " + field.getFrom(actualTemporal) + " instead of " + actualRange.getMinimum());
 	}
 
 	@Override
@@ -67,4 +68,14 @@ public class IsMinimum<T> extends TemporalMatcher<T> {
     public TemporalMatcher<T> atLocale(Locale locale) {
         return new IsMinimum<>(converter, field, zone, locale);
     }
+
+    @Override
+    TemporalMatcher<T> fuse(SharedConversions conversions) {
+        return new IsMinimum<>(conversions.share(converter), field, zone, locale);
+    }
+
+    @Override
+    int cost() {
+        return 5;
+    }
 }
\ No newline at end of file
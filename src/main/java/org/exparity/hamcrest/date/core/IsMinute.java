@@ -8,54 +8,98 @@ import org.exparity.hamcrest.date.core.types.Minute;
 import org.hamcrest.Description;
 
 /**
- * A matcher that tests that the examined date is on the specified minute
+ * A matcher that tests that the examined date is on the specified minute. The minute of the examined date is read as an
+ * int by a {@link TemporalFieldConverter} and compared with the expected minute, which is resolved once when the
+ * matcher is created with a zone, and otherwise in the default zone when the matcher is used.
  *
  * @author Stewart Bissett
  */
 public class IsMinute<T> extends TemporalMatcher<T> {
 
+	private final TemporalFieldConverter<T> field;
 	private final TemporalConverter<T, Minute> converter;
 	private final TemporalProvider<Minute> expected;
+	private final int expectedValue;
 	private final Locale locale;
 	private final Optional<ZoneId> zone;
 
+	public IsMinute(TemporalFieldConverter<T> field,
+	        TemporalProvider<Minute> expected,
+	        Optional<ZoneId> zone,
+	        Locale locale) {
+		this(field, null, expected, zone, locale);
+	}
+
+	public IsMinute(TemporalFieldConverter<T> field, TemporalProvider<Minute> expected) {
+		this(field, expected, Optional.empty(), Locale.getDefault(Locale.Category.FORMAT));
+	}
+
 	public IsMinute(TemporalConverter<T, Minute> converter,
 	        TemporalProvider<Minute> expected,
 	        Optional<ZoneId> zone,
 	        Locale locale) {
-		this.expected = expected;
+		this((actual, at) -> converter.apply(actual, at).getValue(), converter, expected, zone, locale);
+	}
+
+	public IsMinute(TemporalConverter<T, Minute> converter, TemporalProvider<Minute> expected) {
+		this(converter, expected, Optional.empty(), Locale.getDefault(Locale.Category.FORMAT));
+	}
+
+	/**
+	 * The converter is held only when the matcher is created with one, so its conversions can be shared in a composite
+	 */
+	private IsMinute(TemporalFieldConverter<T> field,
+	        TemporalConverter<T, Minute> converter,
+	        TemporalProvider<Minute> expected,
+	        Optional<ZoneId> zone,
+	        Locale locale) {
+		this.expected = expected.resolvedAt(zone);
+		this.expectedValue = zone.isPresent() ? this.expected.apply(zone).getValue() : 0;
+		this.field = field;
 		this.converter = converter;
 		this.locale = locale;
 		this.zone = zone;
 	}
 
-	public IsMinute(TemporalConverter<T, Minute> converter, TemporalProvider<Minute> expected) {
-		this(converter, expected, Optional.empty(), Locale.getDefault(Locale.Category.FORMAT));
+	@Override
+	protected boolean matchesSafely(final T actual) {
+		return expectedValue() == field.applyAsInt(actual, zone);
 	}
 
 	@Override
-	protected boolean matchesSafely(final T actual, final Description mismatchDescription) {
-		Minute expectedValue = expected.apply(zone), actualValue = converter.apply(actual, zone);
-		if (!expectedValue.equals(actualValue)) {
-			mismatchDescription.appendText("the date has the minute " + actualValue);
-			return false;
-		} else {
-			return true;
-		}
+	protected void describeMismatchSafely(final T actual, final Description mismatchDescription) {
+		mismatchDescription.appendText("the date has the minute " + field.applyAsInt(actual, zone));
 	}
 
 	@Override
 	public void describeTo(final Description description) {
-		description.appendText("the date has the minute " + expected.apply(zone));
+		description.appendText("the date has the minute " + expectedValue());
 	}
 
 	@Override
 	public TemporalMatcher<T> atZone(ZoneId zone) {
-		return new IsMinute<>(converter, expected, Optional.of(zone), locale);
+		return new IsMinute<>(field, converter, expected, Optional.of(zone), locale);
 	}
 
-	@Override
+    @Override
     public TemporalMatcher<T> atLocale(Locale locale) {
-        return new IsMinute<>(converter, expected, zone, locale);
+        return new IsMinute<>(field, converter, expected, zone, locale);
     }
-}
\ No newline at end of file
+
+    @Override
+    TemporalMatcher<T> fuse(SharedConversions conversions) {
+        return converter == null ? this : new IsMinute<>(conversions.share(converter), expected, zone, locale);
+    }
+
+    @Override
+    int cost() {
+        return 3;
+    }
+
+	/**
+	 * The expected minute, which is resolved in the default zone in use when the matcher has no zone
+	 */
+	private int expectedValue() {
+		return zone.isPresent() ? expectedValue : expected.apply(zone).getValue();
+	}
+}
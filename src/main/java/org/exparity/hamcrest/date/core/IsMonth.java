@@ -24,7 +24,7 @@ public class IsMonth<T> extends TemporalMatcher<T> {
 	        TemporalProvider<Month> expected,
 	        Optional<ZoneId> zone,
 	        Locale locale) {
-		this.expected = expected;
+		this.expected = expected.resolvedAt(zone);
 		this.converter = converter;
 		this.locale = locale;
 		this.zone = zone;
@@ -35,14 +35,13 @@ public class IsMonth<T> extends TemporalMatcher<T> {
 	}
 
 	@Override
-	protected boolean matchesSafely(final T actual, final Description mismatchDescription) {
-		Month expectedValue = expected.apply(zone), actualValue = converter.apply(actual, zone);
-		if (!expectedValue.equals(actualValue)) {
-			mismatchDescription.appendText("the date has the month " + describe(actualValue));
-			return false;
-		} else {
-			return true;
-		}
+	protected boolean matchesSafely(final T actual) {
+		return expected.apply(zone).equals(converter.apply(actual, zone));
+	}
+
+	@Override
+	protected void describeMismatchSafely(final T actual, final Description mismatchDescription) {
+		mismatchDescription.appendText("the date has the month " + describe(converter.apply(actual, zone)));
 	}
 
 	@Override
@@ -60,6 +59,16 @@ public class IsMonth<T> extends TemporalMatcher<T> {
         return new IsMonth<>(converter, expected, zone, locale);
     }
 
+    @Override
+    TemporalMatcher<T> fuse(SharedConversions conversions) {
+        return new IsMonth<>(conversions.share(converter), expected, zone, locale);
+    }
+
+    @Override
+    int cost() {
+        return 3;
+    }
+
 	private String describe(Month actualValue) {
 		return actualValue.getDisplayName(TextStyle.FULL, locale);
 	}
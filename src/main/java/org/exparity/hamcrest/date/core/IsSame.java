@@ -24,7 +24,7 @@ public class IsSame<T, E> extends TemporalMatcher<T> {
 	        TemporalFunction<E> functions,
 	        Optional<ZoneId> zone,
 	        Locale locale) {
-		this.expected = expected;
+		this.expected = expected.resolvedAt(zone);
 		this.converter = converter;
 		this.functions = functions;
 		this.locale = locale;
@@ -36,14 +36,13 @@ public class IsSame<T, E> extends TemporalMatcher<T> {
 	}
 	
 	@Override
-	protected boolean matchesSafely(final T actual, final Description mismatchDescription) {
-		E expectedValue = expected.apply(zone), actualValue = converter.apply(actual, zone);
-		if (!functions.isSame(expectedValue, actualValue)) {
-			mismatchDescription.appendText("the date is " + functions.describe(actualValue, locale));
-			return false;
-		} else {
-			return true;
-		}
+	protected boolean matchesSafely(final T actual) {
+		return functions.isSame(expected.apply(zone), converter.apply(actual, zone));
+	}
+
+	@Override
+	protected void describeMismatchSafely(final T actual, final Description mismatchDescription) {
+		mismatchDescription.appendText("the date is " + functions.describe(converter.apply(actual, zone), locale));
 	}
 
 	@Override
@@ -60,4 +59,14 @@ public class IsSame<T, E> extends TemporalMatcher<T> {
     public TemporalMatcher<T> atLocale(Locale locale) {
         return new IsSame<>(converter, expected, functions, zone, locale);
     }
+
+    @Override
+    TemporalMatcher<T> fuse(SharedConversions conversions) {
+        return new IsSame<>(conversions.share(converter), expected, functions, zone, locale);
+    }
+
+    @Override
+    int cost() {
+        return 2;
+    }
 }
\ No newline at end of file
@@ -24,7 +24,7 @@ public class IsSameDay<T> extends TemporalMatcher<T> {
 	        TemporalProvider<LocalDate> expected,
 	        Optional<ZoneId> zone,
 	        Locale locale) {
-		this.expected = expected;
+		this.expected = expected.resolvedAt(zone);
 		this.converter = converter;
 		this.locale = locale;
 		this.zone = zone;
@@ -35,14 +35,13 @@ public class IsSameDay<T> extends TemporalMatcher<T> {
 	}
 	
 	@Override
-	protected boolean matchesSafely(final T actual, final Description mismatchDescription) {
-		LocalDate expectedValue = expected.apply(zone), actualValue = converter.apply(actual, zone);
-		if (!expectedValue.isEqual(actualValue)) {
-			mismatchDescription.appendText("the day is " + describe(actualValue));
-			return false;
-		} else {
-			return true;
-		}
+	protected boolean matchesSafely(final T actual) {
+		return expected.apply(zone).isEqual(converter.apply(actual, zone));
+	}
+
+	@Override
+	protected void describeMismatchSafely(final T actual, final Description mismatchDescription) {
+		mismatchDescription.appendText("the day is " + describe(converter.apply(actual, zone)));
 	}
 
 	@Override
@@ -59,9 +58,19 @@ public class IsSameDay<T> extends TemporalMatcher<T> {
     public TemporalMatcher<T> atLocale(Locale locale) {
         return new IsSameDay<>(converter, expected, zone, locale);
     }
+
+    @Override
+    TemporalMatcher<T> fuse(SharedConversions conversions) {
+        return new IsSameDay<>(conversions.share(converter), expected, zone, locale);
+    }
+
+    @Override
+    int cost() {
+        return 3;
+    }
     
 	private String describe(LocalDate actualValue) {
-		return TemporalFunctions.LOCALDATE.describe(actualValue, locale);
+		return TemporalFunctions.LocalDates.LOCALDATE.describe(actualValue, locale);
 	}
 
 }
\ No newline at end of file
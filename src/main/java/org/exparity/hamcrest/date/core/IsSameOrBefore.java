@@ -1,5 +1,6 @@
 package org.exparity.hamcrest.date.core;
 
+import java.time.Instant;
 import java.time.ZoneId;
 import java.util.Locale;
 import java.util.Optional;
@@ -17,34 +18,53 @@ public class IsSameOrBefore<T,E> extends TemporalMatcher<T> {
 	private final TemporalProvider<E> expected;
 	private final TemporalConverter<T, E> converter;
 	private final TemporalFunction<E> functions;
+	private final Optional<EpochConverter<E>> epochs;
+	private final TemporalProvider<Optional<Instant>> expectedEpoch;
 	private final Locale locale;
 	private final Optional<ZoneId> zone;
 
 	public IsSameOrBefore(TemporalConverter<T, E> converter,
 	        TemporalProvider<E> expected,
 	        TemporalFunction<E> functions,
+	        Optional<EpochConverter<E>> epochs,
 	        Optional<ZoneId> zone,
 	        Locale locale) {
-		this.expected = expected;
+		this.expected = expected.resolvedAt(zone);
 		this.converter = converter;
 		this.functions = functions;
+		this.epochs = epochs;
+		this.expectedEpoch = FixedTemporalProvider.derived(this.expected, e -> epochs.flatMap(c -> c.toInstant(e)), zone);
 		this.locale = locale;
 		this.zone = zone;
 	}
 
+	public IsSameOrBefore(TemporalConverter<T, E> converter,
+	        TemporalProvider<E> expected,
+	        TemporalFunction<E> functions,
+	        Optional<ZoneId> zone,
+	        Locale locale) {
+		this(converter, expected, functions, Optional.empty(), zone, locale);
+	}
+
 	public IsSameOrBefore(TemporalConverter<T, E> converter, TemporalProvider<E> expected, TemporalFunction<E> functions) {
-		this(converter, expected, functions, Optional.empty(), Locale.getDefault(Locale.Category.FORMAT));
+		this(converter, expected, functions, Optional.empty(), Optional.empty(), Locale.getDefault(Locale.Category.FORMAT));
+	}
+
+	public IsSameOrBefore(TemporalConverter<T, E> converter,
+	        TemporalProvider<E> expected,
+	        TemporalFunction<E> functions,
+	        EpochConverter<E> epochs) {
+		this(converter, expected, functions, Optional.of(epochs), Optional.empty(), Locale.getDefault(Locale.Category.FORMAT));
 	}
 	
 	@Override
-	protected boolean matchesSafely(final T actual, final Description mismatchDescription) {
-		E expectedValue = expected.apply(zone), actualValue = converter.apply(actual, zone);
-		if (functions.isBefore(expectedValue, actualValue) ) {
-			mismatchDescription.appendText("the date is " + functions.describe(actualValue, locale));
-			return false;
-		} else {
-			return true;
-		}
+	protected boolean matchesSafely(final T actual) {
+		return isSameOrBefore(converter.apply(actual, zone));
+	}
+
+	@Override
+	protected void describeMismatchSafely(final T actual, final Description mismatchDescription) {
+		mismatchDescription.appendText("the date is " + functions.describe(converter.apply(actual, zone), locale));
 	}
 
 	@Override
@@ -54,11 +74,31 @@ public class IsSameOrBefore<T,E> extends TemporalMatcher<T> {
 
 	@Override
 	public TemporalMatcher<T> atZone(ZoneId zone) {
-		return new IsSameOrBefore<>(converter, expected, functions, Optional.of(zone), locale);
+		return new IsSameOrBefore<>(converter, expected, functions, epochs, Optional.of(zone), locale);
 	}
-	
+
     @Override
     public TemporalMatcher<T> atLocale(Locale locale) {
-        return new IsSameOrBefore<>(converter, expected, functions, zone, locale);
+        return new IsSameOrBefore<>(converter, expected, functions, epochs, zone, locale);
+    }
+
+    @Override
+    TemporalMatcher<T> fuse(SharedConversions conversions) {
+        return new IsSameOrBefore<>(conversions.share(converter), expected, functions, epochs, zone, locale);
     }
-}
\ No newline at end of file
+
+    @Override
+    int cost() {
+        return epochs.isPresent() ? 1 : 2;
+    }
+
+	private boolean isSameOrBefore(E actualValue) {
+		Optional<Instant> expectedEpoch = this.expectedEpoch.apply(zone);
+		if (expectedEpoch.isPresent() && epochs.get().isSupported(actualValue)) {
+			return epochs.get().compare(actualValue, expectedEpoch.get()) <= 0;
+		}
+		E expectedValue = expected.apply(zone);
+		return !functions.isBefore(expectedValue, actualValue);
+	}
+	
+}
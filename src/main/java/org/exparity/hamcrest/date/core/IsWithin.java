@@ -4,11 +4,15 @@ import java.time.ZoneId;
 import java.util.Locale;
 import java.util.Optional;
 
+import org.exparity.hamcrest.date.core.types.EpochRange;
 import org.exparity.hamcrest.date.core.types.Interval;
 import org.hamcrest.Description;
 
 /**
- * A matcher that tests that the examined date is within a defined period of the reference date
+ * A matcher that tests that the examined date is within a defined period of the reference date. When the dates can be
+ * placed on the time-line and the period is measured on it, the bounds either side of the reference date are resolved
+ * once per time zone and the examined date is compared against them, so the interval between the dates is only
+ * measured to describe a mismatch.
  *
  * @author Stewart Bissett
  */
@@ -18,6 +22,8 @@ public class IsWithin<T, E> extends TemporalMatcher<T> {
 	private final TemporalProvider<E> reference;
 	private final TemporalConverter<T, E> converter;
 	private final TemporalFunction<E> functions;
+	private final Optional<EpochConverter<E>> epochs;
+	private final TemporalProvider<Optional<EpochRange>> expectedRange;
 	private final Locale locale;
 	private final Optional<ZoneId> zone;
 
@@ -25,16 +31,30 @@ public class IsWithin<T, E> extends TemporalMatcher<T> {
 	        TemporalConverter<T, E> converter,
 	        TemporalProvider<E> reference,
 	        TemporalFunction<E> functions,
+	        Optional<EpochConverter<E>> epochs,
 	        Optional<ZoneId> zone,
 	        Locale locale) {
 		this.expectedInterval = interval;
 		this.converter = converter;
-		this.reference = reference;
+		this.reference = reference.resolvedAt(zone);
 		this.functions = functions;
+		this.epochs = epochs;
+		this.expectedRange = FixedTemporalProvider.derived(this.reference,
+		        r -> epochs.flatMap(e -> functions.range(r, interval)),
+		        zone);
 		this.locale = locale;
 		this.zone = zone;
 	}
 
+	public IsWithin(Interval interval,
+	        TemporalConverter<T, E> converter,
+	        TemporalProvider<E> reference,
+	        TemporalFunction<E> functions,
+	        Optional<ZoneId> zone,
+	        Locale locale) {
+		this(interval, converter, reference, functions, Optional.empty(), zone, locale);
+	}
+
 	public IsWithin(Interval interval,
 	        TemporalConverter<T, E> converter,
 	        TemporalProvider<E> reference,
@@ -44,20 +64,40 @@ public class IsWithin<T, E> extends TemporalMatcher<T> {
 		        reference,
 		        functions,
 		        Optional.empty(),
+		        Optional.empty(),
+		        Locale.getDefault(Locale.Category.FORMAT));
+	}
+
+	public IsWithin(Interval interval,
+	        TemporalConverter<T, E> converter,
+	        TemporalProvider<E> reference,
+	        TemporalFunction<E> functions,
+	        EpochConverter<E> epochs) {
+		this(interval,
+		        converter,
+		        reference,
+		        functions,
+		        Optional.of(epochs),
+		        Optional.empty(),
 		        Locale.getDefault(Locale.Category.FORMAT));
 	}
 
 	@Override
-	protected boolean matchesSafely(final T actual, final Description mismatchDescription) {
-		E referenceValue = reference.apply(zone), actualValue = converter.apply(actual, zone);
-		Interval actualInterval = functions.interval(referenceValue, actualValue, expectedInterval.getUnit());
-		if (actualInterval.longerThan(expectedInterval)) {
-			mismatchDescription.appendText("the date is " + functions.describe(actualValue, locale) + " and "
-			        + actualInterval.describe(locale) + " different");
-			return false;
-		} else {
-			return true;
+	protected boolean matchesSafely(final T actual) {
+		E actualValue = converter.apply(actual, zone);
+		Optional<EpochRange> expectedRange = this.expectedRange.apply(zone);
+		if (expectedRange.isPresent() && epochs.get().isSupported(actualValue)) {
+			return expectedRange.get().contains(epochs.get().toEpochSecond(actualValue), epochs.get().toNano(actualValue));
 		}
+		return functions.isWithin(reference.apply(zone), actualValue, expectedInterval);
+	}
+
+	@Override
+	protected void describeMismatchSafely(final T actual, final Description mismatchDescription) {
+		E actualValue = converter.apply(actual, zone);
+		Interval actualInterval = functions.interval(reference.apply(zone), actualValue, expectedInterval.getUnit());
+		mismatchDescription.appendText("the date is " + functions.describe(actualValue, locale) + " and "
+		        + actualInterval.describe(locale) + " different");
 	}
 
 	@Override
@@ -68,11 +108,21 @@ public class IsWithin<T, E> extends TemporalMatcher<T> {
 
 	@Override
 	public TemporalMatcher<T> atZone(ZoneId zone) {
-		return new IsWithin<>(expectedInterval, converter, reference, functions, Optional.of(zone), locale);
+		return new IsWithin<>(expectedInterval, converter, reference, functions, epochs, Optional.of(zone), locale);
 	}
 
     @Override
     public TemporalMatcher<T> atLocale(Locale locale) {
-        return new IsWithin<>(expectedInterval, converter, reference, functions, zone, locale);
+        return new IsWithin<>(expectedInterval, converter, reference, functions, epochs, zone, locale);
+    }
+
+    @Override
+    TemporalMatcher<T> fuse(SharedConversions conversions) {
+        return new IsWithin<>(expectedInterval, conversions.share(converter), reference, functions, epochs, zone, locale);
+    }
+
+    @Override
+    int cost() {
+        return epochs.isPresent() ? 1 : 4;
     }
 }
\ No newline at end of file
@@ -0,0 +1,81 @@
+package org.exparity.hamcrest.date.core;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Locale;
+
+import org.exparity.hamcrest.date.core.types.TemporalRangeSet;
+import org.hamcrest.Description;
+
+/**
+ * A matcher that tests that the examined date is within any window of a {@link TemporalRangeSet}. The examined date is
+ * placed on the time-line by an {@link EpochConverter} and located in the windows by binary search, and a mismatch
+ * names the window nearest to the examined date. The windows are points on the time-line so the matcher is the same in
+ * every zone.
+ *
+ * @param <T> the test type
+ */
+public class IsWithinAny<T> extends TemporalMatcher<T> {
+
+	private final EpochConverter<T> epochs;
+	private final TemporalFunction<T> functions;
+	private final TemporalRangeSet windows;
+	private final Locale locale;
+
+	public IsWithinAny(EpochConverter<T> epochs, TemporalFunction<T> functions, TemporalRangeSet windows, Locale locale) {
+		this.epochs = epochs;
+		this.functions = functions;
+		this.windows = windows;
+		this.locale = locale;
+	}
+
+	public IsWithinAny(EpochConverter<T> epochs, TemporalFunction<T> functions, TemporalRangeSet windows) {
+		this(epochs, functions, windows, Locale.getDefault(Locale.Category.FORMAT));
+	}
+
+	@Override
+	protected boolean matchesSafely(final T actual) {
+		return epochs.isSupported(actual) && windows.contains(epochs.toEpochSecond(actual), epochs.toNano(actual));
+	}
+
+	@Override
+	protected void describeMismatchSafely(final T actual, final Description mismatchDescription) {
+		mismatchDescription.appendText("the date is " + functions.describe(actual, locale));
+		if (windows.size() == 0) {
+			mismatchDescription.appendText(" and there are no windows");
+		} else if (epochs.isSupported(actual)) {
+			int nearest = windows.nearest(epochs.toEpochSecond(actual), epochs.toNano(actual));
+			mismatchDescription.appendText(" and the nearest window is " + describe(windows.from(nearest)) + " to "
+			        + describe(windows.to(nearest)));
+		}
+	}
+
+	@Override
+	public void describeTo(final Description description) {
+		if (windows.size() == 0) {
+			description.appendText("the date is within any of no windows");
+		} else {
+			description.appendText("the date is within any of " + windows.size() + " windows from "
+			        + describe(windows.from(0)) + " to " + describe(windows.to(windows.size() - 1)));
+		}
+	}
+
+	@Override
+	public TemporalMatcher<T> atZone(ZoneId zone) {
+		return this;
+	}
+
+	@Override
+	public TemporalMatcher<T> atLocale(Locale locale) {
+		return new IsWithinAny<>(epochs, functions, windows, locale);
+	}
+
+	@Override
+	int cost() {
+		return 2;
+	}
+
+	private String describe(Instant instant) {
+		return TemporalFunctions.Instants.INSTANT.describe(instant, locale);
+	}
+}
@@ -0,0 +1,215 @@
+package org.exparity.hamcrest.date.core;
+
+/**
+ * Static functions which read the fields of an ISO-8601 date-time directly from its text, without creating a
+ * {@link java.time.temporal.TemporalAccessor} or any other object. Accepts
+ * <code>yyyy-MM-ddTHH:mm[:ss[.fffffffff]][Z|&plusmn;HH[:MM]]</code>, where the separator between the date and the time
+ * may also be a space and the fraction may be separated by a comma. The fields of the date and time are at fixed
+ * positions, so each function reads only the characters it needs, and all but {@link #isValid(CharSequence)} assume
+ * the text is valid.
+ */
+public final class IsoTimestamps {
+
+	private static final int SECONDS_PER_MINUTE = 60;
+	private static final int SECONDS_PER_HOUR = 3600;
+	private static final long SECONDS_PER_DAY = 86400;
+	private static final long DAYS_0000_TO_1970 = 719528L;
+	private static final int MAX_OFFSET_HOURS = 18;
+	private static final int SECONDS_AT = 16;
+	private static final int FRACTION_AT = 19;
+	private static final int MINIMUM_LENGTH = 16;
+
+	private IsoTimestamps() {}
+
+	/**
+	 * Test if the text is exactly one ISO-8601 date-time, with or without a zone offset
+	 */
+	public static boolean isValid(CharSequence text) {
+		int length = text.length();
+		if (length < MINIMUM_LENGTH) {
+			return false;
+		}
+		int year = digits(text, 0, 4), month = digits(text, 5, 2), day = digits(text, 8, 2);
+		int hour = digits(text, 11, 2), minute = digits(text, 14, 2);
+		char separator = text.charAt(10);
+		if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month) || hour < 0 || hour > 23
+		        || minute < 0 || minute > 59 || text.charAt(4) != '-' || text.charAt(7) != '-'
+		        || (separator != 'T' && separator != 't' && separator != ' ') || text.charAt(13) != ':') {
+			return false;
+		}
+		int index = SECONDS_AT;
+		if (index < length && text.charAt(index) == ':') {
+			int second = digits(text, index + 1, 2);
+			if (second < 0 || second > 59) {
+				return false;
+			}
+			index = fractionEnd(text);
+			if (index < 0) {
+				return false;
+			}
+		}
+		if (index == length) {
+			return true;
+		}
+		char sign = text.charAt(index);
+		if (sign == 'Z' || sign == 'z') {
+			return index + 1 == length;
+		} else if (sign != '+' && sign != '-') {
+			return false;
+		}
+		int hours = digits(text, index + 1, 2);
+		if (hours < 0 || hours > MAX_OFFSET_HOURS) {
+			return false;
+		}
+		index += 3;
+		if (index == length) {
+			return true;
+		}
+		index += text.charAt(index) == ':' ? 1 : 0;
+		int minutes = digits(text, index, 2);
+		return minutes >= 0 && minutes <= 59 && index + 2 == length;
+	}
+
+	/**
+	 * Test if the valid text has a zone offset and so is an instant on the time-line
+	 */
+	public static boolean hasOffset(CharSequence text) {
+		return offsetAt(text) < text.length();
+	}
+
+	/**
+	 * Test if the text is a valid ISO-8601 date-time with a zone offset
+	 */
+	public static boolean isInstant(CharSequence text) {
+		return isValid(text) && hasOffset(text);
+	}
+
+	/**
+	 * Return the seconds from the epoch of the local date-time of the valid text, as if it were in UTC
+	 */
+	public static long toLocalEpochSecond(CharSequence text) {
+		long epochDay = epochDay(digits(text, 0, 4), digits(text, 5, 2), digits(text, 8, 2));
+		int secondOfDay = digits(text, 11, 2) * SECONDS_PER_HOUR + digits(text, 14, 2) * SECONDS_PER_MINUTE;
+		if (text.length() > SECONDS_AT && text.charAt(SECONDS_AT) == ':') {
+			secondOfDay += digits(text, SECONDS_AT + 1, 2);
+		}
+		return epochDay * SECONDS_PER_DAY + secondOfDay;
+	}
+
+	/**
+	 * Return the seconds from the epoch of the valid text, adjusted by its zone offset
+	 */
+	public static long toEpochSecond(CharSequence text) {
+		return toLocalEpochSecond(text) - toOffsetSeconds(text);
+	}
+
+	/**
+	 * Return the nanosecond of the second of the valid text
+	 */
+	public static int toNano(CharSequence text) {
+		int length = text.length(), nano = 0, scale = 0;
+		if (length <= FRACTION_AT || (text.charAt(FRACTION_AT) != '.' && text.charAt(FRACTION_AT) != ',')
+		        || text.charAt(SECONDS_AT) != ':') {
+			return 0;
+		}
+		for (int index = FRACTION_AT + 1; index < length && isDigit(text.charAt(index)); ++index, ++scale) {
+			nano = nano * 10 + text.charAt(index) - '0';
+		}
+		for (; scale < 9; ++scale) {
+			nano *= 10;
+		}
+		return nano;
+	}
+
+	/**
+	 * Return the total zone offset in seconds of the valid text, or zero if it has no offset
+	 */
+	public static int toOffsetSeconds(CharSequence text) {
+		int index = offsetAt(text), length = text.length();
+		if (index == length || text.charAt(index) == 'Z' || text.charAt(index) == 'z') {
+			return 0;
+		}
+		int seconds = digits(text, index + 1, 2) * SECONDS_PER_HOUR;
+		if (index + 3 < length) {
+			seconds += digits(text, length - 2, 2) * SECONDS_PER_MINUTE;
+		}
+		return text.charAt(index) == '-' ? -seconds : seconds;
+	}
+
+	/**
+	 * The index of the zone offset of the valid text, or its length if it has no offset
+	 */
+	private static int offsetAt(CharSequence text) {
+		if (text.length() > SECONDS_AT && text.charAt(SECONDS_AT) == ':') {
+			return fractionEnd(text);
+		}
+		return SECONDS_AT;
+	}
+
+	/**
+	 * The index after the seconds and optional fraction of a text with seconds, or -1 if the fraction is invalid
+	 */
+	private static int fractionEnd(CharSequence text) {
+		int length = text.length(), index = FRACTION_AT;
+		if (index < length && (text.charAt(index) == '.' || text.charAt(index) == ',')) {
+			int start = ++index;
+			while (index < length && isDigit(text.charAt(index))) {
+				++index;
+			}
+			if (index == start || index - start > 9) {
+				return -1;
+			}
+		}
+		return index;
+	}
+
+	private static int digits(CharSequence text, int from, int count) {
+		if (from + count > text.length()) {
+			return -1;
+		}
+		int value = 0;
+		for (int index = from; index < from + count; ++index) {
+			char digit = text.charAt(index);
+			if (!isDigit(digit)) {
+				return -1;
+			}
+			value = value * 10 + digit - '0';
+		}
+		return value;
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isLeapYear(long year) {
+		return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+	}
+
+	private static int lengthOfMonth(int year, int month) {
+		switch (month) {
+			case 2:
+				return isLeapYear(year) ? 29 : 28;
+			case 4:
+			case 6:
+			case 9:
+			case 11:
+				return 30;
+			default:
+				return 31;
+		}
+	}
+
+	/**
+	 * The day from the epoch of a date in the years 0000 to 9999, calculated as {@link java.time.LocalDate#toEpochDay()}
+	 */
+	private static long epochDay(long year, long month, long day) {
+		long total = 365 * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+		total += (367 * month - 362) / 12;
+		total += day - 1;
+		if (month > 2) {
+			total -= isLeapYear(year) ? 1 : 2;
+		}
+		return total - DAYS_0000_TO_1970;
+	}
+}
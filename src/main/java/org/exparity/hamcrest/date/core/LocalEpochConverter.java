@@ -0,0 +1,25 @@
+package org.exparity.hamcrest.date.core;
+
+import java.time.ZoneId;
+import java.util.Optional;
+
+/**
+ * Locate the local date-time of a temporal in a time zone as the number of seconds from 1970-01-01T00:00:00 in that
+ * zone. The calendar fields of the temporal are computed from the local epoch second by {@link EpochFields} in a
+ * single step, so a source type whose zone is resolved in its own way, such as an
+ * {@link java.time.OffsetDateTime}, can be read without first being converted to another temporal.
+ *
+ * @param <T> the temporal type
+ */
+@FunctionalInterface
+public interface LocalEpochConverter<T> {
+
+	/**
+	 * Return the number of seconds from 1970-01-01T00:00:00 of the local date-time of the temporal
+	 * @param temporal the temporal to convert
+	 * @param zone the zone to read the local date-time in, or empty to read it in the zone of the temporal or the
+	 *            default zone from {@link DefaultZones}
+	 * @return the local epoch second
+	 */
+	long toLocalEpochSecond(T temporal, Optional<ZoneId> zone);
+}
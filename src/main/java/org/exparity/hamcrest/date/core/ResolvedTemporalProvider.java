@@ -0,0 +1,55 @@
+package org.exparity.hamcrest.date.core;
+
+import java.time.ZoneId;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A {@link TemporalProvider} which holds the value of another provider for a single zone, resolving it on first use.
+ * The value is resolved at most a few times when first used concurrently and is immutable thereafter. A value for no
+ * zone depends on the zone from {@link DefaultZones} and is held with that zone, so it is resolved again when used in
+ * another default zone.
+ */
+final class ResolvedTemporalProvider<S> implements TemporalProvider<S> {
+
+	private final TemporalProvider<S> provider;
+	private final Optional<ZoneId> zone;
+	private volatile Resolved<S> resolved;
+
+	ResolvedTemporalProvider(TemporalProvider<S> provider, Optional<ZoneId> zone) {
+		this.provider = provider;
+		this.zone = zone;
+	}
+
+	@Override
+	public S apply(final Optional<ZoneId> zone) {
+		if (!this.zone.equals(zone)) {
+			return provider.apply(zone);
+		}
+		ZoneId defaultZone = zone.isPresent() ? null : DefaultZones.get();
+		Resolved<S> current = resolved;
+		if (current == null || !Objects.equals(current.defaultZone, defaultZone)) {
+			resolved = current = new Resolved<>(defaultZone, provider.apply(zone));
+		}
+		return current.value;
+	}
+
+	@Override
+	public TemporalProvider<S> resolvedAt(final Optional<ZoneId> zone) {
+		return this.zone.equals(zone) ? this : provider.resolvedAt(zone);
+	}
+
+	/**
+	 * A resolved value and the default zone it was resolved in, which is null when the value was resolved for a zone
+	 */
+	private static final class Resolved<S> {
+
+		private final ZoneId defaultZone;
+		private final S value;
+
+		private Resolved(ZoneId defaultZone, S value) {
+			this.defaultZone = defaultZone;
+			this.value = value;
+		}
+	}
+}
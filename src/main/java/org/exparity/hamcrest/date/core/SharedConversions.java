@@ -0,0 +1,95 @@
+package org.exparity.hamcrest.date.core;
+
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Shares a {@link TemporalConverter} between the matchers of a composite matcher so a temporal examined by several of
+ * them is converted once. Conversions are only shared within a single match, between {@link #open()} and
+ * {@link #close()}, and are held in a scratch area of the current thread which is cleared on close, so a temporal
+ * which is modified between matches, such as a {@link java.util.Date}, is converted again.
+ */
+final class SharedConversions {
+
+	private final Map<TemporalConverter<?, ?>, SharedConverter<?, ?>> converters = new IdentityHashMap<>();
+	private final ThreadLocal<Conversions> current = ThreadLocal.withInitial(Conversions::new);
+
+	synchronized <T, R> TemporalConverter<T, R> share(TemporalConverter<T, R> converter) {
+		@SuppressWarnings("unchecked")
+		SharedConverter<T, R> shared = (SharedConverter<T, R>) converters.get(converter);
+		if (shared == null) {
+			shared = new SharedConverter<>(converter, converters.size());
+			converters.put(converter, shared);
+		}
+		return shared;
+	}
+
+	/**
+	 * Share the conversions made on the current thread until {@link #close()} is called
+	 */
+	void open() {
+		++current.get().depth;
+	}
+
+	/**
+	 * Stop sharing the conversions made on the current thread since {@link #open()}, and release them
+	 */
+	void close() {
+		current.get().close();
+	}
+
+	private final class SharedConverter<T, R> implements TemporalConverter<T, R> {
+
+		private final TemporalConverter<T, R> converter;
+		private final int index;
+
+		private SharedConverter(TemporalConverter<T, R> converter, int index) {
+			this.converter = converter;
+			this.index = index;
+		}
+
+		@Override
+		public R apply(T temporal, Optional<ZoneId> zone) {
+			Conversions conversions = current.get();
+			return conversions.depth > 0 ? conversions.apply(index, converter, temporal, zone) : converter.apply(temporal, zone);
+		}
+	}
+
+	/**
+	 * The conversions made by each shared converter during the current match on a thread
+	 */
+	private static final class Conversions {
+
+		private int depth;
+		private Object[] temporals = new Object[4];
+		private Object[] zones = new Object[4];
+		private Object[] results = new Object[4];
+
+		@SuppressWarnings("unchecked")
+		private <T, R> R apply(int index, TemporalConverter<T, R> converter, T temporal, Optional<ZoneId> zone) {
+			if (index >= temporals.length) {
+				int length = Math.max(index + 1, temporals.length * 2);
+				temporals = Arrays.copyOf(temporals, length);
+				zones = Arrays.copyOf(zones, length);
+				results = Arrays.copyOf(results, length);
+			}
+			if (temporals[index] != temporal || !zone.equals(zones[index])) {
+				results[index] = converter.apply(temporal, zone);
+				temporals[index] = temporal;
+				zones[index] = zone;
+			}
+			return (R) results[index];
+		}
+
+		private void close() {
+			if (--depth == 0) {
+				Arrays.fill(temporals, null);
+				Arrays.fill(zones, null);
+				Arrays.fill(results, null);
+			}
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package org.exparity.hamcrest.date.core;
+
+import java.time.ZoneId;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import org.hamcrest.Description;
+
+/**
+ * A matcher with a variant specialized for one exact runtime type of the temporals it examines, such as a plain
+ * {@link java.util.Date} rather than a {@link java.sql.Date} or other subclass. A temporal of exactly that type is
+ * matched by the specialized variant, whose converters need not test the type again, and any other temporal by the
+ * general matcher the specialized variant was derived from. The specialized variant is created when a temporal of the
+ * type is first matched, so a matcher which only examines other types never creates it. When no zone is given the
+ * specialized variant resolves the zone from {@link DefaultZones} itself, and only when it needs it, so one variant is
+ * shared by threads matching in different default zones.
+ */
+public final class SpecializedMatcher<T> extends TemporalMatcher<T> {
+
+	/**
+	 * Create a matcher which matches temporals of exactly the type with the specialized matcher and all others with the
+	 * general matcher. Both matchers must match the same temporals of the type.
+	 */
+	public static <T> TemporalMatcher<T> of(Class<? extends T> type,
+	        Supplier<TemporalMatcher<T>> specialized,
+	        TemporalMatcher<T> matcher) {
+		return new SpecializedMatcher<>(type, specialized, matcher);
+	}
+
+	private final Class<? extends T> type;
+	private final Supplier<TemporalMatcher<T>> factory;
+	private volatile TemporalMatcher<T> specialized;
+	private final TemporalMatcher<T> matcher;
+
+	private SpecializedMatcher(Class<? extends T> type, Supplier<TemporalMatcher<T>> factory, TemporalMatcher<T> matcher) {
+		this.type = type;
+		this.factory = factory;
+		this.matcher = matcher;
+	}
+
+	@Override
+	protected boolean matchesSafely(final T actual) {
+		return actual.getClass() == type ? variant().matchesSafely(actual) : matcher.matchesSafely(actual);
+	}
+
+	@Override
+	protected void describeMismatchSafely(final T actual, final Description mismatchDescription) {
+		if (actual.getClass() == type) {
+			variant().describeMismatchSafely(actual, mismatchDescription);
+		} else {
+			matcher.describeMismatchSafely(actual, mismatchDescription);
+		}
+	}
+
+	@Override
+	public void describeTo(final Description description) {
+		matcher.describeTo(description);
+	}
+
+	@Override
+	public TemporalMatcher<T> atZone(ZoneId zone) {
+		return new SpecializedMatcher<>(type, () -> variant().atZone(zone), matcher.atZone(zone));
+	}
+
+	@Override
+	public TemporalMatcher<T> atLocale(Locale locale) {
+		return new SpecializedMatcher<>(type, () -> variant().atLocale(locale), matcher.atLocale(locale));
+	}
+
+	@Override
+	TemporalMatcher<T> failure(final T actual) {
+		return actual.getClass() == type ? variant().failure(actual) : matcher.failure(actual);
+	}
+
+	@Override
+	TemporalMatcher<T> fuse(SharedConversions conversions) {
+		return new SpecializedMatcher<>(type, () -> variant().fuse(conversions), matcher.fuse(conversions));
+	}
+
+	@Override
+	int cost() {
+		return matcher.cost();
+	}
+
+	private TemporalMatcher<T> variant() {
+		TemporalMatcher<T> variant = specialized;
+		if (variant == null) {
+			specialized = variant = factory.get();
+		}
+		return variant;
+	}
+}
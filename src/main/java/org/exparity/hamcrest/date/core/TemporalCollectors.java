@@ -0,0 +1,131 @@
+package org.exparity.hamcrest.date.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collector;
+
+import org.hamcrest.StringDescription;
+
+/**
+ * Static factory for {@link Collector}s which collect a stream of temporals by testing each one against a
+ * {@link TemporalMatcher}. The temporals are tested without building a mismatch description, and the reason a temporal
+ * does not match is only described once for each distinct reason when the collection finishes.
+ *
+ * For example:
+ *
+ * <pre>
+ * Partition&lt;Instant&gt; result = events.stream().collect(TemporalCollectors.partitioningBy(after(start).and(isWeekday())));
+ * </pre>
+ */
+public final class TemporalCollectors {
+
+	private static final String NULL_REASON = "null";
+
+	private TemporalCollectors() {}
+
+	/**
+	 * Creates a {@link Collector} which partitions the temporals into those which match and those which do not, and
+	 * counts the temporals which do not match by the condition they failed. The condition of a composite matcher
+	 * created with {@link TemporalMatcher#and(TemporalMatcher...)} is the first of its matchers to fail, otherwise it is
+	 * the matcher itself.
+	 *
+	 * @param matcher the matcher to test each temporal with
+	 * @return a collector which partitions the temporals
+	 */
+	public static <T> Collector<T, ?, Partition<T>> partitioningBy(TemporalMatcher<T> matcher) {
+		return Collector.of(() -> new Accumulator<T>(matcher),
+		        Accumulator::add,
+		        Accumulator::merge,
+		        Accumulator::finish);
+	}
+
+	/**
+	 * Collects the temporals and, for those which do not match, the condition they failed
+	 */
+	private static final class Accumulator<T> {
+
+		private final TemporalMatcher<T> matcher;
+		private final List<T> matching = new ArrayList<>();
+		private final List<T> nonMatching = new ArrayList<>();
+		private final Map<TemporalMatcher<T>, long[]> failures = new LinkedHashMap<>();
+		private long nulls;
+
+		private Accumulator(TemporalMatcher<T> matcher) {
+			this.matcher = matcher;
+		}
+
+		private void add(T actual) {
+			if (actual == null) {
+				nonMatching.add(actual);
+				++nulls;
+				return;
+			}
+			TemporalMatcher<T> failure = matcher.failure(actual);
+			if (failure == null) {
+				matching.add(actual);
+			} else {
+				nonMatching.add(actual);
+				failures.computeIfAbsent(failure, key -> new long[1])[0]++;
+			}
+		}
+
+		private Accumulator<T> merge(Accumulator<T> other) {
+			matching.addAll(other.matching);
+			nonMatching.addAll(other.nonMatching);
+			other.failures.forEach((failure, count) -> failures.computeIfAbsent(failure, key -> new long[1])[0] += count[0]);
+			nulls += other.nulls;
+			return this;
+		}
+
+		private Partition<T> finish() {
+			Map<String, Long> reasons = new LinkedHashMap<>();
+			failures.forEach((failure, count) -> reasons.merge(StringDescription.toString(failure), count[0], Long::sum));
+			if (nulls > 0) {
+				reasons.put(NULL_REASON, nulls);
+			}
+			return new Partition<>(matching, nonMatching, reasons);
+		}
+	}
+
+	/**
+	 * The temporals of a stream partitioned by whether they match a {@link TemporalMatcher}
+	 *
+	 * @param <T> the temporal type
+	 */
+	public static final class Partition<T> {
+
+		private final List<T> matching, nonMatching;
+		private final Map<String, Long> reasons;
+
+		private Partition(List<T> matching, List<T> nonMatching, Map<String, Long> reasons) {
+			this.matching = Collections.unmodifiableList(matching);
+			this.nonMatching = Collections.unmodifiableList(nonMatching);
+			this.reasons = Collections.unmodifiableMap(reasons);
+		}
+
+		/**
+		 * Return the temporals which matched in encounter order
+		 */
+		public List<T> getMatching() {
+			return matching;
+		}
+
+		/**
+		 * Return the temporals which did not match in encounter order
+		 */
+		public List<T> getNonMatching() {
+			return nonMatching;
+		}
+
+		/**
+		 * Return the number of temporals which did not match keyed by the description of the condition they failed, in the
+		 * order the conditions were first failed
+		 */
+		public Map<String, Long> getReasons() {
+			return reasons;
+		}
+	}
+}
@@ -4,7 +4,8 @@ import java.time.ZoneId;
 import java.util.Optional;
 
 /**
- * Convert one temporal type to another temporal type
+ * Convert one temporal type to another temporal type. A converter is shared by every matcher built with it, so must
+ * hold no mutable state and may be called by many threads at once.
  * 
  * @author Stewart Bissett
  *
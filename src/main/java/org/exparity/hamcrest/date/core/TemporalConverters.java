@@ -8,10 +8,10 @@ import java.time.LocalTime;
 import java.time.Month;
 import java.time.OffsetDateTime;
 import java.time.Year;
-import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.TemporalAccessor;
 import java.util.Date;
+import java.util.function.Function;
 
 import org.exparity.hamcrest.date.core.types.DayOfMonth;
 import org.exparity.hamcrest.date.core.types.Hour;
@@ -29,146 +29,355 @@ import org.exparity.hamcrest.date.core.types.Second;
  * type against the reference type where the reference type is an equal or less accurate temporal unit e.g. comparing if
  * a LocalDateTime is on a given year. There should not be "up-casting" converters because these would be making up
  * absent information e.g. converting a {@link LocalDate} to a {@link LocalDateTime}</p>
+ * <p>
+ * The converters of each source type are created in a holder class for the type, e.g. {@link Instants}, when it is
+ * first used, so a program which matches only one type does not create the converters of every other type. The
+ * constants of this class refer to every holder, so the matcher factories use the holders directly.</p>
  */
 public final class TemporalConverters {
-    
+
     private TemporalConverters() {}
 
 	public static final String UNSUPPORTED_SQL_DATE_UNIT = "java.sql.Date does not support time-based comparisons. Prefer SqlDateMatchers for java.sql.Date appropriate matchers";
-	
+
 	/**
 	 * SQL Date Converters
 	 */
-	public static final TemporalConverter<java.sql.Date, LocalDate> SQLDATE_AS_LOCALDATE = (date, zone) -> date.toLocalDate();
-	public static final TemporalConverter<java.sql.Date, java.sql.Date> SQLDATE_AS_SQLDATE = (date, zone) -> date;
-	public static final TemporalConverter<java.sql.Date, Year> SQLDATE_AS_YEAR = (date, zone) -> Year.from(SQLDATE_AS_LOCALDATE.apply(date, zone));
-	public static final TemporalConverter<java.sql.Date, Month> SQLDATE_AS_MONTH = (date, zone) -> SQLDATE_AS_LOCALDATE.apply(date, zone).getMonth();
-	public static final TemporalConverter<java.sql.Date, DayOfMonth> SQLDATE_AS_DAYOFMONTH = (date, zone) -> DayOfMonth.from(SQLDATE_AS_LOCALDATE.apply(date, zone));
-	public static final TemporalConverter<java.sql.Date, DayOfWeek> SQLDATE_AS_DAYOFWEEK = (date, zone) -> SQLDATE_AS_LOCALDATE.apply(date, zone).getDayOfWeek();
+	public static final TemporalConverter<java.sql.Date, LocalDate> SQLDATE_AS_LOCALDATE = SqlDates.SQLDATE_AS_LOCALDATE;
+	public static final TemporalConverter<java.sql.Date, java.sql.Date> SQLDATE_AS_SQLDATE = SqlDates.SQLDATE_AS_SQLDATE;
+	public static final TemporalConverter<java.sql.Date, Year> SQLDATE_AS_YEAR = SqlDates.SQLDATE_AS_YEAR;
+	public static final TemporalConverter<java.sql.Date, Month> SQLDATE_AS_MONTH = SqlDates.SQLDATE_AS_MONTH;
+	public static final TemporalConverter<java.sql.Date, DayOfMonth> SQLDATE_AS_DAYOFMONTH = SqlDates.SQLDATE_AS_DAYOFMONTH;
+	public static final TemporalConverter<java.sql.Date, DayOfWeek> SQLDATE_AS_DAYOFWEEK = SqlDates.SQLDATE_AS_DAYOFWEEK;
 
 	/**
 	 * Java Date Converters
 	 */
+	public static final TemporalConverter<Date, Instant> JAVADATE_AS_INSTANT = JavaDates.JAVADATE_AS_INSTANT;
+	public static final TemporalConverter<Date, ZonedDateTime> JAVADATE_AS_ZONEDDATETIME = JavaDates.JAVADATE_AS_ZONEDDATETIME;
+	public static final TemporalConverter<Date, LocalDateTime> JAVADATE_AS_LOCALDATETIME = JavaDates.JAVADATE_AS_LOCALDATETIME;
+	public static final TemporalConverter<Date, LocalDate> JAVADATE_AS_LOCALDATE = JavaDates.JAVADATE_AS_LOCALDATE;
+	public static final TemporalConverter<Date, TemporalAccessor> JAVADATE_AS_TEMPORAL = JavaDates.JAVADATE_AS_TEMPORAL;
+	public static final TemporalConverter<Date, java.sql.Date> JAVADATE_AS_SQLDATE = JavaDates.JAVADATE_AS_SQLDATE;
+	public static final TemporalConverter<Date, Date> JAVADATE_AS_JAVADATE = JavaDates.JAVADATE_AS_JAVADATE;
+	public static final TemporalConverter<Date, Year> JAVADATE_AS_YEAR = JavaDates.JAVADATE_AS_YEAR;
+	public static final TemporalConverter<Date, Month> JAVADATE_AS_MONTH = JavaDates.JAVADATE_AS_MONTH;
+	public static final TemporalConverter<Date, DayOfMonth> JAVADATE_AS_DAYOFMONTH = JavaDates.JAVADATE_AS_DAYOFMONTH;
+	public static final TemporalConverter<Date, DayOfWeek> JAVADATE_AS_DAYOFWEEK = JavaDates.JAVADATE_AS_DAYOFWEEK;
+	public static final TemporalConverter<Date, Hour> JAVADATE_AS_HOUR = JavaDates.JAVADATE_AS_HOUR;
+	public static final TemporalConverter<Date, Minute> JAVADATE_AS_MINUTE = JavaDates.JAVADATE_AS_MINUTE;
+	public static final TemporalConverter<Date, Second> JAVADATE_AS_SECOND = JavaDates.JAVADATE_AS_SECOND;
+	public static final TemporalConverter<Date, Millisecond> JAVADATE_AS_MILLISECOND = JavaDates.JAVADATE_AS_MILLISECOND;
 
-	public static final TemporalConverter<Date, Instant> JAVADATE_AS_INSTANT = (date, zone) -> {
-		if (date instanceof java.sql.Date) {
-			throw new TemporalConversionException(UNSUPPORTED_SQL_DATE_UNIT);
-		} else {
-			return date.toInstant();
-		}
-	};
-
-	public static final TemporalConverter<Date, ZonedDateTime> JAVADATE_AS_ZONEDDATETIME = (date, zone) -> JAVADATE_AS_INSTANT.apply(date, zone).atZone(zone.orElse(ZoneId.systemDefault()));
-	public static final TemporalConverter<Date, LocalDateTime> JAVADATE_AS_LOCALDATETIME = (date, zone) -> JAVADATE_AS_ZONEDDATETIME.apply(date, zone).toLocalDateTime();
-
-	public static final TemporalConverter<Date, LocalDate> JAVADATE_AS_LOCALDATE = (date, zone) -> {
-		if (date instanceof java.sql.Date) {
-			return ((java.sql.Date) date).toLocalDate();
-		} else {
-			return JAVADATE_AS_ZONEDDATETIME.apply(date, zone).toLocalDate();
-		}
-	};
-	
-	public static final TemporalConverter<Date, TemporalAccessor> JAVADATE_AS_TEMPORAL = (date, zone) -> {
-		if (date instanceof java.sql.Date) {
-			return JAVADATE_AS_LOCALDATE.apply(date, zone);
-		} else {
-			return JAVADATE_AS_ZONEDDATETIME.apply(date, zone);
-		}
-	};
-	
-    public static final TemporalConverter<Date, java.sql.Date> JAVADATE_AS_SQLDATE = (date, zone) -> {
-        if (date instanceof java.sql.Date) {
-            return (java.sql.Date) date;
-        } else {
-            return new java.sql.Date(date.getTime());
-        }
-    };
-
-	public static final TemporalConverter<Date, Date> JAVADATE_AS_JAVADATE = (date, zone) -> date;
-	public static final TemporalConverter<Date, Year> JAVADATE_AS_YEAR = (date, zone) -> Year.from(JAVADATE_AS_LOCALDATE.apply(date, zone));
-	public static final TemporalConverter<Date, Month> JAVADATE_AS_MONTH = (date, zone) -> JAVADATE_AS_LOCALDATE.apply(date, zone).getMonth();
-	public static final TemporalConverter<Date, DayOfMonth> JAVADATE_AS_DAYOFMONTH = (date, zone) -> DayOfMonth.from(JAVADATE_AS_LOCALDATE.apply(date, zone));
-	public static final TemporalConverter<Date, DayOfWeek> JAVADATE_AS_DAYOFWEEK = (date, zone) -> JAVADATE_AS_LOCALDATE.apply(date, zone).getDayOfWeek();
-	public static final TemporalConverter<Date, Hour> JAVADATE_AS_HOUR = (date, zone) -> Hour.from(JAVADATE_AS_LOCALDATETIME.apply(date, zone));
-	public static final TemporalConverter<Date, Minute> JAVADATE_AS_MINUTE = (date, zone) -> Minute.from(JAVADATE_AS_LOCALDATETIME.apply(date, zone));
-	public static final TemporalConverter<Date, Second> JAVADATE_AS_SECOND = (date, zone) -> Second.from(JAVADATE_AS_LOCALDATETIME.apply(date, zone));
-	public static final TemporalConverter<Date, Millisecond> JAVADATE_AS_MILLISECOND = (date, zone) -> Millisecond.from(JAVADATE_AS_INSTANT.apply(date, zone));
+	/**
+	 * Converters for a {@link Date} known not to be a {@link java.sql.Date}
+	 */
+	public static final TemporalConverter<Date, Instant> UTILDATE_AS_INSTANT = UtilDates.UTILDATE_AS_INSTANT;
+	public static final TemporalConverter<Date, LocalDate> UTILDATE_AS_LOCALDATE = UtilDates.UTILDATE_AS_LOCALDATE;
+	public static final TemporalConverter<Date, TemporalAccessor> UTILDATE_AS_TEMPORAL = UtilDates.UTILDATE_AS_TEMPORAL;
+	public static final TemporalConverter<Date, Year> UTILDATE_AS_YEAR = UtilDates.UTILDATE_AS_YEAR;
+	public static final TemporalConverter<Date, Month> UTILDATE_AS_MONTH = UtilDates.UTILDATE_AS_MONTH;
+	public static final TemporalConverter<Date, DayOfWeek> UTILDATE_AS_DAYOFWEEK = UtilDates.UTILDATE_AS_DAYOFWEEK;
 
 	/**
 	 * LocalTime Converters
 	 */
-	public static final TemporalConverter<LocalTime, LocalTime> LOCALTIME_AS_LOCALTIME = (time, zone) -> time;
-	public static final TemporalConverter<LocalTime, Hour> LOCALTIME_AS_HOUR = (time, zone) -> Hour.from(time);
-	public static final TemporalConverter<LocalTime, Minute> LOCALTIME_AS_MINUTE = (time, zone) -> Minute.from(time);
-	public static final TemporalConverter<LocalTime, Second> LOCALTIME_AS_SECOND = (time, zone) -> Second.from(time);
+	public static final TemporalConverter<LocalTime, LocalTime> LOCALTIME_AS_LOCALTIME = LocalTimes.LOCALTIME_AS_LOCALTIME;
+	public static final TemporalConverter<LocalTime, Hour> LOCALTIME_AS_HOUR = LocalTimes.LOCALTIME_AS_HOUR;
+	public static final TemporalConverter<LocalTime, Minute> LOCALTIME_AS_MINUTE = LocalTimes.LOCALTIME_AS_MINUTE;
+	public static final TemporalConverter<LocalTime, Second> LOCALTIME_AS_SECOND = LocalTimes.LOCALTIME_AS_SECOND;
 
 	/**
 	 * LocalDate Converters
 	 */
-	public static final TemporalConverter<LocalDate, LocalDate> LOCALDATE_AS_LOCALDATE = (date, zone) -> date;
-	public static final TemporalConverter<LocalDate, Year> LOCALDATE_AS_YEAR = (date, zone) -> Year.from(date);
-	public static final TemporalConverter<LocalDate, Month> LOCALDATE_AS_MONTH = (date, zone) -> date.getMonth();
-	public static final TemporalConverter<LocalDate, DayOfMonth> LOCALDATE_AS_DAYOFMONTH = (date, zone) -> DayOfMonth.from(date);
-	public static final TemporalConverter<LocalDate, DayOfWeek> LOCALDATE_AS_DAYOFWEEK = (date, zone) -> date.getDayOfWeek();
-	
+	public static final TemporalConverter<LocalDate, LocalDate> LOCALDATE_AS_LOCALDATE = LocalDates.LOCALDATE_AS_LOCALDATE;
+	public static final TemporalConverter<LocalDate, Year> LOCALDATE_AS_YEAR = LocalDates.LOCALDATE_AS_YEAR;
+	public static final TemporalConverter<LocalDate, Month> LOCALDATE_AS_MONTH = LocalDates.LOCALDATE_AS_MONTH;
+	public static final TemporalConverter<LocalDate, DayOfMonth> LOCALDATE_AS_DAYOFMONTH = LocalDates.LOCALDATE_AS_DAYOFMONTH;
+	public static final TemporalConverter<LocalDate, DayOfWeek> LOCALDATE_AS_DAYOFWEEK = LocalDates.LOCALDATE_AS_DAYOFWEEK;
+
 	/**
 	 * LocalDateTime Converters
 	 */
-	public static final TemporalConverter<LocalDateTime, LocalDateTime> LOCALDATETIME_AS_LOCALDATETIME = (date, zone) -> date;
-	public static final TemporalConverter<LocalDateTime, LocalDate> LOCALDATETIME_AS_LOCALDATE = (date, zone) -> date.toLocalDate();
-	public static final TemporalConverter<LocalDateTime, Year> LOCALDATETIME_AS_YEAR = (date, zone) -> Year.from(date);
-	public static final TemporalConverter<LocalDateTime, Month> LOCALDATETIME_AS_MONTH = (date, zone) -> date.getMonth();
-	public static final TemporalConverter<LocalDateTime, DayOfMonth> LOCALDATETIME_AS_DAYOFMONTH = (date, zone) -> DayOfMonth.from(date);
-	public static final TemporalConverter<LocalDateTime, DayOfWeek> LOCALDATETIME_AS_DAYOFWEEK = (date, zone) -> date.getDayOfWeek();
-	public static final TemporalConverter<LocalDateTime, Hour> LOCALDATETIME_AS_HOUR = (date, zone) -> Hour.from(date);
-	public static final TemporalConverter<LocalDateTime, Minute> LOCALDATETIME_AS_MINUTE = (date, zone) -> Minute.from(date);
-	public static final TemporalConverter<LocalDateTime, Second> LOCALDATETIME_AS_SECOND = (date, zone) -> Second.from(date);
+	public static final TemporalConverter<LocalDateTime, LocalDateTime> LOCALDATETIME_AS_LOCALDATETIME = LocalDateTimes.LOCALDATETIME_AS_LOCALDATETIME;
+	public static final TemporalConverter<LocalDateTime, LocalDate> LOCALDATETIME_AS_LOCALDATE = LocalDateTimes.LOCALDATETIME_AS_LOCALDATE;
+	public static final TemporalConverter<LocalDateTime, Year> LOCALDATETIME_AS_YEAR = LocalDateTimes.LOCALDATETIME_AS_YEAR;
+	public static final TemporalConverter<LocalDateTime, Month> LOCALDATETIME_AS_MONTH = LocalDateTimes.LOCALDATETIME_AS_MONTH;
+	public static final TemporalConverter<LocalDateTime, DayOfMonth> LOCALDATETIME_AS_DAYOFMONTH = LocalDateTimes.LOCALDATETIME_AS_DAYOFMONTH;
+	public static final TemporalConverter<LocalDateTime, DayOfWeek> LOCALDATETIME_AS_DAYOFWEEK = LocalDateTimes.LOCALDATETIME_AS_DAYOFWEEK;
+	public static final TemporalConverter<LocalDateTime, Hour> LOCALDATETIME_AS_HOUR = LocalDateTimes.LOCALDATETIME_AS_HOUR;
+	public static final TemporalConverter<LocalDateTime, Minute> LOCALDATETIME_AS_MINUTE = LocalDateTimes.LOCALDATETIME_AS_MINUTE;
+	public static final TemporalConverter<LocalDateTime, Second> LOCALDATETIME_AS_SECOND = LocalDateTimes.LOCALDATETIME_AS_SECOND;
 
 	/**
 	 * ZonedDateTime Converters
 	 */
-	public static final TemporalConverter<ZonedDateTime, ZonedDateTime> ZONEDDATETIME_AS_ZONEDDATETIME = (date, zone) -> zone.map(
-			date::withZoneSameInstant).orElse(date);
-	public static final TemporalConverter<ZonedDateTime, LocalDate> ZONEDDATETIME_AS_LOCALDATE = (date, zone) -> ZONEDDATETIME_AS_ZONEDDATETIME.apply(date, zone).toLocalDate();
-	public static final TemporalConverter<ZonedDateTime, Year> ZONEDDATETIME_AS_YEAR = (date, zone) -> Year.from(ZONEDDATETIME_AS_LOCALDATE.apply(date, zone));
-	public static final TemporalConverter<ZonedDateTime, Month> ZONEDDATETIME_AS_MONTH = (date, zone) -> ZONEDDATETIME_AS_LOCALDATE.apply(date, zone).getMonth();
-	public static final TemporalConverter<ZonedDateTime, DayOfMonth> ZONEDDATETIME_AS_DAYOFMONTH = (date, zone) -> DayOfMonth.from(ZONEDDATETIME_AS_LOCALDATE.apply(date, zone));
-	public static final TemporalConverter<ZonedDateTime, DayOfWeek> ZONEDDATETIME_AS_DAYOFWEEK = (date, zone) -> ZONEDDATETIME_AS_LOCALDATE.apply(date, zone).getDayOfWeek();
-	public static final TemporalConverter<ZonedDateTime, Hour> ZONEDDATETIME_AS_HOUR = (date, zone) -> Hour.from(ZONEDDATETIME_AS_ZONEDDATETIME.apply(date, zone));
-	public static final TemporalConverter<ZonedDateTime, Minute> ZONEDDATETIME_AS_MINUTE = (date, zone) -> Minute.from(ZONEDDATETIME_AS_ZONEDDATETIME.apply(date, zone));
-	public static final TemporalConverter<ZonedDateTime, Second> ZONEDDATETIME_AS_SECOND = (date, zone) -> Second.from(ZONEDDATETIME_AS_ZONEDDATETIME.apply(date, zone));
-	
+	public static final TemporalConverter<ZonedDateTime, ZonedDateTime> ZONEDDATETIME_AS_ZONEDDATETIME = ZonedDateTimes.ZONEDDATETIME_AS_ZONEDDATETIME;
+	public static final TemporalConverter<ZonedDateTime, LocalDate> ZONEDDATETIME_AS_LOCALDATE = ZonedDateTimes.ZONEDDATETIME_AS_LOCALDATE;
+	public static final TemporalConverter<ZonedDateTime, Year> ZONEDDATETIME_AS_YEAR = ZonedDateTimes.ZONEDDATETIME_AS_YEAR;
+	public static final TemporalConverter<ZonedDateTime, Month> ZONEDDATETIME_AS_MONTH = ZonedDateTimes.ZONEDDATETIME_AS_MONTH;
+	public static final TemporalConverter<ZonedDateTime, DayOfMonth> ZONEDDATETIME_AS_DAYOFMONTH = ZonedDateTimes.ZONEDDATETIME_AS_DAYOFMONTH;
+	public static final TemporalConverter<ZonedDateTime, DayOfWeek> ZONEDDATETIME_AS_DAYOFWEEK = ZonedDateTimes.ZONEDDATETIME_AS_DAYOFWEEK;
+	public static final TemporalConverter<ZonedDateTime, Hour> ZONEDDATETIME_AS_HOUR = ZonedDateTimes.ZONEDDATETIME_AS_HOUR;
+	public static final TemporalConverter<ZonedDateTime, Minute> ZONEDDATETIME_AS_MINUTE = ZonedDateTimes.ZONEDDATETIME_AS_MINUTE;
+	public static final TemporalConverter<ZonedDateTime, Second> ZONEDDATETIME_AS_SECOND = ZonedDateTimes.ZONEDDATETIME_AS_SECOND;
+
 	/**
 	 * DayOfWeek Converters
 	 */
-	public static final TemporalConverter<DayOfWeek, DayOfWeek> DAYOFWEEK_TO_DAYOFWEEK = (date, zone) -> date;
-	
+	public static final TemporalConverter<DayOfWeek, DayOfWeek> DAYOFWEEK_TO_DAYOFWEEK = DaysOfWeek.DAYOFWEEK_TO_DAYOFWEEK;
+
 	/**
      * {@link OffsetDateTime} Converters
      */
-	public static final TemporalConverter<OffsetDateTime, OffsetDateTime> OFFSETDATETIME_AS_OFFSETDATETIME = (date, zone) -> zone.map(z -> date.withOffsetSameInstant(z.getRules().getOffset(date.toLocalDateTime()))).orElse(date);    
-    public static final TemporalConverter<OffsetDateTime, LocalDate> OFFSETDATETIME_AS_LOCALDATE = (date, zone) -> OFFSETDATETIME_AS_OFFSETDATETIME.apply(date, zone).toLocalDate();
-    public static final TemporalConverter<OffsetDateTime, Year> OFFSETDATETIME_AS_YEAR = (date, zone) -> Year.from(OFFSETDATETIME_AS_LOCALDATE.apply(date, zone));
-    public static final TemporalConverter<OffsetDateTime, Month> OFFSETDATETIME_AS_MONTH = (date, zone) -> OFFSETDATETIME_AS_LOCALDATE.apply(date, zone).getMonth();
-    public static final TemporalConverter<OffsetDateTime, DayOfMonth> OFFSETDATETIME_AS_DAYOFMONTH = (date, zone) -> DayOfMonth.from(OFFSETDATETIME_AS_LOCALDATE.apply(date, zone));
-    public static final TemporalConverter<OffsetDateTime, DayOfWeek> OFFSETDATETIME_AS_DAYOFWEEK = (date, zone) -> OFFSETDATETIME_AS_LOCALDATE.apply(date, zone).getDayOfWeek();
-    public static final TemporalConverter<OffsetDateTime, Hour> OFFSETDATETIME_AS_HOUR = (date, zone) -> Hour.from(OFFSETDATETIME_AS_OFFSETDATETIME.apply(date, zone));
-    public static final TemporalConverter<OffsetDateTime, Minute> OFFSETDATETIME_AS_MINUTE = (date, zone) -> Minute.from(OFFSETDATETIME_AS_OFFSETDATETIME.apply(date, zone));
-    public static final TemporalConverter<OffsetDateTime, Second> OFFSETDATETIME_AS_SECOND = (date, zone) -> Second.from(OFFSETDATETIME_AS_OFFSETDATETIME.apply(date, zone));    
-    
+	public static final TemporalConverter<OffsetDateTime, OffsetDateTime> OFFSETDATETIME_AS_OFFSETDATETIME = OffsetDateTimes.OFFSETDATETIME_AS_OFFSETDATETIME;
+    public static final TemporalConverter<OffsetDateTime, LocalDate> OFFSETDATETIME_AS_LOCALDATE = OffsetDateTimes.OFFSETDATETIME_AS_LOCALDATE;
+    public static final TemporalConverter<OffsetDateTime, Year> OFFSETDATETIME_AS_YEAR = OffsetDateTimes.OFFSETDATETIME_AS_YEAR;
+    public static final TemporalConverter<OffsetDateTime, Month> OFFSETDATETIME_AS_MONTH = OffsetDateTimes.OFFSETDATETIME_AS_MONTH;
+    public static final TemporalConverter<OffsetDateTime, DayOfMonth> OFFSETDATETIME_AS_DAYOFMONTH = OffsetDateTimes.OFFSETDATETIME_AS_DAYOFMONTH;
+    public static final TemporalConverter<OffsetDateTime, DayOfWeek> OFFSETDATETIME_AS_DAYOFWEEK = OffsetDateTimes.OFFSETDATETIME_AS_DAYOFWEEK;
+    public static final TemporalConverter<OffsetDateTime, Hour> OFFSETDATETIME_AS_HOUR = OffsetDateTimes.OFFSETDATETIME_AS_HOUR;
+    public static final TemporalConverter<OffsetDateTime, Minute> OFFSETDATETIME_AS_MINUTE = OffsetDateTimes.OFFSETDATETIME_AS_MINUTE;
+    public static final TemporalConverter<OffsetDateTime, Second> OFFSETDATETIME_AS_SECOND = OffsetDateTimes.OFFSETDATETIME_AS_SECOND;
+
     /**
      * Instant Converters
      */
-    public static final TemporalConverter<Instant, Instant> INSTANT_AS_INSTANT = (date, zone) -> date;
-    public static final TemporalConverter<Instant, ZonedDateTime> INSTANT_AS_ZONEDDATETIME = (date, zone) -> zone.map(date::atZone).orElse(date.atZone(ZoneId.systemDefault()));
-    public static final TemporalConverter<Instant, LocalDate> INSTANT_AS_LOCALDATE = (date, zone) -> INSTANT_AS_ZONEDDATETIME.apply(date, zone).toLocalDate();
-    public static final TemporalConverter<Instant, Year> INSTANT_AS_YEAR = (date, zone) -> Year.from(INSTANT_AS_LOCALDATE.apply(date, zone));
-    public static final TemporalConverter<Instant, Month> INSTANT_AS_MONTH = (date, zone) -> INSTANT_AS_LOCALDATE.apply(date, zone).getMonth();
-    public static final TemporalConverter<Instant, DayOfMonth> INSTANT_AS_DAYOFMONTH = (date, zone) -> DayOfMonth.from(INSTANT_AS_LOCALDATE.apply(date, zone));
-    public static final TemporalConverter<Instant, DayOfWeek> INSTANT_AS_DAYOFWEEK = (date, zone) -> INSTANT_AS_LOCALDATE.apply(date, zone).getDayOfWeek();
-    public static final TemporalConverter<Instant, Hour> INSTANT_AS_HOUR = (date, zone) -> Hour.from(INSTANT_AS_ZONEDDATETIME.apply(date, zone));
-    public static final TemporalConverter<Instant, Minute> INSTANT_AS_MINUTE = (date, zone) -> Minute.from(INSTANT_AS_ZONEDDATETIME.apply(date, zone));
-    public static final TemporalConverter<Instant, Second> INSTANT_AS_SECOND = (date, zone) -> Second.from(INSTANT_AS_ZONEDDATETIME.apply(date, zone));
+    public static final TemporalConverter<Instant, Instant> INSTANT_AS_INSTANT = Instants.INSTANT_AS_INSTANT;
+    public static final TemporalConverter<Instant, ZonedDateTime> INSTANT_AS_ZONEDDATETIME = Instants.INSTANT_AS_ZONEDDATETIME;
+    public static final TemporalConverter<Instant, LocalDate> INSTANT_AS_LOCALDATE = Instants.INSTANT_AS_LOCALDATE;
+    public static final TemporalConverter<Instant, Year> INSTANT_AS_YEAR = Instants.INSTANT_AS_YEAR;
+    public static final TemporalConverter<Instant, Month> INSTANT_AS_MONTH = Instants.INSTANT_AS_MONTH;
+    public static final TemporalConverter<Instant, DayOfMonth> INSTANT_AS_DAYOFMONTH = Instants.INSTANT_AS_DAYOFMONTH;
+    public static final TemporalConverter<Instant, DayOfWeek> INSTANT_AS_DAYOFWEEK = Instants.INSTANT_AS_DAYOFWEEK;
+    public static final TemporalConverter<Instant, Hour> INSTANT_AS_HOUR = Instants.INSTANT_AS_HOUR;
+    public static final TemporalConverter<Instant, Minute> INSTANT_AS_MINUTE = Instants.INSTANT_AS_MINUTE;
+    public static final TemporalConverter<Instant, Second> INSTANT_AS_SECOND = Instants.INSTANT_AS_SECOND;
+
+	/**
+	 * SQL Date Converters
+	 */
+	public static final class SqlDates {
+
+		private SqlDates() {}
+
+		public static final TemporalConverter<java.sql.Date, LocalDate> SQLDATE_AS_LOCALDATE = (date, zone) -> date.toLocalDate();
+		public static final TemporalConverter<java.sql.Date, java.sql.Date> SQLDATE_AS_SQLDATE = (date, zone) -> date;
+		@SuppressWarnings("deprecation")
+		public static final TemporalConverter<java.sql.Date, Year> SQLDATE_AS_YEAR = (date, zone) -> Year.of(date.getYear() + 1900);
+		@SuppressWarnings("deprecation")
+		public static final TemporalConverter<java.sql.Date, Month> SQLDATE_AS_MONTH = (date, zone) -> Month.of(date.getMonth() + 1);
+		@SuppressWarnings("deprecation")
+		public static final TemporalConverter<java.sql.Date, DayOfMonth> SQLDATE_AS_DAYOFMONTH = (date, zone) -> DayOfMonth.of(date.getDate());
+		@SuppressWarnings("deprecation")
+		public static final TemporalConverter<java.sql.Date, DayOfWeek> SQLDATE_AS_DAYOFWEEK = (date, zone) -> DayOfWeek.of(date.getDay() == 0 ? 7 : date.getDay());
+	}
+
+	/**
+	 * Java Date Converters
+	 */
+	public static final class JavaDates {
+
+		private JavaDates() {}
+
+		public static final TemporalConverter<Date, Instant> JAVADATE_AS_INSTANT = (date, zone) -> {
+			if (date instanceof java.sql.Date) {
+				throw new TemporalConversionException(UNSUPPORTED_SQL_DATE_UNIT);
+			} else {
+				return date.toInstant();
+			}
+		};
+
+		public static final TemporalConverter<Date, ZonedDateTime> JAVADATE_AS_ZONEDDATETIME = (date, zone) -> JAVADATE_AS_INSTANT.apply(date, zone).atZone(zone.orElseGet(DefaultZones::get));
+		public static final TemporalConverter<Date, LocalDateTime> JAVADATE_AS_LOCALDATETIME = (date, zone) -> JAVADATE_AS_ZONEDDATETIME.apply(date, zone).toLocalDateTime();
+
+		public static final TemporalConverter<Date, LocalDate> JAVADATE_AS_LOCALDATE = (date, zone) -> {
+			if (date instanceof java.sql.Date) {
+				return ((java.sql.Date) date).toLocalDate();
+			} else {
+				return UtilDates.UTILDATE_AS_LOCALDATE.apply(date, zone);
+			}
+		};
+
+		public static final TemporalConverter<Date, TemporalAccessor> JAVADATE_AS_TEMPORAL = (date, zone) -> {
+			if (date instanceof java.sql.Date) {
+				return JAVADATE_AS_LOCALDATE.apply(date, zone);
+			} else {
+				return JAVADATE_AS_ZONEDDATETIME.apply(date, zone);
+			}
+		};
+
+		public static final TemporalConverter<Date, java.sql.Date> JAVADATE_AS_SQLDATE = (date, zone) -> {
+			if (date instanceof java.sql.Date) {
+				return (java.sql.Date) date;
+			} else {
+				return new java.sql.Date(date.getTime());
+			}
+		};
+
+		public static final TemporalConverter<Date, Date> JAVADATE_AS_JAVADATE = (date, zone) -> date;
+		public static final TemporalConverter<Date, Year> JAVADATE_AS_YEAR = javaDate(UtilDates.UTILDATE_AS_YEAR, SqlDates.SQLDATE_AS_YEAR);
+		public static final TemporalConverter<Date, Month> JAVADATE_AS_MONTH = javaDate(UtilDates.UTILDATE_AS_MONTH, SqlDates.SQLDATE_AS_MONTH);
+		public static final TemporalConverter<Date, DayOfMonth> JAVADATE_AS_DAYOFMONTH = javaDate(EpochFields.asDayOfMonth(EpochConverters.JAVADATE), SqlDates.SQLDATE_AS_DAYOFMONTH);
+		public static final TemporalConverter<Date, DayOfWeek> JAVADATE_AS_DAYOFWEEK = javaDate(UtilDates.UTILDATE_AS_DAYOFWEEK, SqlDates.SQLDATE_AS_DAYOFWEEK);
+		public static final TemporalConverter<Date, Hour> JAVADATE_AS_HOUR = javaDate(EpochFields.asHour(EpochConverters.JAVADATE), unsupportedSqlDate());
+		public static final TemporalConverter<Date, Minute> JAVADATE_AS_MINUTE = javaDate(EpochFields.asMinute(EpochConverters.JAVADATE), unsupportedSqlDate());
+		public static final TemporalConverter<Date, Second> JAVADATE_AS_SECOND = javaDate(EpochFields.asSecond(EpochConverters.JAVADATE), unsupportedSqlDate());
+		public static final TemporalConverter<Date, Millisecond> JAVADATE_AS_MILLISECOND = javaDate(EpochFields.asMillisecond(EpochConverters.JAVADATE), unsupportedSqlDate());
+
+		/**
+		 * Convert a {@link Date} with the converter, or a {@link java.sql.Date} with the SQL date converter
+		 */
+		private static <R> TemporalConverter<Date, R> javaDate(TemporalConverter<Date, R> converter, TemporalConverter<java.sql.Date, R> sqlDateConverter) {
+			return (date, zone) -> date instanceof java.sql.Date ? sqlDateConverter.apply((java.sql.Date) date, zone) : converter.apply(date, zone);
+		}
+
+		private static <R> TemporalConverter<java.sql.Date, R> unsupportedSqlDate() {
+			return (date, zone) -> {
+				throw new TemporalConversionException(UNSUPPORTED_SQL_DATE_UNIT);
+			};
+		}
+	}
+
+	/**
+	 * Converters for a {@link Date} known not to be a {@link java.sql.Date}, used by the variant of a matcher which a
+	 * {@link SpecializedMatcher} uses for plain dates. The Java Date converters read a plain date with these.
+	 */
+	public static final class UtilDates {
+
+		private UtilDates() {}
+
+		public static final TemporalConverter<Date, Instant> UTILDATE_AS_INSTANT = (date, zone) -> date.toInstant();
+		public static final TemporalConverter<Date, LocalDate> UTILDATE_AS_LOCALDATE = EpochFields.asLocalDate(EpochConverters.UTILDATE);
+		public static final TemporalConverter<Date, TemporalAccessor> UTILDATE_AS_TEMPORAL = (date, zone) -> date.toInstant().atZone(zone.orElseGet(DefaultZones::get));
+		public static final TemporalConverter<Date, Year> UTILDATE_AS_YEAR = EpochFields.asYear(EpochConverters.UTILDATE);
+		public static final TemporalConverter<Date, Month> UTILDATE_AS_MONTH = EpochFields.asMonth(EpochConverters.UTILDATE);
+		public static final TemporalConverter<Date, DayOfWeek> UTILDATE_AS_DAYOFWEEK = EpochFields.asDayOfWeek(EpochConverters.UTILDATE);
+	}
+
+	/**
+	 * LocalTime Converters
+	 */
+	public static final class LocalTimes {
+
+		private LocalTimes() {}
+
+		public static final TemporalConverter<LocalTime, LocalTime> LOCALTIME_AS_LOCALTIME = (time, zone) -> time;
+		public static final TemporalConverter<LocalTime, Hour> LOCALTIME_AS_HOUR = (time, zone) -> Hour.from(time);
+		public static final TemporalConverter<LocalTime, Minute> LOCALTIME_AS_MINUTE = (time, zone) -> Minute.from(time);
+		public static final TemporalConverter<LocalTime, Second> LOCALTIME_AS_SECOND = (time, zone) -> Second.from(time);
+	}
+
+	/**
+	 * LocalDate Converters
+	 */
+	public static final class LocalDates {
+
+		private LocalDates() {}
+
+		public static final TemporalConverter<LocalDate, LocalDate> LOCALDATE_AS_LOCALDATE = (date, zone) -> date;
+		public static final TemporalConverter<LocalDate, Year> LOCALDATE_AS_YEAR = (date, zone) -> Year.from(date);
+		public static final TemporalConverter<LocalDate, Month> LOCALDATE_AS_MONTH = (date, zone) -> date.getMonth();
+		public static final TemporalConverter<LocalDate, DayOfMonth> LOCALDATE_AS_DAYOFMONTH = (date, zone) -> DayOfMonth.from(date);
+		public static final TemporalConverter<LocalDate, DayOfWeek> LOCALDATE_AS_DAYOFWEEK = (date, zone) -> date.getDayOfWeek();
+	}
+
+	/**
+	 * LocalDateTime Converters
+	 */
+	public static final class LocalDateTimes {
+
+		private LocalDateTimes() {}
+
+		public static final TemporalConverter<LocalDateTime, LocalDateTime> LOCALDATETIME_AS_LOCALDATETIME = (date, zone) -> date;
+		public static final TemporalConverter<LocalDateTime, LocalDate> LOCALDATETIME_AS_LOCALDATE = (date, zone) -> date.toLocalDate();
+		public static final TemporalConverter<LocalDateTime, Year> LOCALDATETIME_AS_YEAR = (date, zone) -> Year.from(date);
+		public static final TemporalConverter<LocalDateTime, Month> LOCALDATETIME_AS_MONTH = (date, zone) -> date.getMonth();
+		public static final TemporalConverter<LocalDateTime, DayOfMonth> LOCALDATETIME_AS_DAYOFMONTH = (date, zone) -> DayOfMonth.from(date);
+		public static final TemporalConverter<LocalDateTime, DayOfWeek> LOCALDATETIME_AS_DAYOFWEEK = (date, zone) -> date.getDayOfWeek();
+		public static final TemporalConverter<LocalDateTime, Hour> LOCALDATETIME_AS_HOUR = (date, zone) -> Hour.from(date);
+		public static final TemporalConverter<LocalDateTime, Minute> LOCALDATETIME_AS_MINUTE = (date, zone) -> Minute.from(date);
+		public static final TemporalConverter<LocalDateTime, Second> LOCALDATETIME_AS_SECOND = (date, zone) -> Second.from(date);
+	}
+
+	/**
+	 * ZonedDateTime Converters
+	 */
+	public static final class ZonedDateTimes {
+
+		private ZonedDateTimes() {}
+
+		public static final TemporalConverter<ZonedDateTime, ZonedDateTime> ZONEDDATETIME_AS_ZONEDDATETIME = (date, zone) -> zone.map(
+				date::withZoneSameInstant).orElse(date);
+		public static final TemporalConverter<ZonedDateTime, LocalDate> ZONEDDATETIME_AS_LOCALDATE = zonedDateTime(EpochFields.asLocalDate(EpochConverters.ZONEDDATETIME), ZonedDateTime::toLocalDate);
+		public static final TemporalConverter<ZonedDateTime, Year> ZONEDDATETIME_AS_YEAR = zonedDateTime(EpochFields.asYear(EpochConverters.ZONEDDATETIME), Year::from);
+		public static final TemporalConverter<ZonedDateTime, Month> ZONEDDATETIME_AS_MONTH = zonedDateTime(EpochFields.asMonth(EpochConverters.ZONEDDATETIME), ZonedDateTime::getMonth);
+		public static final TemporalConverter<ZonedDateTime, DayOfMonth> ZONEDDATETIME_AS_DAYOFMONTH = zonedDateTime(EpochFields.asDayOfMonth(EpochConverters.ZONEDDATETIME), DayOfMonth::from);
+		public static final TemporalConverter<ZonedDateTime, DayOfWeek> ZONEDDATETIME_AS_DAYOFWEEK = zonedDateTime(EpochFields.asDayOfWeek(EpochConverters.ZONEDDATETIME), ZonedDateTime::getDayOfWeek);
+		public static final TemporalConverter<ZonedDateTime, Hour> ZONEDDATETIME_AS_HOUR = zonedDateTime(EpochFields.asHour(EpochConverters.ZONEDDATETIME), Hour::from);
+		public static final TemporalConverter<ZonedDateTime, Minute> ZONEDDATETIME_AS_MINUTE = zonedDateTime(EpochFields.asMinute(EpochConverters.ZONEDDATETIME), Minute::from);
+		public static final TemporalConverter<ZonedDateTime, Second> ZONEDDATETIME_AS_SECOND = zonedDateTime(EpochFields.asSecond(EpochConverters.ZONEDDATETIME), Second::from);
+
+		/**
+		 * Convert a {@link ZonedDateTime} with the converter when re-zoned, or read the field from it in its own zone
+		 */
+		private static <R> TemporalConverter<ZonedDateTime, R> zonedDateTime(TemporalConverter<ZonedDateTime, R> converter, Function<ZonedDateTime, R> field) {
+			return (date, zone) -> zone.isPresent() ? converter.apply(date, zone) : field.apply(date);
+		}
+	}
+
+	/**
+	 * DayOfWeek Converters
+	 */
+	public static final class DaysOfWeek {
+
+		private DaysOfWeek() {}
+
+		public static final TemporalConverter<DayOfWeek, DayOfWeek> DAYOFWEEK_TO_DAYOFWEEK = (date, zone) -> date;
+	}
+
+	/**
+	 * {@link OffsetDateTime} Converters
+	 */
+	public static final class OffsetDateTimes {
+
+		private OffsetDateTimes() {}
+
+		public static final TemporalConverter<OffsetDateTime, OffsetDateTime> OFFSETDATETIME_AS_OFFSETDATETIME = (date, zone) -> zone.map(z -> date.withOffsetSameInstant(ZoneOffsetWindows.localOffset(date.toLocalDateTime(), z))).orElse(date);
+		public static final TemporalConverter<OffsetDateTime, LocalDate> OFFSETDATETIME_AS_LOCALDATE = offsetDateTime(EpochFields.asLocalDate(EpochConverters.OFFSETDATETIME_LOCAL), OffsetDateTime::toLocalDate);
+		public static final TemporalConverter<OffsetDateTime, Year> OFFSETDATETIME_AS_YEAR = offsetDateTime(EpochFields.asYear(EpochConverters.OFFSETDATETIME_LOCAL), date -> Year.of(date.getYear()));
+		public static final TemporalConverter<OffsetDateTime, Month> OFFSETDATETIME_AS_MONTH = offsetDateTime(EpochFields.asMonth(EpochConverters.OFFSETDATETIME_LOCAL), OffsetDateTime::getMonth);
+		public static final TemporalConverter<OffsetDateTime, DayOfMonth> OFFSETDATETIME_AS_DAYOFMONTH = offsetDateTime(EpochFields.asDayOfMonth(EpochConverters.OFFSETDATETIME_LOCAL), DayOfMonth::from);
+		public static final TemporalConverter<OffsetDateTime, DayOfWeek> OFFSETDATETIME_AS_DAYOFWEEK = offsetDateTime(EpochFields.asDayOfWeek(EpochConverters.OFFSETDATETIME_LOCAL), OffsetDateTime::getDayOfWeek);
+		public static final TemporalConverter<OffsetDateTime, Hour> OFFSETDATETIME_AS_HOUR = offsetDateTime(EpochFields.asHour(EpochConverters.OFFSETDATETIME_LOCAL), Hour::from);
+		public static final TemporalConverter<OffsetDateTime, Minute> OFFSETDATETIME_AS_MINUTE = offsetDateTime(EpochFields.asMinute(EpochConverters.OFFSETDATETIME_LOCAL), Minute::from);
+		public static final TemporalConverter<OffsetDateTime, Second> OFFSETDATETIME_AS_SECOND = offsetDateTime(EpochFields.asSecond(EpochConverters.OFFSETDATETIME_LOCAL), Second::from);
+
+		/**
+		 * Convert an {@link OffsetDateTime} with the converter when moved to a zone, or read the field from it at its own
+		 * offset
+		 */
+		private static <R> TemporalConverter<OffsetDateTime, R> offsetDateTime(TemporalConverter<OffsetDateTime, R> converter, Function<OffsetDateTime, R> field) {
+			return (date, zone) -> zone.isPresent() ? converter.apply(date, zone) : field.apply(date);
+		}
+	}
+
+	/**
+	 * Instant Converters
+	 */
+	public static final class Instants {
+
+		private Instants() {}
 
+		public static final TemporalConverter<Instant, Instant> INSTANT_AS_INSTANT = (date, zone) -> date;
+		public static final TemporalConverter<Instant, ZonedDateTime> INSTANT_AS_ZONEDDATETIME = (date, zone) -> zone.map(date::atZone).orElseGet(() -> date.atZone(DefaultZones.get()));
+		public static final TemporalConverter<Instant, LocalDate> INSTANT_AS_LOCALDATE = EpochFields.asLocalDate(EpochConverters.INSTANT);
+		public static final TemporalConverter<Instant, Year> INSTANT_AS_YEAR = EpochFields.asYear(EpochConverters.INSTANT);
+		public static final TemporalConverter<Instant, Month> INSTANT_AS_MONTH = EpochFields.asMonth(EpochConverters.INSTANT);
+		public static final TemporalConverter<Instant, DayOfMonth> INSTANT_AS_DAYOFMONTH = EpochFields.asDayOfMonth(EpochConverters.INSTANT);
+		public static final TemporalConverter<Instant, DayOfWeek> INSTANT_AS_DAYOFWEEK = EpochFields.asDayOfWeek(EpochConverters.INSTANT);
+		public static final TemporalConverter<Instant, Hour> INSTANT_AS_HOUR = EpochFields.asHour(EpochConverters.INSTANT);
+		public static final TemporalConverter<Instant, Minute> INSTANT_AS_MINUTE = EpochFields.asMinute(EpochConverters.INSTANT);
+		public static final TemporalConverter<Instant, Second> INSTANT_AS_SECOND = EpochFields.asSecond(EpochConverters.INSTANT);
+	}
 }
@@ -0,0 +1,24 @@
+package org.exparity.hamcrest.date.core;
+
+import java.time.ZoneId;
+import java.util.Optional;
+
+/**
+ * Read a numeric field, such as the hour of the day, from a temporal type as a primitive int. Unlike a
+ * {@link TemporalConverter} to one of the value types in {@link org.exparity.hamcrest.date.core.types} no object is
+ * created for each conversion. A converter is shared by every matcher built with it, so must hold no mutable state and
+ * may be called by many threads at once.
+ *
+ * @param <T> the source type
+ */
+@FunctionalInterface
+public interface TemporalFieldConverter<T> {
+
+	/**
+	 * Read the field from the temporal type
+	 * @param source the source to read the field from
+	 * @param zone the zone to read the field in, or empty to read it in the zone of the source or the default zone
+	 * @return the value of the field
+	 */
+	public int applyAsInt(T source, Optional<ZoneId> zone);
+}
@@ -0,0 +1,232 @@
+package org.exparity.hamcrest.date.core;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.function.ToIntFunction;
+
+/**
+ * Static repository of {@link TemporalFieldConverter} instances which read a field of a temporal type as a primitive
+ * int e.g. given an {@link Instant} returns the hour of the day. Each converter reads the same value as the
+ * {@link TemporalConverter} of the same source and field in {@link TemporalConverters}, e.g.
+ * {@link #INSTANT_HOUR_OF_DAY} and {@link TemporalConverters#INSTANT_AS_HOUR}, without creating the value type or an
+ * intermediate {@link ZonedDateTime}. As in {@link TemporalConverters} the converters of each source type are created in
+ * a holder class for the type when it is first used.
+ */
+public final class TemporalFieldConverters {
+
+    private TemporalFieldConverters() {}
+
+    /**
+     * SQL Date Converters
+     */
+    public static final TemporalFieldConverter<java.sql.Date> SQLDATE_DAY_OF_MONTH = SqlDates.SQLDATE_DAY_OF_MONTH;
+
+    /**
+     * Java Date Converters
+     */
+    public static final TemporalFieldConverter<Date> JAVADATE_DAY_OF_MONTH = JavaDates.JAVADATE_DAY_OF_MONTH;
+    public static final TemporalFieldConverter<Date> JAVADATE_HOUR_OF_DAY = JavaDates.JAVADATE_HOUR_OF_DAY;
+    public static final TemporalFieldConverter<Date> JAVADATE_MINUTE_OF_HOUR = JavaDates.JAVADATE_MINUTE_OF_HOUR;
+    public static final TemporalFieldConverter<Date> JAVADATE_SECOND_OF_MINUTE = JavaDates.JAVADATE_SECOND_OF_MINUTE;
+    public static final TemporalFieldConverter<Date> JAVADATE_MILLI_OF_SECOND = JavaDates.JAVADATE_MILLI_OF_SECOND;
+
+    /**
+     * Converters for a {@link Date} known not to be a {@link java.sql.Date}
+     */
+    public static final TemporalFieldConverter<Date> UTILDATE_DAY_OF_MONTH = UtilDates.UTILDATE_DAY_OF_MONTH;
+    public static final TemporalFieldConverter<Date> UTILDATE_HOUR_OF_DAY = UtilDates.UTILDATE_HOUR_OF_DAY;
+    public static final TemporalFieldConverter<Date> UTILDATE_MINUTE_OF_HOUR = UtilDates.UTILDATE_MINUTE_OF_HOUR;
+    public static final TemporalFieldConverter<Date> UTILDATE_SECOND_OF_MINUTE = UtilDates.UTILDATE_SECOND_OF_MINUTE;
+    public static final TemporalFieldConverter<Date> UTILDATE_MILLI_OF_SECOND = UtilDates.UTILDATE_MILLI_OF_SECOND;
+
+    /**
+     * LocalTime Converters
+     */
+    public static final TemporalFieldConverter<LocalTime> LOCALTIME_HOUR_OF_DAY = LocalTimes.LOCALTIME_HOUR_OF_DAY;
+    public static final TemporalFieldConverter<LocalTime> LOCALTIME_MINUTE_OF_HOUR = LocalTimes.LOCALTIME_MINUTE_OF_HOUR;
+    public static final TemporalFieldConverter<LocalTime> LOCALTIME_SECOND_OF_MINUTE = LocalTimes.LOCALTIME_SECOND_OF_MINUTE;
+
+    /**
+     * LocalDate Converters
+     */
+    public static final TemporalFieldConverter<LocalDate> LOCALDATE_DAY_OF_MONTH = LocalDates.LOCALDATE_DAY_OF_MONTH;
+
+    /**
+     * LocalDateTime Converters
+     */
+    public static final TemporalFieldConverter<LocalDateTime> LOCALDATETIME_DAY_OF_MONTH = LocalDateTimes.LOCALDATETIME_DAY_OF_MONTH;
+    public static final TemporalFieldConverter<LocalDateTime> LOCALDATETIME_HOUR_OF_DAY = LocalDateTimes.LOCALDATETIME_HOUR_OF_DAY;
+    public static final TemporalFieldConverter<LocalDateTime> LOCALDATETIME_MINUTE_OF_HOUR = LocalDateTimes.LOCALDATETIME_MINUTE_OF_HOUR;
+    public static final TemporalFieldConverter<LocalDateTime> LOCALDATETIME_SECOND_OF_MINUTE = LocalDateTimes.LOCALDATETIME_SECOND_OF_MINUTE;
+
+    /**
+     * ZonedDateTime Converters
+     */
+    public static final TemporalFieldConverter<ZonedDateTime> ZONEDDATETIME_DAY_OF_MONTH = ZonedDateTimes.ZONEDDATETIME_DAY_OF_MONTH;
+    public static final TemporalFieldConverter<ZonedDateTime> ZONEDDATETIME_HOUR_OF_DAY = ZonedDateTimes.ZONEDDATETIME_HOUR_OF_DAY;
+    public static final TemporalFieldConverter<ZonedDateTime> ZONEDDATETIME_MINUTE_OF_HOUR = ZonedDateTimes.ZONEDDATETIME_MINUTE_OF_HOUR;
+    public static final TemporalFieldConverter<ZonedDateTime> ZONEDDATETIME_SECOND_OF_MINUTE = ZonedDateTimes.ZONEDDATETIME_SECOND_OF_MINUTE;
+
+    /**
+     * {@link OffsetDateTime} Converters
+     */
+    public static final TemporalFieldConverter<OffsetDateTime> OFFSETDATETIME_DAY_OF_MONTH = OffsetDateTimes.OFFSETDATETIME_DAY_OF_MONTH;
+    public static final TemporalFieldConverter<OffsetDateTime> OFFSETDATETIME_HOUR_OF_DAY = OffsetDateTimes.OFFSETDATETIME_HOUR_OF_DAY;
+    public static final TemporalFieldConverter<OffsetDateTime> OFFSETDATETIME_MINUTE_OF_HOUR = OffsetDateTimes.OFFSETDATETIME_MINUTE_OF_HOUR;
+    public static final TemporalFieldConverter<OffsetDateTime> OFFSETDATETIME_SECOND_OF_MINUTE = OffsetDateTimes.OFFSETDATETIME_SECOND_OF_MINUTE;
+
+    /**
+     * Instant Converters
+     */
+    public static final TemporalFieldConverter<Instant> INSTANT_DAY_OF_MONTH = Instants.INSTANT_DAY_OF_MONTH;
+    public static final TemporalFieldConverter<Instant> INSTANT_HOUR_OF_DAY = Instants.INSTANT_HOUR_OF_DAY;
+    public static final TemporalFieldConverter<Instant> INSTANT_MINUTE_OF_HOUR = Instants.INSTANT_MINUTE_OF_HOUR;
+    public static final TemporalFieldConverter<Instant> INSTANT_SECOND_OF_MINUTE = Instants.INSTANT_SECOND_OF_MINUTE;
+
+    /**
+     * SQL Date Converters
+     */
+    public static final class SqlDates {
+
+        private SqlDates() {}
+
+        @SuppressWarnings("deprecation")
+        public static final TemporalFieldConverter<java.sql.Date> SQLDATE_DAY_OF_MONTH = (date, zone) -> date.getDate();
+    }
+
+    /**
+     * Java Date Converters
+     */
+    public static final class JavaDates {
+
+        private JavaDates() {}
+
+        public static final TemporalFieldConverter<Date> JAVADATE_DAY_OF_MONTH = javaDate(UtilDates.UTILDATE_DAY_OF_MONTH, SqlDates.SQLDATE_DAY_OF_MONTH);
+        public static final TemporalFieldConverter<Date> JAVADATE_HOUR_OF_DAY = javaDate(UtilDates.UTILDATE_HOUR_OF_DAY, unsupportedSqlDate());
+        public static final TemporalFieldConverter<Date> JAVADATE_MINUTE_OF_HOUR = javaDate(UtilDates.UTILDATE_MINUTE_OF_HOUR, unsupportedSqlDate());
+        public static final TemporalFieldConverter<Date> JAVADATE_SECOND_OF_MINUTE = javaDate(UtilDates.UTILDATE_SECOND_OF_MINUTE, unsupportedSqlDate());
+        public static final TemporalFieldConverter<Date> JAVADATE_MILLI_OF_SECOND = javaDate(UtilDates.UTILDATE_MILLI_OF_SECOND, unsupportedSqlDate());
+
+        /**
+         * Read a {@link Date} with the converter, or a {@link java.sql.Date} with the SQL date converter
+         */
+        private static TemporalFieldConverter<Date> javaDate(TemporalFieldConverter<Date> converter, TemporalFieldConverter<java.sql.Date> sqlDateConverter) {
+            return (date, zone) -> date instanceof java.sql.Date ? sqlDateConverter.applyAsInt((java.sql.Date) date, zone) : converter.applyAsInt(date, zone);
+        }
+
+        private static TemporalFieldConverter<java.sql.Date> unsupportedSqlDate() {
+            return (date, zone) -> {
+                throw new TemporalConversionException(TemporalConverters.UNSUPPORTED_SQL_DATE_UNIT);
+            };
+        }
+    }
+
+    /**
+     * Converters for a {@link Date} known not to be a {@link java.sql.Date}, used by the variant of a matcher which a
+     * {@link SpecializedMatcher} uses for plain dates
+     */
+    public static final class UtilDates {
+
+        private UtilDates() {}
+
+        public static final TemporalFieldConverter<Date> UTILDATE_DAY_OF_MONTH = EpochFields.dayOfMonth(EpochConverters.UTILDATE);
+        public static final TemporalFieldConverter<Date> UTILDATE_HOUR_OF_DAY = EpochFields.hourOfDay(EpochConverters.UTILDATE);
+        public static final TemporalFieldConverter<Date> UTILDATE_MINUTE_OF_HOUR = EpochFields.minuteOfHour(EpochConverters.UTILDATE);
+        public static final TemporalFieldConverter<Date> UTILDATE_SECOND_OF_MINUTE = EpochFields.secondOfMinute(EpochConverters.UTILDATE);
+        public static final TemporalFieldConverter<Date> UTILDATE_MILLI_OF_SECOND = EpochFields.milliOfSecond(EpochConverters.UTILDATE);
+    }
+
+    /**
+     * LocalTime Converters
+     */
+    public static final class LocalTimes {
+
+        private LocalTimes() {}
+
+        public static final TemporalFieldConverter<LocalTime> LOCALTIME_HOUR_OF_DAY = (time, zone) -> time.getHour();
+        public static final TemporalFieldConverter<LocalTime> LOCALTIME_MINUTE_OF_HOUR = (time, zone) -> time.getMinute();
+        public static final TemporalFieldConverter<LocalTime> LOCALTIME_SECOND_OF_MINUTE = (time, zone) -> time.getSecond();
+    }
+
+    /**
+     * LocalDate Converters
+     */
+    public static final class LocalDates {
+
+        private LocalDates() {}
+
+        public static final TemporalFieldConverter<LocalDate> LOCALDATE_DAY_OF_MONTH = (date, zone) -> date.getDayOfMonth();
+    }
+
+    /**
+     * LocalDateTime Converters
+     */
+    public static final class LocalDateTimes {
+
+        private LocalDateTimes() {}
+
+        public static final TemporalFieldConverter<LocalDateTime> LOCALDATETIME_DAY_OF_MONTH = (date, zone) -> date.getDayOfMonth();
+        public static final TemporalFieldConverter<LocalDateTime> LOCALDATETIME_HOUR_OF_DAY = (date, zone) -> date.getHour();
+        public static final TemporalFieldConverter<LocalDateTime> LOCALDATETIME_MINUTE_OF_HOUR = (date, zone) -> date.getMinute();
+        public static final TemporalFieldConverter<LocalDateTime> LOCALDATETIME_SECOND_OF_MINUTE = (date, zone) -> date.getSecond();
+    }
+
+    /**
+     * ZonedDateTime Converters
+     */
+    public static final class ZonedDateTimes {
+
+        private ZonedDateTimes() {}
+
+        public static final TemporalFieldConverter<ZonedDateTime> ZONEDDATETIME_DAY_OF_MONTH = zonedDateTime(EpochFields.dayOfMonth(EpochConverters.ZONEDDATETIME), ZonedDateTime::getDayOfMonth);
+        public static final TemporalFieldConverter<ZonedDateTime> ZONEDDATETIME_HOUR_OF_DAY = zonedDateTime(EpochFields.hourOfDay(EpochConverters.ZONEDDATETIME), ZonedDateTime::getHour);
+        public static final TemporalFieldConverter<ZonedDateTime> ZONEDDATETIME_MINUTE_OF_HOUR = zonedDateTime(EpochFields.minuteOfHour(EpochConverters.ZONEDDATETIME), ZonedDateTime::getMinute);
+        public static final TemporalFieldConverter<ZonedDateTime> ZONEDDATETIME_SECOND_OF_MINUTE = zonedDateTime(EpochFields.secondOfMinute(EpochConverters.ZONEDDATETIME), ZonedDateTime::getSecond);
+
+        /**
+         * Read a {@link ZonedDateTime} with the converter when re-zoned, or read the field from it in its own zone
+         */
+        private static TemporalFieldConverter<ZonedDateTime> zonedDateTime(TemporalFieldConverter<ZonedDateTime> converter, ToIntFunction<ZonedDateTime> field) {
+            return (date, zone) -> zone.isPresent() ? converter.applyAsInt(date, zone) : field.applyAsInt(date);
+        }
+    }
+
+    /**
+     * {@link OffsetDateTime} Converters. The fields are read directly when no zone is given, and at the offset of the zone
+     * otherwise, as by {@link TemporalConverters#OFFSETDATETIME_AS_OFFSETDATETIME}
+     */
+    public static final class OffsetDateTimes {
+
+        private OffsetDateTimes() {}
+
+        public static final TemporalFieldConverter<OffsetDateTime> OFFSETDATETIME_DAY_OF_MONTH = offsetDateTime(EpochFields.dayOfMonth(EpochConverters.OFFSETDATETIME_LOCAL), OffsetDateTime::getDayOfMonth);
+        public static final TemporalFieldConverter<OffsetDateTime> OFFSETDATETIME_HOUR_OF_DAY = offsetDateTime(EpochFields.hourOfDay(EpochConverters.OFFSETDATETIME_LOCAL), OffsetDateTime::getHour);
+        public static final TemporalFieldConverter<OffsetDateTime> OFFSETDATETIME_MINUTE_OF_HOUR = offsetDateTime(EpochFields.minuteOfHour(EpochConverters.OFFSETDATETIME_LOCAL), OffsetDateTime::getMinute);
+        public static final TemporalFieldConverter<OffsetDateTime> OFFSETDATETIME_SECOND_OF_MINUTE = offsetDateTime(EpochFields.secondOfMinute(EpochConverters.OFFSETDATETIME_LOCAL), OffsetDateTime::getSecond);
+
+        /**
+         * Read an {@link OffsetDateTime} with the converter when moved to a zone, or read the field from it at its own offset
+         */
+        private static TemporalFieldConverter<OffsetDateTime> offsetDateTime(TemporalFieldConverter<OffsetDateTime> converter, ToIntFunction<OffsetDateTime> field) {
+            return (date, zone) -> zone.isPresent() ? converter.applyAsInt(date, zone) : field.applyAsInt(date);
+        }
+    }
+
+    /**
+     * Instant Converters
+     */
+    public static final class Instants {
+
+        private Instants() {}
+
+        public static final TemporalFieldConverter<Instant> INSTANT_DAY_OF_MONTH = EpochFields.dayOfMonth(EpochConverters.INSTANT);
+        public static final TemporalFieldConverter<Instant> INSTANT_HOUR_OF_DAY = EpochFields.hourOfDay(EpochConverters.INSTANT);
+        public static final TemporalFieldConverter<Instant> INSTANT_MINUTE_OF_HOUR = EpochFields.minuteOfHour(EpochConverters.INSTANT);
+        public static final TemporalFieldConverter<Instant> INSTANT_SECOND_OF_MINUTE = EpochFields.secondOfMinute(EpochConverters.INSTANT);
+    }
+}
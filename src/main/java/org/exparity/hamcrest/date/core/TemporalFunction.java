@@ -2,11 +2,16 @@ package org.exparity.hamcrest.date.core;
 
 import java.time.temporal.ChronoUnit;
 import java.util.Locale;
+import java.util.Optional;
 
+import org.exparity.hamcrest.date.core.types.EpochRange;
 import org.exparity.hamcrest.date.core.types.Interval;
 
 /**
- * Suite of temporal functions for a temporal type
+ * Suite of temporal functions for a temporal type. The functions are held in the static {@link TemporalFunctions}
+ * repository and shared by all matchers, so implementations must be stateless and safe for concurrent use; formatters
+ * are held as immutable {@link java.time.format.DateTimeFormatter} instances rather than
+ * {@link java.text.SimpleDateFormat}.
  * 
  * @author Stewart Bissett
  *
@@ -54,4 +59,27 @@ public interface TemporalFunction<T> {
 	 * @return an {@link Interval}
 	 */
 	Interval interval(T temporal, T other, ChronoUnit unit);
+
+	/**
+	 * Test if a temporal is within an interval either side of another temporal. The interval between the temporals is
+	 * measured in whole units of the {@link Interval#getUnit()} unless the interval is exact
+	 * @param temporal the temporal to test for
+	 * @param other the temporal to test against
+	 * @param interval the largest interval between the temporals
+	 * @return a boolean
+	 */
+	default boolean isWithin(T temporal, T other, Interval interval) {
+		return !interval(temporal, other, interval.getUnit()).longerThan(interval);
+	}
+
+	/**
+	 * Return the points on the time-line which are within an interval either side of a temporal, as tested by
+	 * {@link #isWithin(Object, Object, Interval)}
+	 * @param temporal the temporal to test against
+	 * @param interval the largest interval from the temporal
+	 * @return an {@link EpochRange} or empty if the interval is not measured on the time-line
+	 */
+	default Optional<EpochRange> range(T temporal, Interval interval) {
+		return Optional.empty();
+	}
 }
@@ -9,7 +9,9 @@ import java.time.ZonedDateTime;
 import java.util.Date;
 
 import org.exparity.hamcrest.date.core.function.DateFunction;
+import org.exparity.hamcrest.date.core.function.EpochFunction;
 import org.exparity.hamcrest.date.core.function.InstantFunction;
+import org.exparity.hamcrest.date.core.function.IsoTextFunction;
 import org.exparity.hamcrest.date.core.function.LocalDateFunction;
 import org.exparity.hamcrest.date.core.function.LocalDateTimeFunction;
 import org.exparity.hamcrest.date.core.function.LocalTimeFunction;
@@ -18,7 +20,8 @@ import org.exparity.hamcrest.date.core.function.SqlDateFunction;
 import org.exparity.hamcrest.date.core.function.ZonedDateTimeFunction;
 
 /**
- * Static repository of {@link TemporalFunction} instances
+ * Static repository of {@link TemporalFunction} instances. The function of each type is created in a holder class for
+ * the type, e.g. {@link Instants}, when it is first used, and the matcher factories use the holders directly.
  * 
  * @author Stewart Bissett
  */
@@ -26,12 +29,68 @@ public class TemporalFunctions {
 
 	private TemporalFunctions() {}
 	
-	public static TemporalFunction<Date> JAVADATE = new DateFunction();
-	public static TemporalFunction<java.sql.Date> SQLDATE = new SqlDateFunction();
-	public static TemporalFunction<LocalDate> LOCALDATE = new LocalDateFunction();
-	public static TemporalFunction<LocalTime> LOCALTIME = new LocalTimeFunction();
-	public static TemporalFunction<LocalDateTime> LOCALDATETIME = new LocalDateTimeFunction();
-	public static TemporalFunction<ZonedDateTime> ZONEDDATETIME = new ZonedDateTimeFunction();
-    public static TemporalFunction<OffsetDateTime> OFFSETDATETIME = new OffsetDateTimeFunction();
-	public static TemporalFunction<Instant> INSTANT = new InstantFunction();
+	public static final TemporalFunction<Date> JAVADATE = JavaDates.JAVADATE;
+	public static final TemporalFunction<java.sql.Date> SQLDATE = SqlDates.SQLDATE;
+	public static final TemporalFunction<LocalDate> LOCALDATE = LocalDates.LOCALDATE;
+	public static final TemporalFunction<LocalTime> LOCALTIME = LocalTimes.LOCALTIME;
+	public static final TemporalFunction<LocalDateTime> LOCALDATETIME = LocalDateTimes.LOCALDATETIME;
+	public static final TemporalFunction<ZonedDateTime> ZONEDDATETIME = ZonedDateTimes.ZONEDDATETIME;
+    public static final TemporalFunction<OffsetDateTime> OFFSETDATETIME = OffsetDateTimes.OFFSETDATETIME;
+	public static final TemporalFunction<Instant> INSTANT = Instants.INSTANT;
+	public static final TemporalFunction<Long> EPOCH_MILLIS = Epochs.EPOCH_MILLIS;
+	public static final TemporalFunction<Long> EPOCH_MICROS = Epochs.EPOCH_MICROS;
+	public static final TemporalFunction<Long> EPOCH_NANOS = Epochs.EPOCH_NANOS;
+	public static final TemporalFunction<CharSequence> ISO_TEXT = Texts.ISO_TEXT;
+
+	public static final class JavaDates {
+		private JavaDates() {}
+		public static final TemporalFunction<Date> JAVADATE = new DateFunction();
+	}
+
+	public static final class SqlDates {
+		private SqlDates() {}
+		public static final TemporalFunction<java.sql.Date> SQLDATE = new SqlDateFunction();
+	}
+
+	public static final class LocalDates {
+		private LocalDates() {}
+		public static final TemporalFunction<LocalDate> LOCALDATE = new LocalDateFunction();
+	}
+
+	public static final class LocalTimes {
+		private LocalTimes() {}
+		public static final TemporalFunction<LocalTime> LOCALTIME = new LocalTimeFunction();
+	}
+
+	public static final class LocalDateTimes {
+		private LocalDateTimes() {}
+		public static final TemporalFunction<LocalDateTime> LOCALDATETIME = new LocalDateTimeFunction();
+	}
+
+	public static final class ZonedDateTimes {
+		private ZonedDateTimes() {}
+		public static final TemporalFunction<ZonedDateTime> ZONEDDATETIME = new ZonedDateTimeFunction();
+	}
+
+	public static final class OffsetDateTimes {
+		private OffsetDateTimes() {}
+		public static final TemporalFunction<OffsetDateTime> OFFSETDATETIME = new OffsetDateTimeFunction();
+	}
+
+	public static final class Instants {
+		private Instants() {}
+		public static final TemporalFunction<Instant> INSTANT = new InstantFunction();
+	}
+
+	public static final class Epochs {
+		private Epochs() {}
+		public static final TemporalFunction<Long> EPOCH_MILLIS = new EpochFunction(EpochConverters.EPOCH_MILLIS);
+		public static final TemporalFunction<Long> EPOCH_MICROS = new EpochFunction(EpochConverters.EPOCH_MICROS);
+		public static final TemporalFunction<Long> EPOCH_NANOS = new EpochFunction(EpochConverters.EPOCH_NANOS);
+	}
+
+	public static final class Texts {
+		private Texts() {}
+		public static final TemporalFunction<CharSequence> ISO_TEXT = new IsoTextFunction();
+	}
 }
@@ -1,13 +1,38 @@
 package org.exparity.hamcrest.date.core;
 
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
 
+import org.hamcrest.Description;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
 
 /**
  * Abstract {@link org.hamcrest.Matcher} for temporal objects allowing for time zone manipulation.
+ * <p>
+ * The decision whether a temporal matches is kept apart from the description of a mismatch so the cost of formatting
+ * a mismatch is only paid when a description is requested, and not when the matcher is used through
+ * {@link org.hamcrest.Matcher#matches(Object)}. A subclass must either override both {@link #matchesSafely(Object)} and
+ * {@link #describeMismatchSafely(Object, Description)}, or override {@link #matchesSafely(Object, Description)} as
+ * for any {@link TypeSafeDiagnosingMatcher} and inherit both hooks, which call it. A subclass which overrides neither
+ * form of <code>matchesSafely</code> is rejected with an {@link IllegalStateException} when it is created.
+ * </p>
+ * <p>
+ * A temporal matcher is immutable once created and may be shared between any number of threads, for example by holding
+ * it in a static final field. Methods such as {@link #atZone(ZoneId)} and {@link #atLocale(Locale)} return a new matcher
+ * rather than modifying this one. A matcher may cache values it has resolved, such as the reference date or the
+ * current day, but only by publishing an immutable value through a volatile field or a concurrent map, so threads
+ * which race to fill a cache at worst repeat the same work. Subclasses must keep to this contract, and it relies on
+ * the {@link TemporalConverter}, {@link TemporalProvider} and {@link TemporalFunction} instances they use keeping to
+ * theirs.
+ * </p>
  *
  * @param <T> the type of objects handled by this matcher
  *
@@ -15,6 +40,67 @@ import org.hamcrest.TypeSafeDiagnosingMatcher;
  */
 public abstract class TemporalMatcher<T> extends TypeSafeDiagnosingMatcher<T> {
 
+    private static final ClassValue<Boolean> OVERRIDES_MATCH = new ClassValue<Boolean>() {
+
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for (Class<?> declaring = type; declaring != TemporalMatcher.class; declaring = declaring.getSuperclass()) {
+                for (Method method : declaring.getDeclaredMethods()) {
+                    if (method.getName().equals("matchesSafely") && !Modifier.isAbstract(method.getModifiers())) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    };
+
+    /**
+     * Create a matcher, checking that the subclass overrides one of the two forms of <code>matchesSafely</code>, as
+     * each calls the other by default
+     *
+     * @throws IllegalStateException if the subclass overrides neither
+     */
+    protected TemporalMatcher() {
+        if (!OVERRIDES_MATCH.get(getClass())) {
+            throw new IllegalStateException(getClass().getName()
+                    + " must override matchesSafely(Object) or matchesSafely(Object, Description)");
+        }
+    }
+
+    /**
+     * Test if the examined temporal matches. By default calls {@link #matchesSafely(Object, Description)} with a
+     * description which discards the mismatch, so a subclass must override one or the other.
+     *
+     * @param actual the examined temporal, which is never null
+     * @return true if the examined temporal matches
+     */
+    protected boolean matchesSafely(T actual) {
+        return matchesSafely(actual, Description.NONE);
+    }
+
+    /**
+     * Describe why the examined temporal does not match. Only called after {@link #matchesSafely(Object)} has returned
+     * false and a description has been requested. By default calls {@link #matchesSafely(Object, Description)}, so a
+     * subclass which overrides {@link #matchesSafely(Object)} must override this too.
+     *
+     * @param actual the examined temporal, which is never null
+     * @param mismatchDescription the description to append to
+     */
+    protected void describeMismatchSafely(T actual, Description mismatchDescription) {
+        matchesSafely(actual, mismatchDescription);
+    }
+
+    @Override
+    protected boolean matchesSafely(final T actual, final Description mismatchDescription) {
+        if (matchesSafely(actual)) {
+            return true;
+        } else if (!(mismatchDescription instanceof Description.NullDescription)) {
+            describeMismatchSafely(actual, mismatchDescription);
+        }
+        return false;
+    }
+
     /**
      * Creates a copy of this matcher using a specific time zone.
      *
@@ -31,6 +117,97 @@ public abstract class TemporalMatcher<T> extends TypeSafeDiagnosingMatcher<T> {
      */
     public abstract TemporalMatcher<T> atLocale(Locale locale);
     
+    /**
+     * Creates a matcher that matches when the examined temporal matches this matcher and all of the other matchers.
+     * The conditions are evaluated cheapest first and stop at the first which does not match, and conditions which
+     * convert the examined temporal in the same way share a single conversion.
+     * <p>
+     * For example:
+     * </p>
+     *
+     * <pre>
+     * assertThat(myDate, after(start).and(before(end), isWeekday(), isHour(9)));
+     * </pre>
+     *
+     * @param others the other matchers the examined temporal must match
+     * @return a matcher which matches when all of the matchers match
+     */
+    @SafeVarargs
+    public final TemporalMatcher<T> and(TemporalMatcher<T>... others) {
+        List<TemporalMatcher<T>> matchers = new ArrayList<>(others.length + 1);
+        matchers.add(this);
+        for (TemporalMatcher<T> other : others) {
+            matchers.add(other);
+        }
+        return new IsAllOf<>(matchers);
+    }
+
+    /**
+     * Returns a {@link Predicate} which tests temporals against this matcher, for filtering a stream of temporals. The
+     * predicate calls the matching logic directly, without the type check and mismatch description of
+     * {@link org.hamcrest.Matcher#matches(Object)}, and rejects null.
+     * <p>
+     * For example:
+     * </p>
+     *
+     * <pre>
+     * List&lt;Instant&gt; weekdays = events.stream().filter(isWeekday().asPredicate()).collect(toList());
+     * </pre>
+     *
+     * @return a predicate which is true for a temporal this matcher matches
+     */
+    public Predicate<T> asPredicate() {
+        return actual -> actual != null && matchesSafely(actual);
+    }
+
+    /**
+     * Returns a {@link LongPredicate} which tests timestamps held in a <code>long</code>, such as epoch milliseconds,
+     * against this matcher after converting them to the examined type, for filtering a
+     * {@link java.util.stream.LongStream} without boxing each timestamp into a stream element.
+     * <p>
+     * For example:
+     * </p>
+     *
+     * <pre>
+     * long weekdays = LongStream.of(timestamps).filter(isWeekday().asLongPredicate(Instant::ofEpochMilli)).count();
+     * </pre>
+     *
+     * @param converter the conversion of a timestamp to the examined type e.g. <code>Instant::ofEpochMilli</code>
+     * @return a predicate which is true for a timestamp this matcher matches, and false for a timestamp the converter
+     *         converts to null
+     */
+    public LongPredicate asLongPredicate(LongFunction<? extends T> converter) {
+        return timestamp -> {
+            T actual = converter.apply(timestamp);
+            return actual != null && matchesSafely(actual);
+        };
+    }
+
+    /**
+     * Return the matcher for the condition which the examined temporal does not match, or null if it matches. A
+     * composite matcher returns the first of its matchers which does not match, so the reasons temporals fail can be
+     * counted without describing each mismatch.
+     */
+    TemporalMatcher<T> failure(T actual) {
+        return matchesSafely(actual) ? null : this;
+    }
+
+    /**
+     * Creates a copy of this matcher which converts the examined temporal through the shared conversions. Matchers
+     * which do not convert the examined temporal return themselves.
+     */
+    TemporalMatcher<T> fuse(SharedConversions conversions) {
+        return this;
+    }
+
+    /**
+     * The relative cost of testing a temporal with this matcher, from 1 for a comparison of epoch values to 5 for a
+     * matcher which builds a complete date-time
+     */
+    int cost() {
+        return 5;
+    }
+
     /**
      * Creates a copy of this matcher using a specific time offset.
      *
@@ -38,7 +215,7 @@ public abstract class TemporalMatcher<T> extends TypeSafeDiagnosingMatcher<T> {
      * @return a copy of this matcher based on the new time offset
      */
     public TemporalMatcher<T> atOffset(ZoneOffset offset) {
-        return atZone(ZoneId.of(offset.getId()));
+        return atZone(offset);
     }
 
 }
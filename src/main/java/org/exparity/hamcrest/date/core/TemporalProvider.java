@@ -3,9 +3,28 @@ package org.exparity.hamcrest.date.core;
 import java.time.ZoneId;
 import java.util.Optional;
 
+/**
+ * Provide the reference value of a matcher, resolved for a time zone. A provider may be called by many threads at once
+ * and must return an equal value for the same zone on every call, so a value may be resolved once and cached.
+ *
+ * @author Stewart Bissett
+ *
+ * @param <S> the provided type
+ */
 @FunctionalInterface
 public interface TemporalProvider<S> {
 
 	public S apply(final Optional<ZoneId> zone);
 
+	/**
+	 * Return a provider which resolves the value for the given zone once, on first use, and returns the same value
+	 * thereafter. A value for no zone is resolved again whenever the zone from {@link DefaultZones} changes. Values
+	 * for any other zone are resolved by this provider on each call.
+	 *
+	 * @param zone the zone to resolve the value for
+	 * @return a provider holding the value resolved for the zone
+	 */
+	public default TemporalProvider<S> resolvedAt(final Optional<ZoneId> zone) {
+		return new ResolvedTemporalProvider<>(this, zone);
+	}
 }
@@ -10,7 +10,6 @@ import java.time.LocalTime;
 import java.time.Month;
 import java.time.OffsetDateTime;
 import java.time.Year;
-import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.Date;
@@ -32,6 +31,14 @@ public class TemporalProviders {
     
     private TemporalProviders() {}
 
+	/**
+	 * Factory to create a {@link TemporalProvider} for a value which is the same in every time zone, such as a point on
+	 * the time-line, so it is never resolved again for a zone or the default zone
+	 */
+	public static <S> TemporalProvider<S> fixed(S value) {
+		return new FixedTemporalProvider<>(() -> value);
+	}
+
 	/**
 	 * Factory to create a {@link TemporalProvider} for a {@link java.sql.Date}
 	 */
@@ -57,7 +64,7 @@ public class TemporalProviders {
 		if (date instanceof java.sql.Date) {
 			return (zone) -> new Date(date.getTime());
 		} else {
-			return (zone) -> Date.from(instant(date).apply(zone));
+			return new FixedTemporalProvider<>(() -> new Date(date.getTime()));
 		}
 	}
 
@@ -76,7 +83,7 @@ public class TemporalProviders {
 	 * Factory to create a {@link TemporalProvider} for an {@link Instant}
 	 */
 	public static TemporalProvider<Instant> instant(Instant instant) {
-		return (zone) -> zone.map(z -> instant.atZone(z).toInstant()).orElse(instant);
+		return fixed(instant);
 	}
 
 	/**
@@ -97,7 +104,7 @@ public class TemporalProviders {
      * Factory to create a {@link TemporalProvider} for a {@link LocalDate}
      */
     public static TemporalProvider<LocalDate> localDate(Instant date) {
-        return (zone) -> TemporalConverters.INSTANT_AS_LOCALDATE.apply(date, zone);
+        return (zone) -> TemporalConverters.Instants.INSTANT_AS_LOCALDATE.apply(date, zone);
     }
 
 	/**
@@ -153,7 +160,7 @@ public class TemporalProviders {
 		if (date instanceof java.sql.Date) {
 			return zonedDateTime((java.sql.Date) date);
 		} else {
-			return (zone) -> zonedDateTime(ZonedDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault())).apply(zone);
+			return (zone) -> zonedDateTime(ZonedDateTime.ofInstant(date.toInstant(), DefaultZones.get())).apply(zone);
 		}
 	}
 
@@ -168,7 +175,7 @@ public class TemporalProviders {
      * Factory to create a {@link TemporalProvider} for a {@link OffsetDateTime}
      */
     public static TemporalProvider<OffsetDateTime> offsetDateTime(OffsetDateTime date) {
-        return (zone) -> zone.map(z -> date.withOffsetSameInstant(z.getRules().getOffset(date.toLocalDateTime())))
+        return (zone) -> zone.map(z -> date.withOffsetSameInstant(ZoneOffsetWindows.localOffset(date.toLocalDateTime(), z)))
                 .orElse(date);
     }
 
@@ -179,7 +186,7 @@ public class TemporalProviders {
         if (date instanceof java.sql.Date) {
             return offsetDateTime((java.sql.Date) date);
         } else {
-            return (zone) -> offsetDateTime(OffsetDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault())).apply(zone);
+            return (zone) -> offsetDateTime(OffsetDateTime.ofInstant(date.toInstant(), DefaultZones.get())).apply(zone);
         }
     }
 
@@ -236,7 +243,7 @@ public class TemporalProviders {
      * Factory to create a {@link TemporalProvider} for a {@link Year}
      */
     public static TemporalProvider<Year> year(Instant instant) {
-        return (zone) ->  TemporalConverters.INSTANT_AS_YEAR.apply(instant, zone);
+        return (zone) ->  TemporalConverters.Instants.INSTANT_AS_YEAR.apply(instant, zone);
     }
 
 	/**
@@ -257,7 +264,7 @@ public class TemporalProviders {
      * Factory to create a {@link TemporalProvider} for a {@link Month}
      */
     public static TemporalProvider<Month> month(Instant date) {
-        return (zone) -> TemporalConverters.INSTANT_AS_MONTH.apply(date, zone);
+        return (zone) -> TemporalConverters.Instants.INSTANT_AS_MONTH.apply(date, zone);
     }
 
 	/**
@@ -348,7 +355,7 @@ public class TemporalProviders {
      * Factory to create a {@link TemporalProvider} for a {@link DayOfMonth}
      */
     public static TemporalProvider<DayOfMonth> dayOfMonth(Instant date) {
-        return (zone) -> TemporalConverters.INSTANT_AS_DAYOFMONTH.apply(date, zone);
+        return (zone) -> TemporalConverters.Instants.INSTANT_AS_DAYOFMONTH.apply(date, zone);
     }
 
     /**
@@ -397,7 +404,7 @@ public class TemporalProviders {
      * Factory to create a {@link TemporalProvider} for a {@link Hour}
      */
     public static TemporalProvider<Hour> hour(Instant date) {
-        return (zone) -> TemporalConverters.INSTANT_AS_HOUR.apply(date, zone);
+        return (zone) -> TemporalConverters.Instants.INSTANT_AS_HOUR.apply(date, zone);
     }
 
 	/**
@@ -482,7 +489,7 @@ public class TemporalProviders {
      * Factory to create a {@link TemporalProvider} for a {@link Second}
      */
     public static TemporalProvider<Minute> minute(Instant date) {
-        return (zone) -> TemporalConverters.INSTANT_AS_MINUTE.apply(date, zone);
+        return (zone) -> TemporalConverters.Instants.INSTANT_AS_MINUTE.apply(date, zone);
     }
 	
 	/**
@@ -496,7 +503,7 @@ public class TemporalProviders {
      * Factory to create a {@link TemporalProvider} for a {@link Second}
      */
     public static TemporalProvider<Second> second(Instant date) {
-        return (zone) -> TemporalConverters.INSTANT_AS_SECOND.apply(date, zone);
+        return (zone) -> TemporalConverters.Instants.INSTANT_AS_SECOND.apply(date, zone);
     }
 
 	/**
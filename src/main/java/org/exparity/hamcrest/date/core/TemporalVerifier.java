@@ -0,0 +1,423 @@
+package org.exparity.hamcrest.date.core;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import java.util.function.Predicate;
+
+import org.hamcrest.StringDescription;
+
+/**
+ * Verify every temporal in a large dataset against a {@link TemporalMatcher} in parallel on a {@link ForkJoinPool}. The
+ * dataset is split into ranges of indexes which are verified independently and the partial results are merged in
+ * order, so the result reports the number of failures, the first failures with their indexes and, optionally, a bitmap
+ * of every failing index. The matcher is shared by every worker so must be safe for concurrent use, as the matchers
+ * created by this library are. The workers match in the zone from {@link DefaultZones} on the thread which calls
+ * <code>verify</code>, so a zone set with {@link DefaultZones#use(ZoneId)} applies to the whole dataset. Instantiate
+ * via {@link #of(TemporalMatcher)}.
+ *
+ * For example:
+ *
+ * <pre>
+ * Verification&lt;Instant&gt; result = TemporalVerifier.of(InstantMatchers.isWeekday()).reporting(5).verify(events);
+ * </pre>
+ *
+ * @param <T> the temporal type
+ */
+public final class TemporalVerifier<T> {
+
+	private static final int DEFAULT_REPORTED = 10;
+	private static final int MINIMUM_SPLIT = 4096;
+	private static final int BITS_PER_WORD = 64;
+
+	/**
+	 * Create a {@link TemporalVerifier} which reports the first ten failures on the common {@link ForkJoinPool}
+	 */
+	public static <T> TemporalVerifier<T> of(TemporalMatcher<T> matcher) {
+		return new TemporalVerifier<>(matcher, DEFAULT_REPORTED, false, ForkJoinPool.commonPool());
+	}
+
+	private final TemporalMatcher<T> matcher;
+	private final Predicate<T> predicate;
+	private final int reported;
+	private final boolean bitmap;
+	private final ForkJoinPool pool;
+
+	private TemporalVerifier(TemporalMatcher<T> matcher, int reported, boolean bitmap, ForkJoinPool pool) {
+		if (reported < 0) {
+			throw new IllegalArgumentException("The number of reported failures cannot be negative");
+		}
+		this.matcher = matcher;
+		this.predicate = matcher.asPredicate();
+		this.reported = reported;
+		this.bitmap = bitmap;
+		this.pool = pool;
+	}
+
+	/**
+	 * Creates a copy of this verifier which reports up to the given number of failures with their indexes
+	 */
+	public TemporalVerifier<T> reporting(int reported) {
+		return new TemporalVerifier<>(matcher, reported, bitmap, pool);
+	}
+
+	/**
+	 * Creates a copy of this verifier which also returns a bitmap of the index of every failure
+	 */
+	public TemporalVerifier<T> withFailureBitmap() {
+		return new TemporalVerifier<>(matcher, reported, true, pool);
+	}
+
+	/**
+	 * Creates a copy of this verifier which runs on the given {@link ForkJoinPool}
+	 */
+	public TemporalVerifier<T> on(ForkJoinPool pool) {
+		return new TemporalVerifier<>(matcher, reported, bitmap, pool);
+	}
+
+	/**
+	 * Verify every temporal in the list
+	 */
+	public Verification<T> verify(List<? extends T> temporals) {
+		List<? extends T> indexed = temporals instanceof RandomAccess ? temporals : new ArrayList<>(temporals);
+		return verify(indexed.size(), indexed::get);
+	}
+
+	/**
+	 * Verify every temporal reported by the {@link Spliterator}, where the index of a temporal is its position in the
+	 * encounter order. A {@link Spliterator#SUBSIZED} spliterator is split directly, otherwise the temporals are first
+	 * collected into a list.
+	 */
+	public Verification<T> verify(Spliterator<? extends T> temporals) {
+		if (!temporals.hasCharacteristics(Spliterator.SUBSIZED)) {
+			List<T> indexed = new ArrayList<>();
+			temporals.forEachRemaining(indexed::add);
+			return verify(indexed);
+		}
+		long size = temporals.getExactSizeIfKnown();
+		if (size > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Cannot verify more than " + Integer.MAX_VALUE + " temporals");
+		}
+		ZoneId zone = DefaultZones.get();
+		AtomicLongArray words = bitmap ? new AtomicLongArray(wordsFor((int) size)) : null;
+		Partial<T> result = pool.invoke(new VerifySplit<>(this, temporals, 0, splitFor((int) size), words, zone));
+		return verification((int) size, result, words, zone);
+	}
+
+	/**
+	 * Verify every timestamp in the array, converting each one to the temporal type of the matcher, e.g.
+	 * <code>Instant::ofEpochMilli</code> for an {@link org.exparity.hamcrest.date.InstantMatchers} matcher
+	 */
+	public Verification<T> verify(long[] timestamps, LongFunction<? extends T> converter) {
+		return verify(timestamps.length, index -> converter.apply(timestamps[index]));
+	}
+
+	private Verification<T> verify(int size, Element<? extends T> elements) {
+		ZoneId zone = DefaultZones.get();
+		AtomicLongArray words = bitmap ? new AtomicLongArray(wordsFor(size)) : null;
+		Partial<T> result = pool.invoke(new VerifyRange<>(this, elements, 0, size, splitFor(size), words, zone));
+		return verification(size, result, words, zone);
+	}
+
+	private Verification<T> verification(int size, Partial<T> result, AtomicLongArray words, ZoneId zone) {
+		Optional<BitSet> failed = Optional.empty();
+		if (words != null) {
+			long[] bits = new long[words.length()];
+			for (int i = 0; i < bits.length; ++i) {
+				bits[i] = words.get(i);
+			}
+			failed = Optional.of(BitSet.valueOf(bits));
+		}
+		return new Verification<>(matcher, size, result.failures, result.first, failed, zone);
+	}
+
+	private int splitFor(int size) {
+		return Math.max(MINIMUM_SPLIT, size / (pool.getParallelism() * 4));
+	}
+
+	private static int wordsFor(int size) {
+		return (size + BITS_PER_WORD - 1) / BITS_PER_WORD;
+	}
+
+	private Partial<T> verify(int index, T temporal, Partial<T> partial, AtomicLongArray words) {
+		if (predicate.test(temporal)) {
+			return partial;
+		}
+		if (words != null) {
+			words.getAndAccumulate(index / BITS_PER_WORD, 1L << index, (word, bit) -> word | bit);
+		}
+		if (partial.first.size() < reported) {
+			partial.first.add(new Failure<>(index, temporal));
+		}
+		return new Partial<>(partial.failures + 1, partial.first);
+	}
+
+	private Partial<T> merge(Partial<T> left, Partial<T> right) {
+		if (left.first.size() >= reported || right.first.isEmpty()) {
+			return new Partial<>(left.failures + right.failures, left.first);
+		}
+		List<Failure<T>> first = new ArrayList<>(left.first);
+		first.addAll(right.first.subList(0, Math.min(right.first.size(), reported - left.first.size())));
+		return new Partial<>(left.failures + right.failures, first);
+	}
+
+	@FunctionalInterface
+	private interface Element<T> {
+
+		T get(int index);
+	}
+
+	/**
+	 * The failures found in a range of indexes
+	 */
+	private static final class Partial<T> {
+
+		private final long failures;
+		private final List<Failure<T>> first;
+
+		private Partial(long failures, List<Failure<T>> first) {
+			this.failures = failures;
+			this.first = first;
+		}
+	}
+
+	/**
+	 * Verify a range of indexes, splitting it in two while it is longer than the split size
+	 */
+	private static final class VerifyRange<T> extends RecursiveTask<Partial<T>> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final TemporalVerifier<T> verifier;
+		private final Element<? extends T> elements;
+		private final int from, to, split;
+		private final AtomicLongArray words;
+		private final ZoneId zone;
+
+		private VerifyRange(TemporalVerifier<T> verifier,
+		        Element<? extends T> elements,
+		        int from,
+		        int to,
+		        int split,
+		        AtomicLongArray words,
+		        ZoneId zone) {
+			this.verifier = verifier;
+			this.elements = elements;
+			this.from = from;
+			this.to = to;
+			this.split = split;
+			this.words = words;
+			this.zone = zone;
+		}
+
+		@Override
+		protected Partial<T> compute() {
+			if (to - from > split) {
+				int middle = from + (to - from) / 2;
+				VerifyRange<T> left = new VerifyRange<>(verifier, elements, from, middle, split, words, zone);
+				left.fork();
+				Partial<T> right = new VerifyRange<>(verifier, elements, middle, to, split, words, zone).compute();
+				return verifier.merge(left.join(), right);
+			}
+			DefaultZones.Scope scope = DefaultZones.use(zone);
+			try {
+				Partial<T> partial = new Partial<>(0, new ArrayList<>());
+				for (int index = from; index < to; ++index) {
+					partial = verifier.verify(index, elements.get(index), partial, words);
+				}
+				return partial;
+			} finally {
+				scope.close();
+			}
+		}
+	}
+
+	/**
+	 * Verify the temporals of a {@link Spliterator} starting at an index, splitting it while it is longer than the split
+	 * size
+	 */
+	private static final class VerifySplit<T> extends RecursiveTask<Partial<T>> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final TemporalVerifier<T> verifier;
+		private final Spliterator<? extends T> temporals;
+		private final int from, split;
+		private final AtomicLongArray words;
+		private final ZoneId zone;
+
+		private VerifySplit(TemporalVerifier<T> verifier,
+		        Spliterator<? extends T> temporals,
+		        int from,
+		        int split,
+		        AtomicLongArray words,
+		        ZoneId zone) {
+			this.verifier = verifier;
+			this.temporals = temporals;
+			this.from = from;
+			this.split = split;
+			this.words = words;
+			this.zone = zone;
+		}
+
+		@Override
+		protected Partial<T> compute() {
+			Spliterator<? extends T> prefix = temporals.estimateSize() > split ? temporals.trySplit() : null;
+			if (prefix != null) {
+				VerifySplit<T> left = new VerifySplit<>(verifier, prefix, from, split, words, zone);
+				left.fork();
+				int middle = from + (int) prefix.getExactSizeIfKnown();
+				Partial<T> right = new VerifySplit<>(verifier, temporals, middle, split, words, zone).compute();
+				return verifier.merge(left.join(), right);
+			}
+			DefaultZones.Scope scope = DefaultZones.use(zone);
+			try {
+				Accumulator<T> accumulator = new Accumulator<>(verifier, from, words);
+				temporals.forEachRemaining(accumulator);
+				return accumulator.partial;
+			} finally {
+				scope.close();
+			}
+		}
+	}
+
+	/**
+	 * Verify temporals in turn from an index, accumulating the failures found
+	 */
+	private static final class Accumulator<T> implements Consumer<T> {
+
+		private final TemporalVerifier<T> verifier;
+		private final AtomicLongArray words;
+		private int index;
+		private Partial<T> partial = new Partial<>(0, new ArrayList<>());
+
+		private Accumulator(TemporalVerifier<T> verifier, int from, AtomicLongArray words) {
+			this.verifier = verifier;
+			this.index = from;
+			this.words = words;
+		}
+
+		@Override
+		public void accept(T temporal) {
+			partial = verifier.verify(index++, temporal, partial, words);
+		}
+	}
+
+	/**
+	 * A temporal which failed verification and its index in the dataset
+	 *
+	 * @param <T> the temporal type
+	 */
+	public static final class Failure<T> {
+
+		private final int index;
+		private final T temporal;
+
+		private Failure(int index, T temporal) {
+			this.index = index;
+			this.temporal = temporal;
+		}
+
+		public int getIndex() {
+			return index;
+		}
+
+		public T getTemporal() {
+			return temporal;
+		}
+	}
+
+	/**
+	 * The result of verifying a dataset against a {@link TemporalMatcher}
+	 *
+	 * @param <T> the temporal type
+	 */
+	public static final class Verification<T> {
+
+		private final TemporalMatcher<T> matcher;
+		private final long verified, failures;
+		private final List<Failure<T>> first;
+		private final Optional<BitSet> bitmap;
+		private final ZoneId zone;
+
+		private Verification(TemporalMatcher<T> matcher,
+		        long verified,
+		        long failures,
+		        List<Failure<T>> first,
+		        Optional<BitSet> bitmap,
+		        ZoneId zone) {
+			this.matcher = matcher;
+			this.verified = verified;
+			this.failures = failures;
+			this.first = Collections.unmodifiableList(first);
+			this.bitmap = bitmap;
+			this.zone = zone;
+		}
+
+		/**
+		 * Return true if every temporal matched
+		 */
+		public boolean isSuccess() {
+			return failures == 0;
+		}
+
+		/**
+		 * Return the number of temporals verified
+		 */
+		public long getVerifiedCount() {
+			return verified;
+		}
+
+		/**
+		 * Return the number of temporals which did not match
+		 */
+		public long getFailureCount() {
+			return failures;
+		}
+
+		/**
+		 * Return the first failures in index order, up to the number reported by the verifier
+		 */
+		public List<Failure<T>> getFailures() {
+			return first;
+		}
+
+		/**
+		 * Return a bitmap with a bit set at the index of every failure, if requested from the verifier
+		 */
+		public Optional<BitSet> getFailureBitmap() {
+			return bitmap;
+		}
+
+		/**
+		 * Describe the failures using the mismatch descriptions of the matcher, in the default zone they were verified in
+		 */
+		public String describe() {
+			StringDescription description = new StringDescription();
+			DefaultZones.Scope scope = DefaultZones.use(zone);
+			try {
+				description.appendText(failures + " of " + verified + " dates did not match ").appendDescriptionOf(matcher);
+				for (Failure<T> failure : first) {
+					description.appendText(", item " + failure.index + ": ");
+					matcher.describeMismatch(failure.temporal, description);
+				}
+			} finally {
+				scope.close();
+			}
+			if (failures > first.size()) {
+				description.appendText(" and " + (failures - first.size()) + " more");
+			}
+			return description.toString();
+		}
+	}
+}
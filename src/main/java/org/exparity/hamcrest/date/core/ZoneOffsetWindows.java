@@ -0,0 +1,103 @@
+package org.exparity.hamcrest.date.core;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Resolves the offset from UTC of a time zone at a second on the time-line. The rules of each zone are looked up once
+ * and the window between the transitions either side of the last resolved second is kept, so resolving the offset for
+ * seconds between the same transitions is a pair of comparisons. A {@link ZoneOffset}, or a zone whose rules are a
+ * fixed offset such as <code>UTC</code>, resolves to its offset without consulting the rules.
+ */
+final class ZoneOffsetWindows {
+
+	private static final int MAXIMUM_ZONES = 1024;
+	private static final ConcurrentMap<ZoneId, ZoneOffsetWindows> ZONES = new ConcurrentHashMap<>();
+
+	/**
+	 * Return the offset in seconds from UTC of the zone at the second from the epoch
+	 */
+	static int offsetSeconds(long epochSecond, ZoneId zone) {
+		if (zone instanceof ZoneOffset) {
+			return ((ZoneOffset) zone).getTotalSeconds();
+		}
+		return of(zone).offsetSeconds(epochSecond);
+	}
+
+	/**
+	 * Return the offset from UTC of the zone for a local date-time, which is the earlier offset if the local date-time
+	 * is in an overlap and the offset before the transition if it is in a gap, as by
+	 * {@link ZoneRules#getOffset(LocalDateTime)}
+	 */
+	static ZoneOffset localOffset(LocalDateTime localDateTime, ZoneId zone) {
+		if (zone instanceof ZoneOffset) {
+			return (ZoneOffset) zone;
+		}
+		ZoneOffsetWindows windows = of(zone);
+		return windows.fixed != null ? windows.fixed : windows.rules.getOffset(localDateTime);
+	}
+
+	private static ZoneOffsetWindows of(ZoneId zone) {
+		ZoneOffsetWindows windows = ZONES.get(zone);
+		if (windows == null) {
+			windows = new ZoneOffsetWindows(zone.getRules());
+			if (ZONES.size() < MAXIMUM_ZONES) {
+				ZONES.putIfAbsent(zone, windows);
+			}
+		}
+		return windows;
+	}
+
+	private final ZoneRules rules;
+	private final ZoneOffset fixed;
+	private volatile Window window;
+
+	private ZoneOffsetWindows(ZoneRules rules) {
+		this.rules = rules;
+		this.fixed = rules.isFixedOffset() ? rules.getOffset(Instant.EPOCH) : null;
+		this.window = fixed != null ? new Window(Long.MIN_VALUE, Long.MAX_VALUE, fixed.getTotalSeconds()) : Window.at(rules, 0);
+	}
+
+	private int offsetSeconds(long epochSecond) {
+		Window current = window;
+		if (!current.contains(epochSecond)) {
+			window = current = Window.at(rules, epochSecond);
+		}
+		return current.offset;
+	}
+
+	/**
+	 * An immutable span of seconds from the epoch, inclusive of from and exclusive of to, over which the offset is
+	 * constant
+	 */
+	private static final class Window {
+
+		private static Window at(ZoneRules rules, long epochSecond) {
+			Instant instant = Instant.ofEpochSecond(epochSecond);
+			ZoneOffsetTransition previous = rules.previousTransition(instant.plusSeconds(1));
+			ZoneOffsetTransition next = rules.nextTransition(instant);
+			return new Window(previous == null ? Long.MIN_VALUE : previous.toEpochSecond(),
+			        next == null ? Long.MAX_VALUE : next.toEpochSecond(),
+			        rules.getOffset(instant).getTotalSeconds());
+		}
+
+		private final long from, to;
+		private final int offset;
+
+		private Window(long from, long to, int offset) {
+			this.from = from;
+			this.to = to;
+			this.offset = offset;
+		}
+
+		private boolean contains(long epochSecond) {
+			return epochSecond >= from && epochSecond < to;
+		}
+	}
+}
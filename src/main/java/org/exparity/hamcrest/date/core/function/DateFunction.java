@@ -1,13 +1,15 @@
 package org.exparity.hamcrest.date.core.function;
 
-import java.text.SimpleDateFormat;
+import java.time.Instant;
 import java.time.LocalDate;
-import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
 import java.util.Locale;
+import java.util.Optional;
 
+import org.exparity.hamcrest.date.core.DefaultZones;
 import org.exparity.hamcrest.date.core.TemporalFunction;
+import org.exparity.hamcrest.date.core.types.EpochRange;
 import org.exparity.hamcrest.date.core.types.Interval;
 
 /**
@@ -19,8 +21,10 @@ public class DateFunction implements TemporalFunction<Date> {
 
 	public static final String JAVA_SQL_DATE_UNIT = "java.sql.Date does not support time-based units. Prefer SqlDateMatchers for java.sql.Date appropriate matchers";
 
-	private static final String DATE_TIME_FORMAT = "EEE, dd MMM yyyy hh:mm:ss.SSS a";
-	private static final String DATE_FORMAT = "EEE, dd MMM yyyy";
+	private static final InstantFunction INSTANT = new InstantFunction();
+
+	private static final DateTimeFormatterCache DATE_TIME_FORMAT = new DateTimeFormatterCache("EEE, dd MMM yyyy hh:mm:ss.SSS a");
+	private static final DateTimeFormatterCache DATE_FORMAT = new DateTimeFormatterCache("EEE, dd MMM yyyy");
 
 	@Override
 	public boolean isAfter(final Date expected, final Date actual) {
@@ -58,12 +62,29 @@ public class DateFunction implements TemporalFunction<Date> {
 		}
 	}
 
+	@Override
+	public boolean isWithin(Date expected, Date other, Interval interval) {
+		if (interval.isExact() && !(expected instanceof java.sql.Date) && !(other instanceof java.sql.Date)) {
+			Instant reference = expected.toInstant(), instant = other.toInstant();
+			return !instant.isBefore(reference.minus(interval)) && !instant.isAfter(reference.plus(interval));
+		}
+		return TemporalFunction.super.isWithin(expected, other, interval);
+	}
+
+	@Override
+	public Optional<EpochRange> range(Date temporal, Interval interval) {
+		if (temporal instanceof java.sql.Date) {
+			return Optional.empty();
+		}
+		return INSTANT.range(temporal.toInstant(), interval);
+	}
+
 	@Override
 	public String describe(final Date temporal, final Locale locale) {
 		if (temporal instanceof java.sql.Date) {
-			return new SimpleDateFormat(DATE_FORMAT, locale).format(temporal);
+			return DATE_FORMAT.forLocale(locale).format(((java.sql.Date) temporal).toLocalDate());
 		} else {
-			return new SimpleDateFormat(DATE_TIME_FORMAT, locale).format(temporal);
+			return DATE_TIME_FORMAT.forLocale(locale).format(temporal.toInstant().atZone(DefaultZones.get()));
 		}
 	}
 
@@ -71,7 +92,7 @@ public class DateFunction implements TemporalFunction<Date> {
 		if (expected instanceof java.sql.Date) {
 			return ((java.sql.Date) expected).toLocalDate();
 		} else {
-			return expected.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+			return expected.toInstant().atZone(DefaultZones.get()).toLocalDate();
 		}
 	}
 }
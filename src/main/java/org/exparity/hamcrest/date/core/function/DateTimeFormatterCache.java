@@ -0,0 +1,42 @@
+package org.exparity.hamcrest.date.core.function;
+
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Thread-safe cache of the {@link DateTimeFormatter} for a pattern in each {@link Locale}. The cache holds at most
+ * {@value #MAXIMUM_LOCALES} locales; formatters for further locales are created on each request rather than cached.
+ */
+final class DateTimeFormatterCache {
+
+	private static final int MAXIMUM_LOCALES = 32;
+
+	private final String pattern;
+	private final ConcurrentMap<Locale, DateTimeFormatter> formatters = new ConcurrentHashMap<>();
+
+	DateTimeFormatterCache(String pattern) {
+		this.pattern = pattern;
+	}
+
+	/**
+	 * Return the formatter for the pattern in the given locale
+	 * @param locale the locale to format in
+	 * @return a {@link DateTimeFormatter}
+	 */
+	DateTimeFormatter forLocale(Locale locale) {
+		DateTimeFormatter formatter = formatters.get(locale);
+		if (formatter == null) {
+			formatter = DateTimeFormatter.ofPattern(pattern, locale);
+			if (formatters.size() < MAXIMUM_LOCALES) {
+				formatters.putIfAbsent(locale, formatter);
+			}
+		}
+		return formatter;
+	}
+
+	int size() {
+		return formatters.size();
+	}
+}
@@ -0,0 +1,96 @@
+package org.exparity.hamcrest.date.core.function;
+
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.exparity.hamcrest.date.core.EpochConverter;
+import org.exparity.hamcrest.date.core.TemporalFunction;
+import org.exparity.hamcrest.date.core.types.EpochRange;
+import org.exparity.hamcrest.date.core.types.Interval;
+
+/**
+ * Implementation of {@link TemporalFunction} for a count of units from the epoch held in a {@link Long}. Intervals are
+ * measured in the same way as {@link Instant#until(java.time.temporal.Temporal, java.time.temporal.TemporalUnit)}
+ * without creating an {@link Instant}.
+ */
+public final class EpochFunction implements TemporalFunction<Long> {
+
+	private static final long NANOS_PER_SECOND = 1000000000L;
+	private static final int NANOS_PER_MILLISECOND = 1000000;
+	private static final InstantFunction INSTANT = new InstantFunction();
+
+	private final EpochConverter<Long> epochs;
+
+	public EpochFunction(EpochConverter<Long> epochs) {
+		this.epochs = epochs;
+	}
+
+	@Override
+	public boolean isSame(Long temporal, Long other) {
+		return temporal.longValue() == other.longValue();
+	}
+
+	@Override
+	public boolean isAfter(Long temporal, Long other) {
+		return temporal > other;
+	}
+
+	@Override
+	public boolean isBefore(Long temporal, Long other) {
+		return temporal < other;
+	}
+
+	@Override
+	public Interval interval(Long expected, Long other, ChronoUnit unit) {
+		switch (unit) {
+			case NANOS:
+				return Interval.of(nanosUntil(expected, other), unit);
+			case MICROS:
+				return Interval.of(nanosUntil(expected, other) / 1000, unit);
+			case MILLIS:
+				return Interval.of(Math.subtractExact(epochMilli(other), epochMilli(expected)), unit);
+			case SECONDS:
+			case MINUTES:
+			case HOURS:
+			case HALF_DAYS:
+			case DAYS:
+				return Interval.of(secondsUntil(expected, other) / unit.getDuration().getSeconds(), unit);
+			default:
+				throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+		}
+	}
+
+	@Override
+	public Optional<EpochRange> range(Long temporal, Interval interval) {
+		return INSTANT.range(Instant.ofEpochSecond(epochs.toEpochSecond(temporal), epochs.toNano(temporal)), interval);
+	}
+
+	@Override
+	public String describe(Long temporal, Locale locale) {
+		return DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochSecond(epochs.toEpochSecond(temporal), epochs.toNano(temporal)));
+	}
+
+	private long nanosUntil(Long expected, Long other) {
+		long seconds = Math.subtractExact(epochs.toEpochSecond(other), epochs.toEpochSecond(expected));
+		return Math.addExact(Math.multiplyExact(seconds, NANOS_PER_SECOND), epochs.toNano(other) - epochs.toNano(expected));
+	}
+
+	private long secondsUntil(Long expected, Long other) {
+		long seconds = Math.subtractExact(epochs.toEpochSecond(other), epochs.toEpochSecond(expected));
+		long nanos = epochs.toNano(other) - epochs.toNano(expected);
+		if (seconds > 0 && nanos < 0) {
+			seconds--;
+		} else if (seconds < 0 && nanos > 0) {
+			seconds++;
+		}
+		return seconds;
+	}
+
+	private long epochMilli(Long temporal) {
+		return Math.addExact(Math.multiplyExact(epochs.toEpochSecond(temporal), 1000L), epochs.toNano(temporal) / NANOS_PER_MILLISECOND);
+	}
+}
@@ -4,8 +4,10 @@ import java.time.Instant;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.Locale;
+import java.util.Optional;
 
 import org.exparity.hamcrest.date.core.TemporalFunction;
+import org.exparity.hamcrest.date.core.types.EpochRange;
 import org.exparity.hamcrest.date.core.types.Interval;
 
 /**
@@ -32,6 +34,24 @@ public final class InstantFunction implements TemporalFunction<Instant> {
 	public Interval interval(Instant expected, Instant other, ChronoUnit unit) {
 		return Interval.of(expected.until(other, unit), unit);
 	}
+
+	@Override
+	public boolean isWithin(Instant expected, Instant other, Interval interval) {
+		if (interval.isExact()) {
+			return !other.isBefore(expected.minus(interval)) && !other.isAfter(expected.plus(interval));
+		}
+		return TemporalFunction.super.isWithin(expected, other, interval);
+	}
+
+	@Override
+	public Optional<EpochRange> range(Instant temporal, Interval interval) {
+		if (interval.isExact()) {
+			return interval.isTimeBased() ? Optional.of(EpochRange.within(interval.getTime(), temporal)) : Optional.empty();
+		} else if (interval.getUnit().isTimeBased() || interval.getUnit() == ChronoUnit.DAYS) {
+			return Optional.of(EpochRange.within(interval.getPeriod(), interval.getUnit(), temporal));
+		}
+		return Optional.empty();
+	}
 	
 	@Override
 	public String describe(Instant temporal, Locale locale) {
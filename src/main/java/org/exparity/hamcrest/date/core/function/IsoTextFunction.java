@@ -0,0 +1,67 @@
+package org.exparity.hamcrest.date.core.function;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.exparity.hamcrest.date.core.EpochConverters;
+import org.exparity.hamcrest.date.core.TemporalFunction;
+import org.exparity.hamcrest.date.core.types.EpochRange;
+import org.exparity.hamcrest.date.core.types.Interval;
+
+/**
+ * Implementation of {@link TemporalFunction} for ISO-8601 text with a zone offset. The text is compared by its epoch
+ * second and nanosecond, read by {@link EpochConverters#ISO_TEXT}, and is described as written.
+ */
+public final class IsoTextFunction implements TemporalFunction<CharSequence> {
+
+	private static final InstantFunction INSTANT = new InstantFunction();
+
+	@Override
+	public boolean isSame(CharSequence temporal, CharSequence other) {
+		return compare(temporal, other) == 0;
+	}
+
+	@Override
+	public boolean isAfter(CharSequence temporal, CharSequence other) {
+		return compare(temporal, other) > 0;
+	}
+
+	@Override
+	public boolean isBefore(CharSequence temporal, CharSequence other) {
+		return compare(temporal, other) < 0;
+	}
+
+	@Override
+	public Interval interval(CharSequence expected, CharSequence other, ChronoUnit unit) {
+		return INSTANT.interval(toInstant(expected), toInstant(other), unit);
+	}
+
+	@Override
+	public boolean isWithin(CharSequence expected, CharSequence other, Interval interval) {
+		return INSTANT.isWithin(toInstant(expected), toInstant(other), interval);
+	}
+
+	@Override
+	public Optional<EpochRange> range(CharSequence temporal, Interval interval) {
+		return INSTANT.range(toInstant(temporal), interval);
+	}
+
+	@Override
+	public String describe(CharSequence temporal, Locale locale) {
+		return temporal.toString();
+	}
+
+	private static int compare(CharSequence temporal, CharSequence other) {
+		int comparison = Long.compare(EpochConverters.ISO_TEXT.toEpochSecond(temporal),
+		        EpochConverters.ISO_TEXT.toEpochSecond(other));
+		return comparison != 0 ? comparison
+		        : Integer.compare(EpochConverters.ISO_TEXT.toNano(temporal), EpochConverters.ISO_TEXT.toNano(other));
+	}
+
+	private static Instant toInstant(CharSequence temporal) {
+		return Instant.ofEpochSecond(EpochConverters.ISO_TEXT.toEpochSecond(temporal),
+		        EpochConverters.ISO_TEXT.toNano(temporal));
+	}
+}
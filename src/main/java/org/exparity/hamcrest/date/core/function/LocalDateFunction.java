@@ -1,7 +1,6 @@
 package org.exparity.hamcrest.date.core.function;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.Locale;
 
@@ -15,7 +14,7 @@ import org.exparity.hamcrest.date.core.types.Interval;
  */
 public class LocalDateFunction implements TemporalFunction<LocalDate> {
 
-	private static final String DATE_PATTERN = "EEE, dd MMM yyyy";
+	private static final DateTimeFormatterCache DATE_FORMAT = new DateTimeFormatterCache("EEE, dd MMM yyyy");
 	
 	@Override
 	public boolean isAfter(final LocalDate expected, final LocalDate actual) {
@@ -37,8 +36,16 @@ public class LocalDateFunction implements TemporalFunction<LocalDate> {
 		return Interval.of(expected.until(other, unit), unit);
 	}
 
+	@Override
+	public boolean isWithin(LocalDate expected, LocalDate other, Interval interval) {
+		if (interval.isExact()) {
+			return !other.isBefore(expected.minus(interval)) && !other.isAfter(expected.plus(interval));
+		}
+		return TemporalFunction.super.isWithin(expected, other, interval);
+	}
+
 	@Override
 	public String describe(final LocalDate temporal, final Locale locale) {
-		return temporal.format(DateTimeFormatter.ofPattern(DATE_PATTERN, locale));
+		return temporal.format(DATE_FORMAT.forLocale(locale));
 	}
 }
@@ -1,7 +1,6 @@
 package org.exparity.hamcrest.date.core.function;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.Locale;
 
@@ -15,7 +14,7 @@ import org.exparity.hamcrest.date.core.types.Interval;
  */
 public class LocalDateTimeFunction implements TemporalFunction<LocalDateTime> {
 
-	private static final String DATE_TIME_PATTERN = "EEE, dd MMM yyyy hh:mm:ss.SSS a";
+	private static final DateTimeFormatterCache DATE_TIME_FORMAT = new DateTimeFormatterCache("EEE, dd MMM yyyy hh:mm:ss.SSS a");
 	
 	@Override
 	public boolean isAfter(final LocalDateTime expected, final LocalDateTime actual) {
@@ -37,8 +36,16 @@ public class LocalDateTimeFunction implements TemporalFunction<LocalDateTime> {
 		return Interval.of(expected.until(other, unit), unit);
 	}
 
+	@Override
+	public boolean isWithin(LocalDateTime expected, LocalDateTime other, Interval interval) {
+		if (interval.isExact()) {
+			return !other.isBefore(expected.minus(interval)) && !other.isAfter(expected.plus(interval));
+		}
+		return TemporalFunction.super.isWithin(expected, other, interval);
+	}
+
 	@Override
 	public String describe(final LocalDateTime temporal, final Locale locale) {
-		return temporal.format(DateTimeFormatter.ofPattern(DATE_TIME_PATTERN, locale));
+		return temporal.format(DATE_TIME_FORMAT.forLocale(locale));
 	}
 }
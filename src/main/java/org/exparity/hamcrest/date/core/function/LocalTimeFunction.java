@@ -1,7 +1,7 @@
 package org.exparity.hamcrest.date.core.function;
 
+import java.time.Duration;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.Locale;
 
@@ -15,7 +15,7 @@ import org.exparity.hamcrest.date.core.types.Interval;
  */
 public class LocalTimeFunction implements TemporalFunction<LocalTime> {
 
-	private static final String TIME_PATTERN = "hh:mm:ss a";
+	private static final DateTimeFormatterCache TIME_FORMAT = new DateTimeFormatterCache("hh:mm:ss a");
 	
 	@Override
 	public boolean isAfter(final LocalTime expected, final LocalTime actual) {
@@ -37,8 +37,16 @@ public class LocalTimeFunction implements TemporalFunction<LocalTime> {
 		return Interval.of(expected.until(other, unit), unit);
 	}
 
+	@Override
+	public boolean isWithin(LocalTime expected, LocalTime other, Interval interval) {
+		if (interval.isExact()) {
+			return !Interval.of(Duration.between(expected, other)).longerThan(interval);
+		}
+		return TemporalFunction.super.isWithin(expected, other, interval);
+	}
+
 	@Override
 	public String describe(final LocalTime temporal, final Locale locale) {
-		return temporal.format(DateTimeFormatter.ofPattern(TIME_PATTERN, locale));
+		return temporal.format(TIME_FORMAT.forLocale(locale));
 	}
 }
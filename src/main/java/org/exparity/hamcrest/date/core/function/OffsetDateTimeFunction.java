@@ -1,12 +1,13 @@
 package org.exparity.hamcrest.date.core.function;
 
 import java.time.OffsetDateTime;
-import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.Locale;
+import java.util.Optional;
 
 import org.exparity.hamcrest.date.core.TemporalFunction;
 import org.exparity.hamcrest.date.core.TemporalFunctions;
+import org.exparity.hamcrest.date.core.types.EpochRange;
 import org.exparity.hamcrest.date.core.types.Interval;
 
 /**
@@ -16,7 +17,7 @@ import org.exparity.hamcrest.date.core.types.Interval;
  */
 public class OffsetDateTimeFunction implements TemporalFunction<OffsetDateTime> {
 
-	private static final String DATE_TIME_PATTERN = "EEE, dd MMM yyyy hh:mm:ss.SSS a Z";
+	private static final DateTimeFormatterCache DATE_TIME_FORMAT = new DateTimeFormatterCache("EEE, dd MMM yyyy hh:mm:ss.SSS a Z");
 	
 	@Override
 	public boolean isAfter(final OffsetDateTime expected, final OffsetDateTime actual) {
@@ -37,9 +38,27 @@ public class OffsetDateTimeFunction implements TemporalFunction<OffsetDateTime>
 	public Interval interval(OffsetDateTime expected, OffsetDateTime other, ChronoUnit unit) {
 		return Interval.of(expected.until(other, unit), unit);
 	}
+
+	@Override
+	public boolean isWithin(OffsetDateTime expected, OffsetDateTime other, Interval interval) {
+		if (interval.isExact()) {
+			return !other.isBefore(expected.minus(interval)) && !other.isAfter(expected.plus(interval));
+		}
+		return TemporalFunction.super.isWithin(expected, other, interval);
+	}
+
+	@Override
+	public Optional<EpochRange> range(OffsetDateTime temporal, Interval interval) {
+		if (interval.isExact()) {
+			return interval.isTimeBased() ? Optional.of(EpochRange.within(interval.getTime(), temporal.toInstant())) : Optional.empty();
+		} else if (interval.getUnit().isTimeBased()) {
+			return Optional.of(EpochRange.withinTruncated(interval.getPeriod(), interval.getUnit(), temporal.toInstant()));
+		}
+		return Optional.empty();
+	}
 	
 	@Override
 	public String describe(final OffsetDateTime temporal, final Locale locale) {
-		return temporal.format(DateTimeFormatter.ofPattern(DATE_TIME_PATTERN, locale));
+		return temporal.format(DATE_TIME_FORMAT.forLocale(locale));
 	}
 }
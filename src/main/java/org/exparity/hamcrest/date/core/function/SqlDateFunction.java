@@ -1,7 +1,6 @@
 package org.exparity.hamcrest.date.core.function;
 
 import java.sql.Date;
-import java.text.SimpleDateFormat;
 import java.time.temporal.ChronoUnit;
 import java.util.Locale;
 
@@ -15,7 +14,7 @@ import org.exparity.hamcrest.date.core.types.Interval;
  */
 public class SqlDateFunction implements TemporalFunction<Date> {
 
-	private static final String DATE_FORMAT = "EEE, dd MMM yyyy";
+	private static final DateTimeFormatterCache DATE_FORMAT = new DateTimeFormatterCache("EEE, dd MMM yyyy");
 
 	@Override
 	public boolean isAfter(final Date expected, final Date actual) {
@@ -39,6 +38,6 @@ public class SqlDateFunction implements TemporalFunction<Date> {
 
 	@Override
 	public String describe(final Date temporal, final Locale locale) {
-		return new SimpleDateFormat(DATE_FORMAT, locale).format(temporal);
+		return DATE_FORMAT.forLocale(locale).format(temporal.toLocalDate());
 	}
 }
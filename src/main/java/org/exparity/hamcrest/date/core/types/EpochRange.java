@@ -0,0 +1,129 @@
+package org.exparity.hamcrest.date.core.types;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+
+/**
+ * A closed range of points on the time-line expressed as seconds and nanoseconds from the epoch. Used to test many
+ * temporals against the same reference without converting each one. Instantiate via the static factory methods.
+ */
+public final class EpochRange {
+
+	private static final long MILLIS_PER_SECOND = 1000;
+	private static final int NANOS_PER_MILLISECOND = 1000000;
+
+	/**
+	 * Create an {@link EpochRange} holding every instant after the reference instant
+	 */
+	public static EpochRange after(Instant date) {
+		if (date.equals(Instant.MAX)) {
+			return new EpochRange(Instant.MAX, Instant.MIN);
+		}
+		return new EpochRange(date.plusNanos(1), Instant.MAX);
+	}
+
+	/**
+	 * Create an {@link EpochRange} holding every instant within a period of the reference instant, where the
+	 * difference is truncated to whole units in the same way as
+	 * {@link Instant#until(java.time.temporal.Temporal, java.time.temporal.TemporalUnit)}
+	 */
+	public static EpochRange within(long period, ChronoUnit unit, Instant date) {
+		if (!unit.isTimeBased() && unit != ChronoUnit.DAYS) {
+			throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+		}
+		if (unit == ChronoUnit.MILLIS) {
+			// Instant measures milliseconds between the epoch milliseconds of each instant rather than truncating
+			date = Instant.ofEpochMilli(date.toEpochMilli());
+			Instant to = plus(date, Math.abs(period) + 1, unit);
+			return new EpochRange(plus(date, -Math.abs(period), unit), to.equals(Instant.MAX) ? to : to.minusNanos(1));
+		}
+		return withinTruncated(period, unit, date);
+	}
+
+	/**
+	 * Create an {@link EpochRange} holding every instant within a period of the reference instant, where the
+	 * difference in nanoseconds is truncated to whole units in the same way as
+	 * {@link java.time.OffsetDateTime#until(java.time.temporal.Temporal, java.time.temporal.TemporalUnit)} for
+	 * time-based units
+	 */
+	public static EpochRange withinTruncated(long period, ChronoUnit unit, Instant date) {
+		if (!unit.isTimeBased() && unit != ChronoUnit.DAYS) {
+			throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+		}
+		Instant from = plus(date, -Math.abs(period) - 1, unit), to = plus(date, Math.abs(period) + 1, unit);
+		return new EpochRange(from.equals(Instant.MIN) ? from : from.plusNanos(1),
+		        to.equals(Instant.MAX) ? to : to.minusNanos(1));
+	}
+
+	/**
+	 * Create an {@link EpochRange} holding every instant within an exact duration either side of the reference
+	 * instant
+	 */
+	public static EpochRange within(Duration duration, Instant date) {
+		return new EpochRange(plus(date, duration.abs().negated()), plus(date, duration.abs()));
+	}
+
+	/**
+	 * Create an {@link EpochRange} holding every instant on the day in the given time zone
+	 */
+	public static EpochRange day(LocalDate date, ZoneId zone) {
+		return new EpochRange(date.atStartOfDay(zone).toInstant(),
+		        date.plusDays(1).atStartOfDay(zone).toInstant().minusNanos(1));
+	}
+
+	private final long fromSecond, toSecond;
+	private final int fromNano, toNano;
+
+	private EpochRange(Instant from, Instant to) {
+		this.fromSecond = from.getEpochSecond();
+		this.fromNano = from.getNano();
+		this.toSecond = to.getEpochSecond();
+		this.toNano = to.getNano();
+	}
+
+	/**
+	 * Test if the point on the time-line is in this range
+	 * @param epochSecond the seconds from the epoch
+	 * @param nano the nanoseconds within the second, from 0 to 999,999,999
+	 */
+	public boolean contains(long epochSecond, int nano) {
+		return (epochSecond > fromSecond || epochSecond == fromSecond && nano >= fromNano)
+		        && (epochSecond < toSecond || epochSecond == toSecond && nano <= toNano);
+	}
+
+	/**
+	 * Test if the instant is in this range
+	 */
+	public boolean contains(Instant instant) {
+		return contains(instant.getEpochSecond(), instant.getNano());
+	}
+
+	/**
+	 * Test if the milliseconds from the epoch is in this range
+	 */
+	public boolean containsEpochMilli(long epochMilli) {
+		return contains(Math.floorDiv(epochMilli, MILLIS_PER_SECOND),
+		        (int) Math.floorMod(epochMilli, MILLIS_PER_SECOND) * NANOS_PER_MILLISECOND);
+	}
+
+	private static Instant plus(Instant date, Duration duration) {
+		try {
+			return date.plus(duration);
+		} catch (DateTimeException | ArithmeticException e) {
+			return duration.isNegative() ? Instant.MIN : Instant.MAX;
+		}
+	}
+
+	private static Instant plus(Instant date, long amount, ChronoUnit unit) {
+		try {
+			return date.plus(unit.getDuration().multipliedBy(amount));
+		} catch (DateTimeException | ArithmeticException e) {
+			return amount < 0 ? Instant.MIN : Instant.MAX;
+		}
+	}
+}
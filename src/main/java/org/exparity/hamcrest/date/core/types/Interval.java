@@ -1,61 +1,218 @@
 package org.exparity.hamcrest.date.core.types;
 
+import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.Period;
 import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAmount;
+import java.time.temporal.TemporalUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
 
 /**
  * Encapsulate a time or date interval. Equivalent to {@link Duration} and {@link Period} but supporting both time and
- * date elements
- * 
+ * date elements. The interval is held as a count of months and days, which are added on the calendar, and an exact
+ * number of seconds and nanoseconds, so intervals in different units can be compared with each other.
+ *
  * @author Stewart Bissett
  */
-public class Interval {
+public class Interval implements TemporalAmount {
+
+	private static final List<TemporalUnit> UNITS = Collections
+	        .unmodifiableList(Arrays.asList(ChronoUnit.MONTHS, ChronoUnit.DAYS, ChronoUnit.SECONDS, ChronoUnit.NANOS));
+	private static final long MONTHS_SECONDS = ChronoUnit.MONTHS.getDuration().getSeconds();
 
 	/**
-	 * Create an {@link Interval} from a {@link Period} using a unit of {@link ChronoUnit#DAYS}
+	 * Create an exact {@link Interval} from a {@link Period}, where the months and days are added on the calendar
 	 */
 	public static Interval of(Period period) {
-		return new Interval(period.getDays(), ChronoUnit.DAYS);
+		long months = Math.abs(period.toTotalMonths()), days = Math.abs((long) period.getDays());
+		return new Interval(months == 0 || days != 0 ? days : months,
+		        months == 0 || days != 0 ? ChronoUnit.DAYS : ChronoUnit.MONTHS,
+		        months,
+		        days,
+		        Duration.ZERO,
+		        true);
 	}
 
 	/**
-	 * Create an {@link Interval} from a {@link Period} using a unit of {@link ChronoUnit#DAYS}
+	 * Create an exact {@link Interval} from a {@link Duration} to the nanosecond
 	 */
 	public static Interval of(Duration duration) {
-		return new Interval(duration.getSeconds(), ChronoUnit.SECONDS);
+		Duration time = duration.abs();
+		return new Interval(0, ChronoUnit.NANOS, 0, 0, time, true);
 	}
 
 	/**
-	 * Create an {@link Interval} from an explicit period and {@link ChronoUnit}
+	 * Create an {@link Interval} from an explicit period and {@link ChronoUnit}. The interval between two temporals is
+	 * compared with it in whole units of the {@link ChronoUnit}
 	 */
 	public static Interval of(long period, ChronoUnit unit) {
-		return new Interval(period, unit);
+		long amount = Math.abs(period);
+		try {
+			switch (unit) {
+				case DAYS:
+					return new Interval(amount, unit, 0, amount, Duration.ZERO, false);
+				case WEEKS:
+					return new Interval(amount, unit, 0, Math.multiplyExact(amount, 7), Duration.ZERO, false);
+				case MONTHS:
+				case YEARS:
+				case DECADES:
+				case CENTURIES:
+				case MILLENNIA:
+					long months = Math.multiplyExact(amount, unit.getDuration().getSeconds() / MONTHS_SECONDS);
+					return new Interval(amount, unit, months, 0, Duration.ZERO, false);
+				case ERAS:
+				case FOREVER:
+					return new Interval(amount, unit, 0, 0, null, false);
+				default:
+					return new Interval(amount, unit, 0, 0, unit.getDuration().multipliedBy(amount), false);
+			}
+		} catch (ArithmeticException e) {
+			// Too long to normalize so can only be compared with intervals in the same unit
+			return new Interval(amount, unit, 0, 0, null, false);
+		}
 	}
 
 	private final long period;
 	private final ChronoUnit unit;
+	private final long months, days;
+	private final Duration time;
+	private final boolean exact;
 
-	private Interval(long period, ChronoUnit unit) {
-		this.period = Math.abs(period);
+	private Interval(long period, ChronoUnit unit, long months, long days, Duration time, boolean exact) {
+		this.period = period;
 		this.unit = unit;
+		this.months = months;
+		this.days = days;
+		this.time = time;
+		this.exact = exact;
+	}
+
+	/**
+	 * Return the number of units of {@link #getUnit()} in this interval
+	 */
+	public long getPeriod() {
+		return period;
 	}
 
+	/**
+	 * Return the unit to measure the interval between two temporals in when comparing it with this interval
+	 */
 	public ChronoUnit getUnit() {
 		return unit;
 	}
 
+	/**
+	 * Return true if this interval was created from a {@link Duration} or {@link Period} and so should be compared
+	 * exactly rather than in whole units of {@link #getUnit()}
+	 */
+	public boolean isExact() {
+		return exact;
+	}
+
+	/**
+	 * Return true if this interval has no months or days to add on the calendar
+	 */
+	public boolean isTimeBased() {
+		return months == 0 && days == 0 && time != null;
+	}
+
+	/**
+	 * Return the exact seconds and nanoseconds of this interval, excluding any months or days
+	 */
+	public Duration getTime() {
+		return time == null ? Duration.ZERO : time;
+	}
+
+	/**
+	 * Test if this interval is longer than another interval. Intervals with the same unit are compared by their
+	 * period, time-based intervals by their seconds and nanoseconds, and date-based intervals by their months or
+	 * days. Otherwise the estimated durations of the months and days, as given by {@link ChronoUnit#getDuration()},
+	 * are compared.
+	 */
 	public boolean longerThan(Interval other) {
-	    if ( unit == other.unit ) {
-	        return period > other.period;
-	    } else {
-	        throw new UnsupportedOperationException("Units are different. " + unit + " vs " + other.unit);
-	    }
+		if (!exact && !other.exact && unit == other.unit) {
+			return period > other.period;
+		} else if (time == null || other.time == null) {
+			throw new UnsupportedOperationException("Units are different. " + unit + " vs " + other.unit);
+		} else if (isTimeBased() && other.isTimeBased()) {
+			return time.compareTo(other.time) > 0;
+		} else if (time.isZero() && other.time.isZero() && months == other.months) {
+			return days > other.days;
+		} else if (time.isZero() && other.time.isZero() && days == 0 && other.days == 0) {
+			return months > other.months;
+		}
+		return estimated().compareTo(other.estimated()) > 0;
 	}
 
 	public String describe(Locale locale) {
-		return period + " " + unit.toString();
+		if (!exact) {
+			return period + " " + unit.toString();
+		}
+		List<String> parts = new ArrayList<>();
+		if (months != 0) {
+			parts.add(months + " " + ChronoUnit.MONTHS);
+		}
+		if (days != 0) {
+			parts.add(days + " " + ChronoUnit.DAYS);
+		}
+		if (!time.isZero()) {
+			parts.add(BigDecimal.valueOf(time.getSeconds()).add(BigDecimal.valueOf(time.getNano(), 9))
+			        .stripTrailingZeros()
+			        .toPlainString() + " " + ChronoUnit.SECONDS);
+		}
+		return parts.isEmpty() ? "0 " + unit : String.join(" and ", parts);
+	}
+
+	@Override
+	public long get(TemporalUnit unit) {
+		if (unit == ChronoUnit.MONTHS) {
+			return months;
+		} else if (unit == ChronoUnit.DAYS) {
+			return days;
+		} else if (unit == ChronoUnit.SECONDS) {
+			return getTime().getSeconds();
+		} else if (unit == ChronoUnit.NANOS) {
+			return getTime().getNano();
+		}
+		throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
 	}
 
+	@Override
+	public List<TemporalUnit> getUnits() {
+		return UNITS;
+	}
+
+	@Override
+	public Temporal addTo(Temporal temporal) {
+		if (time == null) {
+			return temporal.plus(period, unit);
+		}
+		Temporal result = months == 0 ? temporal : temporal.plus(months, ChronoUnit.MONTHS);
+		result = days == 0 ? result : result.plus(days, ChronoUnit.DAYS);
+		return time.isZero() ? result : result.plus(time);
+	}
+
+	@Override
+	public Temporal subtractFrom(Temporal temporal) {
+		if (time == null) {
+			return temporal.minus(period, unit);
+		}
+		Temporal result = months == 0 ? temporal : temporal.minus(months, ChronoUnit.MONTHS);
+		result = days == 0 ? result : result.minus(days, ChronoUnit.DAYS);
+		return time.isZero() ? result : result.minus(time);
+	}
+
+	private Duration estimated() {
+		return ChronoUnit.MONTHS.getDuration()
+		        .multipliedBy(months)
+		        .plus(ChronoUnit.DAYS.getDuration().multipliedBy(days))
+		        .plus(time);
+	}
 }
@@ -0,0 +1,175 @@
+package org.exparity.hamcrest.date.core.types;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * An immutable set of closed windows on the time-line, e.g. maintenance or blackout windows. The windows are sorted and
+ * overlapping or adjoining windows are merged when the set is built, so testing if a point on the time-line is in any
+ * window is a binary search. Instantiate via {@link #of(Instant, Instant)} or {@link #builder()}.
+ */
+public final class TemporalRangeSet {
+
+	/**
+	 * Create a {@link TemporalRangeSet} holding a single window, inclusive of both the start and end
+	 */
+	public static TemporalRangeSet of(Instant from, Instant to) {
+		return builder().add(from, to).build();
+	}
+
+	/**
+	 * Create a {@link Builder} to add windows to
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Collects the windows of a {@link TemporalRangeSet} in any order
+	 */
+	public static final class Builder {
+
+		private final List<Instant[]> windows = new ArrayList<>();
+
+		private Builder() {}
+
+		/**
+		 * Add a window, inclusive of both the start and end
+		 */
+		public Builder add(Instant from, Instant to) {
+			if (from.isAfter(to)) {
+				throw new IllegalArgumentException("Window starting " + from + " ends before it starts at " + to);
+			}
+			windows.add(new Instant[] { from, to });
+			return this;
+		}
+
+		/**
+		 * Add a window, inclusive of both the start and end
+		 */
+		public Builder add(ZonedDateTime from, ZonedDateTime to) {
+			return add(from.toInstant(), to.toInstant());
+		}
+
+		public TemporalRangeSet build() {
+			List<Instant[]> sorted = new ArrayList<>(windows);
+			sorted.sort(Comparator.comparing(window -> window[0]));
+			List<Instant[]> merged = new ArrayList<>(sorted.size());
+			for (Instant[] window : sorted) {
+				Instant[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+				if (last != null && !window[0].isAfter(last[1].equals(Instant.MAX) ? last[1] : last[1].plusNanos(1))) {
+					if (window[1].isAfter(last[1])) {
+						last[1] = window[1];
+					}
+				} else {
+					merged.add(new Instant[] { window[0], window[1] });
+				}
+			}
+			return new TemporalRangeSet(merged);
+		}
+	}
+
+	private final long[] fromSeconds, toSeconds;
+	private final int[] fromNanos, toNanos;
+
+	private TemporalRangeSet(List<Instant[]> windows) {
+		int size = windows.size();
+		this.fromSeconds = new long[size];
+		this.fromNanos = new int[size];
+		this.toSeconds = new long[size];
+		this.toNanos = new int[size];
+		for (int i = 0; i < size; ++i) {
+			Instant[] window = windows.get(i);
+			fromSeconds[i] = window[0].getEpochSecond();
+			fromNanos[i] = window[0].getNano();
+			toSeconds[i] = window[1].getEpochSecond();
+			toNanos[i] = window[1].getNano();
+		}
+	}
+
+	/**
+	 * Return the number of windows after overlapping and adjoining windows have been merged
+	 */
+	public int size() {
+		return fromSeconds.length;
+	}
+
+	/**
+	 * Return the start of the window at the index, in order along the time-line
+	 */
+	public Instant from(int index) {
+		return Instant.ofEpochSecond(fromSeconds[index], fromNanos[index]);
+	}
+
+	/**
+	 * Return the end of the window at the index, in order along the time-line
+	 */
+	public Instant to(int index) {
+		return Instant.ofEpochSecond(toSeconds[index], toNanos[index]);
+	}
+
+	/**
+	 * Test if the point on the time-line is in any window of this set
+	 * @param epochSecond the seconds from the epoch
+	 * @param nano the nanoseconds within the second, from 0 to 999,999,999
+	 */
+	public boolean contains(long epochSecond, int nano) {
+		int index = floor(epochSecond, nano);
+		return index >= 0 && compare(epochSecond, nano, toSeconds[index], toNanos[index]) <= 0;
+	}
+
+	/**
+	 * Test if the instant is in any window of this set
+	 */
+	public boolean contains(Instant instant) {
+		return contains(instant.getEpochSecond(), instant.getNano());
+	}
+
+	/**
+	 * Return the index of the window containing or nearest to the point on the time-line, or -1 if the set is empty
+	 * @param epochSecond the seconds from the epoch
+	 * @param nano the nanoseconds within the second, from 0 to 999,999,999
+	 */
+	public int nearest(long epochSecond, int nano) {
+		int index = floor(epochSecond, nano), next = index + 1;
+		if (index < 0 || next == size()) {
+			return next == size() ? index : next;
+		} else if (compare(epochSecond, nano, toSeconds[index], toNanos[index]) <= 0) {
+			return index;
+		}
+		Instant instant = Instant.ofEpochSecond(epochSecond, nano);
+		return Duration.between(to(index), instant).compareTo(Duration.between(instant, from(next))) <= 0 ? index : next;
+	}
+
+	/**
+	 * Return the index of the window containing or nearest to the instant, or -1 if the set is empty
+	 */
+	public int nearest(Instant instant) {
+		return nearest(instant.getEpochSecond(), instant.getNano());
+	}
+
+	/**
+	 * Return the index of the last window starting at or before the point on the time-line, or -1 if there is none
+	 */
+	private int floor(long epochSecond, int nano) {
+		int low = 0, high = fromSeconds.length - 1;
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			if (compare(fromSeconds[middle], fromNanos[middle], epochSecond, nano) <= 0) {
+				low = middle + 1;
+			} else {
+				high = middle - 1;
+			}
+		}
+		return high;
+	}
+
+	private static int compare(long epochSecond, int nano, long otherSecond, int otherNano) {
+		int comparison = Long.compare(epochSecond, otherSecond);
+		return comparison != 0 ? comparison : Integer.compare(nano, otherNano);
+	}
+}
@@ -0,0 +1,461 @@
+package org.exparity.hamcrest.date.scan;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import org.exparity.hamcrest.date.core.IsoTimestamps;
+import org.exparity.hamcrest.date.core.TemporalMatcher;
+import org.hamcrest.StringDescription;
+
+/**
+ * Scan the rows of a CSV or newline-delimited JSON file for an ISO-8601 timestamp and test each one against a
+ * {@link TemporalMatcher}. The file is memory-mapped in large chunks and each timestamp is parsed directly from the
+ * mapped bytes, so no {@link String} is created for a row, and the result reports the byte offset of the first rows
+ * which did not match. Instantiate via {@link #csv(int)} or {@link #ndjson(String)}.
+ *
+ * For example:
+ *
+ * <pre>
+ * Result result = TimestampScanner.csv(3).skippingHeader().scanInstants(export, within(1, DAYS, runDate));
+ * assertThat(result.describe(), result.isSuccess());
+ * </pre>
+ *
+ * Rows are separated by a line feed, optionally preceded by a carriage return, and empty rows are ignored. A CSV
+ * field may be enclosed in double quotes to include the delimiter, but not a line break. The timestamp of a JSON row
+ * is the string value of the first occurrence of the field in the row, at any depth.
+ */
+public final class TimestampScanner {
+
+	private static final int DEFAULT_REPORTED = 10;
+	private static final int DEFAULT_CHUNK = 1 << 28;
+
+	/**
+	 * Create a {@link TimestampScanner} for the zero-based column of a comma separated file
+	 */
+	public static TimestampScanner csv(int column) {
+		return csv(column, ',');
+	}
+
+	/**
+	 * Create a {@link TimestampScanner} for the zero-based column of a file separated by the delimiter
+	 */
+	public static TimestampScanner csv(int column, char delimiter) {
+		if (column < 0) {
+			throw new IllegalArgumentException("The column cannot be negative");
+		} else if (delimiter > 127 || delimiter == '"' || delimiter == '\n' || delimiter == '\r') {
+			throw new IllegalArgumentException(
+			        "The delimiter must be an ASCII character other than a quote or line break");
+		}
+		return new TimestampScanner(new CsvColumn(column, (byte) delimiter),
+		        false,
+		        DEFAULT_REPORTED,
+		        Optional.empty(),
+		        DEFAULT_CHUNK);
+	}
+
+	/**
+	 * Create a {@link TimestampScanner} for a field of a file with one JSON object on each line
+	 */
+	public static TimestampScanner ndjson(String field) {
+		return new TimestampScanner(new JsonField(field), false, DEFAULT_REPORTED, Optional.empty(), DEFAULT_CHUNK);
+	}
+
+	private final Locator locator;
+	private final boolean header;
+	private final int reported;
+	private final Optional<ZoneOffset> offset;
+	private final int chunk;
+
+	private TimestampScanner(Locator locator, boolean header, int reported, Optional<ZoneOffset> offset, int chunk) {
+		if (reported < 0) {
+			throw new IllegalArgumentException("The number of reported failures cannot be negative");
+		}
+		this.locator = locator;
+		this.header = header;
+		this.reported = reported;
+		this.offset = offset;
+		this.chunk = chunk;
+	}
+
+	/**
+	 * Creates a copy of this scanner which ignores the first row of the file
+	 */
+	public TimestampScanner skippingHeader() {
+		return new TimestampScanner(locator, true, reported, offset, chunk);
+	}
+
+	/**
+	 * Creates a copy of this scanner which reports the offsets of up to the given number of failing rows
+	 */
+	public TimestampScanner reporting(int reported) {
+		return new TimestampScanner(locator, header, reported, offset, chunk);
+	}
+
+	/**
+	 * Creates a copy of this scanner which places timestamps without a zone offset on the time-line at the given
+	 * offset when scanning for instants. Otherwise such timestamps fail to parse.
+	 */
+	public TimestampScanner atOffset(ZoneOffset offset) {
+		return new TimestampScanner(locator, header, reported, Optional.of(offset), chunk);
+	}
+
+	/**
+	 * Creates a copy of this scanner which maps the file in chunks of the given number of bytes, which must be longer
+	 * than any row
+	 */
+	TimestampScanner inChunksOf(int chunk) {
+		return new TimestampScanner(locator, header, reported, offset, chunk);
+	}
+
+	/**
+	 * Test the timestamp of every row of the file as an {@link Instant}, e.g. with an
+	 * {@link org.exparity.hamcrest.date.InstantMatchers} matcher
+	 */
+	public Result scanInstants(Path file, TemporalMatcher<Instant> matcher) throws IOException {
+		Predicate<Instant> predicate = matcher.asPredicate();
+		int assumed = offset.map(ZoneOffset::getTotalSeconds).orElse(0);
+		return scan(file, matcher, text -> offset.isPresent() || IsoTimestamps.hasOffset(text), text -> {
+			if (IsoTimestamps.hasOffset(text)) {
+				return predicate.test(Instant.ofEpochSecond(IsoTimestamps.toEpochSecond(text), IsoTimestamps.toNano(text)));
+			}
+			return predicate
+			        .test(Instant.ofEpochSecond(IsoTimestamps.toLocalEpochSecond(text) - assumed, IsoTimestamps.toNano(text)));
+		});
+	}
+
+	/**
+	 * Test the timestamp of every row of the file as a {@link LocalDateTime}, e.g. with an
+	 * {@link org.exparity.hamcrest.date.LocalDateTimeMatchers} matcher. The zone offset of a timestamp is ignored.
+	 */
+	public Result scanLocalDateTimes(Path file, TemporalMatcher<LocalDateTime> matcher) throws IOException {
+		Predicate<LocalDateTime> predicate = matcher.asPredicate();
+		return scan(file,
+		        matcher,
+		        text -> true,
+		        text -> predicate.test(LocalDateTime
+		                .ofEpochSecond(IsoTimestamps.toLocalEpochSecond(text), IsoTimestamps.toNano(text), ZoneOffset.UTC)));
+	}
+
+	private Result scan(Path file,
+	        TemporalMatcher<?> matcher,
+	        Predicate<CharSequence> parses,
+	        Predicate<CharSequence> test) throws IOException {
+		Scan scan = new Scan(parses, test);
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			long size = channel.size(), position = 0;
+			while (position < size) {
+				int length = (int) Math.min(chunk, size - position);
+				MappedByteBuffer bytes = channel.map(MapMode.READ_ONLY, position, length);
+				int consumed = scan.rows(bytes, position, position + length == size);
+				if (consumed == 0) {
+					throw new IOException("The row at offset " + position + " is longer than " + chunk + " bytes");
+				}
+				position += consumed;
+			}
+		}
+		return new Result(matcher, scan.rows, scan.failures, scan.unparsed, scan.offsets);
+	}
+
+	/**
+	 * The state of a single scan of a file
+	 */
+	private final class Scan {
+
+		private final Predicate<CharSequence> parses;
+		private final Predicate<CharSequence> test;
+		private final ByteSequence text = new ByteSequence();
+		private final int[] field = new int[2];
+		private final List<Long> offsets = new ArrayList<>();
+		private long rows, failures, unparsed;
+		private boolean skip = header;
+
+		private Scan(Predicate<CharSequence> parses, Predicate<CharSequence> test) {
+			this.parses = parses;
+			this.test = test;
+		}
+
+		/**
+		 * Scan the complete rows of a chunk of the file starting at a position
+		 *
+		 * @return the number of bytes consumed, which ends at a row end unless the chunk is the end of the file
+		 */
+		private int rows(ByteBuffer bytes, long position, boolean last) {
+			int limit = bytes.limit(), start = 0;
+			for (int index = 0; index < limit; ++index) {
+				if (bytes.get(index) == '\n') {
+					row(bytes, position, start, index);
+					start = index + 1;
+				}
+			}
+			if (last && start < limit) {
+				row(bytes, position, start, limit);
+				start = limit;
+			}
+			return start;
+		}
+
+		private void row(ByteBuffer bytes, long position, int from, int to) {
+			int end = to > from && bytes.get(to - 1) == '\r' ? to - 1 : to;
+			if (end == from) {
+				return;
+			} else if (skip) {
+				skip = false;
+				return;
+			}
+			++rows;
+			boolean parsed = locator.locate(bytes, from, end, field)
+			        && IsoTimestamps.isValid(text.of(bytes, field[0], field[1]))
+			        && parses.test(text);
+			if (!parsed) {
+				++unparsed;
+			}
+			if (!parsed || !test.test(text)) {
+				if (offsets.size() < reported) {
+					offsets.add(position + from);
+				}
+				++failures;
+			}
+		}
+	}
+
+	/**
+	 * Locate the bytes of the timestamp within a row
+	 */
+	private interface Locator {
+
+		/**
+		 * Locate the timestamp in the row between two indexes, setting the start index, inclusive, and end index,
+		 * exclusive, of the timestamp in the field array
+		 *
+		 * @return true if the row has a timestamp
+		 */
+		boolean locate(ByteBuffer bytes, int from, int to, int[] field);
+	}
+
+	private static final class CsvColumn implements Locator {
+
+		private final int column;
+		private final byte delimiter;
+
+		private CsvColumn(int column, byte delimiter) {
+			this.column = column;
+			this.delimiter = delimiter;
+		}
+
+		@Override
+		public boolean locate(ByteBuffer bytes, int from, int to, int[] field) {
+			int current = 0, start = from, end = to;
+			boolean quoted = false;
+			for (int index = from; index < to; ++index) {
+				byte b = bytes.get(index);
+				if (b == '"') {
+					quoted = !quoted;
+				} else if (b == delimiter && !quoted) {
+					if (current == column) {
+						end = index;
+						break;
+					}
+					++current;
+					start = index + 1;
+				}
+			}
+			if (current != column) {
+				return false;
+			}
+			while (start < end && bytes.get(start) == ' ') {
+				++start;
+			}
+			while (end > start && bytes.get(end - 1) == ' ') {
+				--end;
+			}
+			if (end - start >= 2 && bytes.get(start) == '"' && bytes.get(end - 1) == '"') {
+				++start;
+				--end;
+			}
+			field[0] = start;
+			field[1] = end;
+			return true;
+		}
+	}
+
+	private static final class JsonField implements Locator {
+
+		private final byte[] key;
+
+		private JsonField(String field) {
+			this.key = ("\"" + field + "\"").getBytes(StandardCharsets.UTF_8);
+		}
+
+		@Override
+		public boolean locate(ByteBuffer bytes, int from, int to, int[] field) {
+			for (int index = from; index + key.length < to; ++index) {
+				if (isKeyAt(bytes, index)) {
+					int value = skipWhitespace(bytes, index + key.length, to);
+					if (value < to && bytes.get(value) == ':') {
+						value = skipWhitespace(bytes, value + 1, to);
+						if (value < to && bytes.get(value) == '"') {
+							for (int end = value + 1; end < to; ++end) {
+								if (bytes.get(end) == '"') {
+									field[0] = value + 1;
+									field[1] = end;
+									return true;
+								}
+							}
+						}
+						return false;
+					}
+				}
+			}
+			return false;
+		}
+
+		private boolean isKeyAt(ByteBuffer bytes, int index) {
+			for (int i = 0; i < key.length; ++i) {
+				if (bytes.get(index + i) != key[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private static int skipWhitespace(ByteBuffer bytes, int index, int to) {
+			while (index < to && (bytes.get(index) == ' ' || bytes.get(index) == '\t')) {
+				++index;
+			}
+			return index;
+		}
+	}
+
+	/**
+	 * A view of a range of the bytes of a file as ASCII characters, which is moved from one timestamp to the next so
+	 * the timestamps can be read by {@link IsoTimestamps} without copying them
+	 */
+	private static final class ByteSequence implements CharSequence {
+
+		private ByteBuffer bytes;
+		private int from, to;
+
+		private ByteSequence of(ByteBuffer bytes, int from, int to) {
+			this.bytes = bytes;
+			this.from = from;
+			this.to = to;
+			return this;
+		}
+
+		@Override
+		public int length() {
+			return to - from;
+		}
+
+		@Override
+		public char charAt(int index) {
+			return (char) (bytes.get(from + index) & 0xFF);
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			return new ByteSequence().of(bytes, from + start, from + end);
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder text = new StringBuilder(length());
+			for (int index = from; index < to; ++index) {
+				text.append((char) (bytes.get(index) & 0xFF));
+			}
+			return text.toString();
+		}
+	}
+
+	/**
+	 * The result of scanning a file with a {@link TimestampScanner}
+	 */
+	public static final class Result {
+
+		private final TemporalMatcher<?> matcher;
+		private final long rows, failures, unparsed;
+		private final List<Long> offsets;
+
+		private Result(TemporalMatcher<?> matcher, long rows, long failures, long unparsed, List<Long> offsets) {
+			this.matcher = matcher;
+			this.rows = rows;
+			this.failures = failures;
+			this.unparsed = unparsed;
+			this.offsets = Collections.unmodifiableList(offsets);
+		}
+
+		/**
+		 * Return true if the timestamp of every row was parsed and matched
+		 */
+		public boolean isSuccess() {
+			return failures == 0;
+		}
+
+		/**
+		 * Return the number of rows scanned, excluding the header and empty rows
+		 */
+		public long getRowCount() {
+			return rows;
+		}
+
+		/**
+		 * Return the number of rows whose timestamp could not be parsed or did not match
+		 */
+		public long getFailureCount() {
+			return failures;
+		}
+
+		/**
+		 * Return the number of rows without a timestamp which could be parsed
+		 */
+		public long getUnparsedCount() {
+			return unparsed;
+		}
+
+		/**
+		 * Return the byte offsets in the file of the first failing rows, up to the number reported by the scanner
+		 */
+		public List<Long> getFailureOffsets() {
+			return offsets;
+		}
+
+		/**
+		 * Describe the failures and the matcher they failed
+		 */
+		public String describe() {
+			StringBuilder description = new StringBuilder();
+			description.append(failures)
+			        .append(" of ")
+			        .append(rows)
+			        .append(" rows did not match ")
+			        .append(StringDescription.toString(matcher));
+			if (unparsed > 0) {
+				description.append(", ").append(unparsed).append(" of which could not be parsed");
+			}
+			if (!offsets.isEmpty()) {
+				description.append(", at offsets ");
+				for (int i = 0; i < offsets.size(); ++i) {
+					description.append(i == 0 ? "" : ", ").append(offsets.get(i));
+				}
+			}
+			if (!offsets.isEmpty() && failures > offsets.size()) {
+				description.append(" and ").append(failures - offsets.size()).append(" more");
+			}
+			return description.toString();
+		}
+	}
+}
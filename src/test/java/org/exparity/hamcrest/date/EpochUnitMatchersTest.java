@@ -0,0 +1,97 @@
+package org.exparity.hamcrest.date;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+import org.testng.annotations.Test;
+
+/**
+ * Unit Tests for the {@link EpochMillisMatchers}, {@link EpochMicrosMatchers} and {@link EpochNanosMatchers} classes
+ */
+public class EpochUnitMatchersTest {
+
+    private static final ZoneId UTC = ZoneId.of("UTC");
+    private static final Instant AUG_04_2015_NOON = Instant.parse("2015-08-04T12:00:00.123456789Z");
+    private static final long AUG_04_2015_NOON_MILLIS = AUG_04_2015_NOON.toEpochMilli();
+    private static final long AUG_04_2015_NOON_MICROS = AUG_04_2015_NOON.getEpochSecond() * 1000000L + 123456L;
+    private static final long AUG_04_2015_NOON_NANOS = AUG_04_2015_NOON.getEpochSecond() * 1000000000L + 123456789L;
+
+    @Test
+    public void isAfter() {
+        assertThat(AUG_04_2015_NOON_MILLIS + 1, EpochMillisMatchers.after(AUG_04_2015_NOON_MILLIS));
+        assertThat(AUG_04_2015_NOON_MILLIS, not(EpochMillisMatchers.after(AUG_04_2015_NOON_MILLIS)));
+        assertThat(AUG_04_2015_NOON_NANOS + 1, EpochNanosMatchers.after(AUG_04_2015_NOON_NANOS));
+    }
+
+    @Test
+    public void isBefore() {
+        assertThat(AUG_04_2015_NOON_MICROS - 1, EpochMicrosMatchers.before(AUG_04_2015_NOON_MICROS));
+        assertThat(AUG_04_2015_NOON_MICROS, not(EpochMicrosMatchers.before(AUG_04_2015_NOON_MICROS)));
+    }
+
+    @Test
+    public void isSameOrAfterAndSameOrBefore() {
+        assertThat(AUG_04_2015_NOON_MILLIS, EpochMillisMatchers.sameOrAfter(AUG_04_2015_NOON_MILLIS));
+        assertThat(AUG_04_2015_NOON_MILLIS, EpochMillisMatchers.sameOrBefore(AUG_04_2015_NOON_MILLIS));
+        assertThat(AUG_04_2015_NOON_MILLIS, EpochMillisMatchers.sameInstant(AUG_04_2015_NOON_MILLIS));
+        assertThat(AUG_04_2015_NOON_MILLIS - 1, not(EpochMillisMatchers.sameOrAfter(AUG_04_2015_NOON_MILLIS)));
+    }
+
+    @Test
+    public void isWithinAsInstant() {
+        for (ChronoUnit unit : new ChronoUnit[] { ChronoUnit.NANOS, ChronoUnit.MICROS, ChronoUnit.MILLIS, ChronoUnit.SECONDS, ChronoUnit.HOURS, ChronoUnit.DAYS }) {
+            for (long offset = -3; offset <= 3; ++offset) {
+                for (long nanos = -1; nanos <= 1; ++nanos) {
+                    Instant date = AUG_04_2015_NOON.plus(offset, unit).plusNanos(nanos);
+                    long epochNanos = date.getEpochSecond() * 1000000000L + date.getNano();
+                    assertThat(unit + " " + date,
+                            EpochNanosMatchers.within(2, unit, AUG_04_2015_NOON_NANOS).matches(epochNanos),
+                            equalTo(InstantMatchers.within(2, unit, AUG_04_2015_NOON).matches(date)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void isWithinDuration() {
+        assertThat(AUG_04_2015_NOON_NANOS + 1500, EpochNanosMatchers.within(Duration.ofNanos(1500), AUG_04_2015_NOON_NANOS));
+        assertThat(AUG_04_2015_NOON_NANOS - 1501, not(EpochNanosMatchers.within(Duration.ofNanos(1500), AUG_04_2015_NOON_NANOS)));
+        assertThat(AUG_04_2015_NOON_MILLIS + 250, EpochMillisMatchers.within(Duration.ofMillis(250), AUG_04_2015_NOON_MILLIS));
+        assertThat(AUG_04_2015_NOON_MILLIS + 251, not(EpochMillisMatchers.within(Duration.ofMillis(250), AUG_04_2015_NOON_MILLIS)));
+    }
+
+    @Test
+    public void isCalendarFields() {
+        assertThat(AUG_04_2015_NOON_MILLIS, EpochMillisMatchers.sameDay(AUG_04_2015_NOON_MILLIS + 3600000).atZone(UTC));
+        assertThat(AUG_04_2015_NOON_MILLIS, EpochMillisMatchers.isDay(LocalDate.of(2015, Month.AUGUST, 4)).atZone(UTC));
+        assertThat(AUG_04_2015_NOON_MILLIS, EpochMillisMatchers.isYear(2015).atZone(UTC));
+        assertThat(AUG_04_2015_NOON_MILLIS, EpochMillisMatchers.isMonth(Month.AUGUST).atZone(UTC));
+        assertThat(AUG_04_2015_NOON_MILLIS, EpochMillisMatchers.isDayOfMonth(4).atZone(UTC));
+        assertThat(AUG_04_2015_NOON_MILLIS, EpochMillisMatchers.isDayOfWeek(DayOfWeek.TUESDAY).atZone(UTC));
+        assertThat(AUG_04_2015_NOON_MILLIS, EpochMillisMatchers.isWeekday().atZone(UTC));
+        assertThat(AUG_04_2015_NOON_MILLIS, not(EpochMillisMatchers.isWeekend().atZone(UTC)));
+        assertThat(AUG_04_2015_NOON_MICROS, EpochMicrosMatchers.isHour(12).atZone(UTC));
+        assertThat(AUG_04_2015_NOON_MICROS, EpochMicrosMatchers.isHour(14).atZone(ZoneId.of("Europe/Paris")));
+        assertThat(AUG_04_2015_NOON_MICROS, EpochMicrosMatchers.isMinute(0).atZone(UTC));
+        assertThat(AUG_04_2015_NOON_NANOS, EpochNanosMatchers.isSecond(0).atZone(UTC));
+        assertThat(AUG_04_2015_NOON_NANOS, EpochNanosMatchers.isMillisecond(123).atZone(UTC));
+    }
+
+    @Test
+    public void canDescribeMismatch() {
+        Description description = new StringDescription();
+        EpochMillisMatchers.after(AUG_04_2015_NOON_MILLIS).describeMismatch(AUG_04_2015_NOON_MILLIS, description);
+        assertThat(description.toString(), equalTo("date is 2015-08-04T12:00:00.123Z"));
+    }
+}
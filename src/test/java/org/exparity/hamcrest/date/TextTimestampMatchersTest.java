@@ -0,0 +1,115 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.TextTimestampMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+import org.testng.annotations.Test;
+
+/**
+ * Unit Tests for the {@link TextTimestampMatchers} class
+ */
+public class TextTimestampMatchersTest {
+
+    private static final ZoneId UTC = ZoneId.of("UTC");
+    private static final Instant AUG_04_2015_NOON = Instant.parse("2015-08-04T12:00:00.123456789Z");
+    private static final String AUG_04_2015_NOON_PARIS = "2015-08-04T14:00:00.123456789+02:00";
+
+    @Test
+    public void isAfter() {
+        assertThat("2015-08-04T12:00:00.12345679Z", after(AUG_04_2015_NOON));
+        assertThat(AUG_04_2015_NOON_PARIS, not(after(AUG_04_2015_NOON)));
+        assertThat(new StringBuilder("2015-08-04T13:00:00+01:00"), not(after(AUG_04_2015_NOON)));
+    }
+
+    @Test
+    public void isBefore() {
+        assertThat("2015-08-04T12:00:00.123Z", before(AUG_04_2015_NOON));
+        assertThat(AUG_04_2015_NOON_PARIS, not(before(AUG_04_2015_NOON)));
+    }
+
+    @Test
+    public void isSameOrAfterAndSameOrBefore() {
+        assertThat(AUG_04_2015_NOON_PARIS, sameOrAfter(AUG_04_2015_NOON));
+        assertThat(AUG_04_2015_NOON_PARIS, sameOrBefore(AUG_04_2015_NOON));
+        assertThat(AUG_04_2015_NOON_PARIS, sameInstant(AUG_04_2015_NOON));
+        assertThat("2015-08-04T12:00:00.123456788Z", not(sameOrAfter(AUG_04_2015_NOON)));
+        assertThat("2015-08-04T12:00:00.123456788Z", not(sameInstant(AUG_04_2015_NOON)));
+    }
+
+    @Test
+    public void isWithinAsInstant() {
+        for (ChronoUnit unit : new ChronoUnit[] { ChronoUnit.NANOS, ChronoUnit.MILLIS, ChronoUnit.SECONDS, ChronoUnit.HOURS, ChronoUnit.DAYS }) {
+            for (long offset = -3; offset <= 3; ++offset) {
+                for (long nanos = -1; nanos <= 1; ++nanos) {
+                    Instant date = AUG_04_2015_NOON.plus(offset, unit).plusNanos(nanos);
+                    assertThat(unit + " " + date,
+                            within(2, unit, AUG_04_2015_NOON).matches(date.toString()),
+                            equalTo(InstantMatchers.within(2, unit, AUG_04_2015_NOON).matches(date)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void isWithinDuration() {
+        assertThat("2015-08-04T12:00:00.373456789Z", within(Duration.ofMillis(250), AUG_04_2015_NOON));
+        assertThat("2015-08-04T13:59:59.873456789+02:00", within(Duration.ofMillis(250), AUG_04_2015_NOON));
+        assertThat("2015-08-04T12:00:00.37345679Z", not(within(Duration.ofMillis(250), AUG_04_2015_NOON)));
+    }
+
+    @Test
+    public void isCalendarFields() {
+        String text = "2015-08-04T23:30:15-02:00";
+        assertThat(text, isDay(LocalDate.of(2015, Month.AUGUST, 5)).atZone(UTC));
+        assertThat(text, isYear(2015).atZone(UTC));
+        assertThat(text, isMonth(Month.AUGUST).atZone(UTC));
+        assertThat(text, isDayOfMonth(5).atZone(UTC));
+        assertThat(text, isDayOfWeek(DayOfWeek.WEDNESDAY).atZone(UTC));
+        assertThat(text, isDayOfWeek(DayOfWeek.TUESDAY).atZone(ZoneId.of("America/Sao_Paulo")));
+        assertThat(text, isWeekday().atZone(UTC));
+        assertThat(text, not(isWeekend().atZone(UTC)));
+        assertThat(text, isHour(1).atZone(UTC));
+        assertThat(text, isMinute(30).atZone(UTC));
+        assertThat(text, isSecond(15).atZone(UTC));
+    }
+
+    @Test
+    public void isNotTimestamp() {
+        assertThat("2015-08-04T12:00:00", not(before(AUG_04_2015_NOON)));
+        assertThat("2015-08-04T12:00:00", not(after(AUG_04_2015_NOON)));
+        assertThat("4th August 2015", not(isWeekday()));
+        assertThat("", not(within(1, ChronoUnit.DAYS, AUG_04_2015_NOON)));
+    }
+
+    @Test
+    public void canDescribeMismatch() {
+        Description description = new StringDescription();
+        after(AUG_04_2015_NOON).describeMismatch(AUG_04_2015_NOON_PARIS, description);
+        assertThat(description.toString(), equalTo("date is " + AUG_04_2015_NOON_PARIS));
+    }
+
+    @Test
+    public void canDescribeMismatchOfNotTimestamp() {
+        Description description = new StringDescription();
+        after(AUG_04_2015_NOON).describeMismatch("yesterday", description);
+        assertThat(description.toString(), equalTo("the text \"yesterday\" is not an ISO-8601 instant"));
+    }
+
+    @Test
+    public void canDescribe() {
+        assertThat(StringDescription.toString(after(AUG_04_2015_NOON)),
+                equalTo("the date is after 2015-08-04T12:00:00.123456789Z"));
+    }
+}
@@ -0,0 +1,180 @@
+package org.exparity.hamcrest.date.core;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.exparity.hamcrest.date.DateMatchers;
+import org.exparity.hamcrest.date.EpochMillisMatchers;
+import org.exparity.hamcrest.date.InstantMatchers;
+import org.exparity.hamcrest.date.LocalDateMatchers;
+import org.exparity.hamcrest.date.ZonedDateTimeMatchers;
+import org.exparity.hamcrest.date.core.types.TemporalRangeSet;
+import org.hamcrest.StringDescription;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Stress tests which share a single matcher between many threads and compare every result and mismatch description
+ * with those of a new matcher used by a single thread
+ */
+public class ConcurrentMatcherTest {
+
+    private static final int THREADS = 16;
+    private static final int ROUNDS = 20;
+    private static final Instant AUG_04_2015_NOON = Instant.parse("2015-08-04T12:00:00Z");
+    private static final ZoneId PARIS = ZoneId.of("Europe/Paris");
+    private static final Clock CLOCK = Clock.fixed(AUG_04_2015_NOON, ZoneOffset.UTC);
+
+    @DataProvider(name = "matchers")
+    public static Object[][] matchers() {
+        List<Instant> instants = instants();
+        List<ZonedDateTime> zoned = instants.stream().map(i -> i.atZone(PARIS)).collect(Collectors.toList());
+        List<LocalDate> dates = instants.stream()
+                .map(i -> i.atZone(ZoneOffset.UTC).toLocalDate())
+                .collect(Collectors.toList());
+        List<Date> javaDates = instants.stream().map(Date::from).collect(Collectors.toList());
+        List<Long> millis = instants.stream().map(Instant::toEpochMilli).collect(Collectors.toList());
+        TemporalRangeSet windows = TemporalRangeSet.builder()
+                .add(AUG_04_2015_NOON, AUG_04_2015_NOON.plus(2, ChronoUnit.HOURS))
+                .add(AUG_04_2015_NOON.plus(1, ChronoUnit.DAYS), AUG_04_2015_NOON.plus(26, ChronoUnit.HOURS))
+                .build();
+        return new Object[][] {
+                { "Instant.after", (Supplier<TemporalMatcher<Instant>>) () -> InstantMatchers.after(AUG_04_2015_NOON),
+                        instants },
+                { "Instant.sameDay",
+                        (Supplier<TemporalMatcher<Instant>>) () -> InstantMatchers.sameDay(AUG_04_2015_NOON)
+                                .atZone(PARIS),
+                        instants },
+                { "Instant.within",
+                        (Supplier<TemporalMatcher<Instant>>) () -> InstantMatchers
+                                .within(3, ChronoUnit.HOURS, AUG_04_2015_NOON),
+                        instants },
+                { "Instant.withinAny", (Supplier<TemporalMatcher<Instant>>) () -> InstantMatchers.withinAny(windows),
+                        instants },
+                { "Instant.isToday", (Supplier<TemporalMatcher<Instant>>) () -> InstantMatchers.isToday(CLOCK),
+                        instants },
+                { "Instant.and",
+                        (Supplier<TemporalMatcher<Instant>>) () -> InstantMatchers.isWeekday()
+                                .atZone(PARIS)
+                                .and(InstantMatchers.isHour(12).atZone(PARIS),
+                                        InstantMatchers.within(Duration.ofDays(3), AUG_04_2015_NOON)),
+                        instants },
+                { "ZonedDateTime.sameDay",
+                        (Supplier<TemporalMatcher<ZonedDateTime>>) () -> ZonedDateTimeMatchers
+                                .sameDay(AUG_04_2015_NOON.atZone(PARIS)),
+                        zoned },
+                { "ZonedDateTime.isMinute",
+                        (Supplier<TemporalMatcher<ZonedDateTime>>) () -> ZonedDateTimeMatchers.isMinute(30)
+                                .atZone(ZoneOffset.UTC),
+                        zoned },
+                { "LocalDate.within",
+                        (Supplier<TemporalMatcher<LocalDate>>) () -> LocalDateMatchers
+                                .within(2, ChronoUnit.DAYS, LocalDate.of(2015, 8, 4)),
+                        dates },
+                { "Date.sameDay",
+                        (Supplier<TemporalMatcher<Date>>) () -> DateMatchers.sameDay(Date.from(AUG_04_2015_NOON))
+                                .atZone(PARIS),
+                        javaDates },
+                { "Date.isToday", (Supplier<TemporalMatcher<Date>>) () -> DateMatchers.isToday(CLOCK), javaDates },
+                { "Epoch.isHour",
+                        (Supplier<TemporalMatcher<Long>>) () -> EpochMillisMatchers.isHour(12).atZone(PARIS),
+                        millis },
+                { "Epoch.within",
+                        (Supplier<TemporalMatcher<Long>>) () -> EpochMillisMatchers
+                                .within(1, ChronoUnit.DAYS, AUG_04_2015_NOON.toEpochMilli()),
+                        millis } };
+    }
+
+    @Test(dataProvider = "matchers")
+    public <T> void canShareMatcherBetweenThreads(String name, Supplier<TemporalMatcher<T>> factory, List<T> inputs)
+            throws InterruptedException {
+        List<String> expected = results(factory.get(), inputs);
+        TemporalMatcher<T> shared = factory.get();
+        ConcurrentLinkedQueue<String> errors = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int thread = 0; thread < THREADS; ++thread) {
+                Random random = new Random(thread);
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                        for (int round = 0; round < ROUNDS; ++round) {
+                            List<Integer> order = order(inputs.size(), random);
+                            for (int index : order) {
+                                String actual = result(shared, inputs.get(index));
+                                if (!actual.equals(expected.get(index))) {
+                                    errors.add(name + " item " + index + ": " + actual);
+                                }
+                            }
+                        }
+                    } catch (RuntimeException | InterruptedException e) {
+                        errors.add(name + ": " + e);
+                    }
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+        assertThat(errors, empty());
+    }
+
+    @Test(dataProvider = "matchers")
+    public <T> void canShareMatcherAtZoneBetweenThreads(String name,
+            Supplier<TemporalMatcher<T>> factory,
+            List<T> inputs) throws InterruptedException {
+        canShareMatcherBetweenThreads(name, () -> factory.get().atZone(ZoneId.of("America/New_York")), inputs);
+    }
+
+    private static <T> List<String> results(TemporalMatcher<T> matcher, List<T> inputs) {
+        return inputs.stream().map(input -> result(matcher, input)).collect(Collectors.toList());
+    }
+
+    private static <T> String result(TemporalMatcher<T> matcher, T input) {
+        if (matcher.matches(input)) {
+            return "matched";
+        }
+        StringDescription description = new StringDescription();
+        matcher.describeMismatch(input, description);
+        return description.toString();
+    }
+
+    private static List<Integer> order(int size, Random random) {
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < size; ++i) {
+            order.add(i);
+        }
+        Collections.shuffle(order, random);
+        return order;
+    }
+
+    private static List<Instant> instants() {
+        Function<Long, Instant> minutes = offset -> AUG_04_2015_NOON.plus(offset * 37, ChronoUnit.MINUTES);
+        return LongStream.range(-200, 200).boxed().map(minutes).collect(Collectors.toList());
+    }
+}
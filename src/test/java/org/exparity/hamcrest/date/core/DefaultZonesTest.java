@@ -0,0 +1,186 @@
+package org.exparity.hamcrest.date.core;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.Optional;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.exparity.hamcrest.date.DateMatchers;
+import org.exparity.hamcrest.date.InstantMatchers;
+import org.exparity.hamcrest.date.LocalDateMatchers;
+import org.testng.annotations.Test;
+
+/**
+ * Unit Tests for the {@link DefaultZones} class
+ */
+public class DefaultZonesTest {
+
+    private static final ZoneId UTC = ZoneId.of("UTC");
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+    private static final ZoneId KATHMANDU = ZoneId.of("Asia/Kathmandu");
+    private static final Instant AUG_04_2015_2330_UTC = Instant.parse("2015-08-04T23:30:00Z");
+
+    @Test
+    public void canUseSystemDefault() {
+        assertThat(DefaultZones.get(), equalTo(ZoneId.systemDefault()));
+    }
+
+    @Test
+    public void canRefreshSystemDefault() {
+        TimeZone original = TimeZone.getDefault();
+        TemporalMatcher<Instant> matcher = InstantMatchers.isHour(23);
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+            DefaultZones.refresh();
+            assertThat(AUG_04_2015_2330_UTC, matcher);
+            TimeZone.setDefault(TimeZone.getTimeZone(KATHMANDU));
+            assertThat(DefaultZones.get(), equalTo(UTC));
+            DefaultZones.refresh();
+            assertThat(DefaultZones.get(), equalTo(KATHMANDU));
+            assertThat(AUG_04_2015_2330_UTC, not(matcher));
+        } finally {
+            TimeZone.setDefault(original);
+            DefaultZones.refresh();
+        }
+    }
+
+    @Test
+    public void canMatchInstantReferenceWithoutDefaultZone() {
+        AtomicInteger resolved = new AtomicInteger();
+        TemporalMatcher<Instant> after = InstantMatchers.after(AUG_04_2015_2330_UTC);
+        try {
+            DefaultZones.setResolver(() -> {
+                resolved.incrementAndGet();
+                return UTC;
+            });
+            assertThat(AUG_04_2015_2330_UTC.plusSeconds(1), after);
+            assertThat(resolved.get(), equalTo(0));
+        } finally {
+            DefaultZones.setResolver(null);
+        }
+    }
+
+    @Test
+    public void canUseScopedZone() {
+        try (DefaultZones.Scope outer = DefaultZones.use(NEW_YORK)) {
+            assertThat(DefaultZones.get(), equalTo(NEW_YORK));
+            try (DefaultZones.Scope inner = DefaultZones.use(KATHMANDU)) {
+                assertThat(DefaultZones.get(), equalTo(KATHMANDU));
+            }
+            assertThat(DefaultZones.get(), equalTo(NEW_YORK));
+        }
+        assertThat(DefaultZones.get(), equalTo(ZoneId.systemDefault()));
+    }
+
+    @Test
+    public void canUseResolver() {
+        try {
+            DefaultZones.setResolver(() -> KATHMANDU);
+            assertThat(DefaultZones.get(), equalTo(KATHMANDU));
+            try (DefaultZones.Scope scope = DefaultZones.use(NEW_YORK)) {
+                assertThat(DefaultZones.get(), equalTo(NEW_YORK));
+            }
+        } finally {
+            DefaultZones.setResolver(null);
+        }
+        assertThat(DefaultZones.get(), equalTo(ZoneId.systemDefault()));
+    }
+
+    @Test
+    public void canMatchInScopedZone() {
+        TemporalMatcher<Instant> instantMatcher = InstantMatchers.isHour(23);
+        TemporalMatcher<Date> dateMatcher = DateMatchers.isTuesday();
+        Date date = Date.from(AUG_04_2015_2330_UTC);
+        try (DefaultZones.Scope scope = DefaultZones.use(UTC)) {
+            assertThat(AUG_04_2015_2330_UTC, instantMatcher);
+            assertThat(date, dateMatcher);
+            assertThat(date, DateMatchers.sameDay(date));
+        }
+        try (DefaultZones.Scope scope = DefaultZones.use(KATHMANDU)) {
+            assertThat(AUG_04_2015_2330_UTC, not(instantMatcher));
+            assertThat(date, not(dateMatcher));
+            assertThat(date, DateMatchers.isWednesday());
+        }
+        try (DefaultZones.Scope scope = DefaultZones.use(KATHMANDU)) {
+            assertThat(AUG_04_2015_2330_UTC, instantMatcher.atZone(UTC));
+        }
+    }
+
+    @Test
+    public void canMatchReferenceInScopedZone() {
+        TemporalMatcher<Instant> sameDay = InstantMatchers.sameDay(AUG_04_2015_2330_UTC);
+        TemporalMatcher<Instant> sameHour = InstantMatchers.sameHourOfDay(AUG_04_2015_2330_UTC);
+        TemporalMatcher<Date> sameDate = DateMatchers.sameDay(Date.from(AUG_04_2015_2330_UTC));
+        Instant noon = Instant.parse("2015-08-04T12:00:00Z"), hour = Instant.parse("2015-08-04T23:00:00Z");
+        try (DefaultZones.Scope scope = DefaultZones.use(UTC)) {
+            assertThat(noon, sameDay);
+            assertThat(hour, sameHour);
+            assertThat(Date.from(noon), sameDate);
+        }
+        try (DefaultZones.Scope scope = DefaultZones.use(KATHMANDU)) {
+            assertThat(noon, not(sameDay));
+            assertThat(hour, not(sameHour));
+            assertThat(Date.from(noon), not(sameDate));
+        }
+        try (DefaultZones.Scope scope = DefaultZones.use(UTC)) {
+            assertThat(noon, sameDay);
+        }
+    }
+
+    @Test
+    public void canMatchTodayInScopedZone() {
+        ZoneId kiritimati = ZoneId.of("Pacific/Kiritimati"), pagoPago = ZoneId.of("Pacific/Pago_Pago");
+        TemporalMatcher<LocalDate> matcher = LocalDateMatchers.isToday();
+        try (DefaultZones.Scope scope = DefaultZones.use(kiritimati)) {
+            assertThat(LocalDate.now(kiritimati), matcher);
+        }
+        try (DefaultZones.Scope scope = DefaultZones.use(pagoPago)) {
+            assertThat(LocalDate.now(kiritimati), not(matcher));
+            assertThat(LocalDate.now(pagoPago), matcher);
+        }
+    }
+
+    @Test
+    public void canConvertInScopedZone() {
+        try (DefaultZones.Scope scope = DefaultZones.use(KATHMANDU)) {
+            assertThat(TemporalConverters.INSTANT_AS_ZONEDDATETIME.apply(AUG_04_2015_2330_UTC, Optional.empty()),
+                    equalTo(ZonedDateTime.ofInstant(AUG_04_2015_2330_UTC, KATHMANDU)));
+            assertThat(TemporalConverters.JAVADATE_AS_ZONEDDATETIME.apply(Date.from(AUG_04_2015_2330_UTC), Optional.empty()),
+                    equalTo(ZonedDateTime.ofInstant(AUG_04_2015_2330_UTC, KATHMANDU)));
+        }
+    }
+
+    @Test
+    public void canMatchInZonePerThread() throws Exception {
+        TemporalMatcher<Date> matcher = DateMatchers.isTuesday();
+        Date date = Date.from(AUG_04_2015_2330_UTC);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Boolean> utc = executor.submit(() -> {
+                try (DefaultZones.Scope scope = DefaultZones.use(UTC)) {
+                    return matcher.matches(date);
+                }
+            });
+            Future<Boolean> kathmandu = executor.submit(() -> {
+                try (DefaultZones.Scope scope = DefaultZones.use(KATHMANDU)) {
+                    return matcher.matches(date);
+                }
+            });
+            assertThat(utc.get(), equalTo(true));
+            assertThat(kathmandu.get(), equalTo(false));
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package org.exparity.hamcrest.date.core;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.Optional;
+
+import org.testng.annotations.Test;
+
+/**
+ * Unit Tests for the {@link EpochConverters} class
+ */
+public class EpochConvertersTest {
+
+    @Test
+    public void canConvertInstant() {
+        Instant instant = Instant.ofEpochSecond(1438689600L, 123456789);
+        assertThat(EpochConverters.INSTANT.toEpochSecond(instant), equalTo(1438689600L));
+        assertThat(EpochConverters.INSTANT.toNano(instant), equalTo(123456789));
+    }
+
+    @Test
+    public void canConvertDate() {
+        Date date = new Date(1438689600123L);
+        assertThat(EpochConverters.JAVADATE.toEpochSecond(date), equalTo(1438689600L));
+        assertThat(EpochConverters.JAVADATE.toNano(date), equalTo(123000000));
+    }
+
+    @Test
+    public void canConvertDateBeforeEpoch() {
+        Date date = new Date(-1500L);
+        assertThat(EpochConverters.JAVADATE.toEpochSecond(date), equalTo(-2L));
+        assertThat(EpochConverters.JAVADATE.toNano(date), equalTo(500000000));
+        assertThat(EpochConverters.JAVADATE.toInstant(date), equalTo(Optional.of(date.toInstant())));
+    }
+
+    @Test
+    public void canNotConvertSqlDate() {
+        java.sql.Date date = java.sql.Date.valueOf(LocalDate.of(2015, 8, 4));
+        assertThat(EpochConverters.JAVADATE.isSupported(date), equalTo(false));
+        assertThat(EpochConverters.JAVADATE.toInstant(date), equalTo(Optional.empty()));
+    }
+
+    @Test
+    public void canCompareToInstant() {
+        Instant instant = Instant.ofEpochSecond(1438689600L, 500);
+        assertThat(EpochConverters.INSTANT.compare(instant, instant), equalTo(0));
+        assertThat(Integer.signum(EpochConverters.INSTANT.compare(instant, instant.plusNanos(1))), equalTo(-1));
+        assertThat(Integer.signum(EpochConverters.INSTANT.compare(instant, instant.minusSeconds(1))), equalTo(1));
+    }
+}
@@ -0,0 +1,79 @@
+package org.exparity.hamcrest.date.core;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.exparity.hamcrest.date.core.types.DayOfMonth;
+import org.exparity.hamcrest.date.core.types.Hour;
+import org.exparity.hamcrest.date.core.types.Millisecond;
+import org.exparity.hamcrest.date.core.types.Minute;
+import org.exparity.hamcrest.date.core.types.Second;
+import org.testng.annotations.Test;
+
+/**
+ * Unit Tests for the {@link EpochFields} class
+ */
+public class EpochFieldsTest {
+
+    private static final List<ZoneId> ZONES = Arrays.asList(ZoneId.of("UTC"),
+            ZoneId.of("Europe/London"),
+            ZoneId.of("America/New_York"),
+            ZoneId.of("Australia/Lord_Howe"),
+            ZoneId.of("Asia/Kathmandu"),
+            ZoneId.of("UTC-5"));
+
+    @Test
+    public void canComputeFieldsAsZonedDateTime() {
+        Random random = new Random(20150804L);
+        for (ZoneId zone : ZONES) {
+            for (int i = 0; i < 2000; ++i) {
+                long epochMilli = (long) ((random.nextDouble() - 0.5) * 2 * 7258118400000L);
+                assertFieldsAsZonedDateTime(epochMilli, zone);
+            }
+        }
+    }
+
+    @Test
+    public void canComputeFieldsAroundTransitions() {
+        for (ZoneId zone : ZONES) {
+            Instant instant = Instant.parse("2010-01-01T00:00:00Z");
+            for (int i = 0; i < 20 && zone.getRules().nextTransition(instant) != null; ++i) {
+                instant = zone.getRules().nextTransition(instant).getInstant();
+                for (long offset = -2; offset <= 2; ++offset) {
+                    assertFieldsAsZonedDateTime(instant.toEpochMilli() + offset, zone);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void canComputeFieldsAroundCalendarBoundaries() {
+        for (String date : Arrays.asList("1969-12-31T23:59:59.999Z", "1970-01-01T00:00:00Z", "2000-02-29T12:00:00Z", "2100-03-01T00:00:00Z", "1600-02-29T23:59:59Z", "0001-01-01T00:00:00Z")) {
+            assertFieldsAsZonedDateTime(Instant.parse(date).toEpochMilli(), ZoneId.of("UTC"));
+        }
+    }
+
+    private static void assertFieldsAsZonedDateTime(long epochMilli, ZoneId zone) {
+        ZonedDateTime expected = Instant.ofEpochMilli(epochMilli).atZone(zone);
+        EpochConverter<Long> epochs = EpochConverters.EPOCH_MILLIS;
+        Optional<ZoneId> in = Optional.of(zone);
+        String reason = expected.toString();
+        assertThat(reason, EpochFields.asLocalDate(epochs).apply(epochMilli, in), equalTo(expected.toLocalDate()));
+        assertThat(reason, EpochFields.asYear(epochs).apply(epochMilli, in).getValue(), equalTo(expected.getYear()));
+        assertThat(reason, EpochFields.asMonth(epochs).apply(epochMilli, in), equalTo(expected.getMonth()));
+        assertThat(reason, EpochFields.asDayOfMonth(epochs).apply(epochMilli, in), equalTo(DayOfMonth.from(expected)));
+        assertThat(reason, EpochFields.asDayOfWeek(epochs).apply(epochMilli, in), equalTo(expected.getDayOfWeek()));
+        assertThat(reason, EpochFields.asHour(epochs).apply(epochMilli, in), equalTo(Hour.from(expected)));
+        assertThat(reason, EpochFields.asMinute(epochs).apply(epochMilli, in), equalTo(Minute.from(expected)));
+        assertThat(reason, EpochFields.asSecond(epochs).apply(epochMilli, in), equalTo(Second.from(expected)));
+        assertThat(reason, EpochFields.asMillisecond(epochs).apply(epochMilli, in), equalTo(Millisecond.from(expected)));
+    }
+}
@@ -0,0 +1,90 @@
+package org.exparity.hamcrest.date.core;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.Locale;
+
+import org.exparity.hamcrest.date.DateMatchers;
+import org.exparity.hamcrest.date.InstantMatchers;
+import org.exparity.hamcrest.date.LocalDateMatchers;
+import org.exparity.hamcrest.date.SqlDateMatchers;
+import org.hamcrest.StringDescription;
+import org.testng.annotations.Test;
+
+/**
+ * Unit Tests for the {@link InternedMatcher} class
+ */
+public class InternedMatcherTest {
+
+    private static final ZoneId UTC = ZoneId.of("UTC");
+    private static final ZoneId SYDNEY = ZoneId.of("Australia/Sydney");
+    private static final Instant TUE_AUG_04_2015_NOON = Instant.parse("2015-08-04T12:00:00Z");
+    private static final Instant SUN_AUG_09_2015_NOON = Instant.parse("2015-08-09T12:00:00Z");
+
+    @Test
+    public void canReturnSameMatcher() {
+        assertThat(InstantMatchers.isWeekday(), sameInstance(InstantMatchers.isWeekday()));
+        assertThat(InstantMatchers.isMonday(), sameInstance(InstantMatchers.isMonday()));
+        assertThat(InstantMatchers.isAugust(), sameInstance(InstantMatchers.isAugust()));
+        assertThat(DateMatchers.isLeapYear(), sameInstance(DateMatchers.isLeapYear()));
+        assertThat(LocalDateMatchers.isFirstDayOfMonth(), sameInstance(LocalDateMatchers.isFirstDayOfMonth()));
+        assertThat(SqlDateMatchers.isLastDayOfMonth(), sameInstance(SqlDateMatchers.isLastDayOfMonth()));
+        assertThat(InstantMatchers.isMonday(), not(sameInstance(InstantMatchers.isTuesday())));
+    }
+
+    @Test
+    public void canReturnSameMatcherAtZone() {
+        TemporalMatcher<Instant> matcher = InstantMatchers.isWeekend();
+        assertThat(matcher.atZone(UTC), sameInstance(matcher.atZone(ZoneId.of("UTC"))));
+        assertThat(matcher.atZone(UTC), not(sameInstance(matcher.atZone(SYDNEY))));
+        assertThat(matcher.atOffset(ZoneOffset.ofHours(2)), sameInstance(matcher.atOffset(ZoneOffset.ofHours(2))));
+    }
+
+    @Test
+    public void canReturnSameMatcherAtLocale() {
+        TemporalMatcher<Instant> matcher = InstantMatchers.isWeekend();
+        assertThat(matcher.atLocale(Locale.FRENCH), sameInstance(matcher.atLocale(Locale.FRENCH)));
+        assertThat(matcher.atLocale(Locale.FRENCH).atZone(UTC), sameInstance(matcher.atLocale(Locale.FRENCH).atZone(UTC)));
+        assertThat(matcher.atLocale(Locale.FRENCH), not(sameInstance(matcher.atLocale(Locale.GERMAN))));
+    }
+
+    @Test
+    public void canLimitZonesKept() {
+        InternedMatcher<Instant> matcher = (InternedMatcher<Instant>) InternedMatcher.of(InstantMatchers.isDayOfWeek(DayOfWeek.TUESDAY));
+        for (int seconds = 0; seconds < 1000; ++seconds) {
+            assertThat(TUE_AUG_04_2015_NOON, matcher.atOffset(ZoneOffset.ofTotalSeconds(seconds)));
+        }
+        assertThat(matcher.size(), equalTo(64));
+    }
+
+    @Test
+    public void canMatchAsMatcher() {
+        assertThat(TUE_AUG_04_2015_NOON, InstantMatchers.isWeekday().atZone(UTC));
+        assertThat(SUN_AUG_09_2015_NOON, InstantMatchers.isSunday().atZone(UTC));
+        assertThat(SUN_AUG_09_2015_NOON, not(InstantMatchers.isSunday().atZone(ZoneId.of("Pacific/Kiritimati")).and(
+                InstantMatchers.isAugust())));
+        assertThat(Date.from(TUE_AUG_04_2015_NOON), DateMatchers.isTuesday().atZone(UTC));
+        assertThat(LocalDate.of(2016, Month.FEBRUARY, 29), LocalDateMatchers.isLeapYear());
+    }
+
+    @Test
+    public void canDescribeAsMatcher() {
+        TemporalMatcher<Instant> matcher = InstantMatchers.isDayOfWeek(DayOfWeek.SUNDAY).atZone(UTC);
+        assertThat(StringDescription.toString(InstantMatchers.isSunday().atZone(UTC)),
+                equalTo(StringDescription.toString(matcher)));
+        StringDescription expected = new StringDescription(), actual = new StringDescription();
+        matcher.describeMismatch(TUE_AUG_04_2015_NOON, expected);
+        InstantMatchers.isSunday().atZone(UTC).describeMismatch(TUE_AUG_04_2015_NOON, actual);
+        assertThat(actual.toString(), equalTo(expected.toString()));
+    }
+}
@@ -7,6 +7,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 
 import java.time.LocalTime;
 import java.time.Month;
+import java.util.Date;
 
 import org.exparity.hamcrest.date.DateMatchers;
 import org.exparity.hamcrest.date.DayMonthYear;
@@ -426,6 +427,26 @@ public class IsAfterTest {
     
     // Instant Matchers
 
+    @Test
+    public void isInstantAfterInstantOneNanosecondEarlier() {
+        assertThat(AUG_04_2015_NOON_INSTANT_UTC.plusNanos(1), InstantMatchers.after(AUG_04_2015_NOON_INSTANT_UTC));
+    }
+
+    @Test(expectedExceptions = AssertionError.class, expectedExceptionsMessageRegExp = ASSERTION_PATTERN)
+    public void isInstantAfterInstantOneNanosecondLater() {
+        assertThat(AUG_04_2015_NOON_INSTANT_UTC, InstantMatchers.after(AUG_04_2015_NOON_INSTANT_UTC.plusNanos(1)));
+    }
+
+    @Test
+    public void isDateAfterEarlierDateBeforeEpoch() {
+        assertThat(new Date(-1500), DateMatchers.after(new Date(-2500)));
+    }
+
+    @Test(expectedExceptions = AssertionError.class, expectedExceptionsMessageRegExp = ASSERTION_PATTERN)
+    public void isDateAfterLaterDateBeforeEpoch() {
+        assertThat(new Date(-2500), DateMatchers.after(new Date(-1500)));
+    }
+
     @Test
     public void isInstantAfterEarlierInstant() {
         assertThat(AUG_04_2015_NOON_INSTANT_UTC, InstantMatchers.after(AUG_04_2015_11AM_INSTANT_UTC).atZone(UTC));
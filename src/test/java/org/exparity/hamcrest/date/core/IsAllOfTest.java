@@ -0,0 +1,95 @@
+package org.exparity.hamcrest.date.core;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoField;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.exparity.hamcrest.date.DateMatchers;
+import org.exparity.hamcrest.date.InstantMatchers;
+import org.exparity.hamcrest.date.core.types.Hour;
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+import org.testng.annotations.Test;
+
+/**
+ * Unit Tests for the {@link IsAllOf} class
+ */
+public class IsAllOfTest {
+
+    private static final ZoneId UTC = ZoneId.of("UTC");
+    private static final Instant AUG_04_2015_NOON = Instant.parse("2015-08-04T12:00:00Z");
+    private static final Instant AUG_03_2015_NOON = Instant.parse("2015-08-03T12:00:00Z");
+    private static final Instant AUG_05_2015_NOON = Instant.parse("2015-08-05T12:00:00Z");
+
+    @Test
+    public void isAllOf() {
+        TemporalMatcher<Instant> matcher = InstantMatchers.after(AUG_03_2015_NOON)
+                .and(InstantMatchers.before(AUG_05_2015_NOON), InstantMatchers.isWeekday(), InstantMatchers.isHour(12))
+                .atZone(UTC);
+        assertThat(AUG_04_2015_NOON, matcher);
+        assertThat(AUG_04_2015_NOON.plusSeconds(3600), not(matcher));
+        assertThat(AUG_05_2015_NOON, not(matcher));
+    }
+
+    @Test
+    public void canDescribeFirstMismatch() {
+        TemporalMatcher<Instant> matcher = InstantMatchers.after(AUG_03_2015_NOON)
+                .and(InstantMatchers.isDayOfWeek(DayOfWeek.MONDAY), InstantMatchers.before(AUG_03_2015_NOON));
+        Description description = new StringDescription();
+        matcher.describeMismatch(AUG_04_2015_NOON, description);
+        assertThat(description.toString(), equalTo("the date is on a Monday the date is on a Tuesday"));
+    }
+
+    @Test
+    public void canDescribe() {
+        TemporalMatcher<Instant> matcher = InstantMatchers.after(AUG_03_2015_NOON).and(InstantMatchers.before(AUG_05_2015_NOON));
+        assertThat(StringDescription.toString(matcher),
+                equalTo("(the date is after 2015-08-03T12:00:00Z and the date is before 2015-08-05T12:00:00Z)"));
+    }
+
+    @Test
+    public void canEvaluateCheapestFirst() {
+        AtomicInteger conversions = new AtomicInteger();
+        TemporalConverter<Instant, ZonedDateTime> converter = (date, zone) -> {
+            conversions.incrementAndGet();
+            return TemporalConverters.INSTANT_AS_ZONEDDATETIME.apply(date, zone);
+        };
+        TemporalMatcher<Instant> matcher = new IsMaximum<>(converter, ChronoField.HOUR_OF_DAY)
+                .and(InstantMatchers.after(AUG_05_2015_NOON));
+        assertThat(AUG_04_2015_NOON, not(matcher));
+        assertThat(conversions.get(), equalTo(0));
+    }
+
+    @Test
+    public void canShareConversions() {
+        AtomicInteger conversions = new AtomicInteger();
+        TemporalConverter<Instant, Hour> converter = (date, zone) -> {
+            conversions.incrementAndGet();
+            return TemporalConverters.INSTANT_AS_HOUR.apply(date, zone);
+        };
+        TemporalMatcher<Instant> matcher = new IsHour<>(converter, TemporalProviders.hour(12))
+                .and(new IsHour<>(converter, TemporalProviders.hour(12)))
+                .atZone(UTC);
+        assertThat(AUG_04_2015_NOON, matcher);
+        assertThat(conversions.get(), equalTo(1));
+        assertThat(AUG_05_2015_NOON, matcher);
+        assertThat(conversions.get(), equalTo(2));
+    }
+
+    @Test
+    public void canConvertModifiedDate() {
+        Date date = Date.from(Instant.parse("2020-01-01T12:00:00Z"));
+        TemporalMatcher<Date> matcher = DateMatchers.sameDay(new Date(date.getTime())).and(DateMatchers.isWeekday()).atZone(UTC);
+        assertThat(date, matcher);
+        date.setTime(Instant.parse("2020-01-05T12:00:00Z").toEpochMilli());
+        assertThat(date, not(matcher));
+    }
+}
@@ -417,6 +417,16 @@ public class IsBeforeTest {
     }
     // Instant Matchers
 
+    @Test
+    public void isInstantBeforeInstantOneNanosecondLater() {
+        assertThat(AUG_04_2015_NOON_INSTANT_UTC, InstantMatchers.before(AUG_04_2015_NOON_INSTANT_UTC.plusNanos(1)));
+    }
+
+    @Test(expectedExceptions = AssertionError.class, expectedExceptionsMessageRegExp = ASSERTION_PATTERN)
+    public void isInstantBeforeInstantOneNanosecondEarlier() {
+        assertThat(AUG_04_2015_NOON_INSTANT_UTC.plusNanos(1), InstantMatchers.before(AUG_04_2015_NOON_INSTANT_UTC));
+    }
+
     @Test(expectedExceptions = AssertionError.class, expectedExceptionsMessageRegExp = ASSERTION_PATTERN)
     public void isInstantBeforeLaterInstant() {
         assertThat(AUG_04_2015_NOON_INSTANT_UTC, InstantMatchers.before(AUG_04_2015_11AM_INSTANT_UTC));
@@ -3,15 +3,20 @@ package org.exparity.hamcrest.date.core;
 
 import static org.exparity.hamcrest.date.testutils.DateMatcherTestUtils.addDateField;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.not;
 
+import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.Locale;
 
 import org.exparity.hamcrest.date.DateMatchers;
 import org.exparity.hamcrest.date.InstantMatchers;
@@ -276,4 +281,73 @@ public class IsDayTest {
         assertThat(Instant.now(), InstantMatchers.isTomorrow());
     }
 
+    // Clock Matchers
+    @Test
+    public void isInstantTodayByClock() {
+        MutableClock clock = new MutableClock(Instant.parse("2015-08-04T23:59:59.999Z"));
+        TemporalMatcher<Instant> isToday = InstantMatchers.isToday(clock);
+        assertThat(Instant.parse("2015-08-04T00:00:00Z"), isToday);
+        assertThat(Instant.parse("2015-08-04T23:59:59.999999999Z"), isToday);
+        assertThat(Instant.parse("2015-08-05T00:00:00Z"), not(isToday));
+        clock.instant = Instant.parse("2015-08-05T00:00:00Z");
+        assertThat(Instant.parse("2015-08-05T00:00:00Z"), isToday);
+        assertThat(Instant.parse("2015-08-04T23:59:59.999999999Z"), not(isToday));
+    }
+
+    @Test
+    public void isInstantYesterdayAndTomorrowByClock() {
+        MutableClock clock = new MutableClock(Instant.parse("2015-08-04T12:00:00Z"));
+        assertThat(Instant.parse("2015-08-03T12:00:00Z"), InstantMatchers.isYesterday(clock));
+        assertThat(Instant.parse("2015-08-05T12:00:00Z"), InstantMatchers.isTomorrow(clock));
+    }
+
+    @Test
+    public void isDateTodayByClockInZone() {
+        MutableClock clock = new MutableClock(Instant.parse("2015-08-04T21:30:00Z"));
+        Date date = Date.from(Instant.parse("2015-08-04T22:30:00Z"));
+        assertThat(date, DateMatchers.isToday(clock));
+        assertThat(date, not(DateMatchers.isToday(clock).atZone(ZoneId.of("Europe/Paris"))));
+        assertThat(date, DateMatchers.isTomorrow(clock).atZone(ZoneId.of("Europe/Paris")));
+        assertThat(java.sql.Date.valueOf("2015-08-04"), DateMatchers.isToday(clock));
+    }
+
+    @Test
+    public void isLocalDateAndZonedDateTimeTodayByClock() {
+        MutableClock clock = new MutableClock(Instant.parse("2015-08-04T12:00:00Z"));
+        assertThat(LocalDate.of(2015, 8, 4), LocalDateMatchers.isToday(clock));
+        assertThat(LocalDateTime.of(2015, 8, 5, 0, 0), LocalDateTimeMatchers.isTomorrow(clock));
+        assertThat(java.sql.Date.valueOf("2015-08-03"), SqlDateMatchers.isYesterday(clock));
+        assertThat(ZonedDateTime.parse("2015-08-04T23:00:00-04:00[America/New_York]"), ZonedDateTimeMatchers.isToday(clock));
+        assertThat(OffsetDateTime.parse("2015-08-04T23:00:00-05:00"), OffsetDateTimeMatchers.isToday(clock));
+    }
+
+    @Test(expectedExceptions = AssertionError.class, expectedExceptionsMessageRegExp = "\\sExpected: the same day as Tue, 04 Aug 2015\\s     but: the day is Wed, 05 Aug 2015")
+    public void isInstantNotTodayByClock() {
+        MutableClock clock = new MutableClock(Instant.parse("2015-08-04T12:00:00Z"));
+        assertThat(Instant.parse("2015-08-05T12:00:00Z"), InstantMatchers.isToday(clock).atLocale(Locale.UK));
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
 }
@@ -0,0 +1,115 @@
+package org.exparity.hamcrest.date.core;
+
+import static org.exparity.hamcrest.date.testutils.ZoneIds.CET;
+import static org.exparity.hamcrest.date.testutils.ZoneIds.UTC;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.exparity.hamcrest.date.InstantMatchers;
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+import org.testng.annotations.Test;
+
+/**
+ * Unit Tests for the {@link IsEvery} class
+ */
+public class IsEveryTest {
+
+    private static final Instant AUG_04_2015_NOON = Instant.parse("2015-08-04T12:00:00Z");
+    private static final Instant AUG_04_2015_1201 = Instant.parse("2015-08-04T12:01:00Z");
+    private static final Instant AUG_05_2015_NOON = Instant.parse("2015-08-05T12:00:00Z");
+    private static final Instant AUG_04_2015_2330 = Instant.parse("2015-08-04T23:30:00Z");
+
+    @Test
+    public void isEveryInstantInListAfter() {
+        List<Instant> dates = Arrays.asList(AUG_04_2015_1201, AUG_05_2015_NOON);
+        assertThat(dates, InstantMatchers.allAfter(AUG_04_2015_NOON));
+    }
+
+    @Test
+    public void isEveryInstantInSetAfter() {
+        assertThat(new LinkedHashSet<>(Arrays.asList(AUG_04_2015_1201, AUG_05_2015_NOON)),
+                InstantMatchers.allAfter(AUG_04_2015_NOON));
+    }
+
+    @Test
+    public void isEveryInstantInArrayAfter() {
+        assertThat(new Instant[] { AUG_04_2015_1201, AUG_05_2015_NOON }, InstantMatchers.allAfter(AUG_04_2015_NOON));
+    }
+
+    @Test
+    public void isEveryEpochMilliAfter() {
+        long[] dates = { AUG_04_2015_1201.toEpochMilli(), AUG_05_2015_NOON.toEpochMilli() };
+        assertThat(dates, InstantMatchers.allAfter(AUG_04_2015_NOON));
+    }
+
+    @Test
+    public void isEveryInstantAfterWithSameInstant() {
+        long[] dates = { AUG_04_2015_1201.toEpochMilli(), AUG_04_2015_NOON.toEpochMilli() };
+        assertThat(dates, not(InstantMatchers.allAfter(AUG_04_2015_NOON)));
+        assertThat(new long[] { AUG_04_2015_NOON.toEpochMilli() + 1 }, InstantMatchers.allAfter(AUG_04_2015_NOON));
+    }
+
+    @Test
+    public void isEveryInstantAfterWithEmptyInput() {
+        assertThat(new long[0], InstantMatchers.allAfter(AUG_04_2015_NOON));
+    }
+
+    @Test
+    public void isEveryInstantAfterWithNullElement() {
+        assertThat(new Instant[] { AUG_05_2015_NOON, null }, not(InstantMatchers.allAfter(AUG_04_2015_NOON)));
+    }
+
+    @Test
+    public void canReportOffendingIndices() {
+        Instant[] dates = { AUG_05_2015_NOON, AUG_04_2015_NOON, AUG_05_2015_NOON, AUG_04_2015_NOON, AUG_04_2015_NOON };
+        Description description = new StringDescription();
+        InstantMatchers.allAfter(AUG_04_2015_NOON).reporting(2).describeMismatch(dates, description);
+        assertThat(description.toString(),
+                equalTo("3 of 5 dates did not match, item 1: date is 2015-08-04T12:00:00Z, item 3: date is 2015-08-04T12:00:00Z and 1 more"));
+    }
+
+    @Test
+    public void canDescribeUnsupportedInput() {
+        Description description = new StringDescription();
+        InstantMatchers.allAfter(AUG_04_2015_NOON).describeMismatch("2015-08-05", description);
+        assertThat(description.toString(),
+                equalTo("was a java.lang.String not a collection or array of instants or epoch milliseconds"));
+    }
+
+    @Test
+    public void isEveryInstantWithinAsIsWithin() {
+        for (ChronoUnit unit : Arrays.asList(ChronoUnit.NANOS, ChronoUnit.MILLIS, ChronoUnit.SECONDS, ChronoUnit.MINUTES, ChronoUnit.DAYS)) {
+            TemporalMatcher<Instant> expected = InstantMatchers.within(2, unit, AUG_04_2015_NOON);
+            for (long offset = -4; offset <= 4; ++offset) {
+                for (long nanos = -1; nanos <= 1; ++nanos) {
+                    Instant date = AUG_04_2015_NOON.plus(offset, unit).plusNanos(nanos);
+                    assertThat(unit + " " + date, InstantMatchers.allWithin(2, unit, AUG_04_2015_NOON).matches(new Instant[] { date }),
+                            equalTo(expected.matches(date)));
+                }
+            }
+        }
+    }
+
+    @Test(expectedExceptions = AssertionError.class)
+    public void isEveryInstantWithinOutsideLimit() {
+        assertThat(new Instant[] { AUG_04_2015_1201, AUG_05_2015_NOON }, InstantMatchers.allWithin(1, ChronoUnit.HOURS, AUG_04_2015_NOON));
+    }
+
+    @Test
+    public void isEveryInstantSameDay() {
+        assertThat(Arrays.asList(AUG_04_2015_1201, AUG_04_2015_2330), InstantMatchers.allSameDay(AUG_04_2015_NOON).atZone(UTC));
+    }
+
+    @Test
+    public void isEveryInstantSameDayInZone() {
+        assertThat(Arrays.asList(AUG_04_2015_1201, AUG_04_2015_2330), not(InstantMatchers.allSameDay(AUG_04_2015_NOON).atZone(CET)));
+    }
+}
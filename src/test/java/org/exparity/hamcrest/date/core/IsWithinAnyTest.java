@@ -0,0 +1,107 @@
+package org.exparity.hamcrest.date.core;
+
+import static org.exparity.hamcrest.date.testutils.ZoneIds.CET;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+
+import org.exparity.hamcrest.date.InstantMatchers;
+import org.exparity.hamcrest.date.ZonedDateTimeMatchers;
+import org.exparity.hamcrest.date.core.types.TemporalRangeSet;
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+import org.testng.annotations.Test;
+
+/**
+ * Unit Tests for the {@link IsWithinAny} class
+ */
+public class IsWithinAnyTest {
+
+    private static final Instant AUG_04_2015_NOON = Instant.parse("2015-08-04T12:00:00Z");
+    private static final Instant AUG_04_2015_1300 = Instant.parse("2015-08-04T13:00:00Z");
+    private static final Instant AUG_04_2015_1400 = Instant.parse("2015-08-04T14:00:00Z");
+    private static final Instant AUG_04_2015_1500 = Instant.parse("2015-08-04T15:00:00Z");
+    private static final Instant AUG_04_2015_1800 = Instant.parse("2015-08-04T18:00:00Z");
+    private static final Instant AUG_04_2015_2000 = Instant.parse("2015-08-04T20:00:00Z");
+    private static final Instant AUG_04_2015_2100 = Instant.parse("2015-08-04T21:00:00Z");
+
+    private static final TemporalRangeSet WINDOWS = TemporalRangeSet.builder()
+            .add(AUG_04_2015_2000, AUG_04_2015_2100)
+            .add(AUG_04_2015_NOON, AUG_04_2015_1300)
+            .build();
+
+    @Test
+    public void isInstantWithinAny() {
+        assertThat(AUG_04_2015_NOON, InstantMatchers.withinAny(WINDOWS));
+        assertThat(AUG_04_2015_1300, InstantMatchers.withinAny(WINDOWS));
+        assertThat(AUG_04_2015_2000.plusSeconds(60), InstantMatchers.withinAny(WINDOWS));
+    }
+
+    @Test
+    public void isInstantWithinAnyInZone() {
+        assertThat(AUG_04_2015_NOON, InstantMatchers.withinAny(WINDOWS).atZone(CET));
+        assertThat(AUG_04_2015_1400, not(InstantMatchers.withinAny(WINDOWS).atZone(CET)));
+    }
+
+    @Test
+    public void isInstantNotWithinAny() {
+        assertThat(AUG_04_2015_NOON.minusNanos(1), not(InstantMatchers.withinAny(WINDOWS)));
+        assertThat(AUG_04_2015_1300.plusNanos(1), not(InstantMatchers.withinAny(WINDOWS)));
+        assertThat(AUG_04_2015_2100.plusNanos(1), not(InstantMatchers.withinAny(WINDOWS)));
+        assertThat(AUG_04_2015_NOON, not(InstantMatchers.withinAny(TemporalRangeSet.builder().build())));
+    }
+
+    @Test
+    public void isZonedDateTimeWithinAny() {
+        assertThat(ZonedDateTime.of(2015, 8, 4, 13, 30, 0, 0, CET), ZonedDateTimeMatchers.withinAny(WINDOWS));
+        assertThat(ZonedDateTime.of(2015, 8, 4, 16, 0, 0, 0, CET), not(ZonedDateTimeMatchers.withinAny(WINDOWS)));
+    }
+
+    @Test
+    public void canMergeOverlappingAndAdjoiningWindows() {
+        TemporalRangeSet windows = TemporalRangeSet.builder()
+                .add(AUG_04_2015_1400, AUG_04_2015_1500)
+                .add(AUG_04_2015_NOON, AUG_04_2015_1300)
+                .add(AUG_04_2015_1300.plusNanos(1), AUG_04_2015_1400)
+                .add(AUG_04_2015_2000, AUG_04_2015_2100)
+                .add(AUG_04_2015_2000.plusSeconds(60), AUG_04_2015_2000.plusSeconds(120))
+                .build();
+        assertThat(windows.size(), equalTo(2));
+        assertThat(windows.from(0), equalTo(AUG_04_2015_NOON));
+        assertThat(windows.to(0), equalTo(AUG_04_2015_1500));
+        assertThat(windows.from(1), equalTo(AUG_04_2015_2000));
+        assertThat(windows.to(1), equalTo(AUG_04_2015_2100));
+    }
+
+    @Test
+    public void canFindNearestWindow() {
+        assertThat(WINDOWS.nearest(AUG_04_2015_NOON.minusSeconds(3600)), equalTo(0));
+        assertThat(WINDOWS.nearest(AUG_04_2015_NOON.plusSeconds(60)), equalTo(0));
+        assertThat(WINDOWS.nearest(AUG_04_2015_1500), equalTo(0));
+        assertThat(WINDOWS.nearest(AUG_04_2015_1800), equalTo(1));
+        assertThat(WINDOWS.nearest(Instant.MAX), equalTo(1));
+        assertThat(TemporalRangeSet.builder().build().nearest(AUG_04_2015_NOON), equalTo(-1));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void canRejectWindowEndingBeforeStart() {
+        TemporalRangeSet.of(AUG_04_2015_1300, AUG_04_2015_NOON);
+    }
+
+    @Test
+    public void canDescribeNearestWindow() {
+        Description description = new StringDescription();
+        InstantMatchers.withinAny(WINDOWS).describeMismatch(AUG_04_2015_1800, description);
+        assertThat(description.toString(),
+                equalTo("the date is 2015-08-04T18:00:00Z and the nearest window is 2015-08-04T20:00:00Z to 2015-08-04T21:00:00Z"));
+    }
+
+    @Test
+    public void canDescribe() {
+        assertThat(StringDescription.toString(InstantMatchers.withinAny(WINDOWS)),
+                equalTo("the date is within any of 2 windows from 2015-08-04T12:00:00Z to 2015-08-04T21:00:00Z"));
+    }
+}
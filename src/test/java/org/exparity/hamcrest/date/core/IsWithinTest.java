@@ -3,11 +3,20 @@ package org.exparity.hamcrest.date.core;
 import static org.exparity.hamcrest.date.testutils.Dates.*;
 import static org.exparity.hamcrest.date.testutils.ZoneIds.UTC;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.Month;
+import java.time.Period;
+import java.time.ZoneId;
 import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.Date;
 
 import org.exparity.hamcrest.date.DateMatchers;
 import org.exparity.hamcrest.date.InstantMatchers;
@@ -17,7 +26,9 @@ import org.exparity.hamcrest.date.LocalTimeMatchers;
 import org.exparity.hamcrest.date.OffsetDateTimeMatchers;
 import org.exparity.hamcrest.date.SqlDateMatchers;
 import org.exparity.hamcrest.date.ZonedDateTimeMatchers;
+import org.exparity.hamcrest.date.core.types.Interval;
 import org.exparity.hamcrest.date.testutils.ZoneIds;
+import org.hamcrest.StringDescription;
 import org.testng.annotations.Test;
 
 /**
@@ -561,4 +572,90 @@ public class IsWithinTest {
                 InstantMatchers.within(2, ChronoUnit.NANOS, 2015, Month.AUGUST, 4, 12, 0, 0, 3, ZoneOffset.UTC));
     }
 
+    @Test
+    public void isInstantWithinDuration() {
+        assertThat(AUG_04_2015_NOON_INSTANT_UTC.plusNanos(1500), InstantMatchers.within(Duration.ofNanos(1500), AUG_04_2015_NOON_INSTANT_UTC));
+        assertThat(AUG_04_2015_NOON_INSTANT_UTC.minusNanos(1500), InstantMatchers.within(Duration.ofNanos(1500), AUG_04_2015_NOON_INSTANT_UTC));
+    }
+
+    @Test(expectedExceptions = AssertionError.class)
+    public void isInstantWithinDurationOutsideLimit() {
+        assertThat(AUG_04_2015_NOON_INSTANT_UTC.plusNanos(1501), InstantMatchers.within(Duration.ofNanos(1500), AUG_04_2015_NOON_INSTANT_UTC));
+    }
+
+    @Test
+    public void isZonedDateTimeWithinDuration() {
+        assertThat(AUG_04_2015_NOON_UTC.plusNanos(999999999), ZonedDateTimeMatchers.within(Duration.ofSeconds(1), AUG_04_2015_NOON_UTC));
+        assertThat(AUG_04_2015_NOON_UTC.plusSeconds(2), not(ZonedDateTimeMatchers.within(Duration.ofMillis(1500), AUG_04_2015_NOON_UTC)));
+    }
+
+    @Test
+    public void isOffsetDateTimeWithinDuration() {
+        assertThat(AUG_04_2015_NOON_OFFSET_UTC.minusNanos(10), OffsetDateTimeMatchers.within(Duration.ofNanos(10), AUG_04_2015_NOON_OFFSET_UTC));
+        assertThat(AUG_04_2015_NOON_OFFSET_UTC.minusNanos(11), not(OffsetDateTimeMatchers.within(Duration.ofNanos(10), AUG_04_2015_NOON_OFFSET_UTC)));
+    }
+
+    @Test
+    public void isLocalDateTimeWithinDuration() {
+        assertThat(AUG_04_2015_NOON.plusNanos(10), LocalDateTimeMatchers.within(Duration.ofNanos(10), AUG_04_2015_NOON));
+        assertThat(AUG_04_2015_NOON.plusNanos(11), not(LocalDateTimeMatchers.within(Duration.ofNanos(10), AUG_04_2015_NOON)));
+    }
+
+    @Test
+    public void isLocalTimeWithinDuration() {
+        assertThat(LocalTime.NOON.plusNanos(10), LocalTimeMatchers.within(Duration.ofNanos(10), LocalTime.NOON));
+        assertThat(LocalTime.NOON.plusNanos(11), not(LocalTimeMatchers.within(Duration.ofNanos(10), LocalTime.NOON)));
+    }
+
+    @Test
+    public void isDateWithinDuration() {
+        Date date = new Date(AUG_04_2015_NOON_UTC_AS_DATE.getTime() + 250);
+        assertThat(date, DateMatchers.within(Duration.ofMillis(250), AUG_04_2015_NOON_UTC_AS_DATE));
+        assertThat(date, not(DateMatchers.within(Duration.ofMillis(249), AUG_04_2015_NOON_UTC_AS_DATE)));
+    }
+
+    @Test
+    public void isLocalDateWithinPeriodOfMonths() {
+        assertThat(AUG_04_2015.plusMonths(1), LocalDateMatchers.within(Period.ofMonths(1), AUG_04_2015));
+        assertThat(AUG_04_2015.minusMonths(1), LocalDateMatchers.within(Period.ofMonths(1), AUG_04_2015));
+        assertThat(AUG_04_2015.plusMonths(1).plusDays(1), not(LocalDateMatchers.within(Period.ofMonths(1), AUG_04_2015)));
+    }
+
+    @Test
+    public void isLocalDateWithinPeriodOfMonthsOnCalendar() {
+        LocalDate jan31 = LocalDate.of(2015, Month.JANUARY, 31);
+        assertThat(LocalDate.of(2015, Month.FEBRUARY, 28), LocalDateMatchers.within(Period.ofMonths(1), jan31));
+        assertThat(LocalDate.of(2015, Month.MARCH, 1), not(LocalDateMatchers.within(Period.ofMonths(1), jan31)));
+    }
+
+    @Test
+    public void canDescribeDuration() {
+        assertThat(StringDescription.toString(InstantMatchers.within(Duration.ofMillis(1500), AUG_04_2015_NOON_INSTANT_UTC)),
+                equalTo("the date is within 1.5 Seconds of 2015-08-04T12:00:00Z"));
+    }
+
+    @Test
+    public void isWithinBoundsSameAsInterval() {
+        ChronoUnit[] units = { ChronoUnit.NANOS, ChronoUnit.MICROS, ChronoUnit.MILLIS, ChronoUnit.SECONDS, ChronoUnit.MINUTES, ChronoUnit.HOURS, ChronoUnit.HALF_DAYS, ChronoUnit.DAYS };
+        ZonedDateTime reference = ZonedDateTime.of(2015, 3, 29, 1, 30, 0, 500500500, ZoneId.of("Europe/London"));
+        for (ChronoUnit unit : units) {
+            Interval interval = Interval.of(2, unit);
+            TemporalMatcher<Instant> instants = new IsWithin<>(interval, TemporalConverters.INSTANT_AS_INSTANT, TemporalProviders.instant(reference.toInstant()), TemporalFunctions.INSTANT, EpochConverters.INSTANT);
+            TemporalMatcher<Instant> instantOracle = new IsWithin<>(interval, TemporalConverters.INSTANT_AS_INSTANT, TemporalProviders.instant(reference.toInstant()), TemporalFunctions.INSTANT);
+            TemporalMatcher<ZonedDateTime> zoned = new IsWithin<>(interval, TemporalConverters.ZONEDDATETIME_AS_ZONEDDATETIME, TemporalProviders.zonedDateTime(reference), TemporalFunctions.ZONEDDATETIME, EpochConverters.ZONEDDATETIME);
+            TemporalMatcher<ZonedDateTime> zonedOracle = new IsWithin<>(interval, TemporalConverters.ZONEDDATETIME_AS_ZONEDDATETIME, TemporalProviders.zonedDateTime(reference), TemporalFunctions.ZONEDDATETIME);
+            TemporalMatcher<Date> dates = new IsWithin<>(interval, TemporalConverters.JAVADATE_AS_JAVADATE, TemporalProviders.javaDate(Date.from(reference.toInstant())), TemporalFunctions.JAVADATE, EpochConverters.JAVADATE);
+            TemporalMatcher<Date> dateOracle = new IsWithin<>(interval, TemporalConverters.JAVADATE_AS_JAVADATE, TemporalProviders.javaDate(Date.from(reference.toInstant())), TemporalFunctions.JAVADATE);
+            for (long offset = -3; offset <= 3; ++offset) {
+                for (long nanos : new long[] { -1000001, -1, 0, 1, 999999 }) {
+                    ZonedDateTime date = reference.plus(offset, unit).plusNanos(nanos);
+                    assertThat(unit + " " + date, instants.matches(date.toInstant()), equalTo(instantOracle.matches(date.toInstant())));
+                    assertThat(unit + " " + date, zoned.matches(date), equalTo(zonedOracle.matches(date)));
+                    assertThat(unit + " " + date, zoned.matches(date.withZoneSameInstant(UTC)), equalTo(zonedOracle.matches(date.withZoneSameInstant(UTC))));
+                    assertThat(unit + " " + date, dates.matches(Date.from(date.toInstant())), equalTo(dateOracle.matches(Date.from(date.toInstant()))));
+                }
+            }
+        }
+    }
+
 }
@@ -0,0 +1,93 @@
+package org.exparity.hamcrest.date.core;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Unit Tests for the {@link IsoTimestamps} class
+ */
+public class IsoTimestampsTest {
+
+    @DataProvider(name = "instants")
+    public static Object[][] instants() {
+        return new Object[][] {
+                { "2015-08-04T12:00:00Z", Instant.parse("2015-08-04T12:00:00Z") },
+                { "2015-08-04T12:00Z", Instant.parse("2015-08-04T12:00:00Z") },
+                { "2015-08-04 12:00:00.5z", Instant.parse("2015-08-04T12:00:00.500Z") },
+                { "2015-08-04T12:00:00.123456789+01:00",
+                        OffsetDateTime.parse("2015-08-04T12:00:00.123456789+01:00").toInstant() },
+                { "2015-08-04T12:00:00,1-0530", OffsetDateTime.parse("2015-08-04T12:00:00.1-05:30").toInstant() },
+                { "2015-08-04T12:00:00+02", OffsetDateTime.parse("2015-08-04T12:00:00+02:00").toInstant() },
+                { "2016-02-29T23:59:59Z", Instant.parse("2016-02-29T23:59:59Z") },
+                { "1969-12-31T23:59:59.999Z", Instant.parse("1969-12-31T23:59:59.999Z") },
+                { "0001-01-01T00:00:00Z", Instant.parse("0001-01-01T00:00:00Z") },
+                { "9999-12-31T23:59:59Z", Instant.parse("9999-12-31T23:59:59Z") } };
+    }
+
+    @Test(dataProvider = "instants")
+    public void canParseInstant(String timestamp, Instant expected) {
+        assertThat(IsoTimestamps.isValid(timestamp), equalTo(true));
+        assertThat(IsoTimestamps.isInstant(timestamp), equalTo(true));
+        assertThat(Instant.ofEpochSecond(IsoTimestamps.toEpochSecond(timestamp), IsoTimestamps.toNano(timestamp)),
+                equalTo(expected));
+    }
+
+    @Test
+    public void canParseLocalDateTime() {
+        String timestamp = "2015-08-04T12:30:15.25";
+        assertThat(IsoTimestamps.isValid(timestamp), equalTo(true));
+        assertThat(IsoTimestamps.isInstant(timestamp), equalTo(false));
+        assertThat(IsoTimestamps.toOffsetSeconds(timestamp), equalTo(0));
+        assertThat(LocalDateTime.ofEpochSecond(IsoTimestamps.toLocalEpochSecond(timestamp),
+                IsoTimestamps.toNano(timestamp),
+                ZoneOffset.UTC), equalTo(LocalDateTime.parse("2015-08-04T12:30:15.25")));
+    }
+
+    @Test
+    public void canParseStringBuilder() {
+        StringBuilder timestamp = new StringBuilder("2015-08-04T12:30:15-01:30");
+        assertThat(IsoTimestamps.isInstant(timestamp), equalTo(true));
+        assertThat(IsoTimestamps.toOffsetSeconds(timestamp), equalTo(-5400));
+        assertThat(IsoTimestamps.toEpochSecond(timestamp),
+                equalTo(OffsetDateTime.parse("2015-08-04T12:30:15-01:30").toEpochSecond()));
+    }
+
+    @DataProvider(name = "invalid")
+    public static Object[][] invalid() {
+        return new Object[][] {
+                { "" },
+                { "2015-08-04" },
+                { "2015-08-04T12" },
+                { "2015-08-04X12:00:00Z" },
+                { "2015/08/04T12:00:00Z" },
+                { "2015-13-04T12:00:00Z" },
+                { "2015-02-29T12:00:00Z" },
+                { "2015-08-32T12:00:00Z" },
+                { "2015-08-04T24:00:00Z" },
+                { "2015-08-04T12:60:00Z" },
+                { "2015-08-04T12:00:60Z" },
+                { "2015-08-04T12:00:00.Z" },
+                { "2015-08-04T12:00:00.1234567891Z" },
+                { "2015-08-04T12:00:00+19:00" },
+                { "2015-08-04T12:00:00+01:0" },
+                { "2015-08-04T12:00:00Q" },
+                { "2015-08-04T12:00:00Z " },
+                { "2O15-08-04T12:00:00Z" },
+                { "2015-08-04T12:00:00+01:00:00" },
+                { "2015-08-04T12:00+" } };
+    }
+
+    @Test(dataProvider = "invalid")
+    public void cannotParseInvalid(String timestamp) {
+        assertThat(IsoTimestamps.isValid(timestamp), equalTo(false));
+        assertThat(IsoTimestamps.isInstant(timestamp), equalTo(false));
+    }
+}
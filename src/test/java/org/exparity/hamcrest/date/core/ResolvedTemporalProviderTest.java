@@ -0,0 +1,67 @@
+package org.exparity.hamcrest.date.core;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+/**
+ * Unit Tests for the {@link ResolvedTemporalProvider} class
+ */
+public class ResolvedTemporalProviderTest {
+
+    private static final Optional<ZoneId> UTC = Optional.of(ZoneId.of("UTC"));
+    private static final Optional<ZoneId> CET = Optional.of(ZoneId.of("CET"));
+
+    @Test
+    public void canResolveOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        TemporalProvider<LocalDate> provider = countingProvider(calls).resolvedAt(UTC);
+        assertThat(provider.apply(UTC), equalTo(LocalDate.of(2015, 8, 4)));
+        assertThat(provider.apply(UTC), equalTo(LocalDate.of(2015, 8, 4)));
+        assertThat(calls.get(), equalTo(1));
+    }
+
+    @Test
+    public void canResolveOtherZones() {
+        AtomicInteger calls = new AtomicInteger();
+        TemporalProvider<LocalDate> provider = countingProvider(calls).resolvedAt(UTC);
+        provider.apply(CET);
+        provider.apply(CET);
+        assertThat(calls.get(), equalTo(2));
+    }
+
+    @Test
+    public void canReResolveWithoutNesting() {
+        AtomicInteger calls = new AtomicInteger();
+        TemporalProvider<LocalDate> provider = countingProvider(calls).resolvedAt(UTC);
+        assertThat(provider.resolvedAt(UTC), sameInstance(provider));
+        TemporalProvider<LocalDate> rezoned = provider.resolvedAt(CET);
+        rezoned.apply(CET);
+        rezoned.apply(CET);
+        assertThat(calls.get(), equalTo(1));
+    }
+
+    @Test
+    public void canResolveOncePerMatcher() {
+        AtomicInteger calls = new AtomicInteger();
+        IsSameDay<LocalDate> matcher = new IsSameDay<>(TemporalConverters.LOCALDATE_AS_LOCALDATE, countingProvider(calls));
+        for (int i = 0; i < 10; ++i) {
+            assertThat(LocalDate.of(2015, 8, 4), matcher);
+        }
+        assertThat(calls.get(), equalTo(1));
+    }
+
+    private static TemporalProvider<LocalDate> countingProvider(AtomicInteger calls) {
+        return zone -> {
+            calls.incrementAndGet();
+            return LocalDate.of(2015, 8, 4);
+        };
+    }
+}
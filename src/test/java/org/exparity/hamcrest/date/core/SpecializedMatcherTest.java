@@ -0,0 +1,121 @@
+package org.exparity.hamcrest.date.core;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.exparity.hamcrest.date.DateMatchers;
+import org.hamcrest.StringDescription;
+import org.testng.annotations.Test;
+
+/**
+ * Unit Tests for the {@link SpecializedMatcher} class
+ */
+public class SpecializedMatcherTest {
+
+    private static final ZoneId UTC = ZoneId.of("UTC");
+    private static final Instant AUG_04_2015_2330_UTC = Instant.parse("2015-08-04T23:30:00Z");
+    private static final Date AUG_04_2015_2330_UTC_AS_DATE = Date.from(AUG_04_2015_2330_UTC);
+
+    @Test
+    public void canMatchEachDateType() {
+        assertThat(AUG_04_2015_2330_UTC_AS_DATE, DateMatchers.isHour(23).atZone(UTC));
+        assertThat(Timestamp.from(AUG_04_2015_2330_UTC), DateMatchers.isHour(23).atZone(UTC));
+        assertThat(java.sql.Date.valueOf(LocalDate.of(2015, Month.AUGUST, 4)), DateMatchers.isDay(2015, Month.AUGUST, 4));
+        assertThat(java.sql.Date.valueOf(LocalDate.of(2015, Month.AUGUST, 4)), DateMatchers.isTuesday());
+        assertThat(AUG_04_2015_2330_UTC_AS_DATE, DateMatchers.isTuesday().atZone(UTC));
+        assertThat(AUG_04_2015_2330_UTC_AS_DATE, DateMatchers.isWednesday().atZone(ZoneId.of("Europe/London")));
+    }
+
+    @Test
+    public void canCompareWithSqlDate() {
+        java.sql.Date aug04 = java.sql.Date.valueOf(LocalDate.of(2015, Month.AUGUST, 4));
+        Date aug04Noon = Date.from(LocalDate.of(2015, Month.AUGUST, 4).atTime(12, 0).atZone(ZoneId.systemDefault()).toInstant());
+        assertThat(aug04Noon, not(DateMatchers.after(aug04)));
+        assertThat(aug04Noon, DateMatchers.sameOrAfter(aug04));
+        assertThat(aug04Noon, DateMatchers.sameOrBefore(aug04));
+        assertThat(aug04Noon, DateMatchers.after(new Date(aug04.getTime())));
+    }
+
+    @Test
+    public void canDescribeAsGeneralMatcher() {
+        TemporalMatcher<Date> specialized = DateMatchers.isHour(11).atZone(UTC);
+        StringDescription description = new StringDescription(), mismatch = new StringDescription();
+        specialized.describeTo(description);
+        specialized.describeMismatch(AUG_04_2015_2330_UTC_AS_DATE, mismatch);
+        assertThat(description.toString(), equalTo("the date has the hour 11"));
+        assertThat(mismatch.toString(), equalTo("the date has the hour 23"));
+    }
+
+    @Test
+    public void canMatchInZonePerThread() throws Exception {
+        TemporalMatcher<Date> matcher = DateMatchers.isHour(23);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> matches = new ArrayList<>();
+            for (int i = 0; i < 1000; ++i) {
+                ZoneId zone = i % 2 == 0 ? UTC : ZoneId.of("Asia/Kathmandu");
+                matches.add(executor.submit(() -> {
+                    try (DefaultZones.Scope scope = DefaultZones.use(zone)) {
+                        return matcher.matches(AUG_04_2015_2330_UTC_AS_DATE);
+                    }
+                }));
+            }
+            for (int i = 0; i < matches.size(); ++i) {
+                assertThat(matches.get(i).get(), equalTo(i % 2 == 0));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void canMatchReferenceWithoutDefaultZone() {
+        AtomicInteger resolved = new AtomicInteger();
+        TemporalMatcher<Date> after = DateMatchers.after(AUG_04_2015_2330_UTC_AS_DATE);
+        TemporalMatcher<Date> before = DateMatchers.before(AUG_04_2015_2330_UTC);
+        try {
+            DefaultZones.setResolver(() -> {
+                resolved.incrementAndGet();
+                return UTC;
+            });
+            assertThat(Date.from(AUG_04_2015_2330_UTC.plusSeconds(1)), after);
+            assertThat(Date.from(AUG_04_2015_2330_UTC.minusSeconds(1)), before);
+            assertThat(resolved.get(), equalTo(0));
+        } finally {
+            DefaultZones.setResolver(null);
+        }
+    }
+
+    @Test
+    public void canRefreshDefaultZone() {
+        TimeZone original = TimeZone.getDefault();
+        TemporalMatcher<Date> matcher = DateMatchers.isHour(23);
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+            DateMatchers.refreshDefaultZone();
+            assertThat(AUG_04_2015_2330_UTC_AS_DATE, matcher);
+            TimeZone.setDefault(TimeZone.getTimeZone("Europe/London"));
+            DateMatchers.refreshDefaultZone();
+            assertThat(AUG_04_2015_2330_UTC_AS_DATE, not(matcher));
+            assertThat(AUG_04_2015_2330_UTC_AS_DATE, DateMatchers.isHour(0));
+        } finally {
+            TimeZone.setDefault(original);
+            DateMatchers.refreshDefaultZone();
+        }
+    }
+}
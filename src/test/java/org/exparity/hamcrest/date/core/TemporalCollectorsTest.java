@@ -0,0 +1,73 @@
+package org.exparity.hamcrest.date.core;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.exparity.hamcrest.date.InstantMatchers;
+import org.exparity.hamcrest.date.core.TemporalCollectors.Partition;
+import org.testng.annotations.Test;
+
+/**
+ * Unit Tests for the {@link TemporalCollectors} class
+ */
+public class TemporalCollectorsTest {
+
+    private static final Instant AUG_04_2015_NOON = Instant.parse("2015-08-04T12:00:00Z");
+
+    @Test
+    public void canPartition() {
+        Instant before = AUG_04_2015_NOON.minusSeconds(1), after = AUG_04_2015_NOON.plusSeconds(1);
+        Partition<Instant> result = Arrays.asList(before, after, null, AUG_04_2015_NOON)
+                .stream()
+                .collect(TemporalCollectors.partitioningBy(InstantMatchers.after(AUG_04_2015_NOON)));
+        assertThat(result.getMatching(), contains(after));
+        assertThat(result.getNonMatching(), contains(before, null, AUG_04_2015_NOON));
+        Map<String, Long> reasons = new LinkedHashMap<>();
+        reasons.put("the date is after 2015-08-04T12:00:00Z", 2L);
+        reasons.put("null", 1L);
+        assertThat(result.getReasons(), equalTo(reasons));
+    }
+
+    @Test
+    public void canCountReasonsOfComposite() {
+        TemporalMatcher<Instant> matcher = InstantMatchers.isWeekday()
+                .and(InstantMatchers.isHour(12))
+                .atZone(ZoneOffset.UTC);
+        Partition<Instant> result = hours().stream().collect(TemporalCollectors.partitioningBy(matcher));
+        assertThat(result.getMatching().size(), equalTo(5));
+        assertThat(result.getNonMatching().size(), equalTo(7 * 24 - 5));
+        Map<String, Long> reasons = new LinkedHashMap<>();
+        reasons.put("the date has the hour 12", 5L * 23);
+        reasons.put("the date is on a Monday, Tuesday, Wednesday, Thursday or Friday", 2L * 24);
+        assertThat(result.getReasons(), equalTo(reasons));
+    }
+
+    @Test
+    public void canPartitionInParallel() {
+        TemporalMatcher<Instant> matcher = InstantMatchers.isWeekday().and(InstantMatchers.isHour(12)).atZone(ZoneOffset.UTC);
+        List<Instant> hours = hours();
+        Partition<Instant> sequential = hours.stream().collect(TemporalCollectors.partitioningBy(matcher));
+        Partition<Instant> parallel = hours.parallelStream().collect(TemporalCollectors.partitioningBy(matcher));
+        assertThat(parallel.getMatching(), equalTo(sequential.getMatching()));
+        assertThat(parallel.getNonMatching(), equalTo(sequential.getNonMatching()));
+        assertThat(parallel.getReasons(), equalTo(sequential.getReasons()));
+    }
+
+    private static List<Instant> hours() {
+        Instant monday = Instant.parse("2015-08-03T00:00:00Z");
+        return LongStream.range(0, 7 * 24)
+                .mapToObj(hour -> monday.plus(hour, ChronoUnit.HOURS))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,83 @@
+package org.exparity.hamcrest.date.core;
+
+import static org.exparity.hamcrest.date.core.TemporalConverters.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.Year;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.exparity.hamcrest.date.core.types.DayOfMonth;
+import org.exparity.hamcrest.date.core.types.Hour;
+import org.exparity.hamcrest.date.core.types.Minute;
+import org.exparity.hamcrest.date.core.types.Second;
+import org.testng.annotations.Test;
+
+/**
+ * Unit Tests for the {@link TemporalConverters} class
+ */
+public class TemporalConvertersTest {
+
+    private static final List<Optional<ZoneId>> ZONES = Arrays.asList(Optional.empty(),
+            Optional.of(ZoneId.of("UTC")),
+            Optional.of(ZoneId.of("America/New_York")),
+            Optional.of(ZoneId.of("Australia/Lord_Howe")),
+            Optional.of(ZoneId.of("Asia/Kathmandu")),
+            Optional.of(ZoneId.of("UTC-5")));
+
+    private static final List<ZonedDateTime> DATES = Arrays.asList(ZonedDateTime.parse("2015-08-04T12:34:56.789Z"),
+            ZonedDateTime.parse("2015-03-08T02:30:00-05:00"),
+            ZonedDateTime.parse("2015-11-01T01:30:00-05:00"),
+            ZonedDateTime.parse("2015-12-31T23:45:00.5+05:45[Asia/Kathmandu]"),
+            ZonedDateTime.parse("1969-12-31T23:59:59.001Z"),
+            ZonedDateTime.parse("2016-02-29T00:00:00+10:30[Australia/Lord_Howe]"));
+
+    @Test
+    public void canConvertZonedDateTimeAsChained() {
+        for (Optional<ZoneId> zone : ZONES) {
+            for (ZonedDateTime date : DATES) {
+                LocalDate expected = zone.map(date::withZoneSameInstant).orElse(date).toLocalDate();
+                assertThat(date + " at " + zone, ZONEDDATETIME_AS_LOCALDATE.apply(date, zone), equalTo(expected));
+            }
+        }
+    }
+
+    @Test
+    public void canConvertOffsetDateTimeAsChained() {
+        for (Optional<ZoneId> zone : ZONES) {
+            for (ZonedDateTime zoned : DATES) {
+                OffsetDateTime date = zoned.toOffsetDateTime();
+                OffsetDateTime expected = zone.map(z -> date.withOffsetSameInstant(z.getRules().getOffset(date.toLocalDateTime())))
+                        .orElse(date);
+                String reason = date + " at " + zone;
+                assertThat(reason, OFFSETDATETIME_AS_LOCALDATE.apply(date, zone), equalTo(expected.toLocalDate()));
+                assertThat(reason, OFFSETDATETIME_AS_YEAR.apply(date, zone), equalTo(Year.from(expected)));
+                assertThat(reason, OFFSETDATETIME_AS_MONTH.apply(date, zone), equalTo(expected.getMonth()));
+                assertThat(reason, OFFSETDATETIME_AS_DAYOFMONTH.apply(date, zone), equalTo(DayOfMonth.from(expected)));
+                assertThat(reason, OFFSETDATETIME_AS_DAYOFWEEK.apply(date, zone), equalTo(expected.getDayOfWeek()));
+                assertThat(reason, OFFSETDATETIME_AS_HOUR.apply(date, zone), equalTo(Hour.from(expected)));
+                assertThat(reason, OFFSETDATETIME_AS_MINUTE.apply(date, zone), equalTo(Minute.from(expected)));
+                assertThat(reason, OFFSETDATETIME_AS_SECOND.apply(date, zone), equalTo(Second.from(expected)));
+                assertThat(reason, TemporalFieldConverters.OFFSETDATETIME_HOUR_OF_DAY.applyAsInt(date, zone), equalTo(expected.getHour()));
+            }
+        }
+    }
+
+    @Test
+    public void canConvertSqlDateAsLocalDate() {
+        for (ZonedDateTime zoned : DATES) {
+            java.sql.Date date = java.sql.Date.valueOf(zoned.toLocalDate());
+            LocalDate expected = date.toLocalDate();
+            assertThat(SQLDATE_AS_YEAR.apply(date, Optional.empty()), equalTo(Year.from(expected)));
+            assertThat(SQLDATE_AS_MONTH.apply(date, Optional.empty()), equalTo(expected.getMonth()));
+            assertThat(SQLDATE_AS_DAYOFMONTH.apply(date, Optional.empty()), equalTo(DayOfMonth.from(expected)));
+            assertThat(SQLDATE_AS_DAYOFWEEK.apply(date, Optional.empty()), equalTo(expected.getDayOfWeek()));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.exparity.hamcrest.date.core;
+
+import static org.exparity.hamcrest.date.core.TemporalFieldConverters.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import org.testng.annotations.Test;
+
+/**
+ * Unit Tests for the {@link TemporalFieldConverters} class
+ */
+public class TemporalFieldConvertersTest {
+
+    private static final List<Optional<ZoneId>> ZONES = Arrays.asList(Optional.empty(),
+            Optional.of(ZoneId.of("UTC")),
+            Optional.of(ZoneId.of("America/New_York")),
+            Optional.of(ZoneId.of("Asia/Kathmandu")),
+            Optional.of(ZoneId.of("UTC-5")));
+
+    private static final List<ZonedDateTime> DATES = Arrays.asList(ZonedDateTime.parse("2015-08-04T12:34:56.789Z"),
+            ZonedDateTime.parse("2015-03-08T01:59:59.999-05:00[America/New_York]"),
+            ZonedDateTime.parse("2015-12-31T23:45:00.5+05:45[Asia/Kathmandu]"),
+            ZonedDateTime.parse("1969-12-31T23:59:59.001Z"));
+
+    @Test
+    public void canReadFieldsAsTemporalConverters() {
+        for (Optional<ZoneId> zone : ZONES) {
+            for (ZonedDateTime date : DATES) {
+                String reason = date + " at " + zone;
+                Instant instant = date.toInstant();
+                Date javaDate = Date.from(instant);
+                assertThat(reason, INSTANT_DAY_OF_MONTH.applyAsInt(instant, zone), equalTo(TemporalConverters.INSTANT_AS_DAYOFMONTH.apply(instant, zone).getValue()));
+                assertThat(reason, INSTANT_HOUR_OF_DAY.applyAsInt(instant, zone), equalTo(TemporalConverters.INSTANT_AS_HOUR.apply(instant, zone).getValue()));
+                assertThat(reason, INSTANT_MINUTE_OF_HOUR.applyAsInt(instant, zone), equalTo(TemporalConverters.INSTANT_AS_MINUTE.apply(instant, zone).getValue()));
+                assertThat(reason, INSTANT_SECOND_OF_MINUTE.applyAsInt(instant, zone), equalTo(TemporalConverters.INSTANT_AS_SECOND.apply(instant, zone).getValue()));
+                assertThat(reason, ZONEDDATETIME_DAY_OF_MONTH.applyAsInt(date, zone), equalTo(TemporalConverters.ZONEDDATETIME_AS_DAYOFMONTH.apply(date, zone).getValue()));
+                assertThat(reason, ZONEDDATETIME_HOUR_OF_DAY.applyAsInt(date, zone), equalTo(TemporalConverters.ZONEDDATETIME_AS_HOUR.apply(date, zone).getValue()));
+                assertThat(reason, ZONEDDATETIME_MINUTE_OF_HOUR.applyAsInt(date, zone), equalTo(TemporalConverters.ZONEDDATETIME_AS_MINUTE.apply(date, zone).getValue()));
+                assertThat(reason, ZONEDDATETIME_SECOND_OF_MINUTE.applyAsInt(date, zone), equalTo(TemporalConverters.ZONEDDATETIME_AS_SECOND.apply(date, zone).getValue()));
+                assertThat(reason, OFFSETDATETIME_DAY_OF_MONTH.applyAsInt(date.toOffsetDateTime(), zone), equalTo(TemporalConverters.OFFSETDATETIME_AS_DAYOFMONTH.apply(date.toOffsetDateTime(), zone).getValue()));
+                assertThat(reason, OFFSETDATETIME_HOUR_OF_DAY.applyAsInt(date.toOffsetDateTime(), zone), equalTo(TemporalConverters.OFFSETDATETIME_AS_HOUR.apply(date.toOffsetDateTime(), zone).getValue()));
+                assertThat(reason, JAVADATE_DAY_OF_MONTH.applyAsInt(javaDate, zone), equalTo(TemporalConverters.JAVADATE_AS_DAYOFMONTH.apply(javaDate, zone).getValue()));
+                assertThat(reason, JAVADATE_HOUR_OF_DAY.applyAsInt(javaDate, zone), equalTo(TemporalConverters.JAVADATE_AS_HOUR.apply(javaDate, zone).getValue()));
+                assertThat(reason, JAVADATE_MINUTE_OF_HOUR.applyAsInt(javaDate, zone), equalTo(TemporalConverters.JAVADATE_AS_MINUTE.apply(javaDate, zone).getValue()));
+                assertThat(reason, JAVADATE_SECOND_OF_MINUTE.applyAsInt(javaDate, zone), equalTo(TemporalConverters.JAVADATE_AS_SECOND.apply(javaDate, zone).getValue()));
+                assertThat(reason, JAVADATE_MILLI_OF_SECOND.applyAsInt(javaDate, zone), equalTo(TemporalConverters.JAVADATE_AS_MILLISECOND.apply(javaDate, zone).getValue()));
+                assertThat(reason, LOCALDATETIME_HOUR_OF_DAY.applyAsInt(date.toLocalDateTime(), zone), equalTo(date.getHour()));
+                assertThat(reason, LOCALTIME_SECOND_OF_MINUTE.applyAsInt(date.toLocalTime(), zone), equalTo(date.getSecond()));
+            }
+        }
+    }
+
+    @Test
+    public void canReadSqlDateDayOfMonth() {
+        java.sql.Date date = java.sql.Date.valueOf(LocalDate.of(2015, 8, 4));
+        assertThat(JAVADATE_DAY_OF_MONTH.applyAsInt(date, Optional.of(ZoneId.of("Pacific/Kiritimati"))), equalTo(4));
+        assertThat(SQLDATE_DAY_OF_MONTH.applyAsInt(date, Optional.empty()), equalTo(4));
+    }
+
+    @Test
+    public void canReadHoldersAsFacade() {
+        assertThat(INSTANT_HOUR_OF_DAY, sameInstance(TemporalFieldConverters.Instants.INSTANT_HOUR_OF_DAY));
+        assertThat(JAVADATE_DAY_OF_MONTH, sameInstance(TemporalFieldConverters.JavaDates.JAVADATE_DAY_OF_MONTH));
+        assertThat(TemporalConverters.INSTANT_AS_HOUR, sameInstance(TemporalConverters.Instants.INSTANT_AS_HOUR));
+        assertThat(TemporalConverters.JAVADATE_AS_LOCALDATE, sameInstance(TemporalConverters.JavaDates.JAVADATE_AS_LOCALDATE));
+        assertThat(TemporalFunctions.LOCALDATE, sameInstance(TemporalFunctions.LocalDates.LOCALDATE));
+        assertThat(TemporalFunctions.EPOCH_MILLIS, sameInstance(TemporalFunctions.Epochs.EPOCH_MILLIS));
+    }
+
+    @Test(expectedExceptions = TemporalConversionException.class, expectedExceptionsMessageRegExp = TemporalConverters.UNSUPPORTED_SQL_DATE_UNIT)
+    public void cannotReadSqlDateHour() {
+        JAVADATE_HOUR_OF_DAY.applyAsInt(java.sql.Date.valueOf(LocalDate.of(2015, 8, 4)), Optional.empty());
+    }
+}
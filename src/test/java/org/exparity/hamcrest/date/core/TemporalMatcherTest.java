@@ -0,0 +1,159 @@
+package org.exparity.hamcrest.date.core;
+
+import static org.exparity.hamcrest.date.core.TemporalConverters.INSTANT_AS_INSTANT;
+import static org.exparity.hamcrest.date.core.TemporalProviders.instant;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.exparity.hamcrest.date.EpochMillisMatchers;
+import org.exparity.hamcrest.date.core.types.Interval;
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+import org.testng.annotations.Test;
+
+/**
+ * Unit Tests for the {@link TemporalMatcher} class
+ */
+public class TemporalMatcherTest {
+
+    private static final Instant NOON = Instant.parse("2015-08-04T12:00:00Z");
+
+    @Test
+    public void canMatchWithoutDescribingMismatch() {
+        CountingFunction functions = new CountingFunction();
+        TemporalMatcher<Instant> matcher = new IsAfter<>(INSTANT_AS_INSTANT, instant(NOON), functions);
+        assertThat(matcher.matches(NOON.minusSeconds(1)), equalTo(false));
+        assertThat(matcher.matches(NOON.plusSeconds(1)), equalTo(true));
+        assertThat(functions.describeCalls.get(), equalTo(0));
+    }
+
+    @Test
+    public void canDescribeMismatch() {
+        CountingFunction functions = new CountingFunction();
+        TemporalMatcher<Instant> matcher = new IsAfter<>(INSTANT_AS_INSTANT, instant(NOON), functions);
+        StringDescription description = new StringDescription();
+        matcher.describeMismatch(NOON.minusSeconds(1), description);
+        assertThat(description.toString(), equalTo("date is 2015-08-04T11:59:59Z"));
+        assertThat(functions.describeCalls.get(), equalTo(1));
+    }
+
+    @Test
+    public void canMatchAsPredicateWithoutDescribingMismatch() {
+        CountingFunction functions = new CountingFunction();
+        TemporalMatcher<Instant> matcher = new IsAfter<>(INSTANT_AS_INSTANT, instant(NOON), functions);
+        long matched = Stream.of(NOON.minusSeconds(1), NOON, null, NOON.plusSeconds(1), NOON.plusSeconds(2))
+                .filter(matcher.asPredicate())
+                .count();
+        assertThat(matched, equalTo(2L));
+        assertThat(functions.describeCalls.get(), equalTo(0));
+    }
+
+    @Test
+    public void canMatchAsLongPredicate() {
+        long[] timestamps = { NOON.toEpochMilli() - 1, NOON.toEpochMilli(), NOON.toEpochMilli() + 1 };
+        TemporalMatcher<Instant> instants = new IsAfter<>(INSTANT_AS_INSTANT, instant(NOON), TemporalFunctions.INSTANT);
+        assertThat(LongStream.of(timestamps).filter(instants.asLongPredicate(Instant::ofEpochMilli)).count(), equalTo(1L));
+        TemporalMatcher<Long> epochs = EpochMillisMatchers.sameOrBefore(NOON.toEpochMilli());
+        assertThat(LongStream.of(timestamps).filter(epochs.asLongPredicate(Long::valueOf)).count(), equalTo(2L));
+        assertThat(LongStream.of(timestamps).filter(instants.asLongPredicate(t -> null)).count(), equalTo(0L));
+    }
+
+    @Test
+    public void canExtendAsDiagnosingMatcher() {
+        TemporalMatcher<Instant> matcher = new IsNoon();
+        assertThat(matcher.matches(NOON), equalTo(true));
+        assertThat(matcher.matches(NOON.plusSeconds(1)), equalTo(false));
+        assertThat(Stream.of(NOON, NOON.plusSeconds(1)).filter(matcher.asPredicate()).count(), equalTo(1L));
+        StringDescription description = new StringDescription();
+        matcher.and(new IsAfter<>(INSTANT_AS_INSTANT, instant(NOON.minusSeconds(1)), TemporalFunctions.INSTANT))
+                .describeMismatch(NOON.plusSeconds(1), description);
+        assertThat(description.toString(), equalTo("noon was 2015-08-04T12:00:01Z"));
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void canRejectSubclassWithoutMatch() {
+        new TemporalMatcher<Instant>() {
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText("anything");
+            }
+
+            @Override
+            public TemporalMatcher<Instant> atZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public TemporalMatcher<Instant> atLocale(Locale locale) {
+                return this;
+            }
+        };
+    }
+
+    private static class IsNoon extends TemporalMatcher<Instant> {
+
+        @Override
+        protected boolean matchesSafely(Instant actual, Description mismatchDescription) {
+            if (actual.equals(NOON)) {
+                return true;
+            }
+            mismatchDescription.appendText("was " + actual);
+            return false;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText("noon");
+        }
+
+        @Override
+        public TemporalMatcher<Instant> atZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public TemporalMatcher<Instant> atLocale(Locale locale) {
+            return this;
+        }
+    }
+
+    private static class CountingFunction implements TemporalFunction<Instant> {
+
+        private final AtomicInteger describeCalls = new AtomicInteger();
+
+        @Override
+        public String describe(Instant temporal, Locale locale) {
+            describeCalls.incrementAndGet();
+            return TemporalFunctions.INSTANT.describe(temporal, locale);
+        }
+
+        @Override
+        public boolean isSame(Instant temporal, Instant other) {
+            return TemporalFunctions.INSTANT.isSame(temporal, other);
+        }
+
+        @Override
+        public boolean isAfter(Instant temporal, Instant other) {
+            return TemporalFunctions.INSTANT.isAfter(temporal, other);
+        }
+
+        @Override
+        public boolean isBefore(Instant temporal, Instant other) {
+            return TemporalFunctions.INSTANT.isBefore(temporal, other);
+        }
+
+        @Override
+        public Interval interval(Instant temporal, Instant other, ChronoUnit unit) {
+            return TemporalFunctions.INSTANT.interval(temporal, other, unit);
+        }
+    }
+}
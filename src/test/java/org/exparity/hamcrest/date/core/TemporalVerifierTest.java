@@ -0,0 +1,140 @@
+package org.exparity.hamcrest.date.core;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import org.exparity.hamcrest.date.EpochMillisMatchers;
+import org.exparity.hamcrest.date.InstantMatchers;
+import org.exparity.hamcrest.date.core.TemporalVerifier.Failure;
+import org.exparity.hamcrest.date.core.TemporalVerifier.Verification;
+import org.testng.annotations.Test;
+
+/**
+ * Unit Tests for the {@link TemporalVerifier} class
+ */
+public class TemporalVerifierTest {
+
+    private static final Instant AUG_04_2015_NOON = Instant.parse("2015-08-04T12:00:00Z");
+    private static final int SIZE = 100000;
+    private static final TemporalMatcher<Instant> MATCHER = InstantMatchers.after(AUG_04_2015_NOON);
+
+    @Test
+    public void canVerifyInScopedZone() {
+        ZoneId tokyo = ZoneId.of("Asia/Tokyo");
+        List<Instant> dates = Collections.nCopies(2 * SIZE, Instant.parse("2015-08-04T00:00:00Z"));
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try (DefaultZones.Scope scope = DefaultZones.use(tokyo)) {
+            TemporalVerifier<Instant> verifier = TemporalVerifier.of(InstantMatchers.isHour(9)).on(pool);
+            assertThat(verifier.verify(dates).isSuccess(), equalTo(true));
+            assertThat(verifier.verify(new ArrayList<>(dates).spliterator()).isSuccess(), equalTo(true));
+            Verification<Instant> result = TemporalVerifier.of(InstantMatchers.isHour(10)).on(pool).verify(dates.subList(0, 1));
+            assertThat(result.describe(), endsWith("item 0: the date has the hour 9"));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void canVerifyList() {
+        Verification<Instant> result = TemporalVerifier.of(MATCHER).reporting(3).withFailureBitmap().verify(dates());
+        assertThat(result.isSuccess(), equalTo(false));
+        assertThat(result.getVerifiedCount(), equalTo((long) SIZE));
+        assertThat(result.getFailureCount(), equalTo((long) expectedFailures().cardinality()));
+        assertThat(indexes(result), contains(0, 7, 14));
+        assertThat(result.getFailureBitmap().get(), equalTo(expectedFailures()));
+    }
+
+    @Test
+    public void canVerifyLinkedList() {
+        Verification<Instant> result = TemporalVerifier.of(MATCHER).reporting(2).verify(new LinkedList<>(dates()));
+        assertThat(result.getFailureCount(), equalTo((long) expectedFailures().cardinality()));
+        assertThat(indexes(result), contains(0, 7));
+        assertThat(result.getFailureBitmap().isPresent(), equalTo(false));
+    }
+
+    @Test
+    public void canVerifySpliterator() {
+        Verification<Instant> result = TemporalVerifier.of(MATCHER).withFailureBitmap().verify(dates().spliterator());
+        assertThat(result.getFailureCount(), equalTo((long) expectedFailures().cardinality()));
+        assertThat(indexes(result), contains(0, 7, 14, 21, 28, 35, 42, 49, 56, 63));
+        assertThat(result.getFailureBitmap().get(), equalTo(expectedFailures()));
+    }
+
+    @Test
+    public void canVerifyUnsizedSpliterator() {
+        Spliterator<Instant> unsized = Spliterators.spliteratorUnknownSize(dates().iterator(), Spliterator.ORDERED);
+        Verification<Instant> result = TemporalVerifier.of(MATCHER).withFailureBitmap().verify(unsized);
+        assertThat(result.getFailureCount(), equalTo((long) expectedFailures().cardinality()));
+        assertThat(result.getFailureBitmap().get(), equalTo(expectedFailures()));
+    }
+
+    @Test
+    public void canVerifyEpochMillis() {
+        long[] timestamps = dates().stream().mapToLong(Instant::toEpochMilli).toArray();
+        Verification<Long> result = TemporalVerifier.of(EpochMillisMatchers.after(AUG_04_2015_NOON.toEpochMilli()))
+                .on(new ForkJoinPool(3))
+                .withFailureBitmap()
+                .verify(timestamps, Long::valueOf);
+        assertThat(result.getFailureCount(), equalTo((long) expectedFailures().cardinality()));
+        assertThat(result.getFailureBitmap().get(), equalTo(expectedFailures()));
+        assertThat(TemporalVerifier.of(MATCHER).verify(timestamps, Instant::ofEpochMilli).getFailureCount(),
+                equalTo((long) expectedFailures().cardinality()));
+    }
+
+    @Test
+    public void canVerifyEmpty() {
+        Verification<Instant> result = TemporalVerifier.of(MATCHER).withFailureBitmap().verify(new ArrayList<>());
+        assertThat(result.isSuccess(), equalTo(true));
+        assertThat(result.getFailureBitmap().get().isEmpty(), equalTo(true));
+    }
+
+    @Test
+    public void canDescribeFailures() {
+        Verification<Instant> result = TemporalVerifier.of(MATCHER).reporting(1).verify(dates().subList(0, 8));
+        assertThat(result.describe(),
+                equalTo("2 of 8 dates did not match the date is after 2015-08-04T12:00:00Z, item 0: date is 2015-08-04T12:00:00Z and 1 more"));
+    }
+
+    @Test
+    public void canVerifyNothingReported() {
+        Verification<Instant> result = TemporalVerifier.of(MATCHER).reporting(0).verify(dates());
+        assertThat(result.getFailures().isEmpty(), equalTo(true));
+        assertThat(result.describe(), startsWith(expectedFailures().cardinality() + " of " + SIZE));
+    }
+
+    private static List<Instant> dates() {
+        List<Instant> dates = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; ++i) {
+            dates.add(i % 7 == 0 ? AUG_04_2015_NOON.minus(i, ChronoUnit.SECONDS) : AUG_04_2015_NOON.plus(i, ChronoUnit.SECONDS));
+        }
+        return dates;
+    }
+
+    private static BitSet expectedFailures() {
+        BitSet failures = new BitSet();
+        for (int i = 0; i < SIZE; i += 7) {
+            failures.set(i);
+        }
+        return failures;
+    }
+
+    private static List<Integer> indexes(Verification<Instant> result) {
+        return result.getFailures().stream().map(Failure::getIndex).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,84 @@
+package org.exparity.hamcrest.date.core;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+/**
+ * Unit Tests for the {@link ZoneOffsetWindows} class
+ */
+public class ZoneOffsetWindowsTest {
+
+    private static final ZoneId LONDON = ZoneId.of("Europe/London");
+
+    @Test
+    public void canResolveOffsetsInSequence() {
+        long start = Instant.parse("2014-01-01T00:00:00Z").getEpochSecond();
+        for (long epochSecond = start; epochSecond < start + 3 * 366 * 86400; epochSecond += 1799) {
+            assertOffsetAsZoneRules(epochSecond, LONDON);
+        }
+    }
+
+    @Test
+    public void canResolveOffsetsOutOfSequence() {
+        Random random = new Random(20150804L);
+        for (int i = 0; i < 10000; ++i) {
+            assertOffsetAsZoneRules((long) ((random.nextDouble() - 0.5) * 2 * 7258118400L), LONDON);
+        }
+    }
+
+    @Test
+    public void canResolveOffsetsAtTransitions() {
+        Instant instant = Instant.parse("1990-01-01T00:00:00Z");
+        for (int i = 0; i < 40; ++i) {
+            instant = LONDON.getRules().nextTransition(instant).getInstant();
+            assertOffsetAsZoneRules(instant.getEpochSecond() - 1, LONDON);
+            assertOffsetAsZoneRules(instant.getEpochSecond(), LONDON);
+        }
+    }
+
+    @Test
+    public void canResolveFixedOffsets() {
+        assertOffsetAsZoneRules(0, ZoneId.of("UTC+5"));
+        assertOffsetAsZoneRules(Long.MAX_VALUE / 1000, ZoneId.of("UTC-3"));
+    }
+
+    @Test
+    public void canResolveZoneOffsets() {
+        assertOffsetAsZoneRules(0, ZoneOffset.UTC);
+        assertOffsetAsZoneRules(-86401, ZoneOffset.ofHoursMinutes(5, 45));
+        assertOffsetAsZoneRules(Long.MAX_VALUE / 1000, ZoneOffset.ofHours(-8));
+    }
+
+    @Test
+    public void canResolveLocalOffsets() {
+        Instant instant = Instant.parse("2010-01-01T00:00:00Z");
+        for (int i = 0; i < 10; ++i) {
+            instant = LONDON.getRules().nextTransition(instant).getInstant();
+            LocalDateTime local = LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+            for (long minutes = -90; minutes <= 90; minutes += 15) {
+                assertLocalOffsetAsZoneRules(local.plusMinutes(minutes), LONDON);
+            }
+        }
+        assertLocalOffsetAsZoneRules(LocalDateTime.of(2015, 8, 4, 12, 0), ZoneId.of("UTC"));
+        assertLocalOffsetAsZoneRules(LocalDateTime.of(2015, 8, 4, 12, 0), ZoneId.of("UTC-5"));
+        assertLocalOffsetAsZoneRules(LocalDateTime.of(2015, 8, 4, 12, 0), ZoneOffset.ofHours(3));
+    }
+
+    private static void assertLocalOffsetAsZoneRules(LocalDateTime local, ZoneId zone) {
+        assertThat(local + " in " + zone, ZoneOffsetWindows.localOffset(local, zone), equalTo(zone.getRules().getOffset(local)));
+    }
+
+    private static void assertOffsetAsZoneRules(long epochSecond, ZoneId zone) {
+        assertThat(String.valueOf(epochSecond),
+                ZoneOffsetWindows.offsetSeconds(epochSecond, zone),
+                equalTo(zone.getRules().getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds()));
+    }
+}
@@ -0,0 +1,41 @@
+package org.exparity.hamcrest.date.core.function;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+import org.testng.annotations.Test;
+
+/**
+ * Unit Tests for the {@link DateTimeFormatterCache} class
+ */
+public class DateTimeFormatterCacheTest {
+
+    @Test
+    public void canReuseFormatterForLocale() {
+        DateTimeFormatterCache cache = new DateTimeFormatterCache("EEE, dd MMM yyyy");
+        assertThat(cache.forLocale(Locale.UK), sameInstance(cache.forLocale(Locale.UK)));
+        assertThat(cache.forLocale(Locale.UK), not(sameInstance(cache.forLocale(Locale.FRANCE))));
+    }
+
+    @Test
+    public void canFormatInLocale() {
+        DateTimeFormatterCache cache = new DateTimeFormatterCache("dd MMMM yyyy");
+        assertThat(cache.forLocale(Locale.UK).format(LocalDate.of(2015, 8, 4)), equalTo("04 August 2015"));
+        assertThat(cache.forLocale(Locale.GERMANY).format(LocalDate.of(2015, 8, 4)), equalTo("04 August 2015"));
+        assertThat(cache.forLocale(Locale.FRANCE).format(LocalDate.of(2015, 8, 4)), equalTo("04 août 2015"));
+    }
+
+    @Test
+    public void canBoundCachedLocales() {
+        DateTimeFormatterCache cache = new DateTimeFormatterCache("EEE, dd MMM yyyy");
+        for (Locale locale : Locale.getAvailableLocales()) {
+            assertThat(cache.forLocale(locale).getLocale(), equalTo(locale));
+        }
+        assertThat(cache.size(), equalTo(32));
+    }
+}
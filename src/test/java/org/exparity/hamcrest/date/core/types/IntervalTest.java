@@ -0,0 +1,60 @@
+package org.exparity.hamcrest.date.core.types;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Period;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+
+import org.testng.annotations.Test;
+
+/**
+ * Unit Tests for the {@link Interval} class
+ */
+public class IntervalTest {
+
+    @Test
+    public void canCompareSameUnit() {
+        assertThat(Interval.of(3, ChronoUnit.HOURS).longerThan(Interval.of(2, ChronoUnit.HOURS)), equalTo(true));
+        assertThat(Interval.of(2, ChronoUnit.HOURS).longerThan(Interval.of(2, ChronoUnit.HOURS)), equalTo(false));
+    }
+
+    @Test
+    public void canCompareDifferentTimeUnits() {
+        assertThat(Interval.of(61, ChronoUnit.MINUTES).longerThan(Interval.of(1, ChronoUnit.HOURS)), equalTo(true));
+        assertThat(Interval.of(3600, ChronoUnit.SECONDS).longerThan(Interval.of(1, ChronoUnit.HOURS)), equalTo(false));
+        assertThat(Interval.of(1500, ChronoUnit.MILLIS).longerThan(Interval.of(Duration.ofNanos(1499999999))), equalTo(true));
+    }
+
+    @Test
+    public void canCompareDifferentDateUnits() {
+        assertThat(Interval.of(2, ChronoUnit.WEEKS).longerThan(Interval.of(13, ChronoUnit.DAYS)), equalTo(true));
+        assertThat(Interval.of(1, ChronoUnit.YEARS).longerThan(Interval.of(12, ChronoUnit.MONTHS)), equalTo(false));
+        assertThat(Interval.of(Period.ofMonths(1)).longerThan(Interval.of(Period.ofDays(27))), equalTo(true));
+    }
+
+    @Test
+    public void canKeepNanosOfDuration() {
+        assertThat(Interval.of(Duration.ofNanos(1500)).getTime(), equalTo(Duration.ofNanos(1500)));
+        assertThat(Interval.of(Duration.ofSeconds(-2)).getTime(), equalTo(Duration.ofSeconds(2)));
+    }
+
+    @Test
+    public void canKeepMonthsOfPeriod() {
+        Interval interval = Interval.of(Period.of(1, 2, 3));
+        assertThat(interval.get(ChronoUnit.MONTHS), equalTo(14L));
+        assertThat(interval.get(ChronoUnit.DAYS), equalTo(3L));
+        assertThat(interval.describe(Locale.UK), equalTo("14 Months and 3 Days"));
+    }
+
+    @Test
+    public void canAddOnCalendar() {
+        LocalDate date = LocalDate.of(2016, Month.JANUARY, 31);
+        assertThat(date.plus(Interval.of(Period.ofMonths(1))), equalTo(LocalDate.of(2016, Month.FEBRUARY, 29)));
+        assertThat(date.minus(Interval.of(1, ChronoUnit.YEARS)), equalTo(LocalDate.of(2015, Month.JANUARY, 31)));
+    }
+}
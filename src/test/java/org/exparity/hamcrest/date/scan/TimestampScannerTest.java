@@ -0,0 +1,160 @@
+package org.exparity.hamcrest.date.scan;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.exparity.hamcrest.date.InstantMatchers;
+import org.exparity.hamcrest.date.LocalDateTimeMatchers;
+import org.exparity.hamcrest.date.core.TemporalMatcher;
+import org.exparity.hamcrest.date.scan.TimestampScanner.Result;
+import org.testng.annotations.Test;
+
+/**
+ * Unit Tests for the {@link TimestampScanner} class
+ */
+public class TimestampScannerTest {
+
+    private static final Instant AUG_04_2015_NOON = Instant.parse("2015-08-04T12:00:00Z");
+    private static final TemporalMatcher<Instant> SAME_DAY = InstantMatchers.sameDay(AUG_04_2015_NOON)
+            .atZone(ZoneOffset.UTC);
+
+    @Test
+    public void canScanCsv() throws IOException {
+        String contents = "id,name,timestamp\r\n"
+                + "1,a,2015-08-04T09:00:00Z\r\n"
+                + "2,\"b,c\",2015-08-05T09:00:00Z\r\n"
+                + "\r\n"
+                + "3,d, \"2015-08-04T23:00:00-01:00\"\r\n"
+                + "4,e,yesterday\r\n"
+                + "5,f\r\n"
+                + "6,g,2015-08-04T00:00:00.000+00:00";
+        Path file = file(contents);
+        Result result = TimestampScanner.csv(2).skippingHeader().scanInstants(file, SAME_DAY);
+        assertThat(result.isSuccess(), equalTo(false));
+        assertThat(result.getRowCount(), equalTo(6L));
+        assertThat(result.getFailureCount(), equalTo(4L));
+        assertThat(result.getUnparsedCount(), equalTo(2L));
+        long[] offsets = offsets(contents, "2,", "3,", "4,", "5,");
+        assertThat(result.getFailureOffsets(), contains(offsets[0], offsets[1], offsets[2], offsets[3]));
+        assertThat(result.describe(),
+                equalTo("4 of 6 rows did not match the same day as Tue, 04 Aug 2015, 2 of which could not be parsed, at offsets "
+                        + offsets[0] + ", " + offsets[1] + ", " + offsets[2] + ", " + offsets[3]));
+    }
+
+    @Test
+    public void canScanCsvWithDelimiter() throws IOException {
+        Path file = file("2015-08-04T09:00:00Z;1\n2015-08-04T10:00:00Z;2\n");
+        Result result = TimestampScanner.csv(0, ';').scanInstants(file, SAME_DAY);
+        assertThat(result.isSuccess(), equalTo(true));
+        assertThat(result.getRowCount(), equalTo(2L));
+        assertThat(result.getFailureOffsets(), empty());
+    }
+
+    @Test
+    public void canScanNdjson() throws IOException {
+        String contents = "{\"id\": 1, \"timestamp\": \"2015-08-04T09:00:00Z\"}\n"
+                + "{\"id\": 2, \"meta\": {\"timestamp\" : \"2015-08-03T09:00:00Z\"}}\n"
+                + "{\"id\": 3, \"other\": \"2015-08-04T09:00:00Z\"}\n"
+                + "{\"id\": 4, \"timestamp\":\"2015-08-04T19:00:00+02:00\"}\n";
+        Path file = file(contents);
+        Result result = TimestampScanner.ndjson("timestamp").scanInstants(file, SAME_DAY);
+        assertThat(result.getRowCount(), equalTo(4L));
+        assertThat(result.getFailureCount(), equalTo(2L));
+        assertThat(result.getUnparsedCount(), equalTo(1L));
+        long[] offsets = offsets(contents, "{\"id\": 2", "{\"id\": 3");
+        assertThat(result.getFailureOffsets(), contains(offsets[0], offsets[1]));
+    }
+
+    @Test
+    public void canScanLocalDateTimes() throws IOException {
+        Path file = file("2015-08-04T12:00:00+05:00\n2015-08-04T12:10:00\n2015-08-04T13:00:00Z\n");
+        Result result = TimestampScanner.csv(0)
+                .scanLocalDateTimes(file,
+                        LocalDateTimeMatchers.within(30, ChronoUnit.MINUTES, LocalDateTime.of(2015, 8, 4, 12, 0)));
+        assertThat(result.getFailureCount(), equalTo(1L));
+        assertThat(result.getFailureOffsets(), contains((long) "2015-08-04T12:00:00+05:00\n2015-08-04T12:10:00\n".length()));
+    }
+
+    @Test
+    public void canScanInstantsWithoutOffset() throws IOException {
+        Path file = file("2015-08-04T23:30:00\n");
+        assertThat(TimestampScanner.csv(0).scanInstants(file, SAME_DAY).getUnparsedCount(), equalTo(1L));
+        assertThat(TimestampScanner.csv(0).scanInstants(file, SAME_DAY).describe(),
+                containsString("1 of which could not be parsed"));
+        assertThat(TimestampScanner.csv(0).scanInstants(file, SAME_DAY).isSuccess(), equalTo(false));
+        assertThat(TimestampScanner.csv(0).atOffset(ZoneOffset.UTC).scanInstants(file, SAME_DAY).getUnparsedCount(),
+                equalTo(0L));
+        assertThat(TimestampScanner.csv(0).atOffset(ZoneOffset.UTC).scanInstants(file, SAME_DAY).isSuccess(),
+                equalTo(true));
+        assertThat(TimestampScanner.csv(0).atOffset(ZoneOffset.ofHours(-1)).scanInstants(file, SAME_DAY).isSuccess(),
+                equalTo(false));
+    }
+
+    @Test
+    public void canScanAcrossChunks() throws IOException {
+        StringBuilder rows = new StringBuilder();
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; ++i) {
+            Instant timestamp = AUG_04_2015_NOON.plus(Duration.ofSeconds(i * 7L));
+            if (i % 97 == 0) {
+                expected.add((long) rows.length());
+            }
+            rows.append(i).append(',').append(i % 97 == 0 ? timestamp.plus(2, ChronoUnit.DAYS) : timestamp);
+            rows.append(i % 2 == 0 ? "\r\n" : "\n");
+        }
+        Path file = file(rows.toString());
+        TemporalMatcher<Instant> matcher = InstantMatchers.within(1, ChronoUnit.DAYS, AUG_04_2015_NOON);
+        Result whole = TimestampScanner.csv(1).reporting(20).scanInstants(file, matcher);
+        Result chunked = TimestampScanner.csv(1).reporting(20).inChunksOf(64).scanInstants(file, matcher);
+        assertThat(whole.getRowCount(), equalTo(1000L));
+        assertThat(whole.getFailureOffsets(), equalTo(expected));
+        assertThat(chunked.getRowCount(), equalTo(1000L));
+        assertThat(chunked.getFailureOffsets(), equalTo(expected));
+    }
+
+    @Test
+    public void canDescribeMoreFailures() throws IOException {
+        Path file = file("2015-08-01T00:00:00Z\n2015-08-02T00:00:00Z\n2015-08-03T00:00:00Z\n");
+        assertThat(TimestampScanner.csv(0).reporting(1).scanInstants(file, SAME_DAY).describe(),
+                equalTo("3 of 3 rows did not match the same day as Tue, 04 Aug 2015, at offsets 0 and 2 more"));
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void cannotScanRowLongerThanChunk() throws IOException {
+        TimestampScanner.csv(0).inChunksOf(8).scanInstants(file("2015-08-04T12:00:00Z\n"), SAME_DAY);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void cannotScanNegativeColumn() {
+        TimestampScanner.csv(-1);
+    }
+
+    private static long[] offsets(String contents, String... rows) {
+        long[] offsets = new long[rows.length];
+        for (int i = 0; i < rows.length; ++i) {
+            offsets[i] = contents.indexOf("\n" + rows[i]) + 1;
+        }
+        return offsets;
+    }
+
+    private static Path file(String contents) throws IOException {
+        Path file = Files.createTempFile("timestamps", ".txt");
+        file.toFile().deleteOnExit();
+        return Files.write(file, contents.getBytes(StandardCharsets.UTF_8));
+    }
+}